@@ -0,0 +1,17 @@
+package dev.team.systers.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuração de execução assíncrona e de tarefas agendadas.
+ * Os executores são fornecidos pelo Spring Boot: com a propriedade
+ * {@code spring.threads.virtual.enabled=true} (perfil {@code virtual}),
+ * métodos {@code @Async} e {@code @Scheduled} passam a rodar em threads virtuais.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,63 @@
+package dev.team.systers.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.team.systers.tools.SemaphoreDataSource;
+
+/**
+ * Configuração do bulkhead de acesso ao banco de dados.
+ * Ativada junto com o modo de threads virtuais, envolve o DataSource da aplicação
+ * em um {@link SemaphoreDataSource} para que o número de requisições disputando
+ * o pool de conexões nunca ultrapasse o limite configurado.
+ *
+ * <p>O limite fica abaixo do tamanho do pool do Hikari. Uma thread que passou pelo
+ * semáforo precisa encontrar uma conexão livre no pool na hora; se as permissões
+ * fossem iguais ao pool, conexões sendo renovadas ou validadas pelo Hikari fariam
+ * essas threads esperarem no pool, pelo {@code connectionTimeout} dele (30 s), em vez
+ * de esperarem no semáforo pelo tempo configurado aqui. A reserva também deixa
+ * conexões para o que roda fora das requisições, como os trabalhadores agendados.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "systers.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    /**
+     * Registra o pós-processador que aplica o bulkhead ao DataSource.
+     * Declarado como estático para ser criado antes dos demais beans.
+     *
+     * @param tamanhoPool Tamanho máximo do pool do Hikari
+     * @param reserva Conexões do pool deixadas fora do bulkhead
+     * @param permissoes Número máximo de conexões emprestadas ao mesmo tempo; se zero,
+     *                   é o tamanho do pool menos a reserva
+     * @param esperaMaximaMs Tempo máximo de espera por uma conexão, em milissegundos
+     * @return Pós-processador de beans do tipo DataSource
+     * @throws IllegalStateException se as permissões não ficarem abaixo do tamanho do pool
+     */
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanhoPool,
+            @Value("${systers.bulkhead.reserva:2}") int reserva,
+            @Value("${systers.bulkhead.permissoes:0}") int permissoes,
+            @Value("${systers.bulkhead.espera-maxima-ms:2000}") long esperaMaximaMs) {
+        int limite = permissoes > 0 ? permissoes : Math.max(1, tamanhoPool - reserva);
+        if (limite >= tamanhoPool) {
+            throw new IllegalStateException("systers.bulkhead.permissoes (" + limite
+                    + ") deve ficar abaixo de spring.datasource.hikari.maximum-pool-size (" + tamanhoPool + ").");
+        }
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SemaphoreDataSource)) {
+                    return new SemaphoreDataSource(dataSource, limite, esperaMaximaMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
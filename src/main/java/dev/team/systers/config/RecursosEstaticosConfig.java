@@ -0,0 +1,46 @@
+package dev.team.systers.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * Configuração de cache das folhas de estilo.
+ * Os arquivos de {@code static/css} passam a ser servidos com o hash do conteúdo
+ * no nome (ex: {@code /css/grupo-3f2a...css}), o que permite marcá-los como imutáveis:
+ * quando o arquivo muda, o hash e a URL mudam junto.
+ *
+ * <p>As URLs geradas com {@code th:href="@{/css/...}"} nos templates são reescritas
+ * automaticamente pelo {@link ResourceUrlEncodingFilter}.</p>
+ */
+@Configuration
+public class RecursosEstaticosConfig implements WebMvcConfigurer {
+
+    /**
+     * Registra o tratamento versionado para os arquivos CSS.
+     * @param registry Registro de manipuladores de recursos do Spring MVC
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/css/**")
+                .addResourceLocations("classpath:/static/css/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Filtro que reescreve as URLs de recursos estáticos nos templates para a versão com hash.
+     * @return Filtro de codificação de URLs de recursos
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -36,6 +36,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/login", "/registrar", "/registrar_usuario", "/css/**", "/js/**", "/images/**").permitAll()
                         .requestMatchers("/api/denuncias/resolver/**").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/api/denuncias/fila/**").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/api/denuncias/lote/**").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/api/denuncias/series").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/api/usuarios/status").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/admin/moderacao/**").hasRole("ADMINISTRADOR")
+                        .requestMatchers("/admin/metricas/**").hasRole("ADMINISTRADOR")
                         .requestMatchers("/perfil/denunciar").authenticated()
                         .anyRequest().authenticated()
                 )
@@ -1,14 +1,35 @@
 package dev.team.systers.controller;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import dev.team.systers.model.RegistroModeracao;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.AgendaMentoriaService;
+import dev.team.systers.service.ArquivoDialogosService;
+import dev.team.systers.service.ChatMentoriaService;
+import dev.team.systers.service.ContadoresDenunciasService;
+import dev.team.systers.service.CorrespondenciaMentoriaService;
+import dev.team.systers.service.DistribuicaoNotificacoesService;
+import dev.team.systers.service.EventoDominioService;
+import dev.team.systers.service.FragmentoService;
+import dev.team.systers.service.LembretesMentoriaService;
+import dev.team.systers.service.ModeracaoEmLoteService;
+import dev.team.systers.service.ModeracaoService;
+import dev.team.systers.service.NotificacaoTempoRealService;
+import dev.team.systers.service.RetencaoNotificacoesService;
+import dev.team.systers.service.SeriesDenunciasService;
+import dev.team.systers.service.TransicoesMentoriaService;
 import dev.team.systers.service.UsuarioService;
 
 /**
@@ -25,13 +46,314 @@ public class AdminController {
      */
     private final UsuarioService usuarioService;
 
+    /**
+     * Serviço de cache de fragmentos renderizados.
+     */
+    private final FragmentoService fragmentoService;
+
+    /**
+     * Serviço de notificações em tempo real.
+     */
+    private final NotificacaoTempoRealService notificacaoTempoRealService;
+
+    /**
+     * Serviço de distribuição assíncrona de notificações.
+     */
+    private final DistribuicaoNotificacoesService distribuicaoNotificacoesService;
+
+    /**
+     * Serviço de retenção de notificações.
+     */
+    private final RetencaoNotificacoesService retencaoNotificacoesService;
+
+    /**
+     * Serviço de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
+    /**
+     * Serviço de busca de mentores compatíveis.
+     */
+    private final CorrespondenciaMentoriaService correspondenciaMentoriaService;
+
+    /**
+     * Serviço de agendas dos participantes de mentorias.
+     */
+    private final AgendaMentoriaService agendaMentoriaService;
+
+    /**
+     * Serviço de mudanças automáticas de status das mentorias.
+     */
+    private final TransicoesMentoriaService transicoesMentoriaService;
+
+    /**
+     * Serviço de lembretes de mentorias.
+     */
+    private final LembretesMentoriaService lembretesMentoriaService;
+
+    /**
+     * Serviço do chat em tempo real das mentorias.
+     */
+    private final ChatMentoriaService chatMentoriaService;
+
+    /**
+     * Serviço do arquivo frio dos diálogos.
+     */
+    private final ArquivoDialogosService arquivoDialogosService;
+
+    /**
+     * Serviço da fila de moderação de denúncias.
+     */
+    private final ModeracaoService moderacaoService;
+
+    /**
+     * Serviço dos contadores de denúncias e das regras de moderação automática.
+     */
+    private final ContadoresDenunciasService contadoresDenunciasService;
+
+    /**
+     * Serviço das ações de moderação em lote e de sua auditoria.
+     */
+    private final ModeracaoEmLoteService moderacaoEmLoteService;
+
+    /**
+     * Serviço das séries temporais de denúncias.
+     */
+    private final SeriesDenunciasService seriesDenunciasService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param fragmentoService Serviço de cache de fragmentos injetado pelo Spring
+     * @param notificacaoTempoRealService Serviço de notificações em tempo real injetado pelo Spring
+     * @param distribuicaoNotificacoesService Serviço de distribuição de notificações injetado pelo Spring
+     * @param retencaoNotificacoesService Serviço de retenção de notificações injetado pelo Spring
+     * @param eventoDominioService Serviço de eventos de domínio injetado pelo Spring
+     * @param correspondenciaMentoriaService Serviço de busca de mentores injetado pelo Spring
+     * @param agendaMentoriaService Serviço de agendas injetado pelo Spring
+     * @param transicoesMentoriaService Serviço de mudanças de status das mentorias injetado pelo Spring
+     * @param lembretesMentoriaService Serviço de lembretes de mentorias injetado pelo Spring
+     * @param chatMentoriaService Serviço de chat das mentorias injetado pelo Spring
+     * @param arquivoDialogosService Serviço do arquivo de diálogos injetado pelo Spring
+     * @param moderacaoService Serviço da fila de moderação injetado pelo Spring
+     * @param contadoresDenunciasService Serviço dos contadores de denúncias injetado pelo Spring
+     * @param moderacaoEmLoteService Serviço de moderação em lote injetado pelo Spring
+     * @param seriesDenunciasService Serviço das séries de denúncias injetado pelo Spring
      */
     @Autowired
-    public AdminController(UsuarioService usuarioService) {
+    public AdminController(UsuarioService usuarioService, FragmentoService fragmentoService,
+                           NotificacaoTempoRealService notificacaoTempoRealService,
+                           DistribuicaoNotificacoesService distribuicaoNotificacoesService,
+                           RetencaoNotificacoesService retencaoNotificacoesService,
+                           EventoDominioService eventoDominioService,
+                           CorrespondenciaMentoriaService correspondenciaMentoriaService,
+                           AgendaMentoriaService agendaMentoriaService,
+                           TransicoesMentoriaService transicoesMentoriaService,
+                           LembretesMentoriaService lembretesMentoriaService,
+                           ChatMentoriaService chatMentoriaService,
+                           ArquivoDialogosService arquivoDialogosService,
+                           ModeracaoService moderacaoService,
+                           ContadoresDenunciasService contadoresDenunciasService,
+                           ModeracaoEmLoteService moderacaoEmLoteService,
+                           SeriesDenunciasService seriesDenunciasService) {
         this.usuarioService = usuarioService;
+        this.fragmentoService = fragmentoService;
+        this.notificacaoTempoRealService = notificacaoTempoRealService;
+        this.distribuicaoNotificacoesService = distribuicaoNotificacoesService;
+        this.retencaoNotificacoesService = retencaoNotificacoesService;
+        this.eventoDominioService = eventoDominioService;
+        this.correspondenciaMentoriaService = correspondenciaMentoriaService;
+        this.agendaMentoriaService = agendaMentoriaService;
+        this.transicoesMentoriaService = transicoesMentoriaService;
+        this.lembretesMentoriaService = lembretesMentoriaService;
+        this.chatMentoriaService = chatMentoriaService;
+        this.arquivoDialogosService = arquivoDialogosService;
+        this.moderacaoService = moderacaoService;
+        this.contadoresDenunciasService = contadoresDenunciasService;
+        this.moderacaoEmLoteService = moderacaoEmLoteService;
+        this.seriesDenunciasService = seriesDenunciasService;
+    }
+
+    /**
+     * Retorna as métricas do cache de fragmentos renderizados.
+     * Inclui acertos, renderizações e tempo médio de renderização por fragmento.
+     * 
+     * @return Métricas do cache em formato JSON
+     */
+    @GetMapping("/metricas/fragmentos")
+    @ResponseBody
+    public Map<String, Object> metricasFragmentos() {
+        return fragmentoService.metricas();
+    }
+
+    /**
+     * Retorna as métricas das conexões de notificação em tempo real.
+     * Inclui usuários conectados, conexões abertas e notificações aguardando envio.
+     * 
+     * @return Métricas das conexões em formato JSON
+     */
+    @GetMapping("/metricas/notificacoes")
+    @ResponseBody
+    public Map<String, Object> metricasNotificacoes() {
+        return notificacaoTempoRealService.metricas();
+    }
+
+    /**
+     * Retorna as métricas da distribuição assíncrona de notificações.
+     * Inclui a profundidade da caixa de saída, trabalhadores ocupados, tentativas e latências.
+     * 
+     * @return Métricas da distribuição em formato JSON
+     */
+    @GetMapping("/metricas/distribuicao")
+    @ResponseBody
+    public Map<String, Object> metricasDistribuicao() {
+        return distribuicaoNotificacoesService.metricas();
+    }
+
+    /**
+     * Retorna as métricas da limpeza de notificações antigas.
+     * 
+     * @return Totais apagados e dados da última limpeza em formato JSON
+     */
+    @GetMapping("/metricas/retencao")
+    @ResponseBody
+    public Map<String, Object> metricasRetencao() {
+        return retencaoNotificacoesService.metricas();
+    }
+
+    /**
+     * Retorna as métricas da entrega de eventos de domínio.
+     * Inclui a profundidade da caixa de saída de eventos, falhas por ouvinte e latências.
+     * 
+     * @return Métricas dos eventos em formato JSON
+     */
+    @GetMapping("/metricas/eventos")
+    @ResponseBody
+    public Map<String, Object> metricasEventos() {
+        return eventoDominioService.metricas();
+    }
+
+    /**
+     * Retorna as métricas da busca de mentores compatíveis.
+     * 
+     * @return Tamanho do índice de disponibilidade e tempo médio das consultas em formato JSON
+     */
+    @GetMapping("/metricas/correspondencia")
+    @ResponseBody
+    public Map<String, Object> metricasCorrespondencia() {
+        return correspondenciaMentoriaService.metricas();
+    }
+
+    /**
+     * Retorna as métricas das agendas de mentoria.
+     * 
+     * @return Tamanho das agendas, verificações e conflitos encontrados em formato JSON
+     */
+    @GetMapping("/metricas/agenda")
+    @ResponseBody
+    public Map<String, Object> metricasAgenda() {
+        return agendaMentoriaService.metricas();
+    }
+
+    /**
+     * Retorna as métricas das mudanças automáticas de status das mentorias.
+     * 
+     * @return Mudanças pendentes, mentorias iniciadas e concluídas e lotes aplicados em formato JSON
+     */
+    @GetMapping("/metricas/transicoes")
+    @ResponseBody
+    public Map<String, Object> metricasTransicoes() {
+        return transicoesMentoriaService.metricas();
+    }
+
+    /**
+     * Retorna as métricas dos lembretes de mentorias.
+     * 
+     * @return Lembretes pendentes, enviados e descartados em formato JSON
+     */
+    @GetMapping("/metricas/lembretes")
+    @ResponseBody
+    public Map<String, Object> metricasLembretes() {
+        return lembretesMentoriaService.metricas();
+    }
+
+    /**
+     * Retorna as métricas do chat das mentorias.
+     * 
+     * @return Conexões abertas, mensagens enviadas, pendentes de gravação e gravadas em formato JSON
+     */
+    @GetMapping("/metricas/chat")
+    @ResponseBody
+    public Map<String, Object> metricasChat() {
+        return chatMentoriaService.metricas();
+    }
+
+    /**
+     * Retorna as métricas do arquivo frio dos diálogos.
+     * 
+     * @return Diálogos e mensagens arquivados, tamanho em disco e restaurações em formato JSON
+     */
+    @GetMapping("/metricas/arquivo")
+    @ResponseBody
+    public Map<String, Object> metricasArquivo() {
+        return arquivoDialogosService.metricas();
+    }
+
+    /**
+     * Retorna as métricas da fila de moderação de denúncias.
+     * 
+     * @return Denúncias reservadas, liberadas, resolvidas e recusadas em formato JSON
+     */
+    @GetMapping("/metricas/moderacao")
+    @ResponseBody
+    public Map<String, Object> metricasModeracao() {
+        return moderacaoService.metricas();
+    }
+
+    /**
+     * Retorna as métricas das regras de moderação automática.
+     * 
+     * @return Regras ativas, ocupação da janela de denúncias e contas alteradas em formato JSON
+     */
+    @GetMapping("/metricas/denuncias")
+    @ResponseBody
+    public Map<String, Object> metricasDenuncias() {
+        return contadoresDenunciasService.metricas();
+    }
+
+    /**
+     * Retorna as métricas das séries temporais de denúncias.
+     * 
+     * @return Intervalos guardados e consultas atendidas em formato JSON
+     */
+    @GetMapping("/metricas/series-denuncias")
+    @ResponseBody
+    public Map<String, Object> metricasSeriesDenuncias() {
+        return seriesDenunciasService.metricas();
+    }
+
+    /**
+     * Retorna os registros de auditoria mais recentes das ações de moderação em lote.
+     * 
+     * @param quantidade Quantidade de registros
+     * @return Registros de auditoria, mais recentes primeiro, em formato JSON
+     */
+    @GetMapping("/moderacao/registros")
+    @ResponseBody
+    public List<RegistroModeracao> registrosModeracao(@RequestParam(defaultValue = "50") int quantidade) {
+        return moderacaoEmLoteService.registrosRecentes(quantidade);
+    }
+
+    /**
+     * Devolve à tabela o diálogo arquivado de uma mentoria.
+     * 
+     * @param mentoriaId ID da mentoria
+     * @return Quantidade de mensagens restauradas em formato JSON
+     */
+    @PostMapping("/mentorias/{mentoriaId}/dialogo/restaurar")
+    @ResponseBody
+    public Map<String, Object> restaurarDialogo(@PathVariable Long mentoriaId) {
+        return Map.of("restauradas", arquivoDialogosService.restaurar(mentoriaId));
     }
 
     /**
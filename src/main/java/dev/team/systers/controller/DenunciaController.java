@@ -2,6 +2,8 @@ package dev.team.systers.controller;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -9,14 +11,23 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.team.systers.dto.DenunciaReservada;
+import dev.team.systers.dto.PontoSerieDenuncias;
+import dev.team.systers.dto.ResultadoLote;
 import dev.team.systers.model.Denuncia;
+import dev.team.systers.model.SerieDenuncias;
 import dev.team.systers.service.DenunciaService;
+import dev.team.systers.service.ModeracaoEmLoteService;
+import dev.team.systers.service.ModeracaoService;
+import dev.team.systers.service.SeriesDenunciasService;
+import dev.team.systers.service.UsuarioService;
 
 /**
  * Controlador REST para operações relacionadas a denúncias.
@@ -32,13 +43,43 @@ public class DenunciaController {
      */
     private final DenunciaService denunciaService;
 
+    /**
+     * Serviço da fila de moderação.
+     */
+    private final ModeracaoService moderacaoService;
+
+    /**
+     * Serviço para identificar o moderador autenticado.
+     */
+    private final UsuarioService usuarioService;
+
+    /**
+     * Serviço das ações de moderação em lote.
+     */
+    private final ModeracaoEmLoteService moderacaoEmLoteService;
+
+    /**
+     * Serviço das séries temporais de denúncias.
+     */
+    private final SeriesDenunciasService seriesDenunciasService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param denunciaService Serviço de denúncia injetado pelo Spring
+     * @param moderacaoService Serviço da fila de moderação injetado pelo Spring
+     * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param moderacaoEmLoteService Serviço de moderação em lote injetado pelo Spring
+     * @param seriesDenunciasService Serviço das séries de denúncias injetado pelo Spring
      */
     @Autowired
-    public DenunciaController(DenunciaService denunciaService) {
+    public DenunciaController(DenunciaService denunciaService, ModeracaoService moderacaoService,
+                              UsuarioService usuarioService, ModeracaoEmLoteService moderacaoEmLoteService,
+                              SeriesDenunciasService seriesDenunciasService) {
         this.denunciaService = denunciaService;
+        this.moderacaoService = moderacaoService;
+        this.usuarioService = usuarioService;
+        this.moderacaoEmLoteService = moderacaoEmLoteService;
+        this.seriesDenunciasService = seriesDenunciasService;
     }
 
     /**
@@ -150,6 +191,28 @@ public class DenunciaController {
         return ResponseEntity.ok(denunciaService.listarPorDataHoraBetween(dataInicio, dataFim));
     }
 
+    /**
+     * Retorna a série temporal das denúncias de um período: registradas, resolvidas e
+     * tempo de resolução por hora ou por dia, lidos dos totais já agregados.
+     * Endpoint restrito a administradores.
+     * 
+     * @param granularidade HORA ou DIA
+     * @param inicio Data inicial no formato yyyy-MM-ddTHH:mm
+     * @param fim Data final, exclusiva, no formato yyyy-MM-ddTHH:mm
+     * @param porCategoria Se true, um ponto por categoria em cada intervalo
+     * @return ResponseEntity contendo os pontos da série em ordem cronológica
+     */
+    @GetMapping("/series")
+    public ResponseEntity<List<PontoSerieDenuncias>> buscarSerie(
+            @RequestParam(defaultValue = "HORA") String granularidade,
+            @RequestParam String inicio,
+            @RequestParam String fim,
+            @RequestParam(defaultValue = "false") boolean porCategoria) {
+        SerieDenuncias.Granularidade tipo = SerieDenuncias.Granularidade.valueOf(granularidade.toUpperCase(Locale.ROOT));
+        return ResponseEntity.ok(seriesDenunciasService.serie(tipo, LocalDateTime.parse(inicio), LocalDateTime.parse(fim),
+                porCategoria));
+    }
+
     /**
      * Marca uma denúncia como resolvida.
      * Endpoint restrito a administradores.
@@ -164,11 +227,69 @@ public class DenunciaController {
         System.out.println("Usuário autenticado: " + authentication.getName());
         System.out.println("Roles do usuário: " + authentication.getAuthorities());
         
-        boolean resolvida = denunciaService.resolverDenuncia(id);
+        boolean resolvida = denunciaService.resolverDenuncia(id, authentication.getName());
         if (resolvida) {
             return ResponseEntity.ok("Denúncia resolvida com sucesso.");
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Denúncia não encontrada ou já resolvida.");
         }
     }
+
+    /**
+     * Reserva para o moderador autenticado as próximas denúncias da fila de moderação,
+     * por prioridade. Endpoint restrito a administradores.
+     *
+     * @param quantidade Quantidade desejada de denúncias
+     * @param authentication Informações do usuário autenticado
+     * @return Denúncias reservadas, maior prioridade primeiro
+     */
+    @PostMapping("/fila/reservar")
+    public ResponseEntity<List<DenunciaReservada>> reservarDaFila(@RequestParam(defaultValue = "10") int quantidade,
+                                                                  Authentication authentication) {
+        return ResponseEntity.ok(moderacaoService.reservar(moderadorId(authentication), quantidade));
+    }
+
+    /**
+     * Devolve para a fila denúncias reservadas pelo moderador autenticado.
+     * Endpoint restrito a administradores.
+     *
+     * @param ids IDs das denúncias
+     * @param authentication Informações do usuário autenticado
+     * @return Quantidade de denúncias liberadas
+     */
+    @PostMapping("/fila/liberar")
+    public ResponseEntity<Map<String, Integer>> liberarDaFila(@RequestBody List<Long> ids, Authentication authentication) {
+        return ResponseEntity.ok(Map.of("liberadas", moderacaoService.liberar(moderadorId(authentication), ids)));
+    }
+
+    /**
+     * Resolve em lote denúncias reservadas pelo moderador autenticado.
+     * Endpoint restrito a administradores.
+     *
+     * @param ids IDs das denúncias
+     * @param authentication Informações do usuário autenticado
+     * @return Quantidade de denúncias resolvidas
+     */
+    @PostMapping("/fila/resolver")
+    public ResponseEntity<Map<String, Integer>> resolverDaFila(@RequestBody List<Long> ids, Authentication authentication) {
+        return ResponseEntity.ok(Map.of("resolvidas", moderacaoService.resolver(moderadorId(authentication), ids)));
+    }
+
+    /**
+     * Resolve em lote as denúncias pedidas, reservadas ou não, em uma única transação.
+     * Endpoint restrito a administradores.
+     *
+     * @param ids IDs das denúncias
+     * @param authentication Informações do usuário autenticado
+     * @return Situação de cada denúncia e totais da ação
+     */
+    @PostMapping("/lote/resolver")
+    public ResponseEntity<ResultadoLote> resolverEmLote(@RequestBody List<Long> ids, Authentication authentication) {
+        return ResponseEntity.ok(moderacaoEmLoteService.resolverDenuncias(
+                usuarioService.encontrarPorLogin(authentication.getName()), ids));
+    }
+
+    private Long moderadorId(Authentication authentication) {
+        return usuarioService.encontrarPorLogin(authentication.getName()).getId();
+    }
 }
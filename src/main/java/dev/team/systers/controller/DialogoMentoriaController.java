@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -11,18 +13,27 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import dev.team.systers.model.DialogoMentoria;
+import dev.team.systers.dto.EventoChat;
+import dev.team.systers.dto.MensagemDialogo;
+import dev.team.systers.dto.PaginaBuscaDialogo;
+import dev.team.systers.dto.PaginaDialogo;
+import dev.team.systers.exception.DialogoMentoriaException;
 import dev.team.systers.model.Mentoria;
 import dev.team.systers.model.Participante;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.ChatMentoriaService;
 import dev.team.systers.service.DialogoMentoriaService;
 import dev.team.systers.service.MentoriaService;
 import dev.team.systers.service.ParticipanteService;
 import dev.team.systers.service.UsuarioService;
+import dev.team.systers.tools.CacheCondicional;
 
 /**
  * Controlador responsável pelo gerenciamento de diálogos em mentorias.
@@ -33,6 +44,11 @@ import dev.team.systers.service.UsuarioService;
 @RequestMapping("/mentorias/dialogo")
 public class DialogoMentoriaController {
 
+    /**
+     * Quantidade de mensagens exibidas ao abrir o diálogo.
+     */
+    private static final int PAGINA_INICIAL = 50;
+
     /**
      * Serviço que gerencia operações relacionadas a diálogos.
      */
@@ -53,50 +69,65 @@ public class DialogoMentoriaController {
      */
     private final UsuarioService usuarioService;
 
+    /**
+     * Serviço do chat em tempo real das mentorias.
+     */
+    private final ChatMentoriaService chatMentoriaService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param dialogoMentoriaService Serviço de diálogo injetado pelo Spring
      * @param mentoriaService Serviço de mentoria injetado pelo Spring
      * @param participanteService Serviço de participante injetado pelo Spring
      * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param chatMentoriaService Serviço de chat injetado pelo Spring
      */
     @Autowired
     public DialogoMentoriaController(DialogoMentoriaService dialogoMentoriaService,
                                    MentoriaService mentoriaService,
                                    ParticipanteService participanteService,
-                                   UsuarioService usuarioService) {
+                                   UsuarioService usuarioService,
+                                   ChatMentoriaService chatMentoriaService) {
         this.dialogoMentoriaService = dialogoMentoriaService;
         this.mentoriaService = mentoriaService;
         this.participanteService = participanteService;
         this.usuarioService = usuarioService;
+        this.chatMentoriaService = chatMentoriaService;
     }
 
     /**
      * Exibe a página de diálogo de uma mentoria específica.
-     * Carrega o histórico de mensagens e informações dos participantes.
+     * Carrega somente a última página do histórico; as anteriores são buscadas
+     * sob demanda pelo cursor. A marca do histórico é lida antes das mensagens:
+     * o chat envia ao navegador as mensagens posteriores a ela que ainda não estavam gravadas.
      * 
      * @param mentoriaId ID da mentoria
      * @param model Modelo para passar dados à view
      * @return Nome da view de diálogo
+     * @throws DialogoMentoriaException se o usuário não participa da mentoria
      */
     @GetMapping("/{mentoriaId}")
     public String mostrarDialogo(@PathVariable Long mentoriaId, Model model) {
+        participanteAtual(mentoriaId);
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         Usuario usuario = usuarioService.buscarPorLogin(auth.getName());
         
         Mentoria mentoria = mentoriaService.buscarPorId(mentoriaId);
-        List<DialogoMentoria> dialogos = dialogoMentoriaService.listarPorMentoria(mentoriaId);
+        long marca = chatMentoriaService.marcaDoHistorico();
+        PaginaDialogo pagina = dialogoMentoriaService.buscarHistorico(mentoriaId, null, PAGINA_INICIAL);
         
         model.addAttribute("mentoria", mentoria);
-        model.addAttribute("dialogos", dialogos);
+        model.addAttribute("dialogos", pagina.mensagens());
+        model.addAttribute("cursorAnterior", pagina.cursorAnterior());
         model.addAttribute("usuario", usuario);
+        model.addAttribute("marca", marca);
         
         return "dialogo-mentoria";
     }
 
     /**
-     * Processa o envio de uma nova mensagem no diálogo.
-     * Registra a mensagem com data e hora atual e o participante que enviou.
+     * Processa o envio de uma nova mensagem pelo formulário, para navegadores sem JavaScript.
+     * A mensagem passa pelo chat: é repassada aos participantes conectados e gravada em lote.
      * 
      * @param mentoriaId ID da mentoria
      * @param mensagem Conteúdo da mensagem
@@ -105,33 +136,151 @@ public class DialogoMentoriaController {
     @PostMapping("/enviar")
     public String enviarMensagem(@RequestParam Long mentoriaId,
                                 @RequestParam String mensagem) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        Usuario usuario = usuarioService.buscarPorLogin(auth.getName());
-        
-        Mentoria mentoria = mentoriaService.buscarPorId(mentoriaId);
-        Participante participante = participanteService.buscarParticipantePorUsuarioEMentoria(usuario, mentoria);
-        
-        DialogoMentoria dialogo = new DialogoMentoria();
-        dialogo.setMensagem(mensagem);
-        dialogo.setMentoria(mentoria);
-        dialogo.setParticipante(participante);
-        dialogo.setDataHora(LocalDateTime.now());
-        
-        dialogoMentoriaService.salvarDialogo(dialogo);
-        
+        chatMentoriaService.enviar(participanteAtual(mentoriaId), mensagem);
         return "redirect:/mentorias/dialogo/" + mentoriaId;
     }
 
     /**
-     * Retorna a lista de mensagens de uma mentoria específica.
-     * Endpoint utilizado para atualização assíncrona do diálogo.
+     * Abre o canal Server-Sent Events do chat da mentoria.
+     * Mensagens, avisos de digitação e confirmações de recebimento chegam como
+     * eventos {@code chat}. Ao reconectar, o navegador envia o cabeçalho
+     * {@code Last-Event-ID} e recebe as mensagens recentes que perdeu.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param ultimoEventoId Último ID recebido, enviado automaticamente pelo navegador (opcional)
+     * @param desde Último ID já exibido, na primeira conexão (opcional)
+     * @return Emissor SSE da conexão
+     */
+    @GetMapping(value = "/{mentoriaId}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharChat(@PathVariable Long mentoriaId,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) Long ultimoEventoId,
+                                     @RequestParam(required = false) Long desde) {
+        participanteAtual(mentoriaId);
+        return chatMentoriaService.conectar(mentoriaId, ultimoEventoId != null ? ultimoEventoId : desde);
+    }
+
+    /**
+     * Envia uma mensagem pelo chat, sem recarregar a página.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param mensagem Conteúdo da mensagem
+     * @return Evento da mensagem enviada
+     */
+    @PostMapping("/{mentoriaId}/mensagens")
+    @ResponseBody
+    public EventoChat enviarPeloChat(@PathVariable Long mentoriaId, @RequestParam String mensagem) {
+        return chatMentoriaService.enviar(participanteAtual(mentoriaId), mensagem);
+    }
+
+    /**
+     * Avisa os demais participantes que o usuário está digitando.
+     *
+     * @param mentoriaId ID da mentoria
+     * @return Resposta sem conteúdo
+     */
+    @PostMapping("/{mentoriaId}/digitando")
+    public ResponseEntity<Void> avisarDigitando(@PathVariable Long mentoriaId) {
+        chatMentoriaService.digitando(participanteAtual(mentoriaId));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Confirma o recebimento de uma mensagem para o autor.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param mensagemId ID da mensagem recebida
+     * @return Resposta sem conteúdo
+     */
+    @PostMapping("/{mentoriaId}/confirmacoes")
+    public ResponseEntity<Void> confirmarRecebimento(@PathVariable Long mentoriaId, @RequestParam Long mensagemId) {
+        chatMentoriaService.confirmar(participanteAtual(mentoriaId), mensagemId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Retorna uma página do histórico do diálogo, voltando no tempo.
+     * Para as mensagens anteriores, envie o {@code cursorAnterior} recebido como parâmetro {@code cursor}.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param cursor Cursor da página mais recente já exibida (opcional)
+     * @param limite Quantidade de mensagens por página (máximo 200)
+     * @return Página com as mensagens, das mais antigas para as mais recentes
+     * @throws DialogoMentoriaException se o usuário não participa da mentoria
+     */
+    @GetMapping("/{mentoriaId}/historico")
+    @ResponseBody
+    public PaginaDialogo buscarHistorico(@PathVariable Long mentoriaId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "50") int limite) {
+        participanteAtual(mentoriaId);
+        return dialogoMentoriaService.buscarHistorico(mentoriaId, cursor, limite);
+    }
+
+    /**
+     * Retorna as mensagens gravadas depois da última recebida pelo cliente, em ordem de ID.
+     * Endpoint utilizado por clientes que reconectam para completar o diálogo.
+     * Responde 304 enquanto nenhuma mensagem nova for gravada.
      * 
      * @param mentoriaId ID da mentoria
-     * @return Lista de mensagens do diálogo
+     * @param desde ID da última mensagem recebida (0 para começar do início)
+     * @param limite Quantidade máxima de mensagens (máximo 200)
+     * @param requisicao Requisição atual, usada para a validação por ETag
+     * @return Mensagens posteriores ao ID informado, ou null se não modificada
+     * @throws DialogoMentoriaException se o usuário não participa da mentoria
      */
     @GetMapping("/{mentoriaId}/mensagens")
     @ResponseBody
-    public List<DialogoMentoria> buscarMensagens(@PathVariable Long mentoriaId) {
-        return dialogoMentoriaService.listarPorMentoria(mentoriaId);
+    public List<MensagemDialogo> buscarMensagens(@PathVariable Long mentoriaId,
+                                                 @RequestParam(defaultValue = "0") Long desde,
+                                                 @RequestParam(defaultValue = "200") int limite,
+                                                 WebRequest requisicao) {
+        participanteAtual(mentoriaId);
+        String versao = dialogoMentoriaService.buscarVersaoDoDialogo(mentoriaId);
+        if (CacheCondicional.naoModificado(requisicao, "dialogo-" + mentoriaId, versao)) {
+            return null;
+        }
+        return dialogoMentoriaService.buscarPosterioresA(mentoriaId, desde, limite);
+    }
+
+    /**
+     * Busca mensagens nas conversas das mentorias de que o usuário autenticado participa.
+     * Os resultados vêm dos mais relevantes para os menos relevantes, com um trecho em que
+     * os termos encontrados aparecem entre {@code <mark>} e {@code </mark>}.
+     * Para a página seguinte, envie o {@code proximoCursor} recebido como parâmetro {@code cursor}.
+     *
+     * @param termo Termos da busca
+     * @param mentoriaId Restringe a busca a uma mentoria (opcional)
+     * @param de Início do período (opcional)
+     * @param ate Fim do período, exclusivo (opcional)
+     * @param cursor Cursor da página anterior (opcional)
+     * @param limite Quantidade de resultados por página (máximo 50)
+     * @return Página com os resultados da busca
+     */
+    @GetMapping("/busca")
+    @ResponseBody
+    public PaginaBuscaDialogo buscarNasConversas(@RequestParam String termo,
+                                                 @RequestParam(required = false) Long mentoriaId,
+                                                 @RequestParam(required = false) LocalDateTime de,
+                                                 @RequestParam(required = false) LocalDateTime ate,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "20") int limite) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Usuario usuario = usuarioService.buscarPorLogin(auth.getName());
+        return dialogoMentoriaService.buscarNasConversas(usuario.getId(), termo, mentoriaId, de, ate, cursor, limite);
+    }
+
+    /**
+     * Busca a participação do usuário autenticado na mentoria.
+     * @throws DialogoMentoriaException se o usuário não participa da mentoria
+     */
+    private Participante participanteAtual(Long mentoriaId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Usuario usuario = usuarioService.buscarPorLogin(auth.getName());
+        Mentoria mentoria = mentoriaService.buscarPorId(mentoriaId);
+        Participante participante = participanteService.buscarParticipantePorUsuarioEMentoria(usuario, mentoria);
+        if (participante == null) {
+            throw new DialogoMentoriaException("Você não participa desta mentoria.");
+        }
+        return participante;
     }
-} 
\ No newline at end of file
+}
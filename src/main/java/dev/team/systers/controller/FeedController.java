@@ -9,10 +9,13 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import dev.team.systers.dto.UsuarioDenunciado;
 import dev.team.systers.model.Postagem;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.CarregamentoPaginaService;
 import dev.team.systers.service.PostagemService;
 import dev.team.systers.service.UsuarioService;
+import dev.team.systers.tools.CargaComposta;
 
 /**
  * Controlador responsável pelo gerenciamento do feed de postagens.
@@ -32,21 +35,30 @@ public class FeedController {
      */
     private final UsuarioService usuarioService;
 
+    /**
+     * Serviço que carrega em paralelo as partes independentes das páginas.
+     */
+    private final CarregamentoPaginaService carregamentoPaginaService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param postagemService Serviço de postagens injetado pelo Spring
      * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param carregamentoPaginaService Serviço de carregamento de páginas injetado pelo Spring
      */
     @Autowired
-    public FeedController(PostagemService postagemService, UsuarioService usuarioService) {
+    public FeedController(PostagemService postagemService, UsuarioService usuarioService, CarregamentoPaginaService carregamentoPaginaService) {
         this.postagemService = postagemService;
         this.usuarioService = usuarioService;
+        this.carregamentoPaginaService = carregamentoPaginaService;
     }
 
     /**
      * Exibe o feed personalizado do usuário autenticado.
      * Carrega as 10 postagens mais recentes dos grupos do usuário
      * e, para administradores, exibe também a lista de usuários denunciados.
+     * As três consultas são independentes e rodam em paralelo; postagens e
+     * denúncias são opcionais e ficam vazias se não chegarem no prazo.
      * 
      * @param model Modelo para passar dados à view
      * @return Nome da view do feed
@@ -55,17 +67,24 @@ public class FeedController {
     public String exibirFeed(Model model) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String login = auth.getName();
-        Usuario usuario = usuarioService.encontrarPorLogin(login);
-        
-        List<Postagem> postagens = postagemService.listarUltimas10PostagensDeTodosOsGruposDoUsuario(usuario);
-        model.addAttribute("postagens", postagens);
-        
-        if (usuario.getAutorizacao() == Usuario.Autorizacao.ADMINISTRADOR) {
-            List<Usuario> usuariosDenunciados = usuarioService.listarUsuariosDenunciados();
-            model.addAttribute("usuariosDenunciados", usuariosDenunciados);
+        boolean administrador = auth.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_" + Usuario.Autorizacao.ADMINISTRADOR.name()));
+
+        try (CargaComposta carga = carregamentoPaginaService.iniciar()) {
+            CargaComposta.Parte<Usuario> usuarioParte = carga.essencial(() -> usuarioService.encontrarPorLogin(login));
+            CargaComposta.Parte<List<Postagem>> postagensParte = carga.opcional(() -> postagemService.listarUltimasPostagensDosGrupos(login, 10), List.of());
+            CargaComposta.Parte<List<UsuarioDenunciado>> denunciadosParte = administrador
+                    ? carga.opcional(usuarioService::listarUsuariosDenunciados, List.of())
+                    : null;
+            carga.aguardar();
+
+            model.addAttribute("postagens", postagensParte.get());
+            if (denunciadosParte != null) {
+                model.addAttribute("usuariosDenunciados", denunciadosParte.get());
+            }
+            model.addAttribute("usuario", usuarioParte.get());
+            model.addAttribute("carregamentoParcial", carga.isParcial());
         }
-        
-        model.addAttribute("usuario", usuario);
         return "feed";
     }
 }
@@ -12,20 +12,29 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import dev.team.systers.dto.AlteracaoStatusLote;
+import dev.team.systers.dto.ResultadoLote;
 import dev.team.systers.exception.GrupoException;
 import dev.team.systers.exception.UsuarioException;
 import dev.team.systers.model.Grupo;
 import dev.team.systers.model.Membro;
 import dev.team.systers.model.Postagem;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.CarregamentoPaginaService;
 import dev.team.systers.service.ComentarioService;
 import dev.team.systers.service.GrupoService;
 import dev.team.systers.service.MembroService;
+import dev.team.systers.service.ModeracaoEmLoteService;
 import dev.team.systers.service.PostagemService;
 import dev.team.systers.service.UsuarioService;
+import dev.team.systers.tools.CacheCondicional;
+import dev.team.systers.tools.CargaComposta;
 
 /**
  * Controlador responsável pelo gerenciamento de grupos.
@@ -60,6 +69,16 @@ public class GrupoController {
      */
     private final MembroService membroService;
 
+    /**
+     * Serviço que carrega em paralelo as partes independentes das páginas.
+     */
+    private final CarregamentoPaginaService carregamentoPaginaService;
+
+    /**
+     * Serviço das ações de moderação em lote.
+     */
+    private final ModeracaoEmLoteService moderacaoEmLoteService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param grupoService Serviço de grupo injetado pelo Spring
@@ -67,14 +86,19 @@ public class GrupoController {
      * @param postagemService Serviço de postagem injetado pelo Spring
      * @param comentarioService Serviço de comentário injetado pelo Spring
      * @param membroService Serviço de membro injetado pelo Spring
+     * @param carregamentoPaginaService Serviço de carregamento de páginas injetado pelo Spring
+     * @param moderacaoEmLoteService Serviço de moderação em lote injetado pelo Spring
      */
     @Autowired
-    public GrupoController(GrupoService grupoService, UsuarioService usuarioService, PostagemService postagemService, ComentarioService comentarioService, MembroService membroService) {
+    public GrupoController(GrupoService grupoService, UsuarioService usuarioService, PostagemService postagemService, ComentarioService comentarioService, MembroService membroService, CarregamentoPaginaService carregamentoPaginaService,
+                           ModeracaoEmLoteService moderacaoEmLoteService) {
         this.grupoService = grupoService;
         this.usuarioService = usuarioService;
         this.postagemService = postagemService;
         this.comentarioService = comentarioService;
         this.membroService = membroService;
+        this.carregamentoPaginaService = carregamentoPaginaService;
+        this.moderacaoEmLoteService = moderacaoEmLoteService;
     }
 
     /**
@@ -163,30 +187,53 @@ public class GrupoController {
     /**
      * Exibe os detalhes de um grupo específico.
      * Inclui postagens e informações de membros se o usuário for membro do grupo.
+     * O grupo e a participação do usuário são carregados em paralelo; as postagens só
+     * são consultadas para membros e, se não chegarem no prazo, a página é exibida sem elas.
+     * Antes de qualquer carga, a versão do grupo é comparada com o If-None-Match
+     * do navegador e, se nada mudou, a resposta é 304 sem executar as consultas.
      * 
      * @param id ID do grupo a ser visualizado
      * @param model Modelo para passar dados à view
-     * @return Nome da view do grupo ou redirecionamento em caso de erro
+     * @param requisicao Requisição atual, usada para a validação por ETag
+     * @return Nome da view do grupo, null se não modificado, ou redirecionamento em caso de erro
      */
     @GetMapping("/grupos/grupo/{id}")
-    public String visualizarGrupo(@PathVariable Long id, Model model) {
+    public String visualizarGrupo(@PathVariable Long id, Model model, WebRequest requisicao) {
         try {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Usuario usuario = usuarioService.buscarPorLogin(auth.getName());
-            Grupo grupo = grupoService.buscarGrupoPorId(id);
-            
-            boolean isMembro = grupo.getMembros().stream()
-                    .anyMatch(m -> m.getUsuario().getId().equals(usuario.getId()));
-            
-            model.addAttribute("grupo", grupo);
-            model.addAttribute("isMembro", isMembro);
-            
-            if (isMembro) {
-                Membro membroAtual = membroService.buscarMembroPorUsuarioEGrupo(usuario.getId(), grupo.getId());
-                List<Postagem> postagens = grupoService.visualizarPostagens(id);
-                
-                model.addAttribute("membro", membroAtual);
-                model.addAttribute("postagens", postagens);
+            String login = auth.getName();
+
+            Long versao = grupoService.buscarVersaoDoGrupo(id);
+            if (versao != null && CacheCondicional.naoModificado(requisicao, "grupo-" + id, versao)) {
+                return null;
+            }
+
+            try (CargaComposta carga = carregamentoPaginaService.iniciar()) {
+                CargaComposta.Parte<Grupo> grupoParte = carga.essencial(() -> grupoService.buscarGrupoPorId(id));
+                CargaComposta.Parte<Membro> membroParte = carga.essencial(() -> membroService.buscarMembroPorLoginEGrupo(login, id));
+                carga.aguardar();
+
+                Grupo grupo = grupoParte.get();
+                if (grupo == null) {
+                    throw new GrupoException("Grupo não encontrado");
+                }
+                Membro membroAtual = membroParte.get();
+                boolean isMembro = membroAtual != null;
+
+                model.addAttribute("grupo", grupo);
+                model.addAttribute("isMembro", isMembro);
+
+                if (isMembro) {
+                    // As postagens só são carregadas depois de confirmar que o usuário é membro
+                    CargaComposta.Parte<List<Postagem>> postagensParte = carga.opcional(() -> grupoService.carregarPostagensDoGrupo(id, versao), List.of());
+                    carga.aguardar();
+                    model.addAttribute("membro", membroAtual);
+                    model.addAttribute("postagens", postagensParte.get());
+                    model.addAttribute("carregamentoParcial", carga.isParcial());
+                }
+                if (carga.isParcial()) {
+                    CacheCondicional.naoArmazenar(requisicao);
+                }
             }
             
             return "grupo";
@@ -411,6 +458,26 @@ public class GrupoController {
         return "redirect:/grupos";
     }
 
+    /**
+     * Altera o status de acesso de vários membros do grupo em uma única transação.
+     * Apenas moderadores e donos do grupo podem alterar o status dos membros.
+     * 
+     * @param grupoId ID do grupo
+     * @param pedido IDs dos membros e novo status de acesso
+     * @return Situação de cada membro e totais da ação em formato JSON
+     * @throws UsuarioException se o usuário não estiver autenticado
+     */
+    @PostMapping("/grupos/grupo/{grupoId}/membros/status")
+    @ResponseBody
+    public ResultadoLote moderarMembros(@PathVariable Long grupoId, @RequestBody AlteracaoStatusLote pedido) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth.getName().equals("anonymousUser")) {
+            throw new UsuarioException("Usuário não autenticado");
+        }
+        Usuario usuario = usuarioService.buscarPorLogin(auth.getName());
+        return moderacaoEmLoteService.alterarStatusMembros(usuario, grupoId, pedido.ids(), pedido.status());
+    }
+
     /**
      * Pesquisa grupos com base em um termo de busca.
      * Se nenhum termo for fornecido, lista todos os grupos ordenados por número de membros.
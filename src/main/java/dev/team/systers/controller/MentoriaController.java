@@ -1,6 +1,8 @@
 package dev.team.systers.controller;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,12 +14,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
+import dev.team.systers.dto.MentorCompativel;
+import dev.team.systers.dto.PaginaMinhasMentorias;
+import dev.team.systers.dto.PosicaoRanking;
+import dev.team.systers.dto.ResumoAvaliacoes;
 import dev.team.systers.exception.MentoriaException;
 import dev.team.systers.exception.UsuarioException;
 import dev.team.systers.model.Avaliacao;
 import dev.team.systers.model.Mentoria;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.AgendaMentoriaService;
+import dev.team.systers.service.AgregadosAvaliacaoService;
+import dev.team.systers.service.CorrespondenciaMentoriaService;
 import dev.team.systers.service.MentoriaService;
 import dev.team.systers.service.ParticipanteService;
 import dev.team.systers.service.UsuarioService;
@@ -30,6 +40,11 @@ import dev.team.systers.service.UsuarioService;
 @Controller
 public class MentoriaController {
 
+    /**
+     * Quantidade de mentorias por página na página de mentorias.
+     */
+    private static final int PAGINA_MENTORIAS = 20;
+
     /**
      * Serviço que gerencia operações relacionadas a mentorias.
      */
@@ -45,31 +60,57 @@ public class MentoriaController {
      */
     private final ParticipanteService participanteService;
 
+    /**
+     * Serviço que sugere mentores compatíveis a partir da disponibilidade publicada.
+     */
+    private final CorrespondenciaMentoriaService correspondenciaMentoriaService;
+
+    /**
+     * Serviço de agendas dos participantes.
+     */
+    private final AgendaMentoriaService agendaMentoriaService;
+
+    /**
+     * Serviço dos agregados de avaliações e do ranking de mentores.
+     */
+    private final AgregadosAvaliacaoService agregadosAvaliacaoService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param mentoriaService Serviço de mentoria injetado pelo Spring
      * @param usuarioService Serviço de usuário injetado pelo Spring
      * @param participanteService Serviço de participante injetado pelo Spring
+     * @param correspondenciaMentoriaService Serviço de busca de mentores injetado pelo Spring
+     * @param agendaMentoriaService Serviço de agendas injetado pelo Spring
+     * @param agregadosAvaliacaoService Serviço dos agregados de avaliações injetado pelo Spring
      */
     @Autowired
-    public MentoriaController(MentoriaService mentoriaService, UsuarioService usuarioService, ParticipanteService participanteService) {
+    public MentoriaController(MentoriaService mentoriaService, UsuarioService usuarioService, ParticipanteService participanteService,
+                              CorrespondenciaMentoriaService correspondenciaMentoriaService,
+                              AgendaMentoriaService agendaMentoriaService,
+                              AgregadosAvaliacaoService agregadosAvaliacaoService) {
         this.mentoriaService = mentoriaService;
         this.usuarioService = usuarioService;
         this.participanteService = participanteService;
+        this.correspondenciaMentoriaService = correspondenciaMentoriaService;
+        this.agendaMentoriaService = agendaMentoriaService;
+        this.agregadosAvaliacaoService = agregadosAvaliacaoService;
     }
 
     /**
      * Exibe a página de mentorias para o usuário autenticado.
      * Lista todas as mentorias em que o usuário participa,
-     * seja como mentor ou mentorado.
+     * seja como mentor ou mentorado, uma página por vez: as ativas
+     * pela data de início mais próxima e depois as encerradas.
      *
+     * @param cursor Cursor da página, ou null para a primeira
      * @param model Modelo para passar dados à view
      * @return Nome da view de mentorias
      * @throws UsuarioException se o usuário não estiver autenticado ou não for encontrado
      * @throws MentoriaException se houver erro ao recuperar as mentorias
      */
     @GetMapping("/mentorias")
-    public String exibirMentorias(Model model) {
+    public String exibirMentorias(@RequestParam(required = false) String cursor, Model model) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
         if (auth == null ||
@@ -85,13 +126,13 @@ public class MentoriaController {
         }
         model.addAttribute("usuario", usuario);
 
-        List<Mentoria> mentorias = mentoriaService.listarMentoriasPorUsuario(usuario);
-        if (mentorias == null) {
+        PaginaMinhasMentorias pagina = mentoriaService.listarMinhasMentorias(usuario, cursor, PAGINA_MENTORIAS);
+        if (pagina == null) {
             throw new MentoriaException("Erro ao recuperar mentorias.");
         }
 
-        model.addAttribute("mentorias", mentorias);
-        model.addAttribute("mentoriaService", mentoriaService);
+        model.addAttribute("mentorias", pagina.mentorias());
+        model.addAttribute("proximoCursor", pagina.proximoCursor());
 
         return "mentorias";
     }
@@ -99,6 +140,8 @@ public class MentoriaController {
     /**
      * Cria uma nova sessão de mentoria.
      * Apenas usuários com status de mentor podem criar mentorias.
+     * O horário é recusado se conflitar com outra sessão do mentor ou do mentorado;
+     * a mensagem de erro traz os próximos horários livres em comum.
      *
      * @param nome Nome/título da mentoria
      * @param dataHoraInicio Data e hora de início da mentoria
@@ -125,6 +168,8 @@ public class MentoriaController {
             if (mentorado == null) {
                 throw new IllegalArgumentException("Usuário mentorado não encontrado");
             }
+            agendaMentoriaService.verificarDisponibilidade(List.of(mentor.getId(), mentorado.getId()),
+                    dataHoraInicio, dataHoraFim, null);
             
             Mentoria mentoria = new Mentoria();
             mentoria.setNome(nome);
@@ -199,4 +244,131 @@ public class MentoriaController {
             return "redirect:/mentorias?erro=" + e.getMessage();
         }
     }
+
+    /**
+     * Publica uma janela de disponibilidade do mentor autenticado.
+     *
+     * @param inicio Início da janela, no fuso horário do mentor
+     * @param fim Fim da janela, no fuso horário do mentor
+     * @param temas Temas atendidos, separados por vírgula
+     * @return Redirecionamento para a lista de mentorias ou mensagem de erro
+     */
+    @PostMapping("/mentorias/disponibilidade")
+    public String publicarDisponibilidade(@RequestParam LocalDateTime inicio,
+                                          @RequestParam LocalDateTime fim,
+                                          @RequestParam String temas) {
+        try {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            Usuario mentor = usuarioService.encontrarPorLogin(auth.getName());
+            correspondenciaMentoriaService.publicarDisponibilidade(mentor, inicio, fim, temas);
+            return "redirect:/mentorias";
+        } catch (Exception e) {
+            return "redirect:/mentorias?erro=" + e.getMessage();
+        }
+    }
+
+    /**
+     * Remove uma janela de disponibilidade do mentor autenticado.
+     *
+     * @param id ID da janela
+     * @return Redirecionamento para a lista de mentorias ou mensagem de erro
+     */
+    @PostMapping("/mentorias/disponibilidade/{id}/remover")
+    public String removerDisponibilidade(@PathVariable Long id) {
+        try {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            Usuario mentor = usuarioService.encontrarPorLogin(auth.getName());
+            correspondenciaMentoriaService.removerDisponibilidade(id, mentor);
+            return "redirect:/mentorias";
+        } catch (Exception e) {
+            return "redirect:/mentorias?erro=" + e.getMessage();
+        }
+    }
+
+    /**
+     * Sugere mentores compatíveis com o usuário autenticado em um período.
+     * O período é interpretado no fuso horário do usuário.
+     *
+     * @param inicio Início do período
+     * @param fim Fim do período
+     * @param temas Temas de interesse, separados por vírgula (opcional)
+     * @param limite Quantidade máxima de mentores
+     * @return Mentores compatíveis em formato JSON, do mais para o menos compatível
+     */
+    @GetMapping("/mentorias/mentores-compativeis")
+    @ResponseBody
+    public List<MentorCompativel> buscarMentoresCompativeis(@RequestParam LocalDateTime inicio,
+                                                            @RequestParam LocalDateTime fim,
+                                                            @RequestParam(required = false) String temas,
+                                                            @RequestParam(defaultValue = "10") int limite) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Usuario mentorado = usuarioService.encontrarPorLogin(auth.getName());
+        return correspondenciaMentoriaService.buscarMentoresCompativeis(mentorado, inicio, fim, temas, limite);
+    }
+
+    /**
+     * Sugere os próximos horários em que o usuário autenticado e, opcionalmente,
+     * outro usuário estão livres.
+     *
+     * @param inicio Horário desejado
+     * @param duracaoMin Duração da sessão, em minutos
+     * @param login Login do outro participante (opcional)
+     * @param quantidade Quantidade máxima de sugestões
+     * @return Horários de início livres em formato JSON
+     */
+    @GetMapping("/mentorias/horarios-livres")
+    @ResponseBody
+    public List<LocalDateTime> sugerirHorarios(@RequestParam LocalDateTime inicio,
+                                               @RequestParam(defaultValue = "60") int duracaoMin,
+                                               @RequestParam(required = false) String login,
+                                               @RequestParam(defaultValue = "5") int quantidade) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        List<Long> usuarios = new ArrayList<>();
+        usuarios.add(usuarioService.encontrarPorLogin(auth.getName()).getId());
+        if (login != null && !login.isBlank()) {
+            Usuario outro = usuarioService.encontrarPorLogin(login);
+            if (outro == null) {
+                throw new UsuarioException("Usuário não encontrado");
+            }
+            usuarios.add(outro.getId());
+        }
+        return agendaMentoriaService.sugerirHorarios(usuarios, inicio, Duration.ofMinutes(Math.max(1, duracaoMin)),
+                Math.min(Math.max(1, quantidade), 20), null);
+    }
+
+    /**
+     * Retorna os mentores mais bem avaliados, pela média bayesiana.
+     *
+     * @param limite Quantidade máxima de mentores
+     * @return Ranking dos mentores em formato JSON
+     */
+    @GetMapping("/mentorias/ranking-mentores")
+    @ResponseBody
+    public List<PosicaoRanking> rankingMentores(@RequestParam(defaultValue = "10") int limite) {
+        return agregadosAvaliacaoService.ranking(Math.min(Math.max(1, limite), 100));
+    }
+
+    /**
+     * Retorna o resumo das avaliações de um mentor: quantidade, médias e histograma por nota.
+     *
+     * @param id ID do mentor
+     * @return Resumo das avaliações em formato JSON
+     */
+    @GetMapping("/mentorias/mentores/{id}/avaliacoes")
+    @ResponseBody
+    public ResumoAvaliacoes avaliacoesDoMentor(@PathVariable Long id) {
+        return agregadosAvaliacaoService.resumoDoMentor(id);
+    }
+
+    /**
+     * Retorna o resumo das avaliações de uma mentoria: quantidade, médias e histograma por nota.
+     *
+     * @param id ID da mentoria
+     * @return Resumo das avaliações em formato JSON
+     */
+    @GetMapping("/mentorias/{id}/avaliacoes")
+    @ResponseBody
+    public ResumoAvaliacoes avaliacoesDaMentoria(@PathVariable Long id) {
+        return agregadosAvaliacaoService.resumoDaMentoria(id);
+    }
 }
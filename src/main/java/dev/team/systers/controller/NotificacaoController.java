@@ -1,21 +1,31 @@
 package dev.team.systers.controller;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import dev.team.systers.dto.PaginaNotificacoes;
 import dev.team.systers.model.Notificacao;
+import dev.team.systers.model.Usuario;
 import dev.team.systers.repository.NotificacaoRepository;
 import dev.team.systers.service.NotificacaoService;
+import dev.team.systers.service.NotificacaoTempoRealService;
+import dev.team.systers.service.UsuarioService;
 
 /**
  * Controlador REST para operações relacionadas a notificações.
@@ -36,14 +46,30 @@ public class NotificacaoController {
      */
     private final NotificacaoRepository notificacaoRepository;
 
+    /**
+     * Serviço de entrega de notificações em tempo real.
+     */
+    private final NotificacaoTempoRealService notificacaoTempoRealService;
+
+    /**
+     * Serviço de usuários, usado para identificar o usuário autenticado.
+     */
+    private final UsuarioService usuarioService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param notificacaoService Serviço de notificação injetado pelo Spring
      * @param notificacaoRepository Repositório de notificação injetado pelo Spring
+     * @param notificacaoTempoRealService Serviço de notificações em tempo real injetado pelo Spring
+     * @param usuarioService Serviço de usuário injetado pelo Spring
      */
-    public NotificacaoController(NotificacaoService notificacaoService, NotificacaoRepository notificacaoRepository) {
+    public NotificacaoController(NotificacaoService notificacaoService, NotificacaoRepository notificacaoRepository,
+                                 NotificacaoTempoRealService notificacaoTempoRealService,
+                                 UsuarioService usuarioService) {
         this.notificacaoService = notificacaoService;
         this.notificacaoRepository = notificacaoRepository;
+        this.notificacaoTempoRealService = notificacaoTempoRealService;
+        this.usuarioService = usuarioService;
     }
 
     /**
@@ -59,6 +85,66 @@ public class NotificacaoController {
         return ResponseEntity.ok(notificacoes);
     }
 
+    /**
+     * Retorna uma página da caixa de entrada de um usuário, mais recentes primeiro.
+     * Para a página seguinte, envie o {@code proximoCursor} recebido como parâmetro {@code cursor}.
+     * Por padrão só as notificações recentes são listadas; use {@code historico=true} para ver as antigas.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @param cursor Cursor da página anterior (opcional)
+     * @param limite Quantidade de notificações por página (máximo 100)
+     * @param historico Inclui notificações antigas (opcional)
+     * @return ResponseEntity contendo a página de notificações e o total de não lidas,
+     *         ou FORBIDDEN se o usuário não for o autenticado
+     */
+    @GetMapping("/usuario/{usuarioId}/caixa")
+    public ResponseEntity<PaginaNotificacoes> listarCaixaDeEntrada(@PathVariable Long usuarioId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int limite,
+                                                                   @RequestParam(defaultValue = "false") boolean historico) {
+        if (!isUsuarioAutenticado(usuarioId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(notificacaoService.buscarCaixaDeEntrada(usuarioId, cursor, limite, historico));
+    }
+
+    /**
+     * Retorna a quantidade de notificações não lidas de um usuário.
+     * Endpoint leve, próprio para atualizar o indicador de notificações.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @return ResponseEntity contendo o total de não lidas, ou FORBIDDEN se o usuário não for o autenticado
+     */
+    @GetMapping("/usuario/{usuarioId}/nao-lidas")
+    public ResponseEntity<Map<String, Long>> contarNaoLidas(@PathVariable Long usuarioId) {
+        if (!isUsuarioAutenticado(usuarioId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(Map.of("naoLidas", notificacaoService.contarNaoLidas(usuarioId)));
+    }
+
+    /**
+     * Abre um canal Server-Sent Events com as novas notificações do usuário.
+     * Substitui a consulta periódica da lista de notificações: cada notificação é
+     * enviada como um evento {@code notificacao} cujo {@code id} é o ID da notificação.
+     * Ao reconectar, o navegador envia o cabeçalho {@code Last-Event-ID} e recebe
+     * as notificações criadas enquanto estava desconectado.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @param ultimoEventoId Último ID recebido, enviado automaticamente pelo navegador (opcional)
+     * @param desde Último ID recebido, para clientes que não enviam o cabeçalho (opcional)
+     * @return Emissor SSE da conexão, ou FORBIDDEN se o usuário não for o autenticado
+     */
+    @GetMapping(value = "/usuario/{usuarioId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> acompanharNotificacoes(@PathVariable Long usuarioId,
+                                                             @RequestHeader(value = "Last-Event-ID", required = false) Long ultimoEventoId,
+                                                             @RequestParam(required = false) Long desde) {
+        if (!isUsuarioAutenticado(usuarioId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(notificacaoTempoRealService.conectar(usuarioId, ultimoEventoId != null ? ultimoEventoId : desde));
+    }
+
     /**
      * Cria e envia uma nova notificação.
      * Define automaticamente a data de envio e marca como não lida.
@@ -68,25 +154,60 @@ public class NotificacaoController {
      */
     @PostMapping
     public ResponseEntity<Notificacao> enviarNotificacao(@RequestBody Notificacao notificacao) {
-        notificacao.setDataEnvio(LocalDateTime.now());
-        notificacao.setStatusLida(false);
-        Notificacao novaNotificacao = notificacaoRepository.save(notificacao);
+        Notificacao novaNotificacao = notificacaoService.enviarNotificacao(notificacao);
         return ResponseEntity.status(HttpStatus.CREATED).body(novaNotificacao);
     }
 
     /**
      * Marca uma notificação específica como lida.
-     * Atualiza o status da notificação no banco de dados.
+     * Atualiza o status da notificação e o contador de não lidas do destinatário.
      *
      * @param id ID da notificação a ser marcada como lida
-     * @return ResponseEntity contendo a notificação atualizada ou NOT_FOUND se não existir
+     * @return ResponseEntity contendo a notificação atualizada, NOT_FOUND se não existir
+     *         ou FORBIDDEN se o destinatário não for o usuário autenticado
      */
     @PutMapping("/{id}/lida")
     public ResponseEntity<Notificacao> marcarComoLida(@PathVariable Long id) {
-        return notificacaoRepository.findById(id).map(notificacao -> {
-            notificacao.setStatusLida(true);
-            Notificacao notificacaoAtualizada = notificacaoRepository.save(notificacao);
-            return ResponseEntity.ok(notificacaoAtualizada);
-        }).orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        Notificacao existente = notificacaoRepository.findById(id).orElse(null);
+        if (existente == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (!isUsuarioAutenticado(existente.getUsuarioNotificacaoDestinatario().getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Notificacao notificacao = notificacaoService.marcarComoLida(id);
+        if (notificacao == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok(notificacao);
+    }
+
+    /**
+     * Marca todas as notificações de um usuário como lidas.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @return ResponseEntity contendo a quantidade de notificações alteradas,
+     *         ou FORBIDDEN se o usuário não for o autenticado
+     */
+    @PutMapping("/usuario/{usuarioId}/lidas")
+    public ResponseEntity<Map<String, Integer>> marcarTodasComoLidas(@PathVariable Long usuarioId) {
+        if (!isUsuarioAutenticado(usuarioId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(Map.of("marcadas", notificacaoService.marcarTodasComoLidas(usuarioId)));
+    }
+
+    /**
+     * Verifica se o ID informado é o do usuário autenticado.
+     * @param usuarioId ID do usuário da requisição
+     * @return true se for o próprio usuário autenticado
+     */
+    private boolean isUsuarioAutenticado(Long usuarioId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            return false;
+        }
+        Usuario usuario = usuarioService.encontrarPorLogin(auth.getName());
+        return usuario.getId().equals(usuarioId);
     }
 }
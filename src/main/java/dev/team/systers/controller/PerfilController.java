@@ -10,14 +10,18 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import dev.team.systers.exception.UsuarioException;
 import dev.team.systers.model.Denuncia;
 import dev.team.systers.model.Perfil;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.CarregamentoPaginaService;
 import dev.team.systers.service.DenunciaService;
 import dev.team.systers.service.PerfilService;
 import dev.team.systers.service.UsuarioService;
+import dev.team.systers.tools.CacheCondicional;
+import dev.team.systers.tools.CargaComposta;
 
 /**
  * Controlador responsável pelo gerenciamento de perfis de usuários.
@@ -42,17 +46,24 @@ public class PerfilController {
      */
     private final DenunciaService denunciaService;
 
+    /**
+     * Serviço que carrega em paralelo as partes independentes das páginas.
+     */
+    private final CarregamentoPaginaService carregamentoPaginaService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param perfilService Serviço de perfil injetado pelo Spring
      * @param usuarioService Serviço de usuário injetado pelo Spring
      * @param denunciaService Serviço de denúncia injetado pelo Spring
+     * @param carregamentoPaginaService Serviço de carregamento de páginas injetado pelo Spring
      */
     @Autowired
-    public PerfilController(PerfilService perfilService, UsuarioService usuarioService, DenunciaService denunciaService) {
+    public PerfilController(PerfilService perfilService, UsuarioService usuarioService, DenunciaService denunciaService, CarregamentoPaginaService carregamentoPaginaService) {
         this.usuarioService = usuarioService;
         this.perfilService = perfilService;
         this.denunciaService = denunciaService;
+        this.carregamentoPaginaService = carregamentoPaginaService;
     }
 
     /**
@@ -93,19 +104,34 @@ public class PerfilController {
 
     /**
      * Exibe o perfil de um usuário específico pelo login.
+     * O usuário e o perfil são buscados em paralelo, ambos pelo login.
+     * Se a versão do perfil não mudou desde a última visita, responde 304 sem carregá-los.
      * 
      * @param login Login do usuário a ser visualizado
      * @param model Modelo para passar dados à view
-     * @return Nome da view de perfil
+     * @param requisicao Requisição atual, usada para a validação por ETag
+     * @return Nome da view de perfil, ou null se não modificado
      * @throws IllegalArgumentException se o usuário ou perfil não for encontrado
      */
     @GetMapping("/perfil/{login}")
-    public String exibirPerfilUsuario(@PathVariable String login, Model model) {
-        Usuario usuario = usuarioService.encontrarPorLogin(login);
+    public String exibirPerfilUsuario(@PathVariable String login, Model model, WebRequest requisicao) {
+        Long versao = perfilService.buscarVersaoDoPerfil(login);
+        if (versao != null && CacheCondicional.naoModificado(requisicao, "perfil-" + login, versao)) {
+            return null;
+        }
+
+        Usuario usuario;
+        Perfil perfil;
+        try (CargaComposta carga = carregamentoPaginaService.iniciar()) {
+            CargaComposta.Parte<Usuario> usuarioParte = carga.essencial(() -> usuarioService.encontrarPorLogin(login));
+            CargaComposta.Parte<Perfil> perfilParte = carga.essencial(() -> perfilService.buscarPerfilPorLogin(login));
+            carga.aguardar();
+            usuario = usuarioParte.get();
+            perfil = perfilParte.get();
+        }
         if (usuario == null) {
             throw new IllegalArgumentException("Usuário não encontrado");
         }
-        Perfil perfil = perfilService.buscarPerfilPorIDUsuario(usuario.getId());
         
         if (perfil == null) {
             throw new IllegalArgumentException("Perfil não encontrado para o usuário: " + login);
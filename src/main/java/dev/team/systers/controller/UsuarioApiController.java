@@ -17,7 +17,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import dev.team.systers.dto.AlteracaoStatusLote;
+import dev.team.systers.dto.ResultadoLote;
+import dev.team.systers.dto.UsuarioDenunciado;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.service.ModeracaoEmLoteService;
 import dev.team.systers.service.UsuarioService;
 
 /**
@@ -34,13 +38,20 @@ public class UsuarioApiController {
      */
     private final UsuarioService usuarioService;
 
+    /**
+     * Serviço das ações de moderação em lote.
+     */
+    private final ModeracaoEmLoteService moderacaoEmLoteService;
+
     /**
      * Construtor que inicializa o controlador com as dependências necessárias.
      * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param moderacaoEmLoteService Serviço de moderação em lote injetado pelo Spring
      */
     @Autowired
-    public UsuarioApiController(UsuarioService usuarioService) {
+    public UsuarioApiController(UsuarioService usuarioService, ModeracaoEmLoteService moderacaoEmLoteService) {
         this.usuarioService = usuarioService;
+        this.moderacaoEmLoteService = moderacaoEmLoteService;
     }
 
     /**
@@ -51,7 +62,7 @@ public class UsuarioApiController {
      * @throws AccessDeniedException se o usuário não for administrador
      */
     @GetMapping("/denunciados")
-    public List<Usuario> listarUsuariosDenunciados() {
+    public List<UsuarioDenunciado> listarUsuariosDenunciados() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String login = auth.getName();
         Usuario admin = usuarioService.encontrarPorLogin(login);
@@ -93,6 +104,23 @@ public class UsuarioApiController {
         }
     }
 
+    /**
+     * Altera o status de vários usuários em uma única transação.
+     * Endpoint restrito a administradores.
+     * 
+     * @param pedido IDs dos usuários e novo status
+     * @return ResponseEntity com a situação de cada usuário ou erro apropriado
+     */
+    @PutMapping("/status")
+    public ResponseEntity<ResultadoLote> atualizarStatusUsuarios(@RequestBody AlteracaoStatusLote pedido) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Usuario admin = usuarioService.encontrarPorLogin(auth.getName());
+        if (admin.getAutorizacao() != Usuario.Autorizacao.ADMINISTRADOR) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(moderacaoEmLoteService.alterarStatusUsuarios(admin, pedido.ids(), pedido.status()));
+    }
+
     /**
      * Classe interna para deserialização do status na atualização.
      * Usada para receber o novo status do usuário via JSON.
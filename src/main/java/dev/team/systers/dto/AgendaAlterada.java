@@ -0,0 +1,10 @@
+package dev.team.systers.dto;
+
+/**
+ * Evento publicado quando o horário ou os participantes de uma mentoria mudam.
+ * Entregue após o commit, atualiza as agendas em memória dos participantes.
+ *
+ * @param mentoriaId ID da mentoria
+ */
+public record AgendaAlterada(Long mentoriaId) {
+}
@@ -0,0 +1,12 @@
+package dev.team.systers.dto;
+
+import java.util.List;
+
+/**
+ * Pedido de alteração de status de vários registros de uma vez.
+ *
+ * @param ids IDs dos registros
+ * @param status Nome do novo status
+ */
+public record AlteracaoStatusLote(List<Long> ids, String status) {
+}
@@ -0,0 +1,14 @@
+package dev.team.systers.dto;
+
+import java.util.List;
+
+/**
+ * Evento publicado quando uma avaliação de mentoria é gravada.
+ * Entregue após o commit, reposiciona os mentores no ranking.
+ *
+ * @param mentoriaId ID da mentoria avaliada
+ * @param mentorIds IDs dos mentores da mentoria
+ * @param nota Nota atribuída
+ */
+public record AvaliacaoRegistrada(Long mentoriaId, List<Long> mentorIds, int nota) {
+}
@@ -0,0 +1,16 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado quando uma denúncia é gravada.
+ * Entregue após o commit, alimenta a janela de denúncias recentes e as regras de
+ * moderação automática.
+ *
+ * @param denunciaId ID da denúncia
+ * @param autorId ID de quem denunciou
+ * @param reportadoId ID do usuário denunciado
+ * @param dataHora Momento do registro
+ */
+public record DenunciaRegistrada(Long denunciaId, Long autorId, Long reportadoId, LocalDateTime dataHora) {
+}
@@ -0,0 +1,24 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denúncia entregue a um moderador pela fila de moderação.
+ *
+ * @param id ID da denúncia
+ * @param categoria Categoria informada pelo autor
+ * @param descricao Descrição da denúncia
+ * @param dataHora Momento do registro
+ * @param autorLogin Login de quem denunciou
+ * @param reportadoId ID do usuário denunciado
+ * @param reportadoLogin Login do usuário denunciado
+ * @param gravidade Gravidade da categoria, de 1 (leve) a 3 (grave)
+ * @param denunciasAtivas Denúncias pendentes contra o mesmo usuário, incluindo esta
+ * @param prioridade Prioridade calculada no momento da reserva
+ * @param reservadaAte Fim da reserva; depois dele a denúncia volta para a fila
+ */
+public record DenunciaReservada(Long id, String categoria, String descricao, LocalDateTime dataHora,
+                                String autorLogin, Long reportadoId, String reportadoLogin,
+                                int gravidade, long denunciasAtivas, double prioridade,
+                                LocalDateTime reservadaAte) {
+}
@@ -0,0 +1,10 @@
+package dev.team.systers.dto;
+
+/**
+ * Evento publicado quando uma janela de disponibilidade é criada ou removida.
+ * Entregue após o commit, atualiza o índice de disponibilidade em memória.
+ *
+ * @param disponibilidadeId ID da janela
+ */
+public record DisponibilidadeAlterada(Long disponibilidadeId) {
+}
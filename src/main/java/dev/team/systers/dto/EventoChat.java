@@ -0,0 +1,34 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento do chat de uma mentoria enviado aos participantes conectados.
+ *
+ * <p>O {@code tipo} indica o significado do evento: {@code mensagem} (uma nova mensagem,
+ * em que {@code mensagemId} é o próprio ID), {@code digitando} (o participante está
+ * escrevendo), {@code confirmacao} (o participante recebeu a mensagem {@code mensagemId})
+ * ou {@code falha} (a mensagem {@code mensagemId} do participante não pôde ser gravada).
+ * Os IDs são atribuídos em memória, em ordem crescente, no momento do envio.</p>
+ *
+ * @param id ID do evento, usado como {@code id:} do SSE
+ * @param tipo Tipo do evento
+ * @param mentoriaId ID da mentoria
+ * @param mensagemId ID da mensagem enviada ou confirmada (null em {@code digitando})
+ * @param participanteId ID do participante que gerou o evento
+ * @param autor Nome do participante que gerou o evento
+ * @param login Login do participante que gerou o evento
+ * @param mensagem Conteúdo da mensagem (somente em {@code mensagem})
+ * @param dataHora Momento do evento
+ */
+public record EventoChat(long id, String tipo, Long mentoriaId, Long mensagemId, Long participanteId,
+                         String autor, String login, String mensagem, LocalDateTime dataHora) {
+
+    /**
+     * Tipos de evento.
+     */
+    public static final String MENSAGEM = "mensagem";
+    public static final String DIGITANDO = "digitando";
+    public static final String CONFIRMACAO = "confirmacao";
+    public static final String FALHA = "falha";
+}
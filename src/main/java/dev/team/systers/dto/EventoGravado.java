@@ -0,0 +1,11 @@
+package dev.team.systers.dto;
+
+/**
+ * Aviso interno de que um evento de domínio foi gravado na caixa de saída.
+ * Publicado na transação que gravou o evento e tratado após o commit,
+ * para acordar o laço de entrega.
+ *
+ * @param eventoId ID do evento na caixa de saída
+ */
+public record EventoGravado(Long eventoId) {
+}
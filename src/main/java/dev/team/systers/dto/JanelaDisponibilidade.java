@@ -0,0 +1,19 @@
+package dev.team.systers.dto;
+
+import java.util.Set;
+
+/**
+ * Janela de disponibilidade de um mentor já convertida para horário absoluto,
+ * como guardada no índice de busca de mentores.
+ *
+ * @param disponibilidadeId ID da janela
+ * @param mentorId ID do mentor
+ * @param login Login do mentor
+ * @param nome Nome do mentor
+ * @param inicioMs Início da janela, em milissegundos desde a época
+ * @param fimMs Fim da janela, em milissegundos desde a época
+ * @param temas Temas atendidos
+ */
+public record JanelaDisponibilidade(Long disponibilidadeId, Long mentorId, String login, String nome,
+                                    long inicioMs, long fimMs, Set<String> temas) {
+}
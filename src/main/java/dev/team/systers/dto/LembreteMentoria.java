@@ -0,0 +1,11 @@
+package dev.team.systers.dto;
+
+/**
+ * Lembrete de uma mentoria, enviado aos participantes antes do início.
+ * Serve também de chave na roda temporal: há no máximo um lembrete por antecedência.
+ *
+ * @param mentoriaId ID da mentoria
+ * @param antecedenciaMin Quantos minutos antes do início o lembrete é enviado
+ */
+public record LembreteMentoria(Long mentoriaId, long antecedenciaMin) {
+}
@@ -0,0 +1,15 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem de diálogo como fica guardada no arquivo frio.
+ *
+ * @param id ID original da mensagem
+ * @param chave ID atribuído pelo chat em tempo real, ou null
+ * @param participanteId ID do participante que enviou a mensagem
+ * @param dataHora Momento do envio, ou null
+ * @param mensagem Conteúdo da mensagem, ou null
+ */
+public record MensagemArquivada(long id, Long chave, long participanteId, LocalDateTime dataHora, String mensagem) {
+}
@@ -0,0 +1,37 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+import dev.team.systers.model.DialogoMentoria;
+
+/**
+ * Mensagem gravada do diálogo de uma mentoria.
+ * Evita serializar a mentoria e o participante associados à mensagem.
+ *
+ * @param id ID da mensagem
+ * @param chave ID atribuído pelo chat em tempo real, ou null se enviada pelo formulário antigo
+ * @param participanteId ID do participante que enviou a mensagem
+ * @param autor Nome do participante que enviou a mensagem
+ * @param login Login do participante que enviou a mensagem
+ * @param mensagem Conteúdo da mensagem
+ * @param dataHora Momento do envio
+ */
+public record MensagemDialogo(Long id, Long chave, Long participanteId, String autor, String login,
+                              String mensagem, LocalDateTime dataHora) {
+
+    /**
+     * Cria a mensagem a partir da entidade, com o participante e o usuário já carregados.
+     * @param dialogo Diálogo de origem
+     * @return Mensagem do diálogo
+     */
+    public static MensagemDialogo de(DialogoMentoria dialogo) {
+        return new MensagemDialogo(
+                dialogo.getId(),
+                dialogo.getChave(),
+                dialogo.getParticipante().getId(),
+                dialogo.getParticipante().getNome(),
+                dialogo.getParticipante().getUsuario().getLogin(),
+                dialogo.getMensagem(),
+                dialogo.getDataHora());
+    }
+}
@@ -0,0 +1,22 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mentor sugerido para um mentorado, com os critérios que compõem sua pontuação.
+ *
+ * @param mentorId ID do mentor
+ * @param login Login do mentor
+ * @param nome Nome do mentor
+ * @param temasEmComum Temas pedidos que o mentor atende
+ * @param minutosDisponiveis Minutos de disponibilidade do mentor dentro do período pedido
+ * @param inicioSugerido Primeiro horário livre em comum, no fuso horário do mentorado
+ * @param nota Média das avaliações do mentor, ou null se nunca foi avaliado
+ * @param avaliacoes Quantidade de avaliações do mentor
+ * @param pontuacao Pontuação usada na ordenação, de 0 a 1
+ */
+public record MentorCompativel(Long mentorId, String login, String nome, List<String> temasEmComum,
+                               long minutosDisponiveis, LocalDateTime inicioSugerido,
+                               Double nota, long avaliacoes, double pontuacao) {
+}
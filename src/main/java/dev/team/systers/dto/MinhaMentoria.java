@@ -0,0 +1,44 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import dev.team.systers.model.Participante.TipoParticipante;
+
+/**
+ * Mentoria na lista "minhas mentorias", já com o que a página exibe:
+ * os demais participantes e a situação da avaliação.
+ *
+ * @param id ID da mentoria
+ * @param nome Nome da mentoria
+ * @param dataHoraInicio Início da mentoria
+ * @param dataHoraFim Fim da mentoria, ou null se não definido
+ * @param status Status da mentoria, ou null para mentorias anteriores ao controle de status
+ * @param papel Papel do usuário na mentoria
+ * @param contrapartes Demais participantes da mentoria
+ * @param avaliadaPorMim Se o usuário já avaliou a mentoria
+ * @param nota Nota da avaliação da mentoria, ou null se ainda não foi avaliada
+ */
+public record MinhaMentoria(Long id, String nome, LocalDateTime dataHoraInicio, LocalDateTime dataHoraFim,
+                            StatusMentoria status, TipoParticipante papel, List<Contraparte> contrapartes,
+                            boolean avaliadaPorMim, Integer nota) {
+
+    /**
+     * Outro participante da mentoria.
+     *
+     * @param nome Nome do participante
+     * @param login Login do usuário, para o link do perfil
+     * @param tipo Papel do participante na mentoria
+     */
+    public record Contraparte(String nome, String login, TipoParticipante tipo) {
+    }
+
+    /**
+     * Indica se a mentoria foi concluída.
+     * @return true se o status for Concluída
+     */
+    public boolean isConcluida() {
+        return status == StatusMentoria.CONCLUIDA;
+    }
+}
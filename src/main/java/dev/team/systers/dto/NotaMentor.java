@@ -0,0 +1,10 @@
+package dev.team.systers.dto;
+
+/**
+ * Média e quantidade de avaliações recebidas por um mentor.
+ *
+ * @param media Média das notas
+ * @param quantidade Quantidade de avaliações
+ */
+public record NotaMentor(double media, long quantidade) {
+}
@@ -0,0 +1,10 @@
+package dev.team.systers.dto;
+
+/**
+ * Evento publicado quando uma notificação é gravada na caixa de saída.
+ * Entregue após o commit, acorda os trabalhadores de distribuição.
+ *
+ * @param saidaId ID da entrada na caixa de saída
+ */
+public record NotificacaoAgendada(Long saidaId) {
+}
@@ -0,0 +1,43 @@
+package dev.team.systers.dto;
+
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
+
+/**
+ * Notificação que pode ser agrupada com outras do mesmo tipo e alvo.
+ * Registrada na janela de agregação na própria transação da alteração.
+ *
+ * @param tipo Evento que originou a notificação
+ * @param grupoId ID do grupo cujos membros recebem a notificação, ou null
+ * @param destinatarioId ID do único destinatário, ou null
+ * @param referenciaId ID do objeto notificado (grupo ou postagem), que compõe a chave de agregação
+ * @param remetenteId ID do usuário remetente
+ * @param conteudo Texto entregue quando a notificação não é agrupada
+ * @param resumo Texto do resumo, com {@code {quantidade}} no lugar da quantidade agrupada
+ */
+public record NotificacaoAgrupavel(TipoNotificacao tipo, Long grupoId, Long destinatarioId, Long referenciaId,
+                                   Long remetenteId, String conteudo, String resumo) {
+
+    /**
+     * Marcador substituído pela quantidade de notificações agrupadas.
+     */
+    public static final String QUANTIDADE = "{quantidade}";
+
+    /**
+     * Chave de agregação: mesmo tipo, mesmo objeto e mesmo destino.
+     * @return Chave da janela
+     */
+    public String chave() {
+        return tipo + ":" + referenciaId + ":" + (grupoId != null ? "g" + grupoId : "u" + destinatarioId);
+    }
+
+    /**
+     * Texto do resumo para a quantidade informada.
+     * @param conteudo Texto de uma notificação isolada
+     * @param resumo Texto do resumo, com o marcador da quantidade
+     * @param quantidade Quantidade de notificações agrupadas
+     * @return Texto do resumo
+     */
+    public static String resumoPara(String conteudo, String resumo, int quantidade) {
+        return quantidade == 1 ? conteudo : resumo.replace(QUANTIDADE, String.valueOf(quantidade));
+    }
+}
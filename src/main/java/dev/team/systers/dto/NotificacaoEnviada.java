@@ -0,0 +1,11 @@
+package dev.team.systers.dto;
+
+/**
+ * Evento publicado quando uma notificação é salva.
+ * É entregue aos ouvintes apenas depois do commit da transação que a criou.
+ *
+ * @param notificacaoId ID da notificação salva
+ * @param destinatarioId ID do usuário destinatário
+ */
+public record NotificacaoEnviada(Long notificacaoId, Long destinatarioId) {
+}
@@ -0,0 +1,32 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+import dev.team.systers.model.Notificacao;
+
+/**
+ * Dados de uma notificação exibidos na caixa de entrada.
+ * Evita serializar as entidades de usuário associadas à notificação.
+ *
+ * @param id ID da notificação
+ * @param conteudo Mensagem da notificação
+ * @param dataEnvio Momento do envio
+ * @param lida Indica se o destinatário já leu a notificação
+ * @param remetenteLogin Login de quem enviou a notificação
+ */
+public record NotificacaoResumo(Long id, String conteudo, LocalDateTime dataEnvio, boolean lida, String remetenteLogin) {
+
+    /**
+     * Cria o resumo a partir da entidade, com o remetente já carregado.
+     * @param notificacao Notificação de origem
+     * @return Resumo da notificação
+     */
+    public static NotificacaoResumo de(Notificacao notificacao) {
+        return new NotificacaoResumo(
+                notificacao.getId(),
+                notificacao.getConteudo(),
+                notificacao.getDataEnvio(),
+                notificacao.isStatusLida(),
+                notificacao.getUsuarioNotificacaoRemetente().getLogin());
+    }
+}
@@ -0,0 +1,12 @@
+package dev.team.systers.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados da busca pelas conversas das mentorias.
+ *
+ * @param resultados Mensagens encontradas, das mais relevantes para as menos relevantes
+ * @param proximoCursor Cursor para buscar a página seguinte, ou null se esta for a última
+ */
+public record PaginaBuscaDialogo(List<ResultadoBuscaDialogo> resultados, String proximoCursor) {
+}
@@ -0,0 +1,12 @@
+package dev.team.systers.dto;
+
+import java.util.List;
+
+/**
+ * Página do histórico do diálogo de uma mentoria.
+ *
+ * @param mensagens Mensagens da página, das mais antigas para as mais recentes
+ * @param cursorAnterior Cursor para buscar as mensagens anteriores, ou null se esta for a primeira
+ */
+public record PaginaDialogo(List<MensagemDialogo> mensagens, String cursorAnterior) {
+}
@@ -0,0 +1,13 @@
+package dev.team.systers.dto;
+
+import java.util.List;
+
+/**
+ * Página da lista "minhas mentorias".
+ *
+ * @param mentorias Mentorias da página: as ativas, da mais próxima para a mais distante,
+ *                  e depois as encerradas, da mais recente para a mais antiga
+ * @param proximoCursor Cursor para buscar a página seguinte, ou null se esta for a última
+ */
+public record PaginaMinhasMentorias(List<MinhaMentoria> mentorias, String proximoCursor) {
+}
@@ -0,0 +1,13 @@
+package dev.team.systers.dto;
+
+import java.util.List;
+
+/**
+ * Página da caixa de entrada de notificações.
+ *
+ * @param notificacoes Notificações da página, mais recentes primeiro
+ * @param proximoCursor Cursor para buscar a página seguinte, ou null se esta for a última
+ * @param naoLidas Total de notificações não lidas do usuário
+ */
+public record PaginaNotificacoes(List<NotificacaoResumo> notificacoes, String proximoCursor, long naoLidas) {
+}
@@ -0,0 +1,17 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Um intervalo da série temporal de denúncias.
+ *
+ * @param inicio Início do intervalo
+ * @param categoria Categoria das denúncias, ou null quando o ponto soma todas as categorias
+ * @param registradas Denúncias registradas no intervalo
+ * @param resolvidas Denúncias resolvidas no intervalo
+ * @param tempoMedioResolucaoSeg Tempo médio de resolução das resolvidas, em segundos
+ * @param tempoMaximoResolucaoSeg Maior tempo de resolução das resolvidas, em segundos
+ */
+public record PontoSerieDenuncias(LocalDateTime inicio, String categoria, long registradas, long resolvidas,
+                                  long tempoMedioResolucaoSeg, long tempoMaximoResolucaoSeg) {
+}
@@ -0,0 +1,14 @@
+package dev.team.systers.dto;
+
+/**
+ * Mentor no ranking de mentores mais bem avaliados.
+ *
+ * @param mentorId ID do mentor
+ * @param login Login do mentor
+ * @param nome Nome do mentor
+ * @param quantidade Quantidade de avaliações
+ * @param soma Soma das notas
+ * @param mediaBayesiana Média usada na ordenação
+ */
+public record PosicaoRanking(Long mentorId, String login, String nome, long quantidade, long soma, double mediaBayesiana) {
+}
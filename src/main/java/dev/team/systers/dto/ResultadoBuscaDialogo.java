@@ -0,0 +1,20 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem encontrada na busca pelas conversas das mentorias.
+ *
+ * @param id ID da mensagem
+ * @param mentoriaId ID da mentoria da conversa
+ * @param mentoriaNome Nome da mentoria da conversa
+ * @param autor Nome do participante que enviou a mensagem
+ * @param login Login do participante que enviou a mensagem
+ * @param trecho Trecho da mensagem com os termos encontrados entre {@code <mark>} e {@code </mark>};
+ *               o restante do texto já vem escapado para HTML
+ * @param dataHora Momento do envio
+ * @param relevancia Relevância da mensagem para a busca
+ */
+public record ResultadoBuscaDialogo(Long id, Long mentoriaId, String mentoriaNome, String autor, String login,
+                                    String trecho, LocalDateTime dataHora, float relevancia) {
+}
@@ -0,0 +1,83 @@
+package dev.team.systers.dto;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.team.systers.model.RegistroModeracao.Acao;
+
+/**
+ * Resultado de uma ação de moderação em lote, com a situação de cada registro pedido.
+ *
+ * @param acao Ação executada
+ * @param valor Novo status aplicado, ou null se a ação não define um
+ * @param aplicados Quantidade de registros alterados
+ * @param ignorados Quantidade de registros inexistentes ou já no estado pedido
+ * @param itens Situação de cada ID, na ordem do pedido
+ */
+public record ResultadoLote(Acao acao, String valor, int aplicados, int ignorados, Map<Long, Situacao> itens) {
+
+    /**
+     * Situação de um registro em uma ação em lote.
+     */
+    public enum Situacao {
+        /** O registro foi alterado */
+        APLICADO,
+        /** O registro já estava no estado pedido */
+        INALTERADO,
+        /** O registro não existe ou não pertence ao escopo da ação */
+        NAO_ENCONTRADO
+    }
+
+    /**
+     * Classifica os IDs pedidos a partir das linhas lidas do banco.
+     *
+     * @param ids IDs pedidos, na ordem do pedido
+     * @param linhas Linhas encontradas, com o ID na primeira coluna
+     * @param colunaStatus Coluna com o nome do status atual
+     * @param pedido Nome do status pedido
+     * @return Situação de cada ID, na ordem do pedido
+     */
+    public static Map<Long, Situacao> classificar(Collection<Long> ids, List<Object[]> linhas, int colunaStatus, String pedido) {
+        Map<Long, String> atuais = new LinkedHashMap<>();
+        for (Object[] linha : linhas) {
+            atuais.put(((Number) linha[0]).longValue(), (String) linha[colunaStatus]);
+        }
+        Map<Long, Situacao> itens = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (!atuais.containsKey(id)) {
+                itens.put(id, Situacao.NAO_ENCONTRADO);
+            } else {
+                itens.put(id, pedido.equals(atuais.get(id)) ? Situacao.INALTERADO : Situacao.APLICADO);
+            }
+        }
+        return itens;
+    }
+
+    /**
+     * Retorna os IDs que devem ser alterados.
+     *
+     * @param itens Situação de cada ID
+     * @return IDs com situação {@link Situacao#APLICADO}
+     */
+    public static List<Long> aplicados(Map<Long, Situacao> itens) {
+        return itens.entrySet().stream()
+                .filter(item -> item.getValue() == Situacao.APLICADO)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Monta o resultado contando as situações dos itens.
+     *
+     * @param acao Ação executada
+     * @param valor Novo status aplicado, ou null
+     * @param itens Situação de cada ID
+     * @return Resultado da ação
+     */
+    public static ResultadoLote de(Acao acao, String valor, Map<Long, Situacao> itens) {
+        int aplicados = (int) itens.values().stream().filter(situacao -> situacao == Situacao.APLICADO).count();
+        return new ResultadoLote(acao, valor, aplicados, itens.size() - aplicados, itens);
+    }
+}
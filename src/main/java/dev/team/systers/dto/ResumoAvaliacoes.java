@@ -0,0 +1,13 @@
+package dev.team.systers.dto;
+
+/**
+ * Resumo das avaliações de um mentor ou de uma mentoria.
+ *
+ * @param referenciaId ID do mentor ou da mentoria
+ * @param quantidade Quantidade de avaliações
+ * @param media Média simples das notas, ou null se não houver avaliações
+ * @param mediaBayesiana Média puxada para a média geral quando há poucas avaliações
+ * @param histograma Quantidade de avaliações com cada nota, de 0 a 5
+ */
+public record ResumoAvaliacoes(Long referenciaId, long quantidade, Double media, double mediaBayesiana, long[] histograma) {
+}
@@ -0,0 +1,17 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sessão de mentoria como guardada na agenda em memória de cada participante.
+ *
+ * @param mentoriaId ID da mentoria
+ * @param nome Nome da mentoria
+ * @param inicio Início da sessão
+ * @param fim Fim da sessão (previsto, quando não informado)
+ * @param inicioMs Início da sessão, em milissegundos desde a época
+ * @param fimMs Fim da sessão, em milissegundos desde a época
+ */
+public record SessaoAgendada(Long mentoriaId, String nome, LocalDateTime inicio, LocalDateTime fim,
+                             long inicioMs, long fimMs) {
+}
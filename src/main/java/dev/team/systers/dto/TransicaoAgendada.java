@@ -0,0 +1,15 @@
+package dev.team.systers.dto;
+
+import java.time.LocalDateTime;
+
+import dev.team.systers.model.Mentoria.StatusMentoria;
+
+/**
+ * Próxima mudança automática de status de uma mentoria, agendada na roda temporal.
+ *
+ * @param mentoriaId ID da mentoria
+ * @param destino Status para o qual a mentoria vai
+ * @param fim Término previsto da mentoria, ou null se não houver
+ */
+public record TransicaoAgendada(Long mentoriaId, StatusMentoria destino, LocalDateTime fim) {
+}
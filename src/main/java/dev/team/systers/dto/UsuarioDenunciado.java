@@ -0,0 +1,15 @@
+package dev.team.systers.dto;
+
+import dev.team.systers.model.Usuario.StatusConta;
+
+/**
+ * Usuário com denúncias pendentes, para a moderação.
+ *
+ * @param id ID do usuário
+ * @param login Login do usuário
+ * @param nome Nome do usuário
+ * @param statusConta Status atual da conta
+ * @param denunciasPendentes Quantidade de denúncias pendentes contra o usuário
+ */
+public record UsuarioDenunciado(Long id, String login, String nome, StatusConta statusConta, long denunciasPendentes) {
+}
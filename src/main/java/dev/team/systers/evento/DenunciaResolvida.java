@@ -0,0 +1,22 @@
+package dev.team.systers.evento;
+
+/**
+ * Uma denúncia pendente foi resolvida pela moderação.
+ *
+ * @param denunciaId ID da denúncia
+ * @param autorId ID do usuário que fez a denúncia
+ * @param reportadoId ID do usuário denunciado
+ * @param moderadorId ID de quem resolveu
+ */
+public record DenunciaResolvida(Long denunciaId, Long autorId, Long reportadoId, Long moderadorId) implements EventoDominio {
+
+    @Override
+    public String agregado() {
+        return "denuncia";
+    }
+
+    @Override
+    public Long agregadoId() {
+        return denunciaId;
+    }
+}
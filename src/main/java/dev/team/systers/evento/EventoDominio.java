@@ -0,0 +1,26 @@
+package dev.team.systers.evento;
+
+/**
+ * Evento de domínio: algo que aconteceu e que outras partes do sistema podem querer
+ * acompanhar (notificações, contadores, caches, índices de busca).
+ *
+ * <p>Os eventos são gravados na caixa de saída de eventos na mesma transação da
+ * alteração e entregues depois aos {@link OuvinteEventos}, na ordem em que foram
+ * gravados para cada agregado. Por isso devem conter apenas dados simples (IDs,
+ * datas, textos), que são serializados em JSON.</p>
+ */
+public sealed interface EventoDominio permits PostagemCriada, MembroEntrou, MentoriaFinalizada, DenunciaResolvida {
+
+    /**
+     * Tipo do agregado ao qual o evento pertence, por exemplo {@code "grupo"}.
+     * Eventos do mesmo agregado são entregues um de cada vez, em ordem.
+     * @return Nome do agregado
+     */
+    String agregado();
+
+    /**
+     * ID do agregado ao qual o evento pertence.
+     * @return ID do agregado
+     */
+    Long agregadoId();
+}
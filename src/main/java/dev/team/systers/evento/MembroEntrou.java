@@ -0,0 +1,21 @@
+package dev.team.systers.evento;
+
+/**
+ * Um usuário passou a ser membro de um grupo.
+ *
+ * @param grupoId ID do grupo
+ * @param usuarioId ID do usuário
+ * @param membroId ID do registro de membro criado
+ */
+public record MembroEntrou(Long grupoId, Long usuarioId, Long membroId) implements EventoDominio {
+
+    @Override
+    public String agregado() {
+        return "grupo";
+    }
+
+    @Override
+    public Long agregadoId() {
+        return grupoId;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.team.systers.evento;
+
+import java.time.LocalDateTime;
+
+/**
+ * Uma mentoria foi finalizada.
+ *
+ * @param mentoriaId ID da mentoria
+ * @param finalizadaEm Momento da finalização
+ */
+public record MentoriaFinalizada(Long mentoriaId, LocalDateTime finalizadaEm) implements EventoDominio {
+
+    @Override
+    public String agregado() {
+        return "mentoria";
+    }
+
+    @Override
+    public Long agregadoId() {
+        return mentoriaId;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.team.systers.evento;
+
+/**
+ * Ouvinte de eventos de domínio.
+ * Todo bean que implementa esta interface recebe todos os eventos, fora da requisição
+ * que os gerou, dentro de uma transação própria que também marca o evento como entregue.
+ *
+ * <p>A entrega é "pelo menos uma vez": se qualquer ouvinte falhar, o evento é entregue
+ * de novo a todos, então os efeitos fora do banco devem tolerar repetição.</p>
+ */
+public interface OuvinteEventos {
+
+    /**
+     * Nome do ouvinte, usado nas métricas e mensagens de erro.
+     * @return Nome do ouvinte
+     */
+    String nome();
+
+    /**
+     * Trata um evento. Eventos que não interessam ao ouvinte devem ser ignorados.
+     * @param evento Evento entregue
+     */
+    void aoReceber(EventoDominio evento);
+}
@@ -0,0 +1,24 @@
+package dev.team.systers.evento;
+
+import java.time.LocalDateTime;
+
+/**
+ * Uma postagem foi criada em um grupo.
+ *
+ * @param postagemId ID da postagem
+ * @param grupoId ID do grupo
+ * @param autorId ID do usuário autor
+ * @param criadaEm Momento da criação
+ */
+public record PostagemCriada(Long postagemId, Long grupoId, Long autorId, LocalDateTime criadaEm) implements EventoDominio {
+
+    @Override
+    public String agregado() {
+        return "grupo";
+    }
+
+    @Override
+    public Long agregadoId() {
+        return grupoId;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Totais das avaliações recebidas por um mentor ou por uma mentoria.
+ * Atualizado de forma incremental a cada avaliação registrada, para que médias
+ * e rankings não precisem percorrer todas as avaliações.
+ */
+@Entity
+@Table(name = "agregado_avaliacao", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_agregado_avaliacao_escopo_referencia",
+                columnNames = { "agregado_escopo", "agregado_referencia_id" })
+})
+public class AgregadoAvaliacao {
+
+    /**
+     * Identificador único do agregado.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "agregado_id", nullable = false)
+    private Long id;
+
+    /**
+     * O que é agregado: um mentor ou uma mentoria.
+     * @see Escopo
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "agregado_escopo", nullable = false, length = 20)
+    private Escopo escopo;
+
+    /**
+     * ID do mentor ou da mentoria.
+     */
+    @Column(name = "agregado_referencia_id", nullable = false)
+    private Long referenciaId;
+
+    /**
+     * Quantidade de avaliações.
+     */
+    @Column(name = "agregado_quantidade", nullable = false)
+    private long quantidade;
+
+    /**
+     * Soma das notas.
+     */
+    @Column(name = "agregado_soma", nullable = false)
+    private long soma;
+
+    /**
+     * Quantidade de avaliações com cada nota, de 0 a 5.
+     */
+    @Column(name = "agregado_estrelas_0", nullable = false)
+    private long estrelas0;
+    @Column(name = "agregado_estrelas_1", nullable = false)
+    private long estrelas1;
+    @Column(name = "agregado_estrelas_2", nullable = false)
+    private long estrelas2;
+    @Column(name = "agregado_estrelas_3", nullable = false)
+    private long estrelas3;
+    @Column(name = "agregado_estrelas_4", nullable = false)
+    private long estrelas4;
+    @Column(name = "agregado_estrelas_5", nullable = false)
+    private long estrelas5;
+
+    /**
+     * Momento da última avaliação agregada.
+     */
+    @Column(name = "agregado_atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public AgregadoAvaliacao() {}
+
+    /**
+     * Escopos de agregação.
+     */
+    public enum Escopo {
+        /** Avaliações de todas as mentorias em que o usuário é mentor */
+        MENTOR,
+        /** Avaliações de uma mentoria */
+        MENTORIA
+    }
+
+    /**
+     * Retorna a quantidade de avaliações por nota.
+     * @return Vetor em que a posição i é a quantidade de avaliações com nota i
+     */
+    public long[] getHistograma() {
+        return new long[] { estrelas0, estrelas1, estrelas2, estrelas3, estrelas4, estrelas5 };
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Escopo getEscopo() { return escopo; }
+    public void setEscopo(Escopo escopo) { this.escopo = escopo; }
+    public Long getReferenciaId() { return referenciaId; }
+    public void setReferenciaId(Long referenciaId) { this.referenciaId = referenciaId; }
+    public long getQuantidade() { return quantidade; }
+    public void setQuantidade(long quantidade) { this.quantidade = quantidade; }
+    public long getSoma() { return soma; }
+    public void setSoma(long soma) { this.soma = soma; }
+    public long getEstrelas0() { return estrelas0; }
+    public void setEstrelas0(long estrelas0) { this.estrelas0 = estrelas0; }
+    public long getEstrelas1() { return estrelas1; }
+    public void setEstrelas1(long estrelas1) { this.estrelas1 = estrelas1; }
+    public long getEstrelas2() { return estrelas2; }
+    public void setEstrelas2(long estrelas2) { this.estrelas2 = estrelas2; }
+    public long getEstrelas3() { return estrelas3; }
+    public void setEstrelas3(long estrelas3) { this.estrelas3 = estrelas3; }
+    public long getEstrelas4() { return estrelas4; }
+    public void setEstrelas4(long estrelas4) { this.estrelas4 = estrelas4; }
+    public long getEstrelas5() { return estrelas5; }
+    public void setEstrelas5(long estrelas5) { this.estrelas5 = estrelas5; }
+    public LocalDateTime getAtualizadoEm() { return atualizadoEm; }
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) { this.atualizadoEm = atualizadoEm; }
+}
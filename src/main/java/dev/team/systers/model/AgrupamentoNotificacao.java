@@ -0,0 +1,118 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Janela de agregação de notificações agrupáveis (novas postagens, comentários).
+ * Há uma linha por tipo, objeto e destino: a primeira notificação cria a linha e é
+ * gravada na caixa de saída na hora; as seguintes, até a janela vencer, apenas somam
+ * à quantidade. Ao vencer, o que foi acumulado vira um único resumo na caixa de saída.
+ * Fica no banco para que nada acumulado se perca em uma reinicialização.
+ */
+@Entity
+@Table(name = "notificacao_agrupamento", indexes = {
+        @Index(name = "idx_notificacao_agrupamento_vence_em", columnList = "agrupamento_vence_em")
+})
+public class AgrupamentoNotificacao {
+
+    /**
+     * Chave de agregação: tipo, objeto notificado e destino.
+     */
+    @Id
+    @Column(name = "agrupamento_chave", nullable = false, length = 100)
+    private String chave;
+
+    /**
+     * Evento que originou as notificações.
+     * @see TipoNotificacao
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "agrupamento_tipo", nullable = false)
+    private TipoNotificacao tipo;
+
+    /**
+     * ID do grupo cujos membros recebem o resumo, quando o destino é um grupo.
+     */
+    @Column(name = "agrupamento_grupo_id")
+    private Long grupoId;
+
+    /**
+     * ID do único destinatário, quando o destino é um usuário.
+     */
+    @Column(name = "agrupamento_destinatario_id")
+    private Long destinatarioId;
+
+    /**
+     * ID do remetente da notificação acumulada mais recente, que aparece como remetente do resumo.
+     */
+    @Column(name = "agrupamento_remetente_id", nullable = false)
+    private Long remetenteId;
+
+    /**
+     * IDs dos remetentes das notificações acumuladas, no formato {@code ,1,5,}.
+     * Nenhum deles recebe o resumo.
+     */
+    @Column(name = "agrupamento_remetentes", nullable = false, columnDefinition = "text")
+    private String remetentes;
+
+    /**
+     * Texto entregue quando só uma notificação foi acumulada.
+     */
+    @Column(name = "agrupamento_conteudo", nullable = false, columnDefinition = "text")
+    private String conteudo;
+
+    /**
+     * Texto do resumo, com o marcador da quantidade.
+     */
+    @Column(name = "agrupamento_resumo", nullable = false, columnDefinition = "text")
+    private String resumo;
+
+    /**
+     * Quantidade de notificações acumuladas desde a abertura da janela.
+     */
+    @Column(name = "agrupamento_quantidade", nullable = false)
+    private int quantidade;
+
+    /**
+     * Momento em que a janela vence.
+     */
+    @Column(name = "agrupamento_vence_em", nullable = false)
+    private LocalDateTime venceEm;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public AgrupamentoNotificacao() {}
+
+    // Getters e Setters
+    public String getChave() { return chave; }
+    public void setChave(String chave) { this.chave = chave; }
+    public TipoNotificacao getTipo() { return tipo; }
+    public void setTipo(TipoNotificacao tipo) { this.tipo = tipo; }
+    public Long getGrupoId() { return grupoId; }
+    public void setGrupoId(Long grupoId) { this.grupoId = grupoId; }
+    public Long getDestinatarioId() { return destinatarioId; }
+    public void setDestinatarioId(Long destinatarioId) { this.destinatarioId = destinatarioId; }
+    public Long getRemetenteId() { return remetenteId; }
+    public void setRemetenteId(Long remetenteId) { this.remetenteId = remetenteId; }
+    public String getRemetentes() { return remetentes; }
+    public void setRemetentes(String remetentes) { this.remetentes = remetentes; }
+    public String getConteudo() { return conteudo; }
+    public void setConteudo(String conteudo) { this.conteudo = conteudo; }
+    public String getResumo() { return resumo; }
+    public void setResumo(String resumo) { this.resumo = resumo; }
+    public int getQuantidade() { return quantidade; }
+    public void setQuantidade(int quantidade) { this.quantidade = quantidade; }
+    public LocalDateTime getVenceEm() { return venceEm; }
+    public void setVenceEm(LocalDateTime venceEm) { this.venceEm = venceEm; }
+}
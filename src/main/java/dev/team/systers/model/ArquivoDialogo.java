@@ -0,0 +1,89 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Registro do diálogo arquivado de uma mentoria.
+ * As mensagens de mentorias concluídas saem da tabela {@code dialogo_mentoria} e passam
+ * a ficar em blocos comprimidos nos segmentos do arquivo frio em disco; este registro
+ * resume o diálogo, e a localização de cada bloco fica em {@link BlocoArquivoDialogo}.
+ */
+@Entity
+@Table(name = "arquivo_dialogo")
+public class ArquivoDialogo {
+
+    /**
+     * Identificador único do registro.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "arquivo_dialogo_id", nullable = false)
+    private Long id;
+
+    /**
+     * ID da mentoria cujo diálogo foi arquivado.
+     */
+    @Column(name = "mentoria_fk", nullable = false, unique = true)
+    private Long mentoriaId;
+
+    /**
+     * Quantidade de blocos do diálogo.
+     */
+    @Column(name = "arquivo_dialogo_blocos", nullable = false)
+    private int blocos;
+
+    /**
+     * Quantidade de mensagens arquivadas.
+     */
+    @Column(name = "arquivo_dialogo_quantidade", nullable = false)
+    private int quantidade;
+
+    /**
+     * Maior ID entre as mensagens arquivadas.
+     */
+    @Column(name = "arquivo_dialogo_maior_id", nullable = false)
+    private long maiorId;
+
+    /**
+     * Momento do arquivamento.
+     */
+    @Column(name = "arquivo_dialogo_arquivado_em", nullable = false)
+    private LocalDateTime arquivadoEm;
+
+    /**
+     * Indica se o diálogo foi devolvido à tabela. O registro é mantido para que
+     * a mentoria não volte a ser arquivada automaticamente.
+     */
+    @Column(name = "arquivo_dialogo_restaurado", nullable = false)
+    private boolean restaurado;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public ArquivoDialogo() {}
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getMentoriaId() { return mentoriaId; }
+    public void setMentoriaId(Long mentoriaId) { this.mentoriaId = mentoriaId; }
+    public int getBlocos() { return blocos; }
+    public void setBlocos(int blocos) { this.blocos = blocos; }
+    public int getQuantidade() { return quantidade; }
+    public void setQuantidade(int quantidade) { this.quantidade = quantidade; }
+    public long getMaiorId() { return maiorId; }
+    public void setMaiorId(long maiorId) { this.maiorId = maiorId; }
+    public LocalDateTime getArquivadoEm() { return arquivadoEm; }
+    public void setArquivadoEm(LocalDateTime arquivadoEm) { this.arquivadoEm = arquivadoEm; }
+    public boolean isRestaurado() { return restaurado; }
+    public void setRestaurado(boolean restaurado) { this.restaurado = restaurado; }
+}
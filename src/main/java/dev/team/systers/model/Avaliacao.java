@@ -7,6 +7,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,7 +18,9 @@ import jakarta.persistence.Table;
  * permitindo avaliar a qualidade e efetividade das mentorias realizadas.
  */
 @Entity
-@Table(name = "avaliacao")
+@Table(name = "avaliacao", indexes = {
+        @Index(name = "idx_avaliacao_mentoria", columnList = "mentoria_avaliada_fk")
+})
 public class Avaliacao {
     /**
      * Identificador único da avaliação.
@@ -0,0 +1,125 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Localização de um bloco do diálogo arquivado de uma mentoria.
+ * O diálogo é dividido em blocos consecutivos em ordem de (data, id), a mesma do histórico;
+ * cada registro guarda onde o bloco está no arquivo frio e a primeira e a última mensagem
+ * que ele contém, para que uma página do histórico leia apenas os blocos que a cobrem.
+ */
+@Entity
+@Table(name = "arquivo_dialogo_bloco", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_arquivo_dialogo_bloco_mentoria_ordem", columnNames = { "mentoria_fk", "bloco_ordem" })
+})
+public class BlocoArquivoDialogo {
+
+    /**
+     * Identificador único do bloco.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bloco_id", nullable = false)
+    private Long id;
+
+    /**
+     * ID da mentoria cujo diálogo contém o bloco.
+     */
+    @Column(name = "mentoria_fk", nullable = false)
+    private Long mentoriaId;
+
+    /**
+     * Posição do bloco no diálogo, a partir de 0 para o mais antigo.
+     */
+    @Column(name = "bloco_ordem", nullable = false)
+    private int ordem;
+
+    /**
+     * Número do segmento que contém o bloco.
+     */
+    @Column(name = "bloco_segmento", nullable = false)
+    private int segmento;
+
+    /**
+     * Posição do bloco no segmento, em bytes.
+     */
+    @Column(name = "bloco_posicao", nullable = false)
+    private long posicao;
+
+    /**
+     * Tamanho do bloco, em bytes.
+     */
+    @Column(name = "bloco_tamanho", nullable = false)
+    private int tamanho;
+
+    /**
+     * Quantidade de mensagens no bloco.
+     */
+    @Column(name = "bloco_quantidade", nullable = false)
+    private int quantidade;
+
+    /**
+     * Data e ID da mensagem mais antiga do bloco.
+     */
+    @Column(name = "bloco_primeira_data_hora")
+    private LocalDateTime primeiraDataHora;
+
+    @Column(name = "bloco_primeiro_id", nullable = false)
+    private long primeiroId;
+
+    /**
+     * Data e ID da mensagem mais recente do bloco.
+     */
+    @Column(name = "bloco_ultima_data_hora")
+    private LocalDateTime ultimaDataHora;
+
+    @Column(name = "bloco_ultimo_id", nullable = false)
+    private long ultimoId;
+
+    /**
+     * Maior ID entre as mensagens do bloco.
+     */
+    @Column(name = "bloco_maior_id", nullable = false)
+    private long maiorId;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public BlocoArquivoDialogo() {}
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getMentoriaId() { return mentoriaId; }
+    public void setMentoriaId(Long mentoriaId) { this.mentoriaId = mentoriaId; }
+    public int getOrdem() { return ordem; }
+    public void setOrdem(int ordem) { this.ordem = ordem; }
+    public int getSegmento() { return segmento; }
+    public void setSegmento(int segmento) { this.segmento = segmento; }
+    public long getPosicao() { return posicao; }
+    public void setPosicao(long posicao) { this.posicao = posicao; }
+    public int getTamanho() { return tamanho; }
+    public void setTamanho(int tamanho) { this.tamanho = tamanho; }
+    public int getQuantidade() { return quantidade; }
+    public void setQuantidade(int quantidade) { this.quantidade = quantidade; }
+    public LocalDateTime getPrimeiraDataHora() { return primeiraDataHora; }
+    public void setPrimeiraDataHora(LocalDateTime primeiraDataHora) { this.primeiraDataHora = primeiraDataHora; }
+    public long getPrimeiroId() { return primeiroId; }
+    public void setPrimeiroId(long primeiroId) { this.primeiroId = primeiroId; }
+    public LocalDateTime getUltimaDataHora() { return ultimaDataHora; }
+    public void setUltimaDataHora(LocalDateTime ultimaDataHora) { this.ultimaDataHora = ultimaDataHora; }
+    public long getUltimoId() { return ultimoId; }
+    public void setUltimoId(long ultimoId) { this.ultimoId = ultimoId; }
+    public long getMaiorId() { return maiorId; }
+    public void setMaiorId(long maiorId) { this.maiorId = maiorId; }
+}
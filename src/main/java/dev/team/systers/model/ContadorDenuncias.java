@@ -0,0 +1,89 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import dev.team.systers.model.Denuncia.StatusDenuncia;
+
+/**
+ * Quantidade de denúncias recebidas por um usuário, por categoria e status.
+ * Atualizado de forma incremental a cada denúncia registrada ou resolvida, para que
+ * totais por usuário não precisem percorrer a tabela de denúncias.
+ */
+@Entity
+@Table(name = "contador_denuncias", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_contador_denuncias_usuario_categoria_status",
+                columnNames = { "contador_usuario_id", "contador_categoria", "contador_status" })
+})
+public class ContadorDenuncias {
+
+    /**
+     * Identificador único do contador.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "contador_id", nullable = false)
+    private Long id;
+
+    /**
+     * ID do usuário denunciado.
+     */
+    @Column(name = "contador_usuario_id", nullable = false)
+    private Long usuarioId;
+
+    /**
+     * Categoria das denúncias, como informada pelos autores.
+     */
+    @Column(name = "contador_categoria", nullable = false, length = 100)
+    private String categoria;
+
+    /**
+     * Status das denúncias contadas.
+     * @see StatusDenuncia
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "contador_status", nullable = false, length = 20)
+    private StatusDenuncia status;
+
+    /**
+     * Quantidade de denúncias.
+     */
+    @Column(name = "contador_quantidade", nullable = false)
+    private long quantidade;
+
+    /**
+     * Momento da última alteração.
+     */
+    @Column(name = "contador_atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public ContadorDenuncias() {}
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getUsuarioId() { return usuarioId; }
+    public void setUsuarioId(Long usuarioId) { this.usuarioId = usuarioId; }
+    public String getCategoria() { return categoria; }
+    public void setCategoria(String categoria) { this.categoria = categoria; }
+    public StatusDenuncia getStatus() { return status; }
+    public void setStatus(StatusDenuncia status) { this.status = status; }
+    public long getQuantidade() { return quantidade; }
+    public void setQuantidade(long quantidade) { this.quantidade = quantidade; }
+    public LocalDateTime getAtualizadoEm() { return atualizadoEm; }
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) { this.atualizadoEm = atualizadoEm; }
+}
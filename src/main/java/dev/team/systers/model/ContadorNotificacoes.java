@@ -0,0 +1,41 @@
+package dev.team.systers.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Contador de notificações não lidas de um usuário.
+ * Mantido junto com cada envio e leitura de notificação, permite exibir o
+ * indicador da caixa de entrada sem contar as linhas da tabela de notificações.
+ */
+@Entity
+@Table(name = "notificacao_contador")
+public class ContadorNotificacoes {
+
+    /**
+     * ID do usuário dono do contador.
+     */
+    @Id
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    /**
+     * Quantidade de notificações ainda não lidas pelo usuário.
+     */
+    @Column(name = "nao_lidas", nullable = false)
+    private long naoLidas;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public ContadorNotificacoes() {}
+
+    // Getters e Setters
+    public Long getUsuarioId() { return usuarioId; }
+    public void setUsuarioId(Long usuarioId) { this.usuarioId = usuarioId; }
+    public long getNaoLidas() { return naoLidas; }
+    public void setNaoLidas(long naoLidas) { this.naoLidas = naoLidas; }
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,11 @@ import jakarta.persistence.Table;
  * permitindo o acompanhamento e moderação do comportamento na plataforma.
  */
 @Entity
-@Table(name = "denuncia")
+@Table(name = "denuncia", indexes = {
+        @Index(name = "idx_denuncia_status_reportado", columnList = "denuncia_status, usuario_reportado_fk"),
+        @Index(name = "idx_denuncia_status_reservada", columnList = "denuncia_status, denuncia_reservada_ate"),
+        @Index(name = "idx_denuncia_data", columnList = "denuncia_data_hora")
+})
 public class Denuncia {
 
     /**
@@ -85,6 +90,31 @@ public class Denuncia {
     @JsonIgnoreProperties({"denunciasCriadas", "denunciasRecebidas"})
     private Usuario usuarioReportado;
 
+    /**
+     * Gravidade da categoria, de 1 (leve) a 3 (grave), usada na prioridade da fila de moderação.
+     * Nula nas denúncias anteriores à fila, tratadas como leves.
+     */
+    @Column(name = "denuncia_gravidade")
+    private Integer gravidade;
+
+    /**
+     * ID do moderador que reservou a denúncia na fila de moderação, ou null se livre.
+     */
+    @Column(name = "denuncia_reservada_por")
+    private Long reservadaPor;
+
+    /**
+     * Fim da reserva; depois dele a denúncia volta para a fila, mesmo sem ser liberada.
+     */
+    @Column(name = "denuncia_reservada_ate")
+    private LocalDateTime reservadaAte;
+
+    /**
+     * Momento em que a denúncia foi atendida, ou null se ainda pendente.
+     */
+    @Column(name = "denuncia_resolvida_em")
+    private LocalDateTime resolvidaEm;
+
     /**
      * Construtor padrão.
      * Necessário para JPA.
@@ -136,6 +166,14 @@ public class Denuncia {
     public void setUsuarioAutor(Usuario usuarioAutor) { this.usuarioAutor = usuarioAutor; }
     public Usuario getUsuarioReportado() { return usuarioReportado; }
     public void setUsuarioReportado(Usuario usuarioReportado) { this.usuarioReportado = usuarioReportado; }
+    public Integer getGravidade() { return gravidade; }
+    public void setGravidade(Integer gravidade) { this.gravidade = gravidade; }
+    public Long getReservadaPor() { return reservadaPor; }
+    public void setReservadaPor(Long reservadaPor) { this.reservadaPor = reservadaPor; }
+    public LocalDateTime getReservadaAte() { return reservadaAte; }
+    public void setReservadaAte(LocalDateTime reservadaAte) { this.reservadaAte = reservadaAte; }
+    public LocalDateTime getResolvidaEm() { return resolvidaEm; }
+    public void setResolvidaEm(LocalDateTime resolvidaEm) { this.resolvidaEm = resolvidaEm; }
 
     @Override
     public String toString() {
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,7 +18,11 @@ import jakarta.persistence.Table;
  * mantendo o histórico de interações e mensagens trocadas.
  */
 @Entity
-@Table(name = "dialogo_mentoria")
+@Table(name = "dialogo_mentoria", indexes = {
+        @Index(name = "idx_dialogo_mentoria_data",
+               columnList = "mentoria_fk, dialogo_mentoria_data_hora DESC, dialogo_mentoria_id DESC"),
+        @Index(name = "idx_dialogo_mentoria_chave", columnList = "mentoria_fk, dialogo_mentoria_chave")
+})
 public class DialogoMentoria {
 
     /**
@@ -59,6 +64,14 @@ public class DialogoMentoria {
     @Column(name = "dialogo_mentoria_data_hora")
     private LocalDateTime dataHora;
 
+    /**
+     * ID atribuído à mensagem pelo chat em tempo real, antes de ser gravada.
+     * Permite ao navegador reconhecer uma mensagem que já recebeu ao vivo.
+     * Nulo nas mensagens enviadas pelo formulário.
+     */
+    @Column(name = "dialogo_mentoria_chave")
+    private Long chave;
+
     /**
      * Construtor padrão.
      * Necessário para JPA.
@@ -92,4 +105,6 @@ public class DialogoMentoria {
     public void setParticipante(Participante participante) { this.participante = participante; }
     public LocalDateTime getDataHora() { return dataHora; }
     public void setDataHora(LocalDateTime dataHora) { this.dataHora = dataHora; }
+    public Long getChave() { return chave; }
+    public void setChave(Long chave) { this.chave = chave; }
 }
@@ -0,0 +1,80 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Janela de disponibilidade publicada por um mentor.
+ * Indica um período em que o mentor aceita sessões e os temas que atende,
+ * e é usada para sugerir mentores compatíveis aos mentorados.
+ */
+@Entity
+@Table(name = "disponibilidade_mentor", indexes = {
+        @Index(name = "idx_disponibilidade_mentor", columnList = "usuario_mentor_fk"),
+        @Index(name = "idx_disponibilidade_fim", columnList = "disponibilidade_fim")
+})
+public class DisponibilidadeMentor {
+
+    /**
+     * Identificador único da janela.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "disponibilidade_id", nullable = false)
+    private Long id;
+
+    /**
+     * Mentor que publicou a janela.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_mentor_fk", foreignKey = @ForeignKey(name = "usuario_mentor_disponibilidade_fk"), nullable = false)
+    private Usuario mentor;
+
+    /**
+     * Início da janela, no fuso horário do mentor.
+     */
+    @Column(name = "disponibilidade_inicio", nullable = false)
+    private LocalDateTime inicio;
+
+    /**
+     * Fim da janela, no fuso horário do mentor.
+     */
+    @Column(name = "disponibilidade_fim", nullable = false)
+    private LocalDateTime fim;
+
+    /**
+     * Temas atendidos, em minúsculas e separados por vírgula (ex: "java,carreira").
+     */
+    @Column(name = "disponibilidade_temas", nullable = false)
+    private String temas;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public DisponibilidadeMentor() {}
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Usuario getMentor() { return mentor; }
+    public void setMentor(Usuario mentor) { this.mentor = mentor; }
+    public LocalDateTime getInicio() { return inicio; }
+    public void setInicio(LocalDateTime inicio) { this.inicio = inicio; }
+    public LocalDateTime getFim() { return fim; }
+    public void setFim(LocalDateTime fim) { this.fim = fim; }
+    public String getTemas() { return temas; }
+    public void setTemas(String temas) { this.temas = temas; }
+}
@@ -0,0 +1,134 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Evento de domínio aguardando entrega (caixa de saída transacional de eventos).
+ * É gravado na mesma transação da alteração que o originou e entregue depois
+ * aos ouvintes, em ordem de ID dentro de cada agregado.
+ */
+@Entity
+@Table(name = "evento_saida", indexes = {
+        @Index(name = "idx_evento_saida_status_disponivel", columnList = "evento_status, evento_disponivel_em"),
+        @Index(name = "idx_evento_saida_agregado", columnList = "evento_agregado, evento_agregado_id, evento_id")
+})
+public class EventoSaida {
+
+    /**
+     * Identificador único do evento, que também define a ordem de entrega.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "evento_id", nullable = false)
+    private Long id;
+
+    /**
+     * Nome do tipo do evento (nome simples do record).
+     */
+    @Column(name = "evento_tipo", nullable = false, length = 100)
+    private String tipo;
+
+    /**
+     * Tipo do agregado ao qual o evento pertence.
+     */
+    @Column(name = "evento_agregado", nullable = false, length = 50)
+    private String agregado;
+
+    /**
+     * ID do agregado ao qual o evento pertence.
+     */
+    @Column(name = "evento_agregado_id", nullable = false)
+    private Long agregadoId;
+
+    /**
+     * Dados do evento em JSON.
+     */
+    @Column(name = "evento_dados", nullable = false, columnDefinition = "TEXT")
+    private String dados;
+
+    /**
+     * Estado da entrega.
+     * @see StatusEvento
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "evento_status", nullable = false)
+    private StatusEvento status = StatusEvento.PENDENTE;
+
+    /**
+     * Momento a partir do qual o evento pode ser (re)entregue.
+     * Enquanto em processamento, marca o fim da reserva do trabalhador.
+     */
+    @Column(name = "evento_disponivel_em", nullable = false)
+    private LocalDateTime disponivelEm;
+
+    /**
+     * Momento em que o evento foi gravado.
+     */
+    @Column(name = "evento_criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    /**
+     * Quantidade de tentativas que falharam.
+     */
+    @Column(name = "evento_tentativas", nullable = false)
+    private int tentativas;
+
+    /**
+     * Mensagem do último erro, para diagnóstico.
+     */
+    @Column(name = "evento_ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public EventoSaida() {}
+
+    /**
+     * Estados possíveis de um evento na caixa de saída.
+     */
+    public enum StatusEvento {
+        /** Aguardando entrega */
+        PENDENTE,
+        /** Reservado por um trabalhador até {@code disponivelEm} */
+        PROCESSANDO,
+        /** Entregue a todos os ouvintes */
+        ENTREGUE,
+        /** Esgotou as tentativas */
+        FALHOU
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+    public String getAgregado() { return agregado; }
+    public void setAgregado(String agregado) { this.agregado = agregado; }
+    public Long getAgregadoId() { return agregadoId; }
+    public void setAgregadoId(Long agregadoId) { this.agregadoId = agregadoId; }
+    public String getDados() { return dados; }
+    public void setDados(String dados) { this.dados = dados; }
+    public StatusEvento getStatus() { return status; }
+    public void setStatus(StatusEvento status) { this.status = status; }
+    public LocalDateTime getDisponivelEm() { return disponivelEm; }
+    public void setDisponivelEm(LocalDateTime disponivelEm) { this.disponivelEm = disponivelEm; }
+    public LocalDateTime getCriadoEm() { return criadoEm; }
+    public void setCriadoEm(LocalDateTime criadoEm) { this.criadoEm = criadoEm; }
+    public int getTentativas() { return tentativas; }
+    public void setTentativas(int tentativas) { this.tentativas = tentativas; }
+    public String getUltimoErro() { return ultimoErro; }
+    public void setUltimoErro(String ultimoErro) { this.ultimoErro = ultimoErro; }
+}
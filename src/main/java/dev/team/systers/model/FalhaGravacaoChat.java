@@ -0,0 +1,99 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Mensagem do chat de uma mentoria que não pôde ser gravada em {@link DialogoMentoria}.
+ * Guarda o conteúdo já repassado aos participantes para que não se perca e possa ser
+ * reprocessado. Não tem chaves estrangeiras, para ser gravada mesmo quando a mentoria
+ * ou o participante são o motivo da falha.
+ */
+@Entity
+@Table(name = "chat_falha_gravacao", indexes = {
+        @Index(name = "idx_chat_falha_gravacao_mentoria", columnList = "falha_mentoria_id, falha_chave")
+})
+public class FalhaGravacaoChat {
+
+    /**
+     * Identificador único da falha.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "falha_id", nullable = false)
+    private Long id;
+
+    /**
+     * ID atribuído à mensagem pelo chat em tempo real.
+     */
+    @Column(name = "falha_chave", nullable = false)
+    private Long chave;
+
+    /**
+     * ID da mentoria da mensagem.
+     */
+    @Column(name = "falha_mentoria_id", nullable = false)
+    private Long mentoriaId;
+
+    /**
+     * ID do participante que enviou a mensagem.
+     */
+    @Column(name = "falha_participante_id", nullable = false)
+    private Long participanteId;
+
+    /**
+     * Conteúdo da mensagem.
+     */
+    @Column(name = "falha_mensagem", columnDefinition = "TEXT")
+    private String mensagem;
+
+    /**
+     * Data e hora do envio da mensagem.
+     */
+    @Column(name = "falha_data_hora")
+    private LocalDateTime dataHora;
+
+    /**
+     * Erro da última tentativa de gravação.
+     */
+    @Column(name = "falha_erro", length = 500)
+    private String erro;
+
+    /**
+     * Momento em que a falha foi registrada.
+     */
+    @Column(name = "falha_registrada_em", nullable = false)
+    private LocalDateTime registradaEm;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public FalhaGravacaoChat() {}
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getChave() { return chave; }
+    public void setChave(Long chave) { this.chave = chave; }
+    public Long getMentoriaId() { return mentoriaId; }
+    public void setMentoriaId(Long mentoriaId) { this.mentoriaId = mentoriaId; }
+    public Long getParticipanteId() { return participanteId; }
+    public void setParticipanteId(Long participanteId) { this.participanteId = participanteId; }
+    public String getMensagem() { return mensagem; }
+    public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+    public LocalDateTime getDataHora() { return dataHora; }
+    public void setDataHora(LocalDateTime dataHora) { this.dataHora = dataHora; }
+    public String getErro() { return erro; }
+    public void setErro(String erro) { this.erro = erro; }
+    public LocalDateTime getRegistradaEm() { return registradaEm; }
+    public void setRegistradaEm(LocalDateTime registradaEm) { this.registradaEm = registradaEm; }
+}
@@ -68,6 +68,14 @@ public class Grupo {
     @OneToMany(mappedBy = "grupo", cascade = CascadeType.ALL)
     private List<Postagem> postagens;
 
+    /**
+     * Versão do conteúdo exibido na página do grupo.
+     * Incrementada diretamente no banco sempre que o grupo, seus membros,
+     * postagens ou comentários mudam; usada para gerar o ETag da página.
+     */
+    @Column(name = "grupo_versao", insertable = false, updatable = false)
+    private Long versao;
+
     /**
      * Construtor padrão.
      * Necessário para JPA.
@@ -103,4 +111,5 @@ public class Grupo {
     public void setMembros(List<Membro> membros) { this.membros = membros; }
     public List<Postagem> getPostagens() { return postagens; }
     public void setPostagens(List<Postagem> postagens) { this.postagens = postagens; }
+    public Long getVersao() { return versao; }
 }
@@ -1,13 +1,16 @@
 package dev.team.systers.model;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
@@ -17,7 +20,9 @@ import jakarta.persistence.Table;
  * incluindo agendamento, participantes e avaliações.
  */
 @Entity
-@Table(name = "mentoria")
+@Table(name = "mentoria", indexes = {
+        @Index(name = "idx_mentoria_status", columnList = "mentoria_status")
+})
 public class Mentoria {
 
     /**
@@ -52,10 +57,12 @@ public class Mentoria {
 
     /**
      * Status atual da mentoria.
-     * Indica o estado da sessão (ex: Agendada, Em Andamento, Concluída).
+     * Gravado pela descrição (ex: Agendada, Em Andamento, Concluída).
+     * @see StatusMentoria
+     * @see StatusMentoriaConverter
      */
     @Column(name = "mentoria_status")
-    private String status;
+    private StatusMentoria status;
 
     /**
      * Lista de participantes da mentoria.
@@ -87,7 +94,7 @@ public class Mentoria {
      * @param participantes Lista de participantes
      * @param avaliacoesMentoria Avaliações recebidas
      */
-    public Mentoria(Long id, String nome, LocalDateTime dataHoraInicio, LocalDateTime dataHoraFim, String status, List<Participante> participantes, List<Avaliacao> avaliacoesMentoria) {
+    public Mentoria(Long id, String nome, LocalDateTime dataHoraInicio, LocalDateTime dataHoraFim, StatusMentoria status, List<Participante> participantes, List<Avaliacao> avaliacoesMentoria) {
         this.id = id;
         this.nome = nome;
         this.dataHoraInicio = dataHoraInicio;
@@ -97,6 +104,83 @@ public class Mentoria {
         this.avaliacoesMentoria = avaliacoesMentoria;
     }
 
+    /**
+     * Status possíveis para uma mentoria e as transições permitidas entre eles.
+     */
+    public enum StatusMentoria {
+        /** Sessão marcada, ainda não iniciada */
+        AGENDADA("Agendada"),
+        /** Sessão iniciada */
+        EM_ANDAMENTO("Em Andamento"),
+        /** Sessão encerrada */
+        CONCLUIDA("Concluída"),
+        /** Sessão cancelada antes de terminar */
+        CANCELADA("Cancelada");
+
+        private final String descricao;
+
+        StatusMentoria(String descricao) {
+            this.descricao = descricao;
+        }
+
+        /**
+         * Retorna a descrição exibida e gravada no banco.
+         * @return Descrição do status
+         */
+        public String getDescricao() {
+            return descricao;
+        }
+
+        /**
+         * Retorna os status para os quais a mentoria pode ir a partir deste.
+         * @return Destinos permitidos; vazio para os status finais
+         */
+        public Set<StatusMentoria> destinos() {
+            return switch (this) {
+                case AGENDADA -> EnumSet.of(EM_ANDAMENTO, CONCLUIDA, CANCELADA);
+                case EM_ANDAMENTO -> EnumSet.of(CONCLUIDA, CANCELADA);
+                case CONCLUIDA, CANCELADA -> EnumSet.noneOf(StatusMentoria.class);
+            };
+        }
+
+        /**
+         * Verifica se a transição para o status informado é permitida.
+         * @param destino Novo status
+         * @return true se a transição é permitida
+         */
+        public boolean podeIrPara(StatusMentoria destino) {
+            return destinos().contains(destino);
+        }
+
+        /**
+         * Indica se a mentoria ainda não terminou.
+         * @return true para Agendada e Em Andamento
+         */
+        public boolean isAtiva() {
+            return this == AGENDADA || this == EM_ANDAMENTO;
+        }
+
+        /**
+         * Converte a descrição ou o nome da constante no status.
+         * @param valor Descrição (ex: "Em Andamento") ou nome (ex: "EM_ANDAMENTO")
+         * @return Status correspondente
+         * @throws IllegalArgumentException se o valor não corresponder a nenhum status
+         */
+        public static StatusMentoria deDescricao(String valor) {
+            for (StatusMentoria status : values()) {
+                if (status.descricao.equalsIgnoreCase(valor) || status.name().equalsIgnoreCase(valor)) {
+                    return status;
+                }
+            }
+            throw new IllegalArgumentException("Status de mentoria inválido: " + valor);
+        }
+
+        @Override
+        public String toString() {
+            return descricao;
+        }
+    }
+
     // Getters e Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -106,8 +190,8 @@ public class Mentoria {
     public void setDataHoraInicio(LocalDateTime dataHoraInicio) { this.dataHoraInicio = dataHoraInicio; }
     public LocalDateTime getDataHoraFim() { return dataHoraFim; }
     public void setDataHoraFim(LocalDateTime dataHoraFim) { this.dataHoraFim = dataHoraFim; }
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public StatusMentoria getStatus() { return status; }
+    public void setStatus(StatusMentoria status) { this.status = status; }
     public List<Participante> getParticipantes() { return participantes; }
     public void setParticipantes(List<Participante> participantes) { this.participantes = participantes; }
     public List<Avaliacao> getAvaliacoesMentoria() { return avaliacoesMentoria; }
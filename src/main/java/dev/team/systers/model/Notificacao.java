@@ -9,6 +9,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,11 @@ import jakarta.persistence.Table;
  * permitindo a comunicação assíncrona e o acompanhamento de status de leitura.
  */
 @Entity
-@Table(name = "notificacao")
+@Table(name = "notificacao", indexes = {
+        @Index(name = "idx_notificacao_destinatario_data",
+               columnList = "usuario_id_destinatario_fk, notificacao_data_hora DESC, notificacao_id DESC"),
+        @Index(name = "idx_notificacao_data", columnList = "notificacao_data_hora")
+})
 public class Notificacao {
     /**
      * Identificador único da notificação.
@@ -52,6 +57,13 @@ public class Notificacao {
     @Column(name = "notificacao_status_lida", nullable = false)
     private boolean statusLida;
 
+    /**
+     * Indica se a notificação, ainda não lida, já foi descontada do contador de não lidas
+     * por ter saído da caixa de entrada. Continua não lida e não é apagada pela retenção.
+     */
+    @Column(name = "notificacao_descontada", nullable = false, columnDefinition = "boolean default false")
+    private boolean descontada;
+
     /**
      * Usuário que enviou a notificação.
      * Referência ao remetente da mensagem.
@@ -101,6 +113,8 @@ public class Notificacao {
     public void setDataEnvio(LocalDateTime dataEnvio) { this.dataEnvio = dataEnvio; }
     public boolean isStatusLida() { return statusLida; }
     public void setStatusLida(boolean statusLida) { this.statusLida = statusLida; }
+    public boolean isDescontada() { return descontada; }
+    public void setDescontada(boolean descontada) { this.descontada = descontada; }
     public Usuario getUsuarioNotificacaoRemetente() { return usuarioNotificacaoRemetente; }
     public void setUsuarioNotificacaoRemetente(Usuario usuarioNotificacaoRemetente) { this.usuarioNotificacaoRemetente = usuarioNotificacaoRemetente; }
     public Usuario getUsuarioNotificacaoDestinatario() { return usuarioNotificacaoDestinatario; }
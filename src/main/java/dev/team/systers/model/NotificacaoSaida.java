@@ -0,0 +1,189 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Notificação aguardando distribuição (caixa de saída transacional).
+ * É gravada na mesma transação da alteração que a originou (nova postagem, comentário,
+ * solicitação de mentoria, denúncia resolvida) e depois expandida em uma notificação
+ * por destinatário pelos trabalhadores de distribuição, em lotes.
+ */
+@Entity
+@Table(name = "notificacao_saida", indexes = {
+        @Index(name = "idx_notificacao_saida_status_disponivel", columnList = "saida_status, saida_disponivel_em")
+})
+public class NotificacaoSaida {
+
+    /**
+     * Identificador único da entrada.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "saida_id", nullable = false)
+    private Long id;
+
+    /**
+     * Evento que originou a notificação.
+     * @see TipoNotificacao
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "saida_tipo", nullable = false)
+    private TipoNotificacao tipo;
+
+    /**
+     * Texto da notificação entregue a cada destinatário.
+     */
+    @Column(name = "saida_conteudo", nullable = false)
+    private String conteudo;
+
+    /**
+     * ID do usuário que aparece como remetente.
+     * Nunca recebe a própria notificação.
+     */
+    @Column(name = "saida_remetente_id", nullable = false)
+    private Long remetenteId;
+
+    /**
+     * ID do grupo cujos membros recebem a notificação, quando o destino é um grupo.
+     */
+    @Column(name = "saida_grupo_id")
+    private Long grupoId;
+
+    /**
+     * ID do único destinatário, quando o destino é um usuário.
+     */
+    @Column(name = "saida_destinatario_id")
+    private Long destinatarioId;
+
+    /**
+     * IDs de outros usuários do grupo que não recebem a notificação, no formato {@code ,1,5,}.
+     * Usado nos resumos, para não avisar quem contribuiu para eles.
+     */
+    @Column(name = "saida_excluidos", columnDefinition = "text")
+    private String excluidos;
+
+    /**
+     * Estado da distribuição.
+     * @see StatusSaida
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "saida_status", nullable = false)
+    private StatusSaida status = StatusSaida.PENDENTE;
+
+    /**
+     * Momento a partir do qual a entrada pode ser (re)processada.
+     * Enquanto em processamento, marca o fim da reserva do trabalhador.
+     */
+    @Column(name = "saida_disponivel_em", nullable = false)
+    private LocalDateTime disponivelEm;
+
+    /**
+     * Momento em que a entrada foi criada.
+     */
+    @Column(name = "saida_criada_em", nullable = false)
+    private LocalDateTime criadaEm;
+
+    /**
+     * ID do último destinatário já atendido.
+     * Permite retomar a distribuição do ponto em que parou após uma falha.
+     */
+    @Column(name = "saida_cursor", nullable = false)
+    private long cursor;
+
+    /**
+     * Quantidade de notificações já entregues.
+     */
+    @Column(name = "saida_entregues", nullable = false)
+    private long entregues;
+
+    /**
+     * Quantidade de tentativas que falharam.
+     */
+    @Column(name = "saida_tentativas", nullable = false)
+    private int tentativas;
+
+    /**
+     * Mensagem do último erro, para diagnóstico.
+     */
+    @Column(name = "saida_ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public NotificacaoSaida() {}
+
+    /**
+     * Eventos que geram notificações distribuídas.
+     */
+    public enum TipoNotificacao {
+        /** Nova postagem em um grupo, para os membros do grupo */
+        NOVA_POSTAGEM,
+        /** Novo comentário, para o autor da postagem */
+        NOVO_COMENTARIO,
+        /** Solicitação de participação, para o mentor */
+        SOLICITACAO_MENTORIA,
+        /** Denúncia resolvida, para quem a fez */
+        DENUNCIA_RESOLVIDA,
+        /** Mentoria finalizada, para os mentorados avaliarem */
+        MENTORIA_FINALIZADA,
+        /** Mentoria prestes a começar, para os participantes */
+        LEMBRETE_MENTORIA
+    }
+
+    /**
+     * Estados possíveis de uma entrada da caixa de saída.
+     */
+    public enum StatusSaida {
+        /** Aguardando um trabalhador */
+        PENDENTE,
+        /** Reservada por um trabalhador até {@code disponivelEm} */
+        PROCESSANDO,
+        /** Todas as notificações foram entregues */
+        CONCLUIDA,
+        /** Esgotou as tentativas */
+        FALHOU
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public TipoNotificacao getTipo() { return tipo; }
+    public void setTipo(TipoNotificacao tipo) { this.tipo = tipo; }
+    public String getConteudo() { return conteudo; }
+    public void setConteudo(String conteudo) { this.conteudo = conteudo; }
+    public Long getRemetenteId() { return remetenteId; }
+    public void setRemetenteId(Long remetenteId) { this.remetenteId = remetenteId; }
+    public Long getGrupoId() { return grupoId; }
+    public void setGrupoId(Long grupoId) { this.grupoId = grupoId; }
+    public Long getDestinatarioId() { return destinatarioId; }
+    public void setDestinatarioId(Long destinatarioId) { this.destinatarioId = destinatarioId; }
+    public String getExcluidos() { return excluidos; }
+    public void setExcluidos(String excluidos) { this.excluidos = excluidos; }
+    public StatusSaida getStatus() { return status; }
+    public void setStatus(StatusSaida status) { this.status = status; }
+    public LocalDateTime getDisponivelEm() { return disponivelEm; }
+    public void setDisponivelEm(LocalDateTime disponivelEm) { this.disponivelEm = disponivelEm; }
+    public LocalDateTime getCriadaEm() { return criadaEm; }
+    public void setCriadaEm(LocalDateTime criadaEm) { this.criadaEm = criadaEm; }
+    public long getCursor() { return cursor; }
+    public void setCursor(long cursor) { this.cursor = cursor; }
+    public long getEntregues() { return entregues; }
+    public void setEntregues(long entregues) { this.entregues = entregues; }
+    public int getTentativas() { return tentativas; }
+    public void setTentativas(int tentativas) { this.tentativas = tentativas; }
+    public String getUltimoErro() { return ultimoErro; }
+    public void setUltimoErro(String ultimoErro) { this.ultimoErro = ultimoErro; }
+}
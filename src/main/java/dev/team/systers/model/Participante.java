@@ -9,6 +9,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,10 @@ import jakarta.persistence.Table;
  * definindo seus papéis como mentor ou mentorado.
  */
 @Entity
-@Table(name = "participante")
+@Table(name = "participante", indexes = {
+        @Index(name = "idx_participante_usuario_tipo", columnList = "usuario_fk, participante_tipo"),
+        @Index(name = "idx_participante_mentoria", columnList = "mentoria_fk")
+})
 public class Participante {
 
     /**
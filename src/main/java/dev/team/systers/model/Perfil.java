@@ -62,6 +62,14 @@ public class Perfil {
     @JoinColumn(name = "usuario_id_perfil_fk", foreignKey = @ForeignKey(name = "usuario_id_perfil_fk"), nullable = false, unique = true)
     private Usuario usuarioPerfil;
 
+    /**
+     * Versão do conteúdo exibido na página de perfil.
+     * Incrementada diretamente no banco sempre que o perfil ou o usuário mudam;
+     * usada para gerar o ETag da página.
+     */
+    @Column(name = "perfil_versao", insertable = false, updatable = false)
+    private Long versao;
+
     /**
      * Construtor padrão.
      * Necessário para JPA.
@@ -79,4 +87,5 @@ public class Perfil {
     public void setPerfilFoto(String perfilFoto) { this.perfilFoto = perfilFoto; }
     public Usuario getUsuarioPerfil() { return usuarioPerfil; }
     public void setUsuarioPerfil(Usuario usuarioPerfil) { this.usuarioPerfil = usuarioPerfil; }
+    public Long getVersao() { return versao; }
 }
@@ -72,6 +72,14 @@ public class Postagem {
     @OneToMany(mappedBy = "postagem", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Comentario> comentarios = new ArrayList<>();
 
+    /**
+     * Versão do conteúdo da postagem.
+     * Incrementada diretamente no banco quando a postagem é editada;
+     * usada como chave do cache de fragmentos renderizados.
+     */
+    @Column(name = "postagem_versao", insertable = false, updatable = false)
+    private Long versao;
+
     /**
      * Construtor padrão.
      * Necessário para JPA.
@@ -107,4 +115,5 @@ public class Postagem {
     public void setDataCriacao(LocalDateTime dataCriacao) { this.dataCriacao = dataCriacao; }
     public List<Comentario> getComentarios() { return comentarios; }
     public void setComentarios(List<Comentario> comentarios) { this.comentarios = comentarios; }
+    public Long getVersao() { return versao; }
 }
@@ -0,0 +1,122 @@
+package dev.team.systers.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Registro de auditoria de uma ação de moderação em lote.
+ * Guarda quem agiu, o que foi feito, o novo status e quais registros foram alterados,
+ * gravado na mesma transação da alteração.
+ */
+@Entity
+@Table(name = "registro_moderacao", indexes = {
+        @Index(name = "idx_registro_moderacao_moderador_data", columnList = "registro_moderador_id, registro_data_hora")
+})
+public class RegistroModeracao {
+
+    /**
+     * Identificador único do registro.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "registro_id", nullable = false)
+    private Long id;
+
+    /**
+     * ID do usuário que executou a ação.
+     */
+    @Column(name = "registro_moderador_id", nullable = false)
+    private Long moderadorId;
+
+    /**
+     * Ação executada.
+     * @see Acao
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "registro_acao", nullable = false, length = 40)
+    private Acao acao;
+
+    /**
+     * ID do grupo, para ações sobre membros.
+     */
+    @Column(name = "registro_grupo_id")
+    private Long grupoId;
+
+    /**
+     * Novo status aplicado, quando a ação define um.
+     */
+    @Column(name = "registro_valor", length = 20)
+    private String valor;
+
+    /**
+     * Quantidade de registros alterados.
+     */
+    @Column(name = "registro_aplicados", nullable = false)
+    private int aplicados;
+
+    /**
+     * Quantidade de registros ignorados (inexistentes ou já no estado pedido).
+     */
+    @Column(name = "registro_ignorados", nullable = false)
+    private int ignorados;
+
+    /**
+     * IDs dos registros alterados, separados por vírgula.
+     */
+    @Column(name = "registro_alvos", columnDefinition = "TEXT")
+    private String alvos;
+
+    /**
+     * Momento da ação.
+     */
+    @Column(name = "registro_data_hora", nullable = false)
+    private LocalDateTime dataHora;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public RegistroModeracao() {}
+
+    /**
+     * Ações de moderação em lote.
+     */
+    public enum Acao {
+        /** Denúncias marcadas como atendidas */
+        RESOLVER_DENUNCIAS,
+        /** Status da conta de usuários alterado */
+        ALTERAR_STATUS_USUARIOS,
+        /** Status de acesso de membros de um grupo alterado */
+        ALTERAR_STATUS_MEMBROS
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getModeradorId() { return moderadorId; }
+    public void setModeradorId(Long moderadorId) { this.moderadorId = moderadorId; }
+    public Acao getAcao() { return acao; }
+    public void setAcao(Acao acao) { this.acao = acao; }
+    public Long getGrupoId() { return grupoId; }
+    public void setGrupoId(Long grupoId) { this.grupoId = grupoId; }
+    public String getValor() { return valor; }
+    public void setValor(String valor) { this.valor = valor; }
+    public int getAplicados() { return aplicados; }
+    public void setAplicados(int aplicados) { this.aplicados = aplicados; }
+    public int getIgnorados() { return ignorados; }
+    public void setIgnorados(int ignorados) { this.ignorados = ignorados; }
+    public String getAlvos() { return alvos; }
+    public void setAlvos(String alvos) { this.alvos = alvos; }
+    public LocalDateTime getDataHora() { return dataHora; }
+    public void setDataHora(LocalDateTime dataHora) { this.dataHora = dataHora; }
+}
@@ -0,0 +1,146 @@
+package dev.team.systers.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Totais de denúncias de uma categoria em um intervalo de uma hora ou de um dia.
+ * Atualizado a cada denúncia registrada ou resolvida, para que as séries temporais
+ * da análise de denúncias sejam lidas sem percorrer a tabela de denúncias.
+ *
+ * <p>Denúncias registradas contam no intervalo do registro e resolvidas no intervalo
+ * da resolução, junto com o tempo que ficaram pendentes.</p>
+ */
+@Entity
+@Table(name = "serie_denuncias", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_serie_denuncias_granularidade_inicio_categoria",
+                columnNames = { "serie_granularidade", "serie_inicio", "serie_categoria" })
+})
+public class SerieDenuncias {
+
+    /**
+     * Identificador único do intervalo.
+     * Gerado automaticamente pelo sistema.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "serie_id", nullable = false)
+    private Long id;
+
+    /**
+     * Duração do intervalo.
+     * @see Granularidade
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "serie_granularidade", nullable = false, length = 10)
+    private Granularidade granularidade;
+
+    /**
+     * Início do intervalo.
+     */
+    @Column(name = "serie_inicio", nullable = false)
+    private LocalDateTime inicio;
+
+    /**
+     * Categoria das denúncias, como informada pelos autores.
+     */
+    @Column(name = "serie_categoria", nullable = false, length = 100)
+    private String categoria;
+
+    /**
+     * Quantidade de denúncias registradas no intervalo.
+     */
+    @Column(name = "serie_registradas", nullable = false)
+    private long registradas;
+
+    /**
+     * Quantidade de denúncias resolvidas no intervalo.
+     */
+    @Column(name = "serie_resolvidas", nullable = false)
+    private long resolvidas;
+
+    /**
+     * Soma e máximo do tempo de resolução das denúncias resolvidas no intervalo, em segundos.
+     */
+    @Column(name = "serie_resolucao_soma_seg", nullable = false)
+    private long resolucaoSomaSeg;
+
+    @Column(name = "serie_resolucao_max_seg", nullable = false)
+    private long resolucaoMaxSeg;
+
+    /**
+     * Construtor padrão.
+     * Necessário para JPA.
+     */
+    public SerieDenuncias() {}
+
+    /**
+     * Durações dos intervalos das séries.
+     */
+    public enum Granularidade {
+        /** Intervalos de uma hora */
+        HORA(ChronoUnit.HOURS),
+        /** Intervalos de um dia */
+        DIA(ChronoUnit.DAYS);
+
+        private final ChronoUnit unidade;
+
+        Granularidade(ChronoUnit unidade) {
+            this.unidade = unidade;
+        }
+
+        /**
+         * Retorna o início do intervalo que contém o momento.
+         * @param momento Momento qualquer
+         * @return Início do intervalo
+         */
+        public LocalDateTime inicio(LocalDateTime momento) {
+            return momento.truncatedTo(unidade);
+        }
+
+        /**
+         * Retorna a duração de um intervalo.
+         * @return Duração do intervalo
+         */
+        public Duration duracao() {
+            return unidade.getDuration();
+        }
+
+        /**
+         * Retorna o nome da unidade para a função {@code date_trunc} do banco.
+         * @return "hour" ou "day"
+         */
+        public String unidadeSql() {
+            return this == HORA ? "hour" : "day";
+        }
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Granularidade getGranularidade() { return granularidade; }
+    public void setGranularidade(Granularidade granularidade) { this.granularidade = granularidade; }
+    public LocalDateTime getInicio() { return inicio; }
+    public void setInicio(LocalDateTime inicio) { this.inicio = inicio; }
+    public String getCategoria() { return categoria; }
+    public void setCategoria(String categoria) { this.categoria = categoria; }
+    public long getRegistradas() { return registradas; }
+    public void setRegistradas(long registradas) { this.registradas = registradas; }
+    public long getResolvidas() { return resolvidas; }
+    public void setResolvidas(long resolvidas) { this.resolvidas = resolvidas; }
+    public long getResolucaoSomaSeg() { return resolucaoSomaSeg; }
+    public void setResolucaoSomaSeg(long resolucaoSomaSeg) { this.resolucaoSomaSeg = resolucaoSomaSeg; }
+    public long getResolucaoMaxSeg() { return resolucaoMaxSeg; }
+    public void setResolucaoMaxSeg(long resolucaoMaxSeg) { this.resolucaoMaxSeg = resolucaoMaxSeg; }
+}
@@ -0,0 +1,23 @@
+package dev.team.systers.model;
+
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Grava o status da mentoria pela descrição ("Agendada", "Em Andamento", ...),
+ * como a coluna já era preenchida, para que as linhas existentes continuem válidas.
+ */
+@Converter(autoApply = true)
+public class StatusMentoriaConverter implements AttributeConverter<StatusMentoria, String> {
+
+    @Override
+    public String convertToDatabaseColumn(StatusMentoria status) {
+        return status != null ? status.getDescricao() : null;
+    }
+
+    @Override
+    public StatusMentoria convertToEntityAttribute(String valor) {
+        return valor != null ? StatusMentoria.deDescricao(valor) : null;
+    }
+}
@@ -0,0 +1,107 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.model.AgregadoAvaliacao;
+import dev.team.systers.model.AgregadoAvaliacao.Escopo;
+
+/**
+ * Repositório para operações de persistência dos agregados de avaliações.
+ */
+@Repository
+public interface AgregadoAvaliacaoRepository extends JpaRepository<AgregadoAvaliacao, Long> {
+
+    /**
+     * Busca o agregado de um mentor ou de uma mentoria.
+     * @param escopo Escopo do agregado
+     * @param referenciaId ID do mentor ou da mentoria
+     * @return Agregado, se já houver avaliações
+     */
+    Optional<AgregadoAvaliacao> findByEscopoAndReferenciaId(Escopo escopo, Long referenciaId);
+
+    /**
+     * Busca todos os agregados de um escopo.
+     * @param escopo Escopo dos agregados
+     * @return Agregados do escopo
+     */
+    List<AgregadoAvaliacao> findByEscopo(Escopo escopo);
+
+    /**
+     * Soma as quantidades e as notas de todos os agregados de um escopo.
+     * @param escopo Escopo dos agregados
+     * @return Uma linha com a quantidade total e a soma total das notas
+     */
+    @Query("SELECT COALESCE(SUM(a.quantidade), 0), COALESCE(SUM(a.soma), 0) FROM AgregadoAvaliacao a WHERE a.escopo = :escopo")
+    List<Object[]> somarPorEscopo(@Param("escopo") Escopo escopo);
+
+    /**
+     * Acrescenta uma nota ao agregado, criando-o na primeira avaliação.
+     * A atualização é atômica no banco, então avaliações simultâneas não se perdem.
+     * @param escopo Nome do escopo
+     * @param referenciaId ID do mentor ou da mentoria
+     * @param nota Nota da avaliação (0 a 5)
+     * @param agora Momento da avaliação
+     */
+    @Modifying
+    @Query(value = "INSERT INTO agregado_avaliacao (agregado_escopo, agregado_referencia_id, " +
+            "agregado_quantidade, agregado_soma, agregado_estrelas_0, agregado_estrelas_1, agregado_estrelas_2, agregado_estrelas_3, agregado_estrelas_4, agregado_estrelas_5, agregado_atualizado_em) " +
+            "VALUES (:escopo, :referenciaId, 1, :nota, " +
+            "CASE WHEN :nota = 0 THEN 1 ELSE 0 END, CASE WHEN :nota = 1 THEN 1 ELSE 0 END, CASE WHEN :nota = 2 THEN 1 ELSE 0 END, CASE WHEN :nota = 3 THEN 1 ELSE 0 END, CASE WHEN :nota = 4 THEN 1 ELSE 0 END, CASE WHEN :nota = 5 THEN 1 ELSE 0 END, :agora) " +
+            "ON CONFLICT (agregado_escopo, agregado_referencia_id) DO UPDATE SET " +
+            "agregado_quantidade = agregado_avaliacao.agregado_quantidade + 1, " +
+            "agregado_soma = agregado_avaliacao.agregado_soma + EXCLUDED.agregado_soma, " +
+            "agregado_estrelas_0 = agregado_avaliacao.agregado_estrelas_0 + EXCLUDED.agregado_estrelas_0, " +
+            "agregado_estrelas_1 = agregado_avaliacao.agregado_estrelas_1 + EXCLUDED.agregado_estrelas_1, " +
+            "agregado_estrelas_2 = agregado_avaliacao.agregado_estrelas_2 + EXCLUDED.agregado_estrelas_2, " +
+            "agregado_estrelas_3 = agregado_avaliacao.agregado_estrelas_3 + EXCLUDED.agregado_estrelas_3, " +
+            "agregado_estrelas_4 = agregado_avaliacao.agregado_estrelas_4 + EXCLUDED.agregado_estrelas_4, " +
+            "agregado_estrelas_5 = agregado_avaliacao.agregado_estrelas_5 + EXCLUDED.agregado_estrelas_5, " +
+            "agregado_atualizado_em = EXCLUDED.agregado_atualizado_em",
+            nativeQuery = true)
+    void acrescentar(@Param("escopo") String escopo, @Param("referenciaId") Long referenciaId,
+                     @Param("nota") int nota, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Cria os agregados das mentorias a partir das avaliações já gravadas.
+     * Agregados existentes não são alterados.
+     * @param agora Momento da reconstrução
+     * @return Quantidade de agregados criados
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO agregado_avaliacao (agregado_escopo, agregado_referencia_id, " +
+            "agregado_quantidade, agregado_soma, agregado_estrelas_0, agregado_estrelas_1, agregado_estrelas_2, agregado_estrelas_3, agregado_estrelas_4, agregado_estrelas_5, agregado_atualizado_em) " +
+            "SELECT 'MENTORIA', a.mentoria_avaliada_fk, COUNT(*), SUM(a.avaliacao_mentoria), " +
+            "SUM(CASE WHEN a.avaliacao_mentoria = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 2 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 4 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 5 THEN 1 ELSE 0 END), :agora " +
+            "FROM avaliacao a GROUP BY a.mentoria_avaliada_fk " +
+            "ON CONFLICT (agregado_escopo, agregado_referencia_id) DO NOTHING",
+            nativeQuery = true)
+    int reconstruirPorMentoria(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Cria os agregados dos mentores a partir das avaliações já gravadas.
+     * Agregados existentes não são alterados.
+     * @param agora Momento da reconstrução
+     * @return Quantidade de agregados criados
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO agregado_avaliacao (agregado_escopo, agregado_referencia_id, " +
+            "agregado_quantidade, agregado_soma, agregado_estrelas_0, agregado_estrelas_1, agregado_estrelas_2, agregado_estrelas_3, agregado_estrelas_4, agregado_estrelas_5, agregado_atualizado_em) " +
+            "SELECT 'MENTOR', p.usuario_fk, COUNT(*), SUM(a.avaliacao_mentoria), " +
+            "SUM(CASE WHEN a.avaliacao_mentoria = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 2 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 4 THEN 1 ELSE 0 END), SUM(CASE WHEN a.avaliacao_mentoria = 5 THEN 1 ELSE 0 END), :agora " +
+            "FROM avaliacao a JOIN participante p ON p.mentoria_fk = a.mentoria_avaliada_fk " +
+            "AND p.participante_tipo = 'MENTOR' GROUP BY p.usuario_fk " +
+            "ON CONFLICT (agregado_escopo, agregado_referencia_id) DO NOTHING",
+            nativeQuery = true)
+    int reconstruirPorMentor(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,64 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.AgrupamentoNotificacao;
+
+/**
+ * Repositório das janelas de agregação de notificações.
+ * O registro é um upsert atômico, então notificações simultâneas com a mesma chave
+ * não se perdem; as janelas vencidas são reservadas com {@code FOR UPDATE SKIP LOCKED},
+ * de modo que várias instâncias podem emitir resumos sem emitir o mesmo duas vezes.
+ */
+@Repository
+public interface AgrupamentoNotificacaoRepository extends JpaRepository<AgrupamentoNotificacao, String> {
+
+    /**
+     * Abre a janela da chave ou soma uma notificação à janela aberta.
+     * Deve ser chamado na transação da alteração que originou a notificação.
+     * @param chave Chave de agregação
+     * @param tipo Nome do tipo da notificação
+     * @param grupoId ID do grupo destinatário, ou null
+     * @param destinatarioId ID do usuário destinatário, ou null
+     * @param remetenteId ID do remetente
+     * @param conteudo Texto de uma notificação isolada
+     * @param resumo Texto do resumo, com o marcador da quantidade
+     * @param venceEm Vencimento da janela, se ela for aberta agora
+     * @return 0 se a janela foi aberta agora (a notificação deve ser entregue na hora),
+     *         ou a quantidade acumulada na janela já aberta
+     */
+    @Query(value = "INSERT INTO notificacao_agrupamento AS a (agrupamento_chave, agrupamento_tipo, agrupamento_grupo_id, " +
+            "agrupamento_destinatario_id, agrupamento_remetente_id, agrupamento_remetentes, agrupamento_conteudo, " +
+            "agrupamento_resumo, agrupamento_quantidade, agrupamento_vence_em) " +
+            "VALUES (:chave, :tipo, :grupoId, :destinatarioId, :remetenteId, ',', :conteudo, :resumo, 0, :venceEm) " +
+            "ON CONFLICT (agrupamento_chave) DO UPDATE SET " +
+            "agrupamento_quantidade = a.agrupamento_quantidade + 1, " +
+            "agrupamento_remetente_id = EXCLUDED.agrupamento_remetente_id, " +
+            "agrupamento_remetentes = CASE WHEN strpos(a.agrupamento_remetentes, ',' || EXCLUDED.agrupamento_remetente_id || ',') > 0 " +
+            "THEN a.agrupamento_remetentes ELSE a.agrupamento_remetentes || EXCLUDED.agrupamento_remetente_id || ',' END, " +
+            "agrupamento_conteudo = EXCLUDED.agrupamento_conteudo, " +
+            "agrupamento_resumo = EXCLUDED.agrupamento_resumo " +
+            "RETURNING agrupamento_quantidade",
+            nativeQuery = true)
+    int registrar(@Param("chave") String chave, @Param("tipo") String tipo, @Param("grupoId") Long grupoId,
+                  @Param("destinatarioId") Long destinatarioId, @Param("remetenteId") Long remetenteId,
+                  @Param("conteudo") String conteudo, @Param("resumo") String resumo,
+                  @Param("venceEm") LocalDateTime venceEm);
+
+    /**
+     * Busca e bloqueia as janelas vencidas. Janelas já bloqueadas são ignoradas.
+     * @param agora Momento atual
+     * @param limite Quantidade máxima de janelas
+     * @return Janelas vencidas, mais antigas primeiro
+     */
+    @Query(value = "SELECT * FROM notificacao_agrupamento WHERE agrupamento_vence_em <= :agora " +
+            "ORDER BY agrupamento_vence_em LIMIT :limite FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<AgrupamentoNotificacao> findVencidasParaEmitir(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+}
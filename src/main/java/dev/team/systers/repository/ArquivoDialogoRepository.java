@@ -0,0 +1,29 @@
+package dev.team.systers.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.ArquivoDialogo;
+
+/**
+ * Repositório para operações de persistência da localização dos diálogos arquivados.
+ */
+@Repository
+public interface ArquivoDialogoRepository extends JpaRepository<ArquivoDialogo, Long> {
+
+    /**
+     * Busca a localização do diálogo arquivado de uma mentoria.
+     * @param mentoriaId ID da mentoria
+     * @return Localização do diálogo, se arquivado
+     */
+    Optional<ArquivoDialogo> findByMentoriaId(Long mentoriaId);
+
+    /**
+     * Busca os diálogos que continuam arquivados, sem os já restaurados.
+     * @return Localizações dos diálogos arquivados
+     */
+    List<ArquivoDialogo> findByRestauradoFalse();
+}
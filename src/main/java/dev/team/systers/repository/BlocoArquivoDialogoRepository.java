@@ -0,0 +1,43 @@
+package dev.team.systers.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.BlocoArquivoDialogo;
+
+/**
+ * Repositório para operações de persistência dos blocos dos diálogos arquivados.
+ */
+@Repository
+public interface BlocoArquivoDialogoRepository extends JpaRepository<BlocoArquivoDialogo, Long> {
+
+    /**
+     * Busca os blocos já gravados do diálogo de uma mentoria.
+     * @param mentoriaId ID da mentoria
+     * @return Blocos, do mais antigo para o mais recente
+     */
+    List<BlocoArquivoDialogo> findByMentoriaIdOrderByOrdem(Long mentoriaId);
+
+    /**
+     * Busca os blocos dos diálogos de várias mentorias.
+     * @param mentoriaIds IDs das mentorias
+     * @return Blocos, por mentoria e do mais antigo para o mais recente
+     */
+    List<BlocoArquivoDialogo> findByMentoriaIdInOrderByMentoriaIdAscOrdemAsc(Collection<Long> mentoriaIds);
+
+    /**
+     * Apaga os blocos de uma mentoria a partir de uma posição.
+     * @param mentoriaId ID da mentoria
+     * @param ordem Posição do primeiro bloco apagado
+     * @return Quantidade de blocos apagados
+     */
+    @Modifying
+    @Query("DELETE FROM BlocoArquivoDialogo b WHERE b.mentoriaId = :mentoriaId AND b.ordem >= :ordem")
+    int deleteAPartirDe(@Param("mentoriaId") Long mentoriaId, @Param("ordem") int ordem);
+}
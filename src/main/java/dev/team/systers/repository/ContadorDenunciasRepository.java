@@ -0,0 +1,86 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.model.ContadorDenuncias;
+
+/**
+ * Repositório para operações de persistência dos contadores de denúncias por usuário.
+ */
+@Repository
+public interface ContadorDenunciasRepository extends JpaRepository<ContadorDenuncias, Long> {
+
+    /**
+     * Busca os contadores de um usuário, por categoria e status.
+     * @param usuarioId ID do usuário denunciado
+     * @return Contadores do usuário
+     */
+    List<ContadorDenuncias> findByUsuarioIdOrderByCategoriaAscStatusAsc(Long usuarioId);
+
+    /**
+     * Soma as denúncias pendentes de um usuário em todas as categorias.
+     * @param usuarioId ID do usuário denunciado
+     * @return Quantidade de denúncias pendentes
+     */
+    @Query("SELECT COALESCE(SUM(c.quantidade), 0) FROM ContadorDenuncias c WHERE c.usuarioId = :usuarioId " +
+           "AND c.status = dev.team.systers.model.Denuncia.StatusDenuncia.PENDENTE")
+    long somarPendentes(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Busca os usuários com denúncias pendentes e o total de pendentes de cada um.
+     * @return Linhas com ID, login, nome e status da conta do usuário e a quantidade
+     *         de denúncias pendentes, mais denunciados primeiro
+     */
+    @Query("SELECT u.id, u.login, u.nome, u.statusConta, SUM(c.quantidade) " +
+           "FROM ContadorDenuncias c, Usuario u WHERE u.id = c.usuarioId " +
+           "AND c.status = dev.team.systers.model.Denuncia.StatusDenuncia.PENDENTE " +
+           "GROUP BY u.id, u.login, u.nome, u.statusConta HAVING SUM(c.quantidade) > 0 " +
+           "ORDER BY SUM(c.quantidade) DESC, u.id")
+    List<Object[]> findUsuariosComPendentes();
+
+    /**
+     * Soma uma variação ao contador, criando-o se ainda não existir.
+     * A atualização é atômica no banco, então denúncias simultâneas não se perdem;
+     * o contador nunca fica negativo.
+     * @param usuarioId ID do usuário denunciado
+     * @param categoria Categoria das denúncias
+     * @param status Nome do status das denúncias
+     * @param variacao Quantidade somada (negativa para subtrair)
+     * @param agora Momento da alteração
+     */
+    @Modifying
+    @Query(value = "INSERT INTO contador_denuncias (contador_usuario_id, contador_categoria, contador_status, " +
+            "contador_quantidade, contador_atualizado_em) " +
+            "VALUES (:usuarioId, :categoria, :status, GREATEST(:variacao, 0), :agora) " +
+            "ON CONFLICT (contador_usuario_id, contador_categoria, contador_status) DO UPDATE SET " +
+            "contador_quantidade = GREATEST(contador_denuncias.contador_quantidade + :variacao, 0), " +
+            "contador_atualizado_em = EXCLUDED.contador_atualizado_em",
+            nativeQuery = true)
+    void somar(@Param("usuarioId") Long usuarioId, @Param("categoria") String categoria,
+               @Param("status") String status, @Param("variacao") long variacao,
+               @Param("agora") LocalDateTime agora);
+
+    /**
+     * Cria os contadores a partir das denúncias já gravadas.
+     * Contadores existentes não são alterados.
+     * @param agora Momento da reconstrução
+     * @return Quantidade de contadores criados
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO contador_denuncias (contador_usuario_id, contador_categoria, contador_status, " +
+            "contador_quantidade, contador_atualizado_em) " +
+            "SELECT d.usuario_reportado_fk, left(d.denuncia_categoria, 100), d.denuncia_status, COUNT(*), :agora " +
+            "FROM denuncia d GROUP BY d.usuario_reportado_fk, left(d.denuncia_categoria, 100), d.denuncia_status " +
+            "ON CONFLICT (contador_usuario_id, contador_categoria, contador_status) DO NOTHING",
+            nativeQuery = true)
+    int reconstruir(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,57 @@
+package dev.team.systers.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.ContadorNotificacoes;
+
+/**
+ * Repositório para os contadores de notificações não lidas.
+ * As alterações são feitas por SQL atômico (upsert) para suportar envios simultâneos.
+ * Quando o contador de um usuário ainda não existe, ele é criado a partir da contagem real,
+ * o que também cobre as notificações anteriores à criação da tabela. Notificações não lidas que
+ * saíram da caixa de entrada (descontadas) não entram no contador.
+ */
+@Repository
+public interface ContadorNotificacoesRepository extends JpaRepository<ContadorNotificacoes, Long> {
+
+    /**
+     * Soma uma notificação não lida ao contador do usuário.
+     * Deve ser chamado na mesma transação que inseriu a notificação.
+     * @param usuarioId ID do usuário destinatário
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notificacao_contador (usuario_id, nao_lidas) " +
+            "VALUES (:usuarioId, (SELECT COUNT(*) FROM notificacao WHERE usuario_id_destinatario_fk = :usuarioId AND notificacao_status_lida = false AND notificacao_descontada = false)) " +
+            "ON CONFLICT (usuario_id) DO UPDATE SET nao_lidas = notificacao_contador.nao_lidas + 1",
+            nativeQuery = true)
+    void incrementar(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Subtrai notificações lidas do contador do usuário, sem deixá-lo negativo.
+     * Deve ser chamado na mesma transação que marcou as notificações como lidas.
+     * @param usuarioId ID do usuário destinatário
+     * @param quantidade Quantidade de notificações que passaram a lidas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notificacao_contador (usuario_id, nao_lidas) " +
+            "VALUES (:usuarioId, (SELECT COUNT(*) FROM notificacao WHERE usuario_id_destinatario_fk = :usuarioId AND notificacao_status_lida = false AND notificacao_descontada = false)) " +
+            "ON CONFLICT (usuario_id) DO UPDATE SET nao_lidas = GREATEST(notificacao_contador.nao_lidas - :quantidade, 0)",
+            nativeQuery = true)
+    void decrementar(@Param("usuarioId") Long usuarioId, @Param("quantidade") long quantidade);
+
+    /**
+     * Zera o contador do usuário, bloqueando a linha até o fim da transação.
+     * Deve ser chamado antes de marcar todas as notificações como lidas, para que
+     * um envio simultâneo espere e some ao contador já zerado.
+     * @param usuarioId ID do usuário destinatário
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notificacao_contador (usuario_id, nao_lidas) VALUES (:usuarioId, 0) " +
+            "ON CONFLICT (usuario_id) DO UPDATE SET nao_lidas = 0",
+            nativeQuery = true)
+    void zerar(@Param("usuarioId") Long usuarioId);
+}
@@ -1,15 +1,20 @@
 package dev.team.systers.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dev.team.systers.model.Denuncia;
 import dev.team.systers.model.Denuncia.StatusDenuncia;
+import jakarta.persistence.LockModeType;
 
 /**
  * Repositório para operações de persistência de Denúncia.
@@ -110,4 +115,131 @@ public interface DenunciaRepository extends JpaRepository<Denuncia, Long> {
      */
     @Query("SELECT d FROM Denuncia d LEFT JOIN FETCH d.usuarioReportado LEFT JOIN FETCH d.usuarioAutor WHERE d.status = :status")
     List<Denuncia> findByStatusWithUsuarios(@Param("status") StatusDenuncia status);
+
+    /**
+     * Busca e bloqueia as denúncias pendentes e livres (sem reserva ou com a reserva vencida)
+     * de maior prioridade. Linhas já bloqueadas por outra transação são ignoradas, de modo
+     * que vários moderadores podem reservar ao mesmo tempo sem receber a mesma denúncia.
+     * A prioridade soma a gravidade, as denúncias pendentes contra o mesmo usuário (lidas
+     * dos contadores por usuário) e a idade em horas, cada uma com seu peso.
+     * Deve ser chamado na mesma transação de {@link #reservar(Collection, Long, LocalDateTime)}.
+     *
+     * @param agora Momento atual
+     * @param pesoGravidade Peso de cada nível de gravidade
+     * @param pesoReincidencia Peso de cada denúncia pendente contra o mesmo usuário
+     * @param pesoHora Peso de cada hora de espera
+     * @param limite Quantidade máxima de denúncias
+     * @return Linhas com ID, prioridade e denúncias pendentes contra o usuário, maior prioridade primeiro
+     */
+    @Query(value = "SELECT d.denuncia_id, " +
+            "coalesce(d.denuncia_gravidade, 1) * :pesoGravidade + coalesce(c.ativas, 1) * :pesoReincidencia " +
+            "+ extract(epoch FROM (CAST(:agora AS timestamp) - d.denuncia_data_hora)) / 3600 * :pesoHora AS prioridade, " +
+            "coalesce(c.ativas, 1) " +
+            "FROM denuncia d " +
+            "LEFT JOIN (SELECT contador_usuario_id, sum(contador_quantidade) AS ativas FROM contador_denuncias " +
+            "WHERE contador_status = 'PENDENTE' GROUP BY contador_usuario_id) c " +
+            "ON c.contador_usuario_id = d.usuario_reportado_fk " +
+            "WHERE d.denuncia_status = 'PENDENTE' " +
+            "AND (d.denuncia_reservada_ate IS NULL OR d.denuncia_reservada_ate <= :agora) " +
+            "ORDER BY prioridade DESC, d.denuncia_id " +
+            "LIMIT :limite FOR UPDATE OF d SKIP LOCKED",
+            nativeQuery = true)
+    List<Object[]> findLivresParaReserva(@Param("agora") LocalDateTime agora,
+                                         @Param("pesoGravidade") double pesoGravidade,
+                                         @Param("pesoReincidencia") double pesoReincidencia,
+                                         @Param("pesoHora") double pesoHora,
+                                         @Param("limite") int limite);
+
+    /**
+     * Reserva as denúncias para um moderador até o momento informado.
+     * @param ids IDs das denúncias
+     * @param moderadorId ID do moderador
+     * @param reservadaAte Fim da reserva
+     * @return Quantidade de denúncias reservadas
+     */
+    @Modifying
+    @Query("UPDATE Denuncia d SET d.reservadaPor = :moderadorId, d.reservadaAte = :reservadaAte WHERE d.id IN :ids")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("moderadorId") Long moderadorId,
+                 @Param("reservadaAte") LocalDateTime reservadaAte);
+
+    /**
+     * Devolve para a fila as denúncias pendentes reservadas pelo moderador.
+     * @param ids IDs das denúncias
+     * @param moderadorId ID do moderador
+     * @return Quantidade de denúncias liberadas
+     */
+    @Modifying
+    @Query("UPDATE Denuncia d SET d.reservadaPor = NULL, d.reservadaAte = NULL " +
+           "WHERE d.id IN :ids AND d.reservadaPor = :moderadorId " +
+           "AND d.status = dev.team.systers.model.Denuncia.StatusDenuncia.PENDENTE")
+    int liberar(@Param("ids") Collection<Long> ids, @Param("moderadorId") Long moderadorId);
+
+    /**
+     * Busca e bloqueia as denúncias pendentes reservadas pelo moderador, mesmo que a
+     * reserva tenha vencido, desde que nenhum outro moderador as tenha reservado depois.
+     * As linhas são bloqueadas em ordem de ID, para que lotes simultâneos não se travem.
+     * Deve ser chamado na mesma transação de {@link #resolver(Collection, LocalDateTime)}.
+     * @param ids IDs das denúncias
+     * @param moderadorId ID do moderador
+     * @return Linhas com ID da denúncia, do autor e do usuário denunciado, a categoria e o momento do registro
+     */
+    @Query(value = "SELECT denuncia_id, usuario_autor_fk, usuario_reportado_fk, denuncia_categoria, denuncia_data_hora FROM denuncia " +
+            "WHERE denuncia_id IN (:ids) AND denuncia_status = 'PENDENTE' AND denuncia_reservada_por = :moderadorId " +
+            "ORDER BY denuncia_id FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> findReservadasPor(@Param("ids") Collection<Long> ids, @Param("moderadorId") Long moderadorId);
+
+    /**
+     * Busca e bloqueia as denúncias pedidas, com ou sem reserva, para resolvê-las em lote.
+     * As linhas são bloqueadas em ordem de ID, para que lotes simultâneos não se travem.
+     * Deve ser chamado na mesma transação de {@link #resolver(Collection, LocalDateTime)}.
+     * @param ids IDs das denúncias
+     * @return Linhas com ID da denúncia, do autor e do usuário denunciado, a categoria, o status
+     *         e o momento do registro
+     */
+    @Query(value = "SELECT denuncia_id, usuario_autor_fk, usuario_reportado_fk, denuncia_categoria, denuncia_status, " +
+            "denuncia_data_hora " +
+            "FROM denuncia WHERE denuncia_id IN (:ids) ORDER BY denuncia_id FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> findParaResolverEmLote(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca e bloqueia uma denúncia para resolvê-la individualmente.
+     * Com a linha bloqueada, uma resolução simultânea pela fila ou em lote espera o fim
+     * da transação e já encontra a denúncia atendida.
+     * @param id ID da denúncia
+     * @return Denúncia bloqueada, se existir
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Denuncia d WHERE d.id = :id")
+    Optional<Denuncia> findParaResolverById(@Param("id") Long id);
+
+    /**
+     * Marca as denúncias como atendidas e encerra suas reservas.
+     * @param ids IDs das denúncias
+     * @param agora Momento da resolução
+     * @return Quantidade de denúncias resolvidas
+     */
+    @Modifying
+    @Query("UPDATE Denuncia d SET d.status = dev.team.systers.model.Denuncia.StatusDenuncia.ATENDIDA, " +
+           "d.reservadaPor = NULL, d.reservadaAte = NULL, d.resolvidaEm = :agora WHERE d.id IN :ids")
+    int resolver(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Busca denúncias pelos IDs com dados dos usuários relacionados.
+     * @param ids IDs das denúncias
+     * @return Lista de denúncias com dados completos
+     */
+    @Query("SELECT d FROM Denuncia d LEFT JOIN FETCH d.usuarioReportado LEFT JOIN FETCH d.usuarioAutor WHERE d.id IN :ids")
+    List<Denuncia> findByIdsWithUsuarios(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca as denúncias registradas a partir de uma data, para a janela de denúncias recentes.
+     * @param desde Data inicial
+     * @return Linhas com ID do usuário denunciado, ID do autor e data, mais antigas primeiro
+     */
+    @Query(value = "SELECT usuario_reportado_fk, usuario_autor_fk, denuncia_data_hora FROM denuncia " +
+            "WHERE denuncia_data_hora >= :desde ORDER BY denuncia_data_hora",
+            nativeQuery = true)
+    List<Object[]> findRegistradasDesde(@Param("desde") LocalDateTime desde);
 }
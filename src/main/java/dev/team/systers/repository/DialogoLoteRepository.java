@@ -0,0 +1,63 @@
+package dev.team.systers.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.dto.MensagemArquivada;
+
+/**
+ * Repositório JDBC para devolver à tabela, em um único batch, mensagens de diálogo
+ * que estavam no arquivo frio. As mensagens voltam com os IDs originais, o que o JPA
+ * não permite com IDs gerados pelo banco.
+ */
+@Repository
+public class DialogoLoteRepository {
+
+    private static final String RESTAURAR =
+            "INSERT INTO dialogo_mentoria (dialogo_mentoria_id, dialogo_mentoria_mensagem, mentoria_fk, " +
+            "participante_fk, dialogo_mentoria_data_hora, dialogo_mentoria_chave) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (dialogo_mentoria_id) DO NOTHING";
+
+    /**
+     * Template JDBC configurado pelo Spring Boot.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Construtor que inicializa o repositório com as dependências necessárias.
+     * @param jdbcTemplate Template JDBC injetado pelo Spring
+     */
+    @Autowired
+    public DialogoLoteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere as mensagens com os IDs originais; as que já estão na tabela são ignoradas.
+     * @param mentoriaId ID da mentoria
+     * @param mensagens Mensagens a devolver
+     */
+    public void restaurar(Long mentoriaId, List<MensagemArquivada> mensagens) {
+        jdbcTemplate.batchUpdate(RESTAURAR, mensagens, 500, (ps, mensagem) -> {
+            ps.setLong(1, mensagem.id());
+            ps.setString(2, mensagem.mensagem());
+            ps.setLong(3, mentoriaId);
+            ps.setLong(4, mensagem.participanteId());
+            if (mensagem.dataHora() != null) {
+                ps.setTimestamp(5, Timestamp.valueOf(mensagem.dataHora()));
+            } else {
+                ps.setNull(5, Types.TIMESTAMP);
+            }
+            if (mensagem.chave() != null) {
+                ps.setLong(6, mensagem.chave());
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+        });
+    }
+}
@@ -3,8 +3,13 @@ package dev.team.systers.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.team.systers.model.DialogoMentoria;
 
@@ -52,4 +57,160 @@ public interface DialogoMentoriaRepository extends JpaRepository<DialogoMentoria
      * @return Lista de diálogos que contêm o texto
      */
     List<DialogoMentoria> findByMentoria_IdAndMensagemContainingIgnoreCase(Long mentoriaId, String mensagem);
+
+    /**
+     * Verifica se uma mensagem do chat em tempo real foi gravada em uma mentoria.
+     * @param mentoriaId ID da mentoria
+     * @param chave ID atribuído à mensagem pelo chat
+     * @return true se a mensagem pertence à mentoria
+     */
+    boolean existsByMentoria_IdAndChave(Long mentoriaId, Long chave);
+
+    /**
+     * Resume o estado do diálogo de uma mentoria sem carregar as mensagens.
+     * Como as mensagens só são acrescentadas, a quantidade e o maior ID mudam a cada envio.
+     * @param mentoriaId ID da mentoria
+     * @return Lista com uma linha contendo a quantidade de mensagens e o maior ID
+     */
+    @Query("SELECT COUNT(d), COALESCE(MAX(d.id), 0) FROM DialogoMentoria d WHERE d.mentoria.id = :mentoriaId")
+    List<Object[]> resumirPorMentoria(@Param("mentoriaId") Long mentoriaId);
+
+    /**
+     * Busca as mensagens mais recentes de uma mentoria.
+     * Usa o índice (mentoria, data, id) e já carrega o participante e o usuário.
+     * @param mentoriaId ID da mentoria
+     * @param pageable Tamanho da página
+     * @return Mensagens mais recentes primeiro
+     */
+    @Query("SELECT d FROM DialogoMentoria d JOIN FETCH d.participante p JOIN FETCH p.usuario " +
+           "WHERE d.mentoria.id = :mentoriaId " +
+           "ORDER BY d.dataHora DESC, d.id DESC")
+    List<DialogoMentoria> findUltimasDaMentoria(@Param("mentoriaId") Long mentoriaId, Pageable pageable);
+
+    /**
+     * Busca as mensagens anteriores à mais antiga já exibida (keyset).
+     * Não usa OFFSET: o custo é o mesmo em qualquer ponto do histórico.
+     * @param mentoriaId ID da mentoria
+     * @param dataHora Data da mensagem mais antiga já exibida
+     * @param id ID da mensagem mais antiga já exibida
+     * @param pageable Tamanho da página
+     * @return Mensagens anteriores ao cursor, mais recentes primeiro
+     */
+    @Query("SELECT d FROM DialogoMentoria d JOIN FETCH d.participante p JOIN FETCH p.usuario " +
+           "WHERE d.mentoria.id = :mentoriaId " +
+           "AND (d.dataHora < :dataHora OR (d.dataHora = :dataHora AND d.id < :id)) " +
+           "ORDER BY d.dataHora DESC, d.id DESC")
+    List<DialogoMentoria> findUltimasDaMentoriaAntesDe(@Param("mentoriaId") Long mentoriaId,
+                                                       @Param("dataHora") LocalDateTime dataHora,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    /**
+     * Busca as mensagens de uma mentoria com ID maior que o último recebido,
+     * em ordem crescente de ID. Usada por clientes que reconectam.
+     * @param mentoriaId ID da mentoria
+     * @param id ID da última mensagem recebida pelo cliente
+     * @param pageable Quantidade máxima de mensagens
+     * @return Mensagens posteriores ao ID informado
+     */
+    @Query("SELECT d FROM DialogoMentoria d JOIN FETCH d.participante p JOIN FETCH p.usuario " +
+           "WHERE d.mentoria.id = :mentoriaId AND d.id > :id " +
+           "ORDER BY d.id ASC")
+    List<DialogoMentoria> findPosterioresA(@Param("mentoriaId") Long mentoriaId, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Cria o índice GIN de busca textual das mensagens.
+     * Índices de expressão não podem ser declarados na entidade; a expressão
+     * precisa ser a mesma usada em {@link #buscarNasConversas}.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_dialogo_mentoria_busca ON dialogo_mentoria " +
+            "USING gin (to_tsvector('portuguese', coalesce(dialogo_mentoria_mensagem, '')))",
+            nativeQuery = true)
+    void criarIndiceBusca();
+
+    /**
+     * Busca textual nas conversas das mentorias de que o usuário participa, pelo índice GIN.
+     * Os resultados vêm da maior para a menor relevância e são paginados por cursor
+     * (relevância, id): a página seguinte começa logo depois do último resultado.
+     * O trecho destacado só é calculado para as mensagens da página.
+     *
+     * @param usuarioId ID do usuário que busca
+     * @param termo Termos da busca, na sintaxe de buscadores (aspas, "or", "-")
+     * @param mentoriaId ID da mentoria, ou 0 para todas as do usuário
+     * @param desde Data mais antiga considerada
+     * @param ate Data limite, exclusiva
+     * @param relevancia Relevância do último resultado da página anterior
+     * @param id ID do último resultado da página anterior
+     * @param limite Quantidade de resultados
+     * @return Linhas com ID, ID e nome da mentoria, autor, login, trecho, data e relevância
+     */
+    @Query(value = "SELECT r.id, r.mentoria_id, m.mentoria_nome, p.participante_nome, u.usuario_login, " +
+            "ts_headline('portuguese', r.mensagem, websearch_to_tsquery('portuguese', :termo), " +
+            "'StartSel=\"⟦\", StopSel=\"⟧\", MaxWords=30, MinWords=10, MaxFragments=2'), " +
+            "r.data_hora, r.relevancia " +
+            "FROM (SELECT d.dialogo_mentoria_id AS id, d.mentoria_fk AS mentoria_id, d.participante_fk AS participante_id, " +
+            "d.dialogo_mentoria_mensagem AS mensagem, d.dialogo_mentoria_data_hora AS data_hora, " +
+            "ts_rank(to_tsvector('portuguese', coalesce(d.dialogo_mentoria_mensagem, '')), " +
+            "websearch_to_tsquery('portuguese', :termo)) AS relevancia " +
+            "FROM dialogo_mentoria d " +
+            "WHERE to_tsvector('portuguese', coalesce(d.dialogo_mentoria_mensagem, '')) @@ websearch_to_tsquery('portuguese', :termo) " +
+            "AND d.mentoria_fk IN (SELECT eu.mentoria_fk FROM participante eu WHERE eu.usuario_fk = :usuarioId) " +
+            "AND (:mentoriaId = 0 OR d.mentoria_fk = :mentoriaId) " +
+            "AND d.dialogo_mentoria_data_hora >= :desde AND d.dialogo_mentoria_data_hora < :ate) r " +
+            "JOIN mentoria m ON m.mentoria_id = r.mentoria_id " +
+            "JOIN participante p ON p.participante_id = r.participante_id " +
+            "JOIN usuario u ON u.usuario_id = p.usuario_fk " +
+            "WHERE r.relevancia < CAST(:relevancia AS real) OR (r.relevancia = CAST(:relevancia AS real) AND r.id < :id) " +
+            "ORDER BY r.relevancia DESC, r.id DESC " +
+            "LIMIT :limite",
+            nativeQuery = true)
+    List<Object[]> buscarNasConversas(@Param("usuarioId") Long usuarioId,
+                                      @Param("termo") String termo,
+                                      @Param("mentoriaId") long mentoriaId,
+                                      @Param("desde") LocalDateTime desde,
+                                      @Param("ate") LocalDateTime ate,
+                                      @Param("relevancia") float relevancia,
+                                      @Param("id") long id,
+                                      @Param("limite") int limite);
+
+    /**
+     * Busca mentorias concluídas com mensagens na tabela e cujo diálogo ainda não foi arquivado.
+     * @param concluida Descrição do status concluído, como gravada
+     * @param terminadasAntesDe Só considera mentorias que terminaram antes desta data
+     * @param limite Quantidade máxima de mentorias
+     * @return IDs das mentorias
+     */
+    @Query(value = "SELECT m.mentoria_id FROM mentoria m " +
+            "WHERE m.mentoria_status = :concluida " +
+            "AND COALESCE(m.mentoria_data_hora_fim, m.mentoria_data_hora_inicio) < :terminadasAntesDe " +
+            "AND EXISTS (SELECT 1 FROM dialogo_mentoria d WHERE d.mentoria_fk = m.mentoria_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM arquivo_dialogo a WHERE a.mentoria_fk = m.mentoria_id) " +
+            "ORDER BY m.mentoria_id " +
+            "LIMIT :limite",
+            nativeQuery = true)
+    List<Long> findMentoriasParaArquivar(@Param("concluida") String concluida,
+                                         @Param("terminadasAntesDe") LocalDateTime terminadasAntesDe,
+                                         @Param("limite") int limite);
+
+    /**
+     * Busca os campos gravados no arquivo de todas as mensagens de uma mentoria, em ordem de ID.
+     * @param mentoriaId ID da mentoria
+     * @return Linhas com ID, chave, ID do participante, data e mensagem
+     */
+    @Query("SELECT d.id, d.chave, d.participante.id, d.dataHora, d.mensagem FROM DialogoMentoria d " +
+           "WHERE d.mentoria.id = :mentoriaId ORDER BY d.id")
+    List<Object[]> findParaArquivar(@Param("mentoriaId") Long mentoriaId);
+
+    /**
+     * Apaga as mensagens arquivadas de uma mentoria: as de ID até o maior arquivado.
+     * Mensagens enviadas durante o arquivamento têm ID maior e continuam na tabela.
+     * @param mentoriaId ID da mentoria
+     * @param maiorId Maior ID entre as mensagens arquivadas
+     * @return Quantidade de mensagens apagadas
+     */
+    @Modifying
+    @Query("DELETE FROM DialogoMentoria d WHERE d.mentoria.id = :mentoriaId AND d.id <= :maiorId")
+    int deleteArquivadas(@Param("mentoriaId") Long mentoriaId, @Param("maiorId") long maiorId);
 }
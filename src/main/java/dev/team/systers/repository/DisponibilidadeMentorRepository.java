@@ -0,0 +1,45 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.DisponibilidadeMentor;
+
+/**
+ * Repositório para operações de persistência das janelas de disponibilidade dos mentores.
+ */
+@Repository
+public interface DisponibilidadeMentorRepository extends JpaRepository<DisponibilidadeMentor, Long> {
+
+    /**
+     * Busca as janelas que terminam depois da data informada, com o mentor já carregado.
+     * Usado para montar o índice de disponibilidade na inicialização.
+     * @param limite Janelas que terminam até esta data são ignoradas
+     * @return Janelas ainda válidas
+     */
+    @Query("SELECT d FROM DisponibilidadeMentor d JOIN FETCH d.mentor WHERE d.fim > :limite")
+    List<DisponibilidadeMentor> findValidasComMentor(@Param("limite") LocalDateTime limite);
+
+    /**
+     * Busca uma janela com o mentor já carregado.
+     * @param id ID da janela
+     * @return Janela encontrada, se existir
+     */
+    @Query("SELECT d FROM DisponibilidadeMentor d JOIN FETCH d.mentor WHERE d.id = :id")
+    Optional<DisponibilidadeMentor> findComMentorById(@Param("id") Long id);
+
+    /**
+     * Lista as janelas de um mentor, das mais próximas para as mais distantes.
+     * @param mentorId ID do mentor
+     * @param limite Janelas que terminam até esta data são ignoradas
+     * @return Janelas do mentor
+     */
+    @Query("SELECT d FROM DisponibilidadeMentor d WHERE d.mentor.id = :mentorId AND d.fim > :limite ORDER BY d.inicio")
+    List<DisponibilidadeMentor> findValidasDoMentor(@Param("mentorId") Long mentorId, @Param("limite") LocalDateTime limite);
+}
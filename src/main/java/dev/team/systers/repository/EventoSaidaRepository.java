@@ -0,0 +1,88 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.model.EventoSaida;
+import dev.team.systers.model.EventoSaida.StatusEvento;
+
+/**
+ * Repositório para operações de persistência da caixa de saída de eventos de domínio.
+ */
+@Repository
+public interface EventoSaidaRepository extends JpaRepository<EventoSaida, Long> {
+
+    /**
+     * Busca e bloqueia os eventos prontos para entrega.
+     * Só é elegível o evento mais antigo ainda não entregue de cada agregado, o que
+     * garante a ordem por agregado mesmo com vários trabalhadores: o próximo evento
+     * só aparece depois que o anterior for entregue (ou desistido).
+     * Deve ser chamado na mesma transação de {@link #reservar(Collection, LocalDateTime)}.
+     * @param agora Momento atual
+     * @param limite Quantidade máxima de eventos
+     * @return IDs dos eventos bloqueados, mais antigos primeiro
+     */
+    @Query(value = "SELECT e.evento_id FROM evento_saida e " +
+            "WHERE e.evento_status IN ('PENDENTE', 'PROCESSANDO') AND e.evento_disponivel_em <= :agora " +
+            "AND NOT EXISTS (SELECT 1 FROM evento_saida a " +
+            "    WHERE a.evento_agregado = e.evento_agregado AND a.evento_agregado_id = e.evento_agregado_id " +
+            "    AND a.evento_status IN ('PENDENTE', 'PROCESSANDO') AND a.evento_id < e.evento_id) " +
+            "ORDER BY e.evento_id LIMIT :limite FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findDisponiveisParaReserva(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+
+    /**
+     * Reserva os eventos para um trabalhador até o momento informado.
+     * @param ids IDs dos eventos
+     * @param reservadoAte Fim da reserva
+     * @return Quantidade de eventos reservados
+     */
+    @Modifying
+    @Query("UPDATE EventoSaida e SET e.status = dev.team.systers.model.EventoSaida.StatusEvento.PROCESSANDO, " +
+           "e.disponivelEm = :reservadoAte WHERE e.id IN :ids")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("reservadoAte") LocalDateTime reservadoAte);
+
+    /**
+     * Altera o estado de um evento.
+     * @param id ID do evento
+     * @param status Novo estado
+     * @param tentativas Quantidade de tentativas que falharam
+     * @param disponivelEm Momento a partir do qual pode ser entregue novamente
+     * @param ultimoErro Mensagem do último erro, ou null
+     */
+    @Modifying
+    @Query("UPDATE EventoSaida e SET e.status = :status, e.tentativas = :tentativas, " +
+           "e.disponivelEm = :disponivelEm, e.ultimoErro = :ultimoErro WHERE e.id = :id")
+    void atualizarStatus(@Param("id") Long id, @Param("status") StatusEvento status, @Param("tentativas") int tentativas,
+                         @Param("disponivelEm") LocalDateTime disponivelEm, @Param("ultimoErro") String ultimoErro);
+
+    /**
+     * Conta os eventos em um estado.
+     * @param status Estado
+     * @return Quantidade de eventos
+     */
+    long countByStatus(StatusEvento status);
+
+    /**
+     * Apaga um lote de eventos entregues gravados antes da data limite.
+     * @param limite Eventos gravados antes desta data são apagados
+     * @param lote Quantidade máxima de eventos apagados
+     * @return Quantidade de eventos apagados
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM evento_saida WHERE evento_id IN (" +
+            "SELECT evento_id FROM evento_saida " +
+            "WHERE evento_status = 'ENTREGUE' AND evento_criado_em < :limite " +
+            "LIMIT :lote)",
+            nativeQuery = true)
+    int apagarEntreguesAntesDe(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
+}
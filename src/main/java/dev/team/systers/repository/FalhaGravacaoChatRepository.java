@@ -0,0 +1,13 @@
+package dev.team.systers.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.FalhaGravacaoChat;
+
+/**
+ * Repositório para operações de persistência das mensagens de chat que não puderam ser gravadas.
+ */
+@Repository
+public interface FalhaGravacaoChatRepository extends JpaRepository<FalhaGravacaoChat, Long> {
+}
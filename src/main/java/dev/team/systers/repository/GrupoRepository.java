@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.team.systers.model.Grupo;
 
@@ -82,5 +84,25 @@ public interface GrupoRepository extends JpaRepository<Grupo, Long> {
      * @return Lista de grupos ordenada por quantidade de membros (decrescente)
      */
     List<Grupo> findAllByOrderByMembrosDesc();
-}
 
+    /**
+     * Busca apenas a versão de um grupo, sem carregar a entidade.
+     * 
+     * @param grupoId ID do grupo
+     * @return Versão atual (0 se nunca alterada) ou vazio se o grupo não existir
+     */
+    @Query("SELECT COALESCE(g.versao, 0) FROM Grupo g WHERE g.id = :grupoId")
+    Optional<Long> findVersaoById(@Param("grupoId") Long grupoId);
+
+    /**
+     * Incrementa a versão de um grupo.
+     * Feito por SQL direto para não ser sobrescrito pelo estado da entidade em memória.
+     * 
+     * @param grupoId ID do grupo alterado
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE grupo SET grupo_versao = COALESCE(grupo_versao, 0) + 1 WHERE grupo_id = :grupoId",
+            nativeQuery = true)
+    void incrementarVersao(@Param("grupoId") Long grupoId);
+}
@@ -1,9 +1,13 @@
 package dev.team.systers.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dev.team.systers.model.Grupo;
@@ -54,4 +58,39 @@ public interface MembroRepository extends JpaRepository<Membro, Long> {
      * @return Membro encontrado ou null se não existir
      */
     Membro findByUsuarioIdAndGrupoId(Long id, Long grupo);
+
+    /**
+     * Busca um membro específico usando o login do usuário e o ID do grupo.
+     * @param login Login do usuário
+     * @param grupoId ID do grupo
+     * @return Membro encontrado ou null se não existir
+     */
+    Membro findByUsuarioLoginAndGrupoId(String login, Long grupoId);
+
+    /**
+     * Busca e bloqueia o status de acesso dos membros pedidos que pertencem ao grupo.
+     * As linhas são bloqueadas em ordem de ID, para que lotes simultâneos não se travem.
+     * Deve ser chamado na mesma transação de
+     * {@link #alterarStatusAcesso(Long, Collection, Membro.StatusAcesso)}.
+     * @param grupoId ID do grupo
+     * @param ids IDs dos membros
+     * @return Linhas com ID e nome do status de acesso
+     */
+    @Query(value = "SELECT membro_id, membro_status_acesso FROM membro " +
+            "WHERE grupo_id_membro_fk = :grupoId AND membro_id IN (:ids) ORDER BY membro_id FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> findStatusAcessoParaAlterar(@Param("grupoId") Long grupoId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Altera o status de acesso de vários membros do grupo em uma única instrução.
+     * @param grupoId ID do grupo
+     * @param ids IDs dos membros
+     * @param status Novo status de acesso
+     * @return Quantidade de membros alterados
+     */
+    @Modifying
+    @Query("UPDATE Membro m SET m.statusAcesso = :status " +
+           "WHERE m.grupo.id = :grupoId AND m.id IN :ids AND m.statusAcesso <> :status")
+    int alterarStatusAcesso(@Param("grupoId") Long grupoId, @Param("ids") Collection<Long> ids,
+                            @Param("status") Membro.StatusAcesso status);
 }
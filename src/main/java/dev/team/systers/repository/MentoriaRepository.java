@@ -1,12 +1,18 @@
 package dev.team.systers.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
 
 /**
  * Repositório para operações de persistência de Mentoria.
@@ -17,10 +23,87 @@ public interface MentoriaRepository extends JpaRepository<Mentoria, Long> {
 
     /**
      * Busca mentorias por status.
-     * @param status Status da mentoria (ex: Agendada, Em Andamento, Concluída)
+     * @param status Status da mentoria
      * @return Lista de mentorias com o status especificado
      */
-    List<Mentoria> findByStatus(String status);
+    List<Mentoria> findByStatus(StatusMentoria status);
+
+    /**
+     * Busca as mentorias agendadas que começam antes da data informada.
+     * Usa o índice parcial {@code idx_mentoria_agendada_inicio}.
+     * @param ate Data limite do início
+     * @return Mentorias agendadas, em ordem de início
+     */
+    @Query(value = "SELECT * FROM mentoria WHERE mentoria_status = 'Agendada' " +
+            "AND mentoria_data_hora_inicio < :ate ORDER BY mentoria_data_hora_inicio",
+            nativeQuery = true)
+    List<Mentoria> findAgendadasComInicioAte(@Param("ate") LocalDateTime ate);
+
+    /**
+     * Busca as mentorias em andamento que terminam antes da data informada.
+     * Usa o índice parcial {@code idx_mentoria_andamento_fim}.
+     * @param ate Data limite do término
+     * @return Mentorias em andamento, em ordem de término
+     */
+    @Query(value = "SELECT * FROM mentoria WHERE mentoria_status = 'Em Andamento' " +
+            "AND mentoria_data_hora_fim < :ate ORDER BY mentoria_data_hora_fim",
+            nativeQuery = true)
+    List<Mentoria> findEmAndamentoComFimAte(@Param("ate") LocalDateTime ate);
+
+    /**
+     * Busca o ID e o início das mentorias ainda não encerradas que começam depois da data informada.
+     * Retorna só as duas colunas, para carregar muitas mentorias de uma vez.
+     * @param ativos Status das mentorias não encerradas
+     * @param aPartirDe Data de referência
+     * @return Linhas com ID (Long) e início (LocalDateTime)
+     */
+    @Query("SELECT m.id, m.dataHoraInicio FROM Mentoria m WHERE m.status IN :ativos AND m.dataHoraInicio > :aPartirDe")
+    List<Object[]> findInicioDasAtivasApos(@Param("ativos") Collection<StatusMentoria> ativos,
+                                           @Param("aPartirDe") LocalDateTime aPartirDe);
+
+    /**
+     * Bloqueia as mentorias que ainda estão em um dos status de origem.
+     * Mentorias já bloqueadas por outra transação são puladas.
+     * Deve ser chamado na mesma transação de {@link #transicionar(Collection, StatusMentoria)}.
+     * @param ids IDs das mentorias
+     * @param origens Descrições dos status de origem aceitos
+     * @return IDs das mentorias bloqueadas
+     */
+    @Query(value = "SELECT mentoria_id FROM mentoria WHERE mentoria_id IN :ids " +
+            "AND mentoria_status IN :origens FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> travarParaTransicao(@Param("ids") Collection<Long> ids, @Param("origens") Collection<String> origens);
+
+    /**
+     * Altera o status de um lote de mentorias.
+     * @param ids IDs das mentorias
+     * @param status Novo status
+     * @return Quantidade de mentorias alteradas
+     */
+    @Modifying
+    @Query("UPDATE Mentoria m SET m.status = :status WHERE m.id IN :ids")
+    int transicionar(@Param("ids") Collection<Long> ids, @Param("status") StatusMentoria status);
+
+    /**
+     * Cria o índice parcial das mentorias agendadas pelo início.
+     * Índices parciais não podem ser declarados na entidade.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_mentoria_agendada_inicio " +
+            "ON mentoria (mentoria_data_hora_inicio) WHERE mentoria_status = 'Agendada'",
+            nativeQuery = true)
+    void criarIndiceAgendadas();
+
+    /**
+     * Cria o índice parcial das mentorias em andamento pelo término.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_mentoria_andamento_fim " +
+            "ON mentoria (mentoria_data_hora_fim) WHERE mentoria_status = 'Em Andamento'",
+            nativeQuery = true)
+    void criarIndiceEmAndamento();
 
     /**
      * Busca mentorias por nome, ignorando maiúsculas e minúsculas.
@@ -0,0 +1,114 @@
+package dev.team.systers.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JDBC para a distribuição de notificações em lote.
+ * Insere as notificações de um lote de destinatários em um único batch,
+ * sem passar pelo contexto de persistência do JPA.
+ *
+ * <p>Os destinatários devem estar sempre em ordem crescente de ID: assim duas
+ * distribuições simultâneas bloqueiam as linhas de contador na mesma ordem
+ * e não entram em deadlock.</p>
+ */
+@Repository
+public class NotificacaoLoteRepository {
+
+    private static final String INSERIR_NOTIFICACAO =
+            "INSERT INTO notificacao (notificacao_conteudo, notificacao_data_hora, notificacao_status_lida, " +
+            "notificacao_descontada, usuario_id_remetente_fk, usuario_id_destinatario_fk) VALUES (?, ?, false, false, ?, ?)";
+
+    private static final String INCREMENTAR_CONTADOR =
+            "INSERT INTO notificacao_contador (usuario_id, nao_lidas) " +
+            "VALUES (?, (SELECT COUNT(*) FROM notificacao WHERE usuario_id_destinatario_fk = ? AND notificacao_status_lida = false AND notificacao_descontada = false)) " +
+            "ON CONFLICT (usuario_id) DO UPDATE SET nao_lidas = notificacao_contador.nao_lidas + 1";
+
+    private static final String MEMBROS_DO_GRUPO =
+            "SELECT usuario_id_membro_fk FROM membro " +
+            "WHERE grupo_id_membro_fk = ? AND usuario_id_membro_fk > ? AND usuario_id_membro_fk <> ? " +
+            "AND strpos(?, ',' || usuario_id_membro_fk || ',') = 0 " +
+            "AND membro_status_acesso <> 'BANIDO' " +
+            "ORDER BY usuario_id_membro_fk LIMIT ?";
+
+    /**
+     * Template JDBC configurado pelo Spring Boot.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Construtor que inicializa o repositório com as dependências necessárias.
+     * @param jdbcTemplate Template JDBC injetado pelo Spring
+     */
+    @Autowired
+    public NotificacaoLoteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Busca o próximo lote de membros de um grupo, em ordem crescente de ID de usuário.
+     * Membros banidos não recebem notificações do grupo.
+     * @param grupoId ID do grupo
+     * @param aposUsuarioId Último ID de usuário já atendido
+     * @param exceto ID de usuário a excluir (o remetente)
+     * @param excluidos Outros IDs a excluir, no formato {@code ,1,5,}, ou null
+     * @param limite Tamanho do lote
+     * @return IDs dos usuários do lote
+     */
+    public List<Long> buscarMembrosDoGrupo(Long grupoId, long aposUsuarioId, Long exceto, String excluidos, int limite) {
+        return jdbcTemplate.queryForList(MEMBROS_DO_GRUPO, Long.class, grupoId, aposUsuarioId, exceto,
+                excluidos != null ? excluidos : ",", limite);
+    }
+
+    /**
+     * Insere uma notificação para cada destinatário em um único batch.
+     * @param destinatarios IDs dos destinatários, em ordem crescente
+     * @param remetenteId ID do remetente
+     * @param conteudo Texto da notificação
+     * @param dataEnvio Momento do envio
+     * @return IDs das notificações criadas, na mesma ordem dos destinatários
+     */
+    public List<Long> inserir(List<Long> destinatarios, Long remetenteId, String conteudo, LocalDateTime dataEnvio) {
+        Timestamp momento = Timestamp.valueOf(dataEnvio);
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) conexao -> {
+            try (PreparedStatement ps = conexao.prepareStatement(INSERIR_NOTIFICACAO, new String[] {"notificacao_id"})) {
+                for (Long destinatario : destinatarios) {
+                    ps.setString(1, conteudo);
+                    ps.setTimestamp(2, momento);
+                    ps.setLong(3, remetenteId);
+                    ps.setLong(4, destinatario);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(destinatarios.size());
+                try (ResultSet chaves = ps.getGeneratedKeys()) {
+                    while (chaves.next()) {
+                        ids.add(chaves.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * Soma uma notificação não lida ao contador de cada destinatário, em um único batch.
+     * @param destinatarios IDs dos destinatários, em ordem crescente
+     */
+    public void incrementarContadores(List<Long> destinatarios) {
+        jdbcTemplate.batchUpdate(INCREMENTAR_CONTADOR, destinatarios, destinatarios.size(), (ps, usuarioId) -> {
+            ps.setLong(1, usuarioId);
+            ps.setLong(2, usuarioId);
+        });
+    }
+}
@@ -1,9 +1,16 @@
 package dev.team.systers.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.team.systers.model.Notificacao;
 
@@ -20,4 +27,141 @@ public interface NotificacaoRepository extends JpaRepository<Notificacao, Long>
      * @return Lista de notificações do usuário
      */
     List<Notificacao> findNotificacaosByUsuarioNotificacaoDestinatario_Id(Long usuarioId);
+
+    /**
+     * Conta as notificações não lidas de um usuário que ainda estão na caixa de entrada.
+     * Usada apenas enquanto o contador do usuário ainda não existe.
+     * @param usuarioId ID do usuário destinatário
+     * @param desde Data mais antiga exibida na caixa de entrada
+     * @return Quantidade de notificações não lidas desde a data informada
+     */
+    long countByUsuarioNotificacaoDestinatario_IdAndStatusLidaFalseAndDataEnvioGreaterThanEqual(Long usuarioId,
+                                                                                                LocalDateTime desde);
+
+    /**
+     * Busca a primeira página da caixa de entrada de um usuário.
+     * Usa o índice (destinatário, data, id) e já carrega o remetente.
+     * @param usuarioId ID do usuário destinatário
+     * @param desde Data mais antiga considerada
+     * @param pageable Tamanho da página
+     * @return Notificações mais recentes primeiro
+     */
+    @Query("SELECT n FROM Notificacao n JOIN FETCH n.usuarioNotificacaoRemetente " +
+           "WHERE n.usuarioNotificacaoDestinatario.id = :usuarioId AND n.dataEnvio >= :desde " +
+           "ORDER BY n.dataEnvio DESC, n.id DESC")
+    List<Notificacao> findCaixaDeEntrada(@Param("usuarioId") Long usuarioId,
+                                         @Param("desde") LocalDateTime desde,
+                                         Pageable pageable);
+
+    /**
+     * Busca a página seguinte da caixa de entrada a partir da última notificação exibida (keyset).
+     * Não usa OFFSET: o custo é o mesmo em qualquer ponto do histórico.
+     * @param usuarioId ID do usuário destinatário
+     * @param desde Data mais antiga considerada
+     * @param dataEnvio Data de envio da última notificação da página anterior
+     * @param id ID da última notificação da página anterior
+     * @param pageable Tamanho da página
+     * @return Notificações anteriores ao cursor, mais recentes primeiro
+     */
+    @Query("SELECT n FROM Notificacao n JOIN FETCH n.usuarioNotificacaoRemetente " +
+           "WHERE n.usuarioNotificacaoDestinatario.id = :usuarioId AND n.dataEnvio >= :desde " +
+           "AND (n.dataEnvio < :dataEnvio OR (n.dataEnvio = :dataEnvio AND n.id < :id)) " +
+           "ORDER BY n.dataEnvio DESC, n.id DESC")
+    List<Notificacao> findCaixaDeEntradaAntesDe(@Param("usuarioId") Long usuarioId,
+                                                @Param("desde") LocalDateTime desde,
+                                                @Param("dataEnvio") LocalDateTime dataEnvio,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * Busca uma notificação já com o remetente carregado.
+     * @param id ID da notificação
+     * @return Notificação encontrada, se existir
+     */
+    @Query("SELECT n FROM Notificacao n JOIN FETCH n.usuarioNotificacaoRemetente WHERE n.id = :id")
+    Optional<Notificacao> findComRemetenteById(@Param("id") Long id);
+
+    /**
+     * Busca as notificações de um usuário com ID maior que o último recebido,
+     * em ordem crescente de ID. Usada para recuperar o que foi perdido ao reconectar.
+     * @param usuarioId ID do usuário destinatário
+     * @param id ID da última notificação recebida pelo cliente
+     * @param pageable Quantidade máxima de notificações
+     * @return Notificações posteriores ao ID informado
+     */
+    @Query("SELECT n FROM Notificacao n JOIN FETCH n.usuarioNotificacaoRemetente " +
+           "WHERE n.usuarioNotificacaoDestinatario.id = :usuarioId AND n.id > :id " +
+           "ORDER BY n.id ASC")
+    List<Notificacao> findPosterioresA(@Param("usuarioId") Long usuarioId, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Marca uma notificação como lida, se ainda não estiver.
+     * @param id ID da notificação
+     * @return 1 se a notificação passou a lida, 0 se já estava lida ou não existe
+     */
+    @Modifying
+    @Query("UPDATE Notificacao n SET n.statusLida = true WHERE n.id = :id AND n.statusLida = false")
+    int marcarComoLida(@Param("id") Long id);
+
+    /**
+     * Marca uma notificação como lida, se ainda não estiver lida nem descontada do contador.
+     * @param id ID da notificação
+     * @return 1 se a notificação passou a lida e ainda estava no contador, 0 caso contrário
+     */
+    @Modifying
+    @Query("UPDATE Notificacao n SET n.statusLida = true " +
+           "WHERE n.id = :id AND n.statusLida = false AND n.descontada = false")
+    int marcarComoLidaContada(@Param("id") Long id);
+
+    /**
+     * Marca todas as notificações não lidas de um usuário como lidas em um único UPDATE.
+     * @param usuarioId ID do usuário destinatário
+     * @return Quantidade de notificações alteradas
+     */
+    @Modifying
+    @Query("UPDATE Notificacao n SET n.statusLida = true " +
+           "WHERE n.usuarioNotificacaoDestinatario.id = :usuarioId AND n.statusLida = false")
+    int marcarTodasComoLidas(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Desconta do contador de cada destinatário um lote de notificações não lidas anteriores
+     * à data limite, em um único comando. As notificações continuam não lidas; apenas são
+     * marcadas como descontadas, para não serem descontadas de novo nem ao serem lidas.
+     * Notificações que estão sendo lidas ao mesmo tempo são ignoradas, e os contadores
+     * são bloqueados em ordem crescente de usuário, como na distribuição em lote.
+     * @param limite Notificações enviadas antes desta data são descontadas
+     * @param lote Quantidade máxima de notificações descontadas
+     * @return Quantidade de notificações descontadas
+     */
+    @Transactional
+    @Query(value = "WITH vencidas AS (SELECT notificacao_id, usuario_id_destinatario_fk AS usuario_id FROM notificacao " +
+            "WHERE notificacao_data_hora < :limite AND notificacao_status_lida = false AND notificacao_descontada = false " +
+            "ORDER BY notificacao_data_hora LIMIT :lote FOR UPDATE SKIP LOCKED), " +
+            "marcadas AS (UPDATE notificacao n SET notificacao_descontada = true FROM vencidas v " +
+            "WHERE n.notificacao_id = v.notificacao_id RETURNING v.usuario_id), " +
+            "por_usuario AS (SELECT usuario_id, COUNT(*) AS quantidade FROM marcadas GROUP BY usuario_id), " +
+            "bloqueados AS (SELECT usuario_id FROM notificacao_contador " +
+            "WHERE usuario_id IN (SELECT usuario_id FROM por_usuario) ORDER BY usuario_id FOR UPDATE), " +
+            "descontados AS (UPDATE notificacao_contador c SET nao_lidas = GREATEST(c.nao_lidas - p.quantidade, 0) " +
+            "FROM por_usuario p JOIN bloqueados b ON b.usuario_id = p.usuario_id " +
+            "WHERE c.usuario_id = p.usuario_id RETURNING c.usuario_id) " +
+            "SELECT COUNT(*) FROM marcadas",
+            nativeQuery = true)
+    long descontarNaoLidasAntesDe(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
+
+    /**
+     * Apaga um lote de notificações lidas anteriores à data limite.
+     * Cada chamada é uma transação curta, para não segurar bloqueios durante toda a limpeza.
+     * @param limite Notificações enviadas antes desta data são apagadas
+     * @param lote Quantidade máxima de notificações apagadas
+     * @return Quantidade de notificações apagadas
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notificacao WHERE notificacao_id IN (" +
+            "SELECT notificacao_id FROM notificacao " +
+            "WHERE notificacao_data_hora < :limite AND notificacao_status_lida = true " +
+            "LIMIT :lote)",
+            nativeQuery = true)
+    int apagarLidasAntesDe(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
 }
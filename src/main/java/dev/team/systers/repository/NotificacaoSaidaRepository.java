@@ -0,0 +1,102 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.model.NotificacaoSaida;
+import dev.team.systers.model.NotificacaoSaida.StatusSaida;
+
+/**
+ * Repositório para operações de persistência da caixa de saída de notificações.
+ * As entradas são reservadas pelos trabalhadores de distribuição com
+ * {@code FOR UPDATE SKIP LOCKED}, de modo que várias instâncias da aplicação
+ * podem distribuir ao mesmo tempo sem processar a mesma entrada.
+ */
+@Repository
+public interface NotificacaoSaidaRepository extends JpaRepository<NotificacaoSaida, Long> {
+
+    /**
+     * Busca e bloqueia as entradas prontas para processamento: pendentes cuja espera
+     * terminou ou em processamento cuja reserva expirou (trabalhador que caiu).
+     * Linhas já bloqueadas por outra transação são ignoradas.
+     * Deve ser chamado na mesma transação de {@link #reservar(Collection, LocalDateTime)}.
+     * @param agora Momento atual
+     * @param limite Quantidade máxima de entradas
+     * @return IDs das entradas bloqueadas, mais antigas primeiro
+     */
+    @Query(value = "SELECT saida_id FROM notificacao_saida " +
+            "WHERE saida_status IN ('PENDENTE', 'PROCESSANDO') AND saida_disponivel_em <= :agora " +
+            "ORDER BY saida_id LIMIT :limite FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findDisponiveisParaReserva(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+
+    /**
+     * Reserva as entradas para um trabalhador até o momento informado.
+     * @param ids IDs das entradas
+     * @param reservadaAte Fim da reserva
+     * @return Quantidade de entradas reservadas
+     */
+    @Modifying
+    @Query("UPDATE NotificacaoSaida s SET s.status = dev.team.systers.model.NotificacaoSaida.StatusSaida.PROCESSANDO, " +
+           "s.disponivelEm = :reservadaAte WHERE s.id IN :ids")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("reservadaAte") LocalDateTime reservadaAte);
+
+    /**
+     * Registra um lote entregue e renova a reserva.
+     * Deve ser chamado na mesma transação que inseriu as notificações do lote,
+     * para que uma nova tentativa continue exatamente do ponto em que parou.
+     * @param id ID da entrada
+     * @param cursor ID do último destinatário do lote
+     * @param quantidade Quantidade de notificações entregues no lote
+     * @param reservadaAte Novo fim da reserva
+     */
+    @Modifying
+    @Query("UPDATE NotificacaoSaida s SET s.cursor = :cursor, s.entregues = s.entregues + :quantidade, " +
+           "s.disponivelEm = :reservadaAte WHERE s.id = :id")
+    void avancar(@Param("id") Long id, @Param("cursor") long cursor, @Param("quantidade") long quantidade,
+                 @Param("reservadaAte") LocalDateTime reservadaAte);
+
+    /**
+     * Altera o estado de uma entrada.
+     * @param id ID da entrada
+     * @param status Novo estado
+     * @param tentativas Quantidade de tentativas que falharam
+     * @param disponivelEm Momento a partir do qual pode ser processada novamente
+     * @param ultimoErro Mensagem do último erro, ou null
+     */
+    @Modifying
+    @Query("UPDATE NotificacaoSaida s SET s.status = :status, s.tentativas = :tentativas, " +
+           "s.disponivelEm = :disponivelEm, s.ultimoErro = :ultimoErro WHERE s.id = :id")
+    void atualizarStatus(@Param("id") Long id, @Param("status") StatusSaida status, @Param("tentativas") int tentativas,
+                         @Param("disponivelEm") LocalDateTime disponivelEm, @Param("ultimoErro") String ultimoErro);
+
+    /**
+     * Conta as entradas em um estado.
+     * @param status Estado
+     * @return Quantidade de entradas
+     */
+    long countByStatus(StatusSaida status);
+
+    /**
+     * Apaga um lote de entradas concluídas criadas antes da data limite.
+     * @param limite Entradas criadas antes desta data são apagadas
+     * @param lote Quantidade máxima de entradas apagadas
+     * @return Quantidade de entradas apagadas
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notificacao_saida WHERE saida_id IN (" +
+            "SELECT saida_id FROM notificacao_saida " +
+            "WHERE saida_status = 'CONCLUIDA' AND saida_criada_em < :limite " +
+            "LIMIT :lote)",
+            nativeQuery = true)
+    int apagarConcluidasAntesDe(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
+}
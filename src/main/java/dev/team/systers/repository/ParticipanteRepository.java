@@ -1,11 +1,16 @@
 package dev.team.systers.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
 import dev.team.systers.model.Participante;
 import dev.team.systers.model.Usuario;
 
@@ -31,6 +36,14 @@ public interface ParticipanteRepository extends JpaRepository<Participante, Long
      */
     List<Participante> findByUsuarioIdAndTipo(Long usuario_id, Participante.TipoParticipante tipo);
 
+    /**
+     * Busca os participantes de uma mentoria com um tipo específico.
+     * @param mentoriaId ID da mentoria
+     * @param tipo Tipo de participante (MENTOR ou MENTORADO)
+     * @return Lista de participantes encontrados
+     */
+    List<Participante> findByMentoriaIdAndTipo(Long mentoriaId, Participante.TipoParticipante tipo);
+
     /**
      * Busca participação específica de um usuário em uma mentoria.
      * @param usuario Usuário participante
@@ -38,4 +51,84 @@ public interface ParticipanteRepository extends JpaRepository<Participante, Long
      * @return Participação encontrada ou null se não existir
      */
     Participante findParticipanteByUsuarioAndMentoria(Usuario usuario, Mentoria mentoria);
-}
\ No newline at end of file
+
+    /**
+     * Busca os participantes das mentorias ainda abertas que começam depois da data
+     * informada, com mentoria e usuário já carregados.
+     * Usado para montar as agendas em memória na inicialização.
+     * @param limite Mentorias que começam até esta data são ignoradas
+     * @param encerrados Status de mentorias encerradas
+     * @return Participações em mentorias abertas
+     */
+    @Query("SELECT p FROM Participante p JOIN FETCH p.mentoria m JOIN FETCH p.usuario " +
+           "WHERE m.dataHoraInicio > :limite AND (m.status IS NULL OR m.status NOT IN :encerrados)")
+    List<Participante> findAbertosComMentoria(@Param("limite") LocalDateTime limite,
+                                              @Param("encerrados") Collection<StatusMentoria> encerrados);
+
+    /**
+     * Busca os participantes de uma mentoria, com mentoria e usuário já carregados.
+     * @param mentoriaId ID da mentoria
+     * @return Participantes da mentoria
+     */
+    @Query("SELECT p FROM Participante p JOIN FETCH p.mentoria JOIN FETCH p.usuario WHERE p.mentoria.id = :mentoriaId")
+    List<Participante> findByMentoriaIdComUsuario(@Param("mentoriaId") Long mentoriaId);
+
+    /**
+     * Busca os participantes de várias mentorias, com mentoria e usuário já carregados.
+     * @param mentoriaIds IDs das mentorias
+     * @return Participantes das mentorias
+     */
+    @Query("SELECT p FROM Participante p JOIN FETCH p.mentoria JOIN FETCH p.usuario WHERE p.mentoria.id IN :mentoriaIds")
+    List<Participante> findByMentoriaIdsComUsuario(@Param("mentoriaIds") Collection<Long> mentoriaIds);
+
+    /**
+     * Busca uma página das mentorias do usuário, com os demais participantes e a situação
+     * da avaliação, em uma única consulta.
+     * As mentorias ativas vêm primeiro, da que começa antes para a que começa depois, e as
+     * encerradas em seguida, da mais recente para a mais antiga. Para isso cada mentoria
+     * tem um grupo (0 ativa, 1 encerrada) e uma ordem (o início em segundos, negativo nas
+     * encerradas), e a paginação é por cursor (grupo, ordem, id).
+     * Cada linha é um par mentoria e outro participante; mentorias sem outros participantes
+     * vêm em uma linha com as colunas do participante nulas.
+     *
+     * @param usuarioId ID do usuário
+     * @param tipo Papel do usuário nas mentorias (MENTOR ou MENTORADO)
+     * @param encerradas Descrições dos status encerrados, como gravadas
+     * @param grupo Grupo da última mentoria da página anterior
+     * @param ordem Ordem da última mentoria da página anterior
+     * @param id ID da última mentoria da página anterior
+     * @param limite Quantidade de mentorias
+     * @return Linhas com ID, nome, início, fim e status da mentoria, papel do usuário, grupo,
+     *         ordem, nome, login e papel do outro participante, se o usuário já avaliou e a nota
+     */
+    @Query(value = "WITH minhas AS (" +
+            "SELECT * FROM (SELECT m.mentoria_id, m.mentoria_nome, m.mentoria_data_hora_inicio, " +
+            "m.mentoria_data_hora_fim, m.mentoria_status, eu.participante_id, eu.participante_tipo, " +
+            "CASE WHEN m.mentoria_status IN (:encerradas) THEN 1 ELSE 0 END AS grupo, " +
+            "CASE WHEN m.mentoria_status IN (:encerradas) THEN -1 ELSE 1 END " +
+            "* CAST(coalesce(extract(epoch FROM m.mentoria_data_hora_inicio), 0) AS bigint) AS ordem " +
+            "FROM participante eu JOIN mentoria m ON m.mentoria_id = eu.mentoria_fk " +
+            "WHERE eu.usuario_fk = :usuarioId AND eu.participante_tipo = :tipo) x " +
+            "WHERE (x.grupo, x.ordem, x.mentoria_id) > (:grupo, :ordem, :id) " +
+            "ORDER BY x.grupo, x.ordem, x.mentoria_id " +
+            "LIMIT :limite) " +
+            "SELECT mi.mentoria_id, mi.mentoria_nome, mi.mentoria_data_hora_inicio, mi.mentoria_data_hora_fim, " +
+            "mi.mentoria_status, mi.participante_tipo, mi.grupo, mi.ordem, " +
+            "o.participante_nome, u.usuario_login, o.participante_tipo, " +
+            "EXISTS (SELECT 1 FROM avaliacao a WHERE a.mentoria_avaliada_fk = mi.mentoria_id " +
+            "AND a.usuario_mentee_avaliador_fk = :usuarioId), " +
+            "(SELECT a.avaliacao_mentoria FROM avaliacao a WHERE a.mentoria_avaliada_fk = mi.mentoria_id " +
+            "ORDER BY a.avaliacao_id LIMIT 1) " +
+            "FROM minhas mi " +
+            "LEFT JOIN participante o ON o.mentoria_fk = mi.mentoria_id AND o.participante_id <> mi.participante_id " +
+            "LEFT JOIN usuario u ON u.usuario_id = o.usuario_fk " +
+            "ORDER BY mi.grupo, mi.ordem, mi.mentoria_id, o.participante_id",
+            nativeQuery = true)
+    List<Object[]> findMinhasMentorias(@Param("usuarioId") Long usuarioId,
+                                       @Param("tipo") String tipo,
+                                       @Param("encerradas") Collection<String> encerradas,
+                                       @Param("grupo") int grupo,
+                                       @Param("ordem") long ordem,
+                                       @Param("id") long id,
+                                       @Param("limite") int limite);
+}
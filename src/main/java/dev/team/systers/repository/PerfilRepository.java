@@ -1,7 +1,14 @@
 package dev.team.systers.repository;
 
+import java.util.Collection;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import dev.team.systers.model.Perfil;
 
@@ -18,4 +25,40 @@ public interface PerfilRepository extends JpaRepository<Perfil, Long> {
      * @return Perfil encontrado ou null se não existir
      */
     Perfil findPerfilByUsuarioPerfil_Id(Long usuarioPerfilId);
+
+    /**
+     * Busca o perfil de um usuário pelo login.
+     * @param login Login do usuário
+     * @return Perfil encontrado ou null se não existir
+     */
+    Perfil findPerfilByUsuarioPerfil_Login(String login);
+
+    /**
+     * Busca apenas a versão do perfil de um usuário, sem carregar a entidade.
+     * @param login Login do usuário
+     * @return Versão atual (0 se nunca alterada) ou vazio se o perfil não existir
+     */
+    @Query("SELECT COALESCE(p.versao, 0) FROM Perfil p WHERE p.usuarioPerfil.login = :login")
+    Optional<Long> findVersaoByLogin(@Param("login") String login);
+
+    /**
+     * Incrementa a versão do perfil de um usuário.
+     * Feito por SQL direto para não ser sobrescrito pelo estado da entidade em memória.
+     * @param usuarioId ID do usuário alterado
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE perfil SET perfil_versao = COALESCE(perfil_versao, 0) + 1 WHERE usuario_id_perfil_fk = :usuarioId",
+            nativeQuery = true)
+    void incrementarVersaoPorUsuario(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Incrementa a versão dos perfis de vários usuários em uma única instrução.
+     * @param usuarioIds IDs dos usuários alterados
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE perfil SET perfil_versao = COALESCE(perfil_versao, 0) + 1 WHERE usuario_id_perfil_fk IN (:usuarioIds)",
+            nativeQuery = true)
+    void incrementarVersaoPorUsuarios(@Param("usuarioIds") Collection<Long> usuarioIds);
 }
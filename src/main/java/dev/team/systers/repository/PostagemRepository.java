@@ -2,8 +2,11 @@ package dev.team.systers.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +43,32 @@ public interface PostagemRepository extends JpaRepository<Postagem, Long> {
      */
     List<Postagem> findByGrupoOrderByDataCriacaoDesc(Grupo grupo);
 
+    /**
+     * Busca as postagens de um grupo já com autores e comentários carregados.
+     * Utiliza FETCH JOIN para que a página do grupo possa ser montada
+     * sem consultas adicionais por postagem ou comentário.
+     * @param grupoId ID do grupo
+     * @return Lista de postagens ordenada por data (mais recentes primeiro)
+     */
+    @Query("SELECT DISTINCT p FROM Postagem p " +
+           "JOIN FETCH p.autor a JOIN FETCH a.usuario " +
+           "LEFT JOIN FETCH p.comentarios c LEFT JOIN FETCH c.autor ca LEFT JOIN FETCH ca.usuario " +
+           "WHERE p.grupo.id = :grupoId " +
+           "ORDER BY p.dataCriacao DESC")
+    List<Postagem> findByGrupoIdComComentarios(@Param("grupoId") Long grupoId);
+
+    /**
+     * Busca as postagens mais recentes dos grupos de um usuário em uma única consulta.
+     * @param login Login do usuário membro dos grupos
+     * @param pageable Limite de postagens a retornar
+     * @return Lista de postagens ordenada por data (mais recentes primeiro)
+     */
+    @Query("SELECT p FROM Postagem p " +
+           "JOIN FETCH p.autor a JOIN FETCH a.usuario JOIN FETCH p.grupo " +
+           "WHERE p.grupo.id IN (SELECT m.grupo.id FROM Membro m WHERE m.usuario.login = :login) " +
+           "ORDER BY p.dataCriacao DESC")
+    List<Postagem> findRecentesDosGruposDoUsuario(@Param("login") String login, Pageable pageable);
+
     /**
      * Exclui todas as postagens de um membro específico.
      * @param autor Membro autor das postagens a serem excluídas
@@ -47,4 +76,15 @@ public interface PostagemRepository extends JpaRepository<Postagem, Long> {
     @Modifying
     @Transactional
     void deleteByAutor(Membro autor);
+
+    /**
+     * Incrementa a versão de uma postagem.
+     * Feito por SQL direto para não ser sobrescrito pelo estado da entidade em memória.
+     * @param postagemId ID da postagem alterada
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE postagem SET postagem_versao = COALESCE(postagem_versao, 0) + 1 WHERE id = :postagemId",
+            nativeQuery = true)
+    void incrementarVersao(@Param("postagemId") Long postagemId);
 }
@@ -0,0 +1,23 @@
+package dev.team.systers.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.RegistroModeracao;
+
+/**
+ * Repositório para operações de persistência dos registros de auditoria da moderação.
+ */
+@Repository
+public interface RegistroModeracaoRepository extends JpaRepository<RegistroModeracao, Long> {
+
+    /**
+     * Busca os registros mais recentes.
+     * @param pagina Quantidade de registros
+     * @return Registros, mais recentes primeiro
+     */
+    List<RegistroModeracao> findAllByOrderByIdDesc(Pageable pagina);
+}
@@ -0,0 +1,130 @@
+package dev.team.systers.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.team.systers.model.SerieDenuncias;
+
+/**
+ * Repositório para operações de persistência das séries temporais de denúncias.
+ */
+@Repository
+public interface SerieDenunciasRepository extends JpaRepository<SerieDenuncias, Long> {
+
+    /**
+     * Soma valores ao intervalo, criando-o se ainda não existir.
+     * A atualização é atômica no banco, então alterações simultâneas não se perdem.
+     * @param granularidade Nome da granularidade
+     * @param inicio Início do intervalo
+     * @param categoria Categoria das denúncias
+     * @param registradas Denúncias registradas somadas
+     * @param resolvidas Denúncias resolvidas somadas
+     * @param resolucaoSomaSeg Tempo de resolução somado, em segundos
+     * @param resolucaoMaxSeg Maior tempo de resolução entre as somadas, em segundos
+     */
+    @Modifying
+    @Query(value = "INSERT INTO serie_denuncias (serie_granularidade, serie_inicio, serie_categoria, serie_registradas, " +
+            "serie_resolvidas, serie_resolucao_soma_seg, serie_resolucao_max_seg) " +
+            "VALUES (:granularidade, :inicio, :categoria, :registradas, :resolvidas, :resolucaoSomaSeg, :resolucaoMaxSeg) " +
+            "ON CONFLICT (serie_granularidade, serie_inicio, serie_categoria) DO UPDATE SET " +
+            "serie_registradas = serie_denuncias.serie_registradas + EXCLUDED.serie_registradas, " +
+            "serie_resolvidas = serie_denuncias.serie_resolvidas + EXCLUDED.serie_resolvidas, " +
+            "serie_resolucao_soma_seg = serie_denuncias.serie_resolucao_soma_seg + EXCLUDED.serie_resolucao_soma_seg, " +
+            "serie_resolucao_max_seg = GREATEST(serie_denuncias.serie_resolucao_max_seg, EXCLUDED.serie_resolucao_max_seg)",
+            nativeQuery = true)
+    void somar(@Param("granularidade") String granularidade, @Param("inicio") LocalDateTime inicio,
+               @Param("categoria") String categoria, @Param("registradas") long registradas,
+               @Param("resolvidas") long resolvidas, @Param("resolucaoSomaSeg") long resolucaoSomaSeg,
+               @Param("resolucaoMaxSeg") long resolucaoMaxSeg);
+
+    /**
+     * Busca os totais de todas as categorias por intervalo em um período.
+     * @param granularidade Nome da granularidade
+     * @param inicio Início do período, inclusivo
+     * @param fim Fim do período, exclusivo
+     * @return Linhas com início do intervalo, registradas, resolvidas, soma e máximo do
+     *         tempo de resolução, em ordem cronológica
+     */
+    @Query(value = "SELECT serie_inicio, SUM(serie_registradas), SUM(serie_resolvidas), " +
+            "SUM(serie_resolucao_soma_seg), MAX(serie_resolucao_max_seg) FROM serie_denuncias " +
+            "WHERE serie_granularidade = :granularidade AND serie_inicio >= :inicio AND serie_inicio < :fim " +
+            "GROUP BY serie_inicio ORDER BY serie_inicio",
+            nativeQuery = true)
+    List<Object[]> findTotais(@Param("granularidade") String granularidade, @Param("inicio") LocalDateTime inicio,
+                              @Param("fim") LocalDateTime fim);
+
+    /**
+     * Busca os totais de cada categoria por intervalo em um período.
+     * @param granularidade Nome da granularidade
+     * @param inicio Início do período, inclusivo
+     * @param fim Fim do período, exclusivo
+     * @return Linhas com início do intervalo, categoria, registradas, resolvidas, soma e
+     *         máximo do tempo de resolução, em ordem cronológica e de categoria
+     */
+    @Query(value = "SELECT serie_inicio, serie_categoria, serie_registradas, serie_resolvidas, " +
+            "serie_resolucao_soma_seg, serie_resolucao_max_seg FROM serie_denuncias " +
+            "WHERE serie_granularidade = :granularidade AND serie_inicio >= :inicio AND serie_inicio < :fim " +
+            "ORDER BY serie_inicio, serie_categoria",
+            nativeQuery = true)
+    List<Object[]> findPorCategoria(@Param("granularidade") String granularidade, @Param("inicio") LocalDateTime inicio,
+                                    @Param("fim") LocalDateTime fim);
+
+    /**
+     * Trava a tabela das séries até o fim da transação. Transações que gravam denúncias
+     * esperam na soma aos intervalos; as que já somaram são esperadas antes de travar.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE serie_denuncias IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void travar();
+
+    /**
+     * Soma as denúncias registradas nos intervalos de uma granularidade.
+     * @param granularidade Nome da granularidade
+     * @return Total de denúncias registradas na série
+     */
+    @Query(value = "SELECT COALESCE(SUM(serie_registradas), 0) FROM serie_denuncias WHERE serie_granularidade = :granularidade",
+            nativeQuery = true)
+    long somarRegistradas(@Param("granularidade") String granularidade);
+
+    /**
+     * Conta as denúncias gravadas.
+     * @return Quantidade de denúncias
+     */
+    @Query(value = "SELECT COUNT(*) FROM denuncia", nativeQuery = true)
+    long contarDenuncias();
+
+    /**
+     * Apaga todos os intervalos, antes de reconstruí-los.
+     * @return Quantidade de intervalos apagados
+     */
+    @Modifying
+    @Query("DELETE FROM SerieDenuncias s")
+    int apagarTodos();
+
+    /**
+     * Cria os intervalos de uma granularidade a partir das denúncias já gravadas.
+     * Deve ser chamado com a tabela travada e sem intervalos dessa granularidade.
+     * @param granularidade Nome da granularidade
+     * @param unidade Unidade da função {@code date_trunc}
+     * @return Quantidade de intervalos criados
+     */
+    @Modifying
+    @Query(value = "INSERT INTO serie_denuncias (serie_granularidade, serie_inicio, serie_categoria, serie_registradas, " +
+            "serie_resolvidas, serie_resolucao_soma_seg, serie_resolucao_max_seg) " +
+            "SELECT :granularidade, b.inicio, b.categoria, SUM(b.registradas), SUM(b.resolvidas), SUM(b.segundos), MAX(b.segundos) " +
+            "FROM (SELECT date_trunc(:unidade, d.denuncia_data_hora) AS inicio, left(d.denuncia_categoria, 100) AS categoria, " +
+            "1 AS registradas, 0 AS resolvidas, 0 AS segundos FROM denuncia d " +
+            "UNION ALL " +
+            "SELECT date_trunc(:unidade, d.denuncia_resolvida_em), left(d.denuncia_categoria, 100), 0, 1, " +
+            "GREATEST(CAST(EXTRACT(EPOCH FROM (d.denuncia_resolvida_em - d.denuncia_data_hora)) AS BIGINT), 0) " +
+            "FROM denuncia d WHERE d.denuncia_resolvida_em IS NOT NULL) b " +
+            "GROUP BY b.inicio, b.categoria",
+            nativeQuery = true)
+    int reconstruir(@Param("granularidade") String granularidade, @Param("unidade") String unidade);
+}
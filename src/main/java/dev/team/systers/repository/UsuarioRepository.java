@@ -1,9 +1,11 @@
 package dev.team.systers.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -39,6 +41,28 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
      */
     Optional<Usuario> findByLogin(String login);
 
+    /**
+     * Busca e bloqueia o status da conta dos usuários pedidos.
+     * As linhas são bloqueadas em ordem de ID, para que lotes simultâneos não se travem.
+     * Deve ser chamado na mesma transação de {@link #alterarStatusConta(Collection, Usuario.StatusConta)}.
+     * @param ids IDs dos usuários
+     * @return Linhas com ID e nome do status da conta
+     */
+    @Query(value = "SELECT usuario_id, usuario_status_conta FROM usuario WHERE usuario_id IN (:ids) " +
+            "ORDER BY usuario_id FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> findStatusContaParaAlterar(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Altera o status da conta de vários usuários em uma única instrução.
+     * @param ids IDs dos usuários
+     * @param status Novo status
+     * @return Quantidade de usuários alterados
+     */
+    @Modifying
+    @Query("UPDATE Usuario u SET u.statusConta = :status WHERE u.id IN :ids AND u.statusConta <> :status")
+    int alterarStatusConta(@Param("ids") Collection<Long> ids, @Param("status") Usuario.StatusConta status);
+
     /**
      * Busca usuários que possuem denúncias pendentes.
      * Utiliza FETCH JOIN para otimizar o carregamento das denúncias.
@@ -0,0 +1,366 @@
+package dev.team.systers.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.team.systers.dto.AgendaAlterada;
+import dev.team.systers.dto.SessaoAgendada;
+import dev.team.systers.exception.MentoriaException;
+import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import dev.team.systers.model.Participante;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.tools.ArvoreIntervalos;
+
+/**
+ * Serviço responsável pelas agendas dos participantes de mentorias.
+ *
+ * <p>Cada usuário com sessões abertas tem uma {@link ArvoreIntervalos} em memória
+ * com os horários das suas mentorias, o que permite recusar uma sessão sobreposta
+ * em O(log n) sem consultar o banco e sugerir os próximos horários livres em comum
+ * entre mentor e mentorado. As agendas são carregadas na inicialização e atualizadas
+ * após cada inclusão de participante ou alteração de horário.</p>
+ *
+ * <p>A verificação é feita antes do commit, com a agenda já confirmada; duas marcações
+ * simultâneas para o mesmo horário ainda podem passar, e o índice fica consistente
+ * com o banco assim que ambas são confirmadas.</p>
+ */
+@Service
+public class AgendaMentoriaService {
+
+    /**
+     * Formato dos horários nas mensagens de conflito.
+     */
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    /**
+     * Repositório para acesso aos dados de participantes.
+     */
+    private final ParticipanteRepository participanteRepository;
+
+    /**
+     * Duração assumida para mentorias sem horário de término.
+     */
+    private final Duration duracaoPadrao;
+
+    /**
+     * Até quando, a partir do horário pedido, se procuram horários livres.
+     */
+    private final Duration horizonte;
+
+    /**
+     * Agenda de cada usuário, por ID do usuário.
+     */
+    private final Map<Long, ArvoreIntervalos<SessaoAgendada>> agendas = new HashMap<>();
+
+    /**
+     * Sessões indexadas e seus participantes, por ID da mentoria, para remoção.
+     */
+    private final Map<Long, SessaoAgendada> sessoes = new HashMap<>();
+    private final Map<Long, Set<Long>> participantes = new HashMap<>();
+
+    /**
+     * Protege as agendas: verificações em paralelo, alterações exclusivas.
+     */
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Quantidade de verificações e de conflitos encontrados.
+     */
+    private final LongAdder verificacoes = new LongAdder();
+    private final LongAdder conflitos = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param participanteRepository Repositório de participantes injetado pelo Spring
+     * @param duracaoPadraoMin Duração assumida para mentorias sem término, em minutos
+     * @param horizonteDias Quantos dias à frente se procuram horários livres
+     */
+    @Autowired
+    public AgendaMentoriaService(ParticipanteRepository participanteRepository,
+                                 @Value("${systers.agenda.duracao-padrao-min:60}") long duracaoPadraoMin,
+                                 @Value("${systers.agenda.horizonte-dias:30}") long horizonteDias) {
+        this.participanteRepository = participanteRepository;
+        this.duracaoPadrao = Duration.ofMinutes(duracaoPadraoMin);
+        this.horizonte = Duration.ofDays(horizonteDias);
+    }
+
+    /**
+     * Garante que nenhum dos usuários tem outra sessão no período.
+     *
+     * @param usuarioIds IDs dos usuários envolvidos
+     * @param inicio Início do período
+     * @param fim Fim do período, ou null para a duração padrão
+     * @param mentoriaIgnorada ID da mentoria sendo alterada, que não conflita consigo mesma, ou null
+     * @throws MentoriaException se houver conflito, com os próximos horários livres em comum
+     */
+    public void verificarDisponibilidade(Collection<Long> usuarioIds, LocalDateTime inicio, LocalDateTime fim, Long mentoriaIgnorada) {
+        if (inicio == null) {
+            return;
+        }
+        LocalDateTime fimEfetivo = fimOuPadrao(inicio, fim);
+        if (!fimEfetivo.isAfter(inicio)) {
+            throw new MentoriaException("O fim da mentoria deve ser posterior ao início.");
+        }
+        SessaoAgendada conflito = buscarConflito(usuarioIds, inicio, fimEfetivo, mentoriaIgnorada);
+        if (conflito == null) {
+            return;
+        }
+        List<LocalDateTime> livres = sugerirHorarios(usuarioIds, inicio, Duration.between(inicio, fimEfetivo), 3, mentoriaIgnorada);
+        throw new MentoriaException("Conflito de agenda com a mentoria \"" + conflito.nome() + "\" ("
+                + conflito.inicio().format(FORMATO) + " a " + conflito.fim().format(FORMATO) + ")."
+                + (livres.isEmpty() ? "" : " Horários livres: "
+                        + livres.stream().map(horario -> horario.format(FORMATO)).collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * Procura uma sessão de algum dos usuários que se sobreponha ao período.
+     *
+     * @param usuarioIds IDs dos usuários envolvidos
+     * @param inicio Início do período
+     * @param fim Fim do período
+     * @param mentoriaIgnorada ID da mentoria que não deve ser considerada, ou null
+     * @return Sessão conflitante, ou null se todos estiverem livres
+     */
+    public SessaoAgendada buscarConflito(Collection<Long> usuarioIds, LocalDateTime inicio, LocalDateTime fim, Long mentoriaIgnorada) {
+        long inicioMs = emMs(inicio);
+        long fimMs = emMs(fim);
+        verificacoes.increment();
+        trava.readLock().lock();
+        try {
+            for (Long usuarioId : usuarioIds) {
+                ArvoreIntervalos<SessaoAgendada> agenda = agendas.get(usuarioId);
+                if (agenda == null) {
+                    continue;
+                }
+                SessaoAgendada sessao = agenda.algumSobreposto(inicioMs, fimMs);
+                if (sessao != null && sessao.mentoriaId().equals(mentoriaIgnorada)) {
+                    // A própria mentoria: procura outra entre as sobrepostas.
+                    sessao = agenda.sobrepostos(inicioMs, fimMs).stream()
+                            .filter(outra -> !outra.mentoriaId().equals(mentoriaIgnorada))
+                            .findFirst().orElse(null);
+                }
+                if (sessao != null) {
+                    conflitos.increment();
+                    return sessao;
+                }
+            }
+            return null;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugere os próximos horários em que todos os usuários estão livres pela duração pedida.
+     *
+     * @param usuarioIds IDs dos usuários envolvidos
+     * @param aPartirDe Horário desejado; só são sugeridos horários a partir dele
+     * @param duracao Duração da sessão
+     * @param quantidade Quantidade máxima de sugestões
+     * @param mentoriaIgnorada ID da mentoria que não deve ser considerada, ou null
+     * @return Horários de início livres, do mais próximo para o mais distante
+     */
+    public List<LocalDateTime> sugerirHorarios(Collection<Long> usuarioIds, LocalDateTime aPartirDe, Duration duracao,
+                                               int quantidade, Long mentoriaIgnorada) {
+        LocalDateTime agora = LocalDateTime.now();
+        long cursor = emMs(aPartirDe.isBefore(agora) ? agora : aPartirDe);
+        long limite = cursor + horizonte.toMillis();
+        long duracaoMs = duracao.toMillis();
+
+        List<SessaoAgendada> ocupadas = new ArrayList<>();
+        trava.readLock().lock();
+        try {
+            for (Long usuarioId : new HashSet<>(usuarioIds)) {
+                ArvoreIntervalos<SessaoAgendada> agenda = agendas.get(usuarioId);
+                if (agenda != null) {
+                    ocupadas.addAll(agenda.sobrepostos(cursor, limite));
+                }
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+        ocupadas.sort(Comparator.comparingLong(SessaoAgendada::inicioMs));
+
+        List<LocalDateTime> livres = new ArrayList<>();
+        for (SessaoAgendada ocupada : ocupadas) {
+            if (livres.size() >= quantidade) {
+                return livres;
+            }
+            if (ocupada.mentoriaId().equals(mentoriaIgnorada)) {
+                continue;
+            }
+            if (ocupada.inicioMs() - cursor >= duracaoMs) {
+                livres.add(deMs(cursor));
+            }
+            cursor = Math.max(cursor, ocupada.fimMs());
+        }
+        if (livres.size() < quantidade && limite - cursor >= duracaoMs) {
+            livres.add(deMs(cursor));
+        }
+        return livres;
+    }
+
+    /**
+     * Monta as agendas com as mentorias abertas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        List<Participante> abertos = participanteRepository.findAbertosComMentoria(LocalDateTime.now().minusDays(1),
+                EnumSet.of(StatusMentoria.CONCLUIDA, StatusMentoria.CANCELADA));
+        Map<Long, List<Participante>> porMentoria = abertos.stream()
+                .collect(Collectors.groupingBy(participante -> participante.getMentoria().getId()));
+        trava.writeLock().lock();
+        try {
+            agendas.clear();
+            sessoes.clear();
+            participantes.clear();
+            porMentoria.values().forEach(this::indexar);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Atualiza as agendas dos participantes de uma mentoria após o commit.
+     * Também é chamado fora de transação, quando a alteração não abriu uma.
+     *
+     * @param evento Mentoria alterada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAgenda(AgendaAlterada evento) {
+        List<Participante> daMentoria = participanteRepository.findByMentoriaIdComUsuario(evento.mentoriaId());
+        trava.writeLock().lock();
+        try {
+            desindexar(evento.mentoriaId());
+            indexar(daMentoria);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retira das agendas as sessões que terminaram há mais de um dia.
+     */
+    @Scheduled(fixedDelayString = "${systers.agenda.intervalo-ms:3600000}",
+               initialDelayString = "${systers.agenda.intervalo-ms:3600000}")
+    public void podar() {
+        long limite = emMs(LocalDateTime.now().minusDays(1));
+        trava.writeLock().lock();
+        try {
+            sessoes.values().stream()
+                    .filter(sessao -> sessao.fimMs() <= limite)
+                    .map(SessaoAgendada::mentoriaId)
+                    .toList()
+                    .forEach(this::desindexar);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna as métricas das agendas.
+     * @return Mapa com tamanho das agendas, verificações e conflitos
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        trava.readLock().lock();
+        try {
+            resultado.put("usuariosComAgenda", agendas.size());
+            resultado.put("sessoes", sessoes.size());
+        } finally {
+            trava.readLock().unlock();
+        }
+        resultado.put("verificacoes", verificacoes.sum());
+        resultado.put("conflitos", conflitos.sum());
+        return resultado;
+    }
+
+    /**
+     * Insere a sessão na agenda de cada participante, se a mentoria ainda estiver aberta.
+     * Deve ser chamado com a trava de escrita.
+     */
+    private void indexar(List<Participante> daMentoria) {
+        if (daMentoria.isEmpty()) {
+            return;
+        }
+        Mentoria mentoria = daMentoria.get(0).getMentoria();
+        if (mentoria.getDataHoraInicio() == null
+                || (mentoria.getStatus() != null && !mentoria.getStatus().isAtiva())) {
+            return;
+        }
+        LocalDateTime fim = fimOuPadrao(mentoria.getDataHoraInicio(), mentoria.getDataHoraFim());
+        if (!fim.isAfter(mentoria.getDataHoraInicio())) {
+            return;
+        }
+        SessaoAgendada sessao = new SessaoAgendada(mentoria.getId(), mentoria.getNome(),
+                mentoria.getDataHoraInicio(), fim, emMs(mentoria.getDataHoraInicio()), emMs(fim));
+        Set<Long> usuarios = new HashSet<>();
+        for (Participante participante : daMentoria) {
+            Long usuarioId = participante.getUsuario().getId();
+            agendas.computeIfAbsent(usuarioId, id -> new ArvoreIntervalos<>())
+                    .inserir(sessao.inicioMs(), sessao.fimMs(), sessao.mentoriaId(), sessao);
+            usuarios.add(usuarioId);
+        }
+        sessoes.put(sessao.mentoriaId(), sessao);
+        participantes.put(sessao.mentoriaId(), usuarios);
+    }
+
+    /**
+     * Retira a sessão das agendas dos participantes. Deve ser chamado com a trava de escrita.
+     */
+    private void desindexar(Long mentoriaId) {
+        SessaoAgendada sessao = sessoes.remove(mentoriaId);
+        Set<Long> usuarios = participantes.remove(mentoriaId);
+        if (sessao == null || usuarios == null) {
+            return;
+        }
+        for (Long usuarioId : usuarios) {
+            ArvoreIntervalos<SessaoAgendada> agenda = agendas.get(usuarioId);
+            if (agenda != null) {
+                agenda.remover(sessao.inicioMs(), mentoriaId);
+                if (agenda.tamanho() == 0) {
+                    agendas.remove(usuarioId);
+                }
+            }
+        }
+    }
+
+    private LocalDateTime fimOuPadrao(LocalDateTime inicio, LocalDateTime fim) {
+        return fim != null ? fim : inicio.plus(duracaoPadrao);
+    }
+
+    private static long emMs(LocalDateTime horario) {
+        return horario.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime deMs(long ms) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(ms), ZoneId.systemDefault());
+    }
+}
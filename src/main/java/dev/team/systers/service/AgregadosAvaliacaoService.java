@@ -0,0 +1,312 @@
+package dev.team.systers.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.team.systers.dto.AvaliacaoRegistrada;
+import dev.team.systers.dto.PosicaoRanking;
+import dev.team.systers.dto.ResumoAvaliacoes;
+import dev.team.systers.model.AgregadoAvaliacao;
+import dev.team.systers.model.AgregadoAvaliacao.Escopo;
+import dev.team.systers.model.Avaliacao;
+import dev.team.systers.model.Participante;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.AgregadoAvaliacaoRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.repository.UsuarioRepository;
+
+/**
+ * Serviço responsável pelos totais das avaliações de mentores e mentorias e pelo
+ * ranking dos mentores mais bem avaliados.
+ *
+ * <p>Cada avaliação gravada acrescenta sua nota aos agregados da mentoria e de cada
+ * mentor, na mesma transação, com uma atualização atômica no banco: quantidade, soma
+ * e histograma por nota. Médias e resumos são lidos de uma única linha, sem percorrer
+ * as avaliações.</p>
+ *
+ * <p>O ranking fica em memória, ordenado pela média bayesiana: a média do mentor puxada
+ * para a média geral, com o peso de algumas avaliações fictícias, para que poucas notas
+ * altas não coloquem um mentor no topo. Após cada avaliação, só os mentores avaliados
+ * são reposicionados; como a média geral também muda, o ranking inteiro é recalculado
+ * a partir dos agregados a cada intervalo.</p>
+ */
+@Service
+public class AgregadosAvaliacaoService {
+
+    /**
+     * Média assumida enquanto não há nenhuma avaliação.
+     */
+    private static final double MEDIA_PRIORI = 3.0;
+
+    /**
+     * Ordem do ranking: maior média bayesiana, depois mais avaliações.
+     */
+    private static final Comparator<PosicaoRanking> ORDEM = Comparator
+            .comparingDouble(PosicaoRanking::mediaBayesiana).reversed()
+            .thenComparing(Comparator.comparingLong(PosicaoRanking::quantidade).reversed())
+            .thenComparing(PosicaoRanking::mentorId);
+
+    /**
+     * Repositório dos agregados de avaliações.
+     */
+    private final AgregadoAvaliacaoRepository agregadoAvaliacaoRepository;
+
+    /**
+     * Repositório para acesso aos dados de participantes.
+     */
+    private final ParticipanteRepository participanteRepository;
+
+    /**
+     * Repositório para acesso aos dados de usuários, para os nomes no ranking.
+     */
+    private final UsuarioRepository usuarioRepository;
+
+    /**
+     * Publicador de eventos do Spring, usado para atualizar o ranking após o commit.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Peso da média geral, em quantidade de avaliações fictícias.
+     */
+    private final double pesoPriori;
+
+    /**
+     * Mentores ordenados pelo ranking e a posição atual de cada um, por ID do mentor.
+     */
+    private final TreeSet<PosicaoRanking> ranking = new TreeSet<>(ORDEM);
+    private final Map<Long, PosicaoRanking> posicoes = new HashMap<>();
+
+    /**
+     * Quantidade e soma de todas as avaliações, para a média geral.
+     */
+    private long quantidadeGeral;
+    private long somaGeral;
+
+    /**
+     * Protege o ranking: leituras em paralelo, alterações exclusivas.
+     */
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param agregadoAvaliacaoRepository Repositório dos agregados injetado pelo Spring
+     * @param participanteRepository Repositório de participantes injetado pelo Spring
+     * @param usuarioRepository Repositório de usuários injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param pesoPriori Peso da média geral na média bayesiana, em avaliações
+     */
+    @Autowired
+    public AgregadosAvaliacaoService(AgregadoAvaliacaoRepository agregadoAvaliacaoRepository,
+                                     ParticipanteRepository participanteRepository,
+                                     UsuarioRepository usuarioRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${systers.avaliacoes.peso-priori:5}") double pesoPriori) {
+        this.agregadoAvaliacaoRepository = agregadoAvaliacaoRepository;
+        this.participanteRepository = participanteRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.eventPublisher = eventPublisher;
+        this.pesoPriori = pesoPriori;
+    }
+
+    /**
+     * Acrescenta a nota de uma avaliação recém-gravada aos agregados da mentoria e dos mentores.
+     * Deve ser chamado dentro da transação que grava a avaliação.
+     *
+     * @param avaliacao Avaliação gravada
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Avaliacao avaliacao) {
+        Long mentoriaId = avaliacao.getMentoriaAvaliada().getId();
+        int nota = avaliacao.getAvaliacaoMentoria();
+        LocalDateTime agora = LocalDateTime.now();
+        agregadoAvaliacaoRepository.acrescentar(Escopo.MENTORIA.name(), mentoriaId, nota, agora);
+        List<Long> mentorIds = participanteRepository.findByMentoriaIdAndTipo(mentoriaId, Participante.TipoParticipante.MENTOR)
+                .stream()
+                .map(participante -> participante.getUsuario().getId())
+                .distinct()
+                .toList();
+        for (Long mentorId : mentorIds) {
+            agregadoAvaliacaoRepository.acrescentar(Escopo.MENTOR.name(), mentorId, nota, agora);
+        }
+        eventPublisher.publishEvent(new AvaliacaoRegistrada(mentoriaId, mentorIds, nota));
+    }
+
+    /**
+     * Retorna o resumo das avaliações de um mentor.
+     * @param mentorId ID do mentor
+     * @return Resumo das avaliações, zerado se o mentor não tiver avaliações
+     */
+    public ResumoAvaliacoes resumoDoMentor(Long mentorId) {
+        return resumo(Escopo.MENTOR, mentorId);
+    }
+
+    /**
+     * Retorna o resumo das avaliações de uma mentoria.
+     * @param mentoriaId ID da mentoria
+     * @return Resumo das avaliações, zerado se a mentoria não tiver avaliações
+     */
+    public ResumoAvaliacoes resumoDaMentoria(Long mentoriaId) {
+        return resumo(Escopo.MENTORIA, mentoriaId);
+    }
+
+    /**
+     * Retorna os mentores mais bem avaliados.
+     * @param limite Quantidade máxima de mentores
+     * @return Mentores em ordem de ranking
+     */
+    public List<PosicaoRanking> ranking(int limite) {
+        List<PosicaoRanking> topo = new ArrayList<>(Math.min(limite, 100));
+        trava.readLock().lock();
+        try {
+            for (PosicaoRanking posicao : ranking) {
+                if (topo.size() >= limite) {
+                    break;
+                }
+                topo.add(posicao);
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+        return topo;
+    }
+
+    /**
+     * Cria os agregados a partir das avaliações existentes, se ainda não houver nenhum,
+     * e monta o ranking.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        if (agregadoAvaliacaoRepository.count() == 0) {
+            LocalDateTime agora = LocalDateTime.now();
+            agregadoAvaliacaoRepository.reconstruirPorMentoria(agora);
+            agregadoAvaliacaoRepository.reconstruirPorMentor(agora);
+        }
+        atualizarRanking();
+    }
+
+    /**
+     * Recalcula o ranking inteiro a partir dos agregados dos mentores.
+     */
+    @Scheduled(fixedDelayString = "${systers.avaliacoes.ranking.intervalo-ms:300000}",
+               initialDelayString = "${systers.avaliacoes.ranking.intervalo-ms:300000}")
+    public void atualizarRanking() {
+        Object[] geral = agregadoAvaliacaoRepository.somarPorEscopo(Escopo.MENTORIA).get(0);
+        long quantidade = ((Number) geral[0]).longValue();
+        long soma = ((Number) geral[1]).longValue();
+        List<AgregadoAvaliacao> agregados = agregadoAvaliacaoRepository.findByEscopo(Escopo.MENTOR);
+        Map<Long, Usuario> mentores = usuarioRepository.findAllById(
+                agregados.stream().map(AgregadoAvaliacao::getReferenciaId).toList()).stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+        double media = mediaGeral(quantidade, soma);
+
+        trava.writeLock().lock();
+        try {
+            quantidadeGeral = quantidade;
+            somaGeral = soma;
+            ranking.clear();
+            posicoes.clear();
+            for (AgregadoAvaliacao agregado : agregados) {
+                Usuario mentor = mentores.get(agregado.getReferenciaId());
+                if (mentor != null && agregado.getQuantidade() > 0) {
+                    posicionar(novaPosicao(agregado, mentor, media));
+                }
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reposiciona no ranking os mentores da mentoria avaliada, após o commit.
+     *
+     * @param evento Avaliação registrada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoRegistrarAvaliacao(AvaliacaoRegistrada evento) {
+        Map<Long, AgregadoAvaliacao> agregados = new HashMap<>();
+        Map<Long, Usuario> mentores = new HashMap<>();
+        for (Long mentorId : evento.mentorIds()) {
+            agregadoAvaliacaoRepository.findByEscopoAndReferenciaId(Escopo.MENTOR, mentorId)
+                    .ifPresent(agregado -> agregados.put(mentorId, agregado));
+            usuarioRepository.findById(mentorId).ifPresent(mentor -> mentores.put(mentorId, mentor));
+        }
+        trava.writeLock().lock();
+        try {
+            quantidadeGeral++;
+            somaGeral += evento.nota();
+            double media = mediaGeral(quantidadeGeral, somaGeral);
+            agregados.forEach((mentorId, agregado) -> {
+                Usuario mentor = mentores.get(mentorId);
+                if (mentor != null) {
+                    posicionar(novaPosicao(agregado, mentor, media));
+                }
+            });
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    private ResumoAvaliacoes resumo(Escopo escopo, Long referenciaId) {
+        AgregadoAvaliacao agregado = agregadoAvaliacaoRepository.findByEscopoAndReferenciaId(escopo, referenciaId).orElse(null);
+        double media;
+        trava.readLock().lock();
+        try {
+            media = mediaGeral(quantidadeGeral, somaGeral);
+        } finally {
+            trava.readLock().unlock();
+        }
+        if (agregado == null || agregado.getQuantidade() == 0) {
+            return new ResumoAvaliacoes(referenciaId, 0, null, media, new long[6]);
+        }
+        return new ResumoAvaliacoes(referenciaId, agregado.getQuantidade(),
+                (double) agregado.getSoma() / agregado.getQuantidade(),
+                mediaBayesiana(agregado.getQuantidade(), agregado.getSoma(), media), agregado.getHistograma());
+    }
+
+    /**
+     * Coloca a posição no ranking, substituindo a anterior do mesmo mentor.
+     * Deve ser chamado com a trava de escrita.
+     */
+    private void posicionar(PosicaoRanking posicao) {
+        PosicaoRanking anterior = posicoes.put(posicao.mentorId(), posicao);
+        if (anterior != null) {
+            ranking.remove(anterior);
+        }
+        ranking.add(posicao);
+    }
+
+    private PosicaoRanking novaPosicao(AgregadoAvaliacao agregado, Usuario mentor, double media) {
+        return new PosicaoRanking(mentor.getId(), mentor.getLogin(), mentor.getNome(), agregado.getQuantidade(),
+                agregado.getSoma(), mediaBayesiana(agregado.getQuantidade(), agregado.getSoma(), media));
+    }
+
+    private double mediaBayesiana(long quantidade, long soma, double media) {
+        return (pesoPriori * media + soma) / (pesoPriori + quantidade);
+    }
+
+    private static double mediaGeral(long quantidade, long soma) {
+        return quantidade == 0 ? MEDIA_PRIORI : (double) soma / quantidade;
+    }
+}
@@ -0,0 +1,533 @@
+package dev.team.systers.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.team.systers.dto.MensagemArquivada;
+import dev.team.systers.exception.DialogoMentoriaException;
+import dev.team.systers.model.ArquivoDialogo;
+import dev.team.systers.model.BlocoArquivoDialogo;
+import dev.team.systers.model.DialogoMentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import dev.team.systers.model.Participante;
+import dev.team.systers.repository.ArquivoDialogoRepository;
+import dev.team.systers.repository.BlocoArquivoDialogoRepository;
+import dev.team.systers.repository.DialogoLoteRepository;
+import dev.team.systers.repository.DialogoMentoriaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.tools.ArquivoSegmentos;
+
+/**
+ * Serviço responsável pelo arquivo frio dos diálogos de mentorias concluídas.
+ *
+ * <p>Depois de um prazo de carência, o diálogo de cada mentoria concluída sai da tabela
+ * {@code dialogo_mentoria} e passa a ser uma sequência de blocos comprimidos em um
+ * {@link ArquivoSegmentos} em disco, na ordem do histórico (data, id). A posição de cada
+ * bloco e a primeira e a última mensagem que ele contém ficam na tabela
+ * {@code arquivo_dialogo_bloco} e em memória; uma página do histórico lê só os blocos que
+ * a cobrem, sem consultar o banco.</p>
+ *
+ * <p>Cada bloco é registrado logo depois de gravado e sincronizado com o disco. Se o
+ * arquivamento falhar antes de as mensagens serem apagadas, a próxima tentativa reaproveita
+ * os blocos já registrados com o mesmo conteúdo em vez de gravá-los de novo; só uma queda
+ * entre gravar e registrar um bloco deixa um bloco sem uso no segmento. As mensagens são
+ * apagadas pela mentoria e pelo maior ID arquivado, na transação que registra o diálogo.</p>
+ *
+ * <p>As leituras são feitas pelo {@link DialogoMentoriaService}, que junta as mensagens
+ * arquivadas às que ainda estiverem na tabela. O diálogo pode ser devolvido à tabela com
+ * {@link #restaurar(Long)}; as mensagens voltam com os IDs originais. A busca textual
+ * considera apenas as mensagens da tabela.</p>
+ */
+@Service
+public class ArquivoDialogosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivoDialogosService.class);
+
+    /**
+     * Versão do formato dos blocos, gravada no início de cada um.
+     */
+    private static final int VERSAO_FORMATO = 1;
+
+    /**
+     * Ordem do histórico: por data, sem data primeiro, e por ID.
+     */
+    private static final Comparator<MensagemArquivada> ORDEM_HISTORICO = Comparator
+            .comparing(MensagemArquivada::dataHora, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(MensagemArquivada::id);
+
+    /**
+     * Repositório para acesso aos dados de diálogos.
+     */
+    private final DialogoMentoriaRepository dialogoMentoriaRepository;
+
+    /**
+     * Repositório dos registros dos diálogos arquivados.
+     */
+    private final ArquivoDialogoRepository arquivoDialogoRepository;
+
+    /**
+     * Repositório das localizações dos blocos arquivados.
+     */
+    private final BlocoArquivoDialogoRepository blocoArquivoDialogoRepository;
+
+    /**
+     * Repositório JDBC para devolver mensagens à tabela.
+     */
+    private final DialogoLoteRepository dialogoLoteRepository;
+
+    /**
+     * Repositório para acesso aos dados de participantes.
+     */
+    private final ParticipanteRepository participanteRepository;
+
+    /**
+     * Transação de cada arquivamento e restauração.
+     */
+    private final TransactionTemplate transacao;
+
+    /**
+     * Segmentos em disco.
+     */
+    private final ArquivoSegmentos arquivo;
+
+    /**
+     * Dias depois do término antes de arquivar o diálogo.
+     */
+    private final int carenciaDias;
+
+    /**
+     * Quantidade máxima de mentorias arquivadas por execução.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Quantidade máxima de mensagens por bloco.
+     */
+    private final int mensagensPorBloco;
+
+    /**
+     * Registro dos diálogos arquivados, por ID da mentoria.
+     */
+    private final Map<Long, ArquivoDialogo> indice = new ConcurrentHashMap<>();
+
+    /**
+     * Blocos dos diálogos arquivados, do mais antigo para o mais recente, por ID da mentoria.
+     */
+    private final Map<Long, List<BlocoArquivoDialogo>> blocos = new ConcurrentHashMap<>();
+
+    /**
+     * Quantidade de diálogos arquivados, de mensagens arquivadas, de blocos reaproveitados
+     * de tentativas anteriores, de diálogos restaurados e de blocos lidos do arquivo.
+     */
+    private final LongAdder arquivamentos = new LongAdder();
+    private final LongAdder mensagensArquivadas = new LongAdder();
+    private final LongAdder blocosReaproveitados = new LongAdder();
+    private final LongAdder restauracoes = new LongAdder();
+    private final LongAdder leituras = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param dialogoMentoriaRepository Repositório de diálogos injetado pelo Spring
+     * @param arquivoDialogoRepository Repositório de diálogos arquivados injetado pelo Spring
+     * @param blocoArquivoDialogoRepository Repositório de blocos arquivados injetado pelo Spring
+     * @param dialogoLoteRepository Repositório JDBC de diálogos injetado pelo Spring
+     * @param participanteRepository Repositório de participantes injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param diretorio Diretório dos segmentos
+     * @param tamanhoSegmentoMb Tamanho a partir do qual um novo segmento é aberto, em megabytes
+     * @param carenciaDias Dias depois do término antes de arquivar o diálogo
+     * @param tamanhoLote Quantidade máxima de mentorias arquivadas por execução
+     * @param mensagensPorBloco Quantidade máxima de mensagens por bloco
+     */
+    @Autowired
+    public ArquivoDialogosService(DialogoMentoriaRepository dialogoMentoriaRepository,
+                                  ArquivoDialogoRepository arquivoDialogoRepository,
+                                  BlocoArquivoDialogoRepository blocoArquivoDialogoRepository,
+                                  DialogoLoteRepository dialogoLoteRepository,
+                                  ParticipanteRepository participanteRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${systers.arquivo.diretorio:dados/arquivo-dialogos}") String diretorio,
+                                  @Value("${systers.arquivo.segmento-mb:64}") long tamanhoSegmentoMb,
+                                  @Value("${systers.arquivo.carencia-dias:30}") int carenciaDias,
+                                  @Value("${systers.arquivo.lote:100}") int tamanhoLote,
+                                  @Value("${systers.arquivo.mensagens-por-bloco:500}") int mensagensPorBloco) {
+        this.dialogoMentoriaRepository = dialogoMentoriaRepository;
+        this.arquivoDialogoRepository = arquivoDialogoRepository;
+        this.blocoArquivoDialogoRepository = blocoArquivoDialogoRepository;
+        this.dialogoLoteRepository = dialogoLoteRepository;
+        this.participanteRepository = participanteRepository;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.arquivo = new ArquivoSegmentos(Path.of(diretorio), tamanhoSegmentoMb * 1024 * 1024);
+        this.carenciaDias = carenciaDias;
+        this.tamanhoLote = tamanhoLote;
+        this.mensagensPorBloco = Math.max(1, mensagensPorBloco);
+    }
+
+    /**
+     * Carrega em memória o registro e os blocos dos diálogos arquivados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        arquivoDialogoRepository.findByRestauradoFalse().forEach(registro -> indice.put(registro.getMentoriaId(), registro));
+        if (!indice.isEmpty()) {
+            blocoArquivoDialogoRepository.findByMentoriaIdInOrderByMentoriaIdAscOrdemAsc(indice.keySet())
+                    .forEach(bloco -> blocos.computeIfAbsent(bloco.getMentoriaId(), id -> new ArrayList<>()).add(bloco));
+        }
+    }
+
+    /**
+     * Arquiva os diálogos das mentorias concluídas há mais que a carência.
+     */
+    @Scheduled(fixedDelayString = "${systers.arquivo.intervalo-ms:3600000}",
+               initialDelayString = "${systers.arquivo.intervalo-ms:3600000}")
+    public void arquivar() {
+        List<Long> mentorias = dialogoMentoriaRepository.findMentoriasParaArquivar(
+                StatusMentoria.CONCLUIDA.getDescricao(), LocalDateTime.now().minusDays(carenciaDias), tamanhoLote);
+        for (Long mentoriaId : mentorias) {
+            try {
+                arquivar(mentoriaId);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao arquivar o diálogo da mentoria {}", mentoriaId, e);
+            }
+        }
+    }
+
+    /**
+     * Indica se o diálogo da mentoria está arquivado.
+     * @param mentoriaId ID da mentoria
+     * @return true se arquivado
+     */
+    public boolean isArquivado(Long mentoriaId) {
+        return indice.containsKey(mentoriaId);
+    }
+
+    /**
+     * Retorna o registro do diálogo arquivado da mentoria.
+     * @param mentoriaId ID da mentoria
+     * @return Registro, ou null se o diálogo não estiver arquivado
+     */
+    public ArquivoDialogo localizar(Long mentoriaId) {
+        return indice.get(mentoriaId);
+    }
+
+    /**
+     * Lê todas as mensagens arquivadas de uma mentoria, com participante e usuário carregados.
+     * As mensagens não estão no contexto de persistência e não devem ser salvas.
+     * Mensagens de participantes que já não existem são omitidas.
+     *
+     * @param mentoriaId ID da mentoria
+     * @return Mensagens em ordem de ID, ou lista vazia se o diálogo não estiver arquivado
+     */
+    public List<DialogoMentoria> lerDialogos(Long mentoriaId) {
+        List<MensagemArquivada> mensagens = new ArrayList<>();
+        blocos.getOrDefault(mentoriaId, List.of()).forEach(bloco -> mensagens.addAll(ler(bloco)));
+        mensagens.sort(Comparator.comparingLong(MensagemArquivada::id));
+        return paraDialogos(mentoriaId, mensagens);
+    }
+
+    /**
+     * Lê uma página do histórico arquivado, voltando no tempo a partir de um cursor em
+     * (data, id). Os blocos inteiramente posteriores ao cursor são pulados pelo índice,
+     * sem ser lidos, e a leitura para assim que a página estiver completa.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param dataHora Data da mensagem mais antiga já exibida, ou null
+     * @param id ID da mensagem mais antiga já exibida, ou null para as mais recentes
+     * @param limite Quantidade de mensagens
+     * @return Mensagens anteriores ao cursor, mais recentes primeiro
+     */
+    public List<DialogoMentoria> lerAntesDe(Long mentoriaId, LocalDateTime dataHora, Long id, int limite) {
+        List<BlocoArquivoDialogo> daMentoria = blocos.getOrDefault(mentoriaId, List.of());
+        MensagemArquivada cursor = id != null ? new MensagemArquivada(id, null, 0, dataHora, null) : null;
+        List<MensagemArquivada> pagina = new ArrayList<>(limite);
+        for (int i = daMentoria.size() - 1; i >= 0 && pagina.size() < limite; i--) {
+            BlocoArquivoDialogo bloco = daMentoria.get(i);
+            if (cursor != null && ORDEM_HISTORICO.compare(primeira(bloco), cursor) >= 0) {
+                continue;
+            }
+            List<MensagemArquivada> mensagens = ler(bloco);
+            for (int j = mensagens.size() - 1; j >= 0 && pagina.size() < limite; j--) {
+                if (cursor == null || ORDEM_HISTORICO.compare(mensagens.get(j), cursor) < 0) {
+                    pagina.add(mensagens.get(j));
+                }
+            }
+        }
+        return paraDialogos(mentoriaId, pagina);
+    }
+
+    /**
+     * Lê as mensagens arquivadas com ID maior que o informado. Só são lidos os blocos
+     * cujo maior ID passa do informado.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param ultimoId ID da última mensagem recebida pelo cliente
+     * @param limite Quantidade máxima de mensagens
+     * @return Mensagens posteriores ao ID, em ordem de ID
+     */
+    public List<DialogoMentoria> lerPosterioresA(Long mentoriaId, long ultimoId, int limite) {
+        List<MensagemArquivada> mensagens = new ArrayList<>();
+        for (BlocoArquivoDialogo bloco : blocos.getOrDefault(mentoriaId, List.of())) {
+            if (bloco.getMaiorId() > ultimoId) {
+                ler(bloco).stream().filter(mensagem -> mensagem.id() > ultimoId).forEach(mensagens::add);
+            }
+        }
+        mensagens.sort(Comparator.comparingLong(MensagemArquivada::id));
+        return paraDialogos(mentoriaId, mensagens.subList(0, Math.min(limite, mensagens.size())));
+    }
+
+    /**
+     * Devolve à tabela o diálogo arquivado de uma mentoria, com os IDs originais.
+     * Os blocos continuam nos segmentos, sem uso, e a mentoria não volta a ser arquivada automaticamente.
+     *
+     * @param mentoriaId ID da mentoria
+     * @return Quantidade de mensagens devolvidas
+     * @throws DialogoMentoriaException se o diálogo não estiver arquivado ou algum autor não existir mais
+     */
+    public int restaurar(Long mentoriaId) {
+        ArquivoDialogo registro = indice.get(mentoriaId);
+        if (registro == null) {
+            throw new DialogoMentoriaException("O diálogo desta mentoria não está arquivado.");
+        }
+        List<MensagemArquivada> mensagens = new ArrayList<>(registro.getQuantidade());
+        blocos.getOrDefault(mentoriaId, List.of()).forEach(bloco -> mensagens.addAll(ler(bloco)));
+        Set<Long> autores = participanteRepository.findByMentoriaIdsComUsuario(List.of(mentoriaId)).stream()
+                .map(Participante::getId).collect(Collectors.toSet());
+        if (mensagens.stream().anyMatch(mensagem -> !autores.contains(mensagem.participanteId()))) {
+            throw new DialogoMentoriaException("O diálogo não pode ser restaurado: há mensagens de participantes que não existem mais.");
+        }
+        transacao.executeWithoutResult(status -> {
+            dialogoLoteRepository.restaurar(mentoriaId, mensagens);
+            blocoArquivoDialogoRepository.deleteAPartirDe(mentoriaId, 0);
+            arquivoDialogoRepository.findById(registro.getId()).ifPresent(atual -> {
+                atual.setRestaurado(true);
+                arquivoDialogoRepository.save(atual);
+            });
+        });
+        // Até aqui as leituras juntavam arquivo e tabela, descartando os IDs repetidos.
+        indice.remove(mentoriaId);
+        blocos.remove(mentoriaId);
+        restauracoes.increment();
+        return mensagens.size();
+    }
+
+    /**
+     * Retorna as métricas do arquivo.
+     * @return Mapa com diálogos, blocos e mensagens arquivados, tamanho em disco e contadores de operações
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("dialogos", indice.size());
+        resultado.put("blocos", blocos.values().stream().mapToInt(List::size).sum());
+        resultado.put("mensagens", indice.values().stream().mapToLong(ArquivoDialogo::getQuantidade).sum());
+        resultado.put("bytesEmDisco", arquivo.tamanhoEmDisco());
+        resultado.put("arquivamentos", arquivamentos.sum());
+        resultado.put("mensagensArquivadas", mensagensArquivadas.sum());
+        resultado.put("blocosReaproveitados", blocosReaproveitados.sum());
+        resultado.put("restauracoes", restauracoes.sum());
+        resultado.put("leituras", leituras.sum());
+        return resultado;
+    }
+
+    /**
+     * Grava o diálogo em blocos, registrando cada um, e, em uma transação, registra o
+     * diálogo e apaga da tabela as mensagens gravadas.
+     */
+    private void arquivar(Long mentoriaId) {
+        if (indice.containsKey(mentoriaId)) {
+            return;
+        }
+        List<MensagemArquivada> mensagens = new ArrayList<>(dialogoMentoriaRepository.findParaArquivar(mentoriaId).stream()
+                .map(linha -> new MensagemArquivada((Long) linha[0], (Long) linha[1], (Long) linha[2],
+                        (LocalDateTime) linha[3], (String) linha[4]))
+                .toList());
+        if (mensagens.isEmpty()) {
+            return;
+        }
+        mensagens.sort(ORDEM_HISTORICO);
+
+        List<BlocoArquivoDialogo> anteriores = blocoArquivoDialogoRepository.findByMentoriaIdOrderByOrdem(mentoriaId);
+        List<BlocoArquivoDialogo> gravados = new ArrayList<>();
+        for (int inicio = 0; inicio < mensagens.size(); inicio += mensagensPorBloco) {
+            List<MensagemArquivada> parte = mensagens.subList(inicio, Math.min(inicio + mensagensPorBloco, mensagens.size()));
+            gravados.add(gravarBloco(mentoriaId, gravados.size(), parte,
+                    gravados.size() < anteriores.size() ? anteriores.get(gravados.size()) : null));
+        }
+        if (anteriores.size() > gravados.size()) {
+            transacao.executeWithoutResult(status ->
+                    blocoArquivoDialogoRepository.deleteAPartirDe(mentoriaId, gravados.size()));
+        }
+
+        long maiorId = mensagens.stream().mapToLong(MensagemArquivada::id).max().orElseThrow();
+        ArquivoDialogo registro = new ArquivoDialogo();
+        registro.setMentoriaId(mentoriaId);
+        registro.setBlocos(gravados.size());
+        registro.setQuantidade(mensagens.size());
+        registro.setMaiorId(maiorId);
+        registro.setArquivadoEm(LocalDateTime.now());
+
+        // Publica antes do commit: enquanto as mensagens ainda estão na tabela,
+        // as leituras juntam as duas origens e descartam os IDs repetidos.
+        blocos.put(mentoriaId, gravados);
+        indice.put(mentoriaId, registro);
+        try {
+            transacao.executeWithoutResult(status -> {
+                arquivoDialogoRepository.save(registro);
+                int apagadas = dialogoMentoriaRepository.deleteArquivadas(mentoriaId, maiorId);
+                // Uma mensagem de ID menor gravada depois da leitura não está nos blocos.
+                if (apagadas != mensagens.size()) {
+                    throw new IllegalStateException("O diálogo da mentoria " + mentoriaId + " mudou durante o arquivamento.");
+                }
+            });
+        } catch (RuntimeException e) {
+            indice.remove(mentoriaId);
+            blocos.remove(mentoriaId);
+            throw e;
+        }
+        arquivamentos.increment();
+        mensagensArquivadas.add(mensagens.size());
+    }
+
+    /**
+     * Grava um bloco e registra sua localização. Se o bloco registrado na mesma posição
+     * por uma tentativa anterior tiver as mesmas mensagens, ele é reaproveitado.
+     */
+    private BlocoArquivoDialogo gravarBloco(Long mentoriaId, int ordem, List<MensagemArquivada> mensagens,
+                                            BlocoArquivoDialogo anterior) {
+        MensagemArquivada primeira = mensagens.get(0);
+        MensagemArquivada ultima = mensagens.get(mensagens.size() - 1);
+        long maiorId = mensagens.stream().mapToLong(MensagemArquivada::id).max().orElseThrow();
+        if (anterior != null && anterior.getQuantidade() == mensagens.size() && anterior.getPrimeiroId() == primeira.id()
+                && anterior.getUltimoId() == ultima.id() && anterior.getMaiorId() == maiorId) {
+            blocosReaproveitados.increment();
+            return anterior;
+        }
+        ArquivoSegmentos.Posicao posicao = arquivo.acrescentar(mentoriaId, codificar(mensagens));
+        BlocoArquivoDialogo bloco = anterior != null ? anterior : new BlocoArquivoDialogo();
+        bloco.setMentoriaId(mentoriaId);
+        bloco.setOrdem(ordem);
+        bloco.setSegmento(posicao.segmento());
+        bloco.setPosicao(posicao.posicao());
+        bloco.setTamanho(posicao.tamanho());
+        bloco.setQuantidade(mensagens.size());
+        bloco.setPrimeiraDataHora(primeira.dataHora());
+        bloco.setPrimeiroId(primeira.id());
+        bloco.setUltimaDataHora(ultima.dataHora());
+        bloco.setUltimoId(ultima.id());
+        bloco.setMaiorId(maiorId);
+        return transacao.execute(status -> blocoArquivoDialogoRepository.save(bloco));
+    }
+
+    private List<MensagemArquivada> ler(BlocoArquivoDialogo bloco) {
+        leituras.increment();
+        return decodificar(arquivo.ler(bloco.getMentoriaId(),
+                new ArquivoSegmentos.Posicao(bloco.getSegmento(), bloco.getPosicao(), bloco.getTamanho())));
+    }
+
+    /**
+     * Converte mensagens arquivadas em diálogos, mantendo a ordem e omitindo as de
+     * participantes que já não existem.
+     */
+    private List<DialogoMentoria> paraDialogos(Long mentoriaId, List<MensagemArquivada> mensagens) {
+        if (mensagens.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Participante> participantes = participanteRepository.findByMentoriaIdsComUsuario(List.of(mentoriaId))
+                .stream().collect(Collectors.toMap(Participante::getId, Function.identity()));
+        List<DialogoMentoria> dialogos = new ArrayList<>(mensagens.size());
+        for (MensagemArquivada mensagem : mensagens) {
+            Participante participante = participantes.get(mensagem.participanteId());
+            if (participante == null) {
+                continue;
+            }
+            DialogoMentoria dialogo = new DialogoMentoria(mensagem.id(), mensagem.mensagem(),
+                    participante.getMentoria(), participante, mensagem.dataHora());
+            dialogo.setChave(mensagem.chave());
+            dialogos.add(dialogo);
+        }
+        return dialogos;
+    }
+
+    private static MensagemArquivada primeira(BlocoArquivoDialogo bloco) {
+        return new MensagemArquivada(bloco.getPrimeiroId(), null, 0, bloco.getPrimeiraDataHora(), null);
+    }
+
+    private static byte[] codificar(List<MensagemArquivada> mensagens) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream saida = new DataOutputStream(bytes)) {
+            saida.writeInt(VERSAO_FORMATO);
+            saida.writeInt(mensagens.size());
+            for (MensagemArquivada mensagem : mensagens) {
+                saida.writeLong(mensagem.id());
+                saida.writeBoolean(mensagem.chave() != null);
+                if (mensagem.chave() != null) {
+                    saida.writeLong(mensagem.chave());
+                }
+                saida.writeLong(mensagem.participanteId());
+                saida.writeBoolean(mensagem.dataHora() != null);
+                if (mensagem.dataHora() != null) {
+                    saida.writeLong(mensagem.dataHora().toEpochSecond(ZoneOffset.UTC));
+                    saida.writeInt(mensagem.dataHora().getNano());
+                }
+                saida.writeBoolean(mensagem.mensagem() != null);
+                if (mensagem.mensagem() != null) {
+                    saida.writeUTF(mensagem.mensagem());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<MensagemArquivada> decodificar(byte[] dados) {
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(dados))) {
+            int versao = entrada.readInt();
+            if (versao != VERSAO_FORMATO) {
+                throw new IllegalStateException("Versão de bloco desconhecida: " + versao);
+            }
+            int quantidade = entrada.readInt();
+            List<MensagemArquivada> mensagens = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                long id = entrada.readLong();
+                Long chave = entrada.readBoolean() ? entrada.readLong() : null;
+                long participanteId = entrada.readLong();
+                LocalDateTime dataHora = entrada.readBoolean()
+                        ? LocalDateTime.ofEpochSecond(entrada.readLong(), entrada.readInt(), ZoneOffset.UTC)
+                        : null;
+                String mensagem = entrada.readBoolean() ? entrada.readUTF() : null;
+                mensagens.add(new MensagemArquivada(id, chave, participanteId, dataHora, mensagem));
+            }
+            return mensagens;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.team.systers.service;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.team.systers.tools.CargaComposta;
+
+/**
+ * Serviço responsável por criar cargas concorrentes para páginas compostas.
+ * Cada parte da página roda em uma thread virtual dentro de uma transação
+ * somente leitura própria, respeitando o prazo configurado para a página.
+ */
+@Service
+public class CarregamentoPaginaService {
+
+    /**
+     * Template de transação somente leitura usado por cada parte da página.
+     */
+    private final TransactionTemplate transacaoLeitura;
+
+    /**
+     * Prazo máximo, em milissegundos, para carregar todas as partes de uma página.
+     */
+    private final long prazoMs;
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param prazoMs Prazo de carregamento das páginas compostas
+     */
+    @Autowired
+    public CarregamentoPaginaService(PlatformTransactionManager transactionManager,
+                                     @Value("${systers.pagina.prazo-ms:1500}") long prazoMs) {
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.prazoMs = prazoMs;
+    }
+
+    /**
+     * Inicia a carga de uma página composta.
+     * Deve ser usada em um bloco try-with-resources para que nenhuma consulta
+     * continue rodando depois que a página for respondida.
+     *
+     * <p>Como cada parte roda fora da sessão JPA da requisição, as consultas
+     * devem retornar entidades já inicializadas (com JOIN FETCH quando necessário).</p>
+     *
+     * @return Nova carga com o prazo padrão
+     */
+    public CargaComposta iniciar() {
+        return new CargaComposta(prazoMs, this::emTransacaoLeitura);
+    }
+
+    /**
+     * Envolve uma tarefa em uma transação somente leitura.
+     * @param tarefa Tarefa original
+     * @return Tarefa executada dentro da transação
+     */
+    private Callable<?> emTransacaoLeitura(Callable<?> tarefa) {
+        return () -> transacaoLeitura.execute(status -> {
+            try {
+                return tarefa.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,516 @@
+package dev.team.systers.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.team.systers.dto.EventoChat;
+import dev.team.systers.exception.DialogoMentoriaException;
+import dev.team.systers.model.DialogoMentoria;
+import dev.team.systers.model.FalhaGravacaoChat;
+import dev.team.systers.model.Participante;
+import dev.team.systers.repository.DialogoMentoriaRepository;
+import dev.team.systers.repository.FalhaGravacaoChatRepository;
+import dev.team.systers.repository.MentoriaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.tools.ConexaoSse;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serviço responsável pelo chat em tempo real das mentorias.
+ *
+ * <p>Cada mentoria tem um canal Server-Sent Events com os participantes conectados.
+ * As mensagens são repassadas da memória assim que chegam, junto com os avisos de
+ * "digitando" e as confirmações de recebimento, que não são gravados.</p>
+ *
+ * <p>A gravação em {@link DialogoMentoria} é feita depois (write-behind): as mensagens
+ * entram em uma fila limitada e são gravadas em lotes, uma transação por lote, em vez
+ * de uma por mensagem. Se um lote falhar, suas mensagens são gravadas uma a uma, para
+ * que uma mensagem com problema não impeça a gravação das outras. As que continuarem
+ * falhando voltam para a fila e são tentadas de novo nos próximos ciclos; esgotadas as
+ * tentativas, são guardadas em {@link FalhaGravacaoChat} e o remetente é avisado com um
+ * evento {@code falha}. Com a fila cheia, novas mensagens são recusadas antes de serem
+ * repassadas, para que nenhuma mensagem vista pelos participantes deixe de ser gravada.</p>
+ *
+ * <p>As últimas mensagens de cada mentoria ficam em memória para quem reconecta: o
+ * navegador envia o último ID recebido e recebe o que perdeu.</p>
+ */
+@Service
+public class ChatMentoriaService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMentoriaService.class);
+
+    /**
+     * Nome do evento SSE do chat.
+     */
+    private static final String EVENTO = "chat";
+
+    /**
+     * Tamanho máximo de uma mensagem, o da coluna {@code dialogo_mentoria_mensagem}.
+     */
+    private static final int TAMANHO_MAXIMO = 255;
+
+    /**
+     * Repositório para acesso aos dados de diálogos.
+     */
+    private final DialogoMentoriaRepository dialogoMentoriaRepository;
+
+    /**
+     * Repositório para acesso aos dados de mentorias.
+     */
+    private final MentoriaRepository mentoriaRepository;
+
+    /**
+     * Repositório para acesso aos dados de participantes.
+     */
+    private final ParticipanteRepository participanteRepository;
+
+    /**
+     * Repositório das mensagens que não puderam ser gravadas.
+     */
+    private final FalhaGravacaoChatRepository falhaGravacaoChatRepository;
+
+    /**
+     * Transação de cada lote de mensagens.
+     */
+    private final TransactionTemplate transacao;
+
+    /**
+     * Conexões abertas, por ID da mentoria.
+     */
+    private final Map<Long, Set<ConexaoSse<EventoChat>>> conexoes = new ConcurrentHashMap<>();
+
+    /**
+     * Últimas mensagens de cada mentoria, para recuperação ao reconectar.
+     */
+    private final Map<Long, Deque<EventoChat>> recentes = new ConcurrentHashMap<>();
+
+    /**
+     * Mensagens aguardando gravação.
+     */
+    private final BlockingQueue<EventoChat> fila;
+
+    /**
+     * IDs das mensagens ainda não gravadas, na fila ou no lote em gravação.
+     * Também serve de trava para atribuir os IDs.
+     */
+    private final TreeSet<Long> naoGravadas = new TreeSet<>();
+
+    /**
+     * Tentativas de gravação já feitas, por ID das mensagens que falharam.
+     */
+    private final Map<Long, Integer> tentativas = new ConcurrentHashMap<>();
+
+    /**
+     * Mensagens que não couberam de volta na fila nem puderam ser guardadas como falha.
+     * São tentadas antes da fila no próximo ciclo.
+     */
+    private final Queue<EventoChat> retidas = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Último ID atribuído a um evento. Começa no relógio para continuar crescendo
+     * depois de reiniciar a aplicação.
+     */
+    private long ultimoId = System.currentTimeMillis();
+
+    /**
+     * Executor que cria uma thread virtual por envio em andamento.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Quantidade máxima de mensagens por transação.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Quantidade máxima de tentativas de gravação de uma mensagem.
+     */
+    private final int tentativasMaximas;
+
+    /**
+     * Quantidade de mensagens recentes mantidas por mentoria.
+     */
+    private final int quantidadeRecentes;
+
+    /**
+     * Quantidade máxima de eventos aguardando envio em cada conexão.
+     */
+    private final int capacidadeConexao;
+
+    /**
+     * Tempo máximo de uma conexão, em milissegundos; depois dele o navegador reconecta.
+     */
+    private final long timeoutMs;
+
+    /**
+     * Quantidade de mensagens enviadas, gravadas, reenfileiradas após uma falha e
+     * guardadas como falha, e de lotes gravados.
+     */
+    private final LongAdder enviadas = new LongAdder();
+    private final LongAdder gravadas = new LongAdder();
+    private final LongAdder reenfileiradas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param dialogoMentoriaRepository Repositório de diálogos injetado pelo Spring
+     * @param mentoriaRepository Repositório de mentorias injetado pelo Spring
+     * @param participanteRepository Repositório de participantes injetado pelo Spring
+     * @param falhaGravacaoChatRepository Repositório de falhas de gravação injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param capacidadeFila Quantidade máxima de mensagens aguardando gravação
+     * @param tamanhoLote Quantidade máxima de mensagens por transação
+     * @param tentativasMaximas Tentativas de gravação de uma mensagem antes de guardá-la como falha
+     * @param quantidadeRecentes Mensagens recentes mantidas por mentoria
+     * @param capacidadeConexao Tamanho da fila de envio de cada conexão
+     * @param timeoutMs Duração máxima de uma conexão
+     */
+    @Autowired
+    public ChatMentoriaService(DialogoMentoriaRepository dialogoMentoriaRepository,
+                               MentoriaRepository mentoriaRepository,
+                               ParticipanteRepository participanteRepository,
+                               FalhaGravacaoChatRepository falhaGravacaoChatRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${systers.chat.fila:10000}") int capacidadeFila,
+                               @Value("${systers.chat.lote:500}") int tamanhoLote,
+                               @Value("${systers.chat.tentativas:5}") int tentativasMaximas,
+                               @Value("${systers.chat.recentes:100}") int quantidadeRecentes,
+                               @Value("${systers.chat.sse.fila:128}") int capacidadeConexao,
+                               @Value("${systers.chat.sse.timeout-ms:1800000}") long timeoutMs) {
+        this.dialogoMentoriaRepository = dialogoMentoriaRepository;
+        this.mentoriaRepository = mentoriaRepository;
+        this.participanteRepository = participanteRepository;
+        this.falhaGravacaoChatRepository = falhaGravacaoChatRepository;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.fila = new LinkedBlockingQueue<>(capacidadeFila);
+        this.tamanhoLote = tamanhoLote;
+        this.tentativasMaximas = Math.max(1, tentativasMaximas);
+        this.quantidadeRecentes = quantidadeRecentes;
+        this.capacidadeConexao = capacidadeConexao;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Abre uma conexão SSE com o chat da mentoria.
+     * Se o cliente informar o último ID recebido, as mensagens recentes posteriores
+     * a ele são enviadas antes das novas.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param ultimoIdVisto ID do último evento recebido pelo cliente, ou null
+     * @return Emissor SSE a ser retornado pelo controlador
+     */
+    public SseEmitter conectar(Long mentoriaId, Long ultimoIdVisto) {
+        SseEmitter emissor = new SseEmitter(timeoutMs);
+        ConexaoSse<EventoChat> conexao = new ConexaoSse<>(EVENTO, emissor, capacidadeConexao, EventoChat::id, executor);
+
+        // Registra antes de ler as recentes, para não perder o que chegar durante a leitura.
+        conexoes.compute(mentoriaId, (id, daMentoria) -> {
+            Set<ConexaoSse<EventoChat>> conjunto = daMentoria != null ? daMentoria : ConcurrentHashMap.newKeySet();
+            conjunto.add(conexao);
+            return conjunto;
+        });
+        Runnable remover = () -> {
+            conexao.encerrar();
+            remover(mentoriaId, conexao);
+        };
+        emissor.onCompletion(remover);
+        emissor.onTimeout(remover);
+        emissor.onError(erro -> remover.run());
+
+        List<EventoChat> perdidas = new ArrayList<>();
+        Deque<EventoChat> daMentoria = recentes.get(mentoriaId);
+        if (ultimoIdVisto != null && daMentoria != null) {
+            synchronized (daMentoria) {
+                daMentoria.stream().filter(evento -> evento.id() > ultimoIdVisto).forEach(perdidas::add);
+            }
+            perdidas.sort(Comparator.comparingLong(EventoChat::id));
+        }
+        conexao.recuperar(perdidas);
+        return emissor;
+    }
+
+    /**
+     * Repassa uma mensagem aos participantes conectados e a coloca na fila de gravação.
+     *
+     * @param participante Participante que enviou a mensagem
+     * @param mensagem Conteúdo da mensagem
+     * @return Evento da mensagem, com o ID atribuído
+     * @throws DialogoMentoriaException se a mensagem for vazia ou longa demais, ou se a fila estiver cheia
+     */
+    public EventoChat enviar(Participante participante, String mensagem) {
+        if (mensagem == null || mensagem.isBlank()) {
+            throw new DialogoMentoriaException("A mensagem do diálogo é obrigatória.");
+        }
+        if (mensagem.length() > TAMANHO_MAXIMO) {
+            throw new DialogoMentoriaException("A mensagem deve ter no máximo " + TAMANHO_MAXIMO + " caracteres.");
+        }
+        EventoChat evento;
+        synchronized (naoGravadas) {
+            long id = ++ultimoId;
+            evento = evento(id, EventoChat.MENSAGEM, participante, id, mensagem);
+            if (!fila.offer(evento)) {
+                throw new DialogoMentoriaException("O chat está sobrecarregado. Tente novamente em instantes.");
+            }
+            naoGravadas.add(id);
+        }
+        Deque<EventoChat> daMentoria = recentes.computeIfAbsent(evento.mentoriaId(), id -> new ArrayDeque<>());
+        synchronized (daMentoria) {
+            daMentoria.addLast(evento);
+            while (daMentoria.size() > quantidadeRecentes) {
+                daMentoria.removeFirst();
+            }
+        }
+        enviadas.increment();
+        publicar(evento);
+        return evento;
+    }
+
+    /**
+     * Avisa os participantes conectados que o participante está digitando.
+     * @param participante Participante que está digitando
+     */
+    public void digitando(Participante participante) {
+        publicar(evento(proximoId(), EventoChat.DIGITANDO, participante, null, null));
+    }
+
+    /**
+     * Avisa os participantes conectados que o participante recebeu uma mensagem.
+     * A mensagem é procurada entre as recentes da mentoria e, se não estiver lá, no banco.
+     *
+     * @param participante Participante que recebeu a mensagem
+     * @param mensagemId ID da mensagem recebida
+     * @throws DialogoMentoriaException se a mensagem não for da mentoria do participante
+     */
+    public void confirmar(Participante participante, Long mensagemId) {
+        Long mentoriaId = participante.getMentoria().getId();
+        if (mensagemId == null || !(recente(mentoriaId, mensagemId)
+                || dialogoMentoriaRepository.existsByMentoria_IdAndChave(mentoriaId, mensagemId))) {
+            throw new DialogoMentoriaException("Mensagem não encontrada nesta mentoria.");
+        }
+        publicar(evento(proximoId(), EventoChat.CONFIRMACAO, participante, mensagemId, null));
+    }
+
+    /**
+     * Retorna o ID a partir do qual um cliente que acabou de ler o histórico do banco
+     * deve pedir as mensagens recentes: nenhuma mensagem posterior a ele foi perdida,
+     * mesmo que ainda não tenha sido gravada.
+     * @return ID do último evento já refletido no banco
+     */
+    public long marcaDoHistorico() {
+        synchronized (naoGravadas) {
+            return naoGravadas.isEmpty() ? ultimoId : naoGravadas.first() - 1;
+        }
+    }
+
+    /**
+     * Grava as mensagens da fila, em lotes de uma transação cada.
+     * As que falharem voltam para a fila depois de esvaziá-la, para o próximo ciclo.
+     */
+    @Scheduled(fixedDelayString = "${systers.chat.intervalo-ms:200}")
+    public synchronized void gravar() {
+        List<EventoChat> lote = new ArrayList<>(tamanhoLote);
+        Map<EventoChat, RuntimeException> naoGravadasNoCiclo = new LinkedHashMap<>();
+        for (EventoChat evento; lote.size() < tamanhoLote && (evento = retidas.poll()) != null; ) {
+            lote.add(evento);
+        }
+        while (!lote.isEmpty() || fila.drainTo(lote, tamanhoLote) > 0) {
+            gravarLote(lote, naoGravadasNoCiclo);
+            lote.clear();
+        }
+        naoGravadasNoCiclo.forEach(this::tentarDeNovo);
+    }
+
+    /**
+     * Envia um ping a todas as conexões para mantê-las abertas em proxies
+     * e descobrir clientes que já saíram.
+     */
+    @Scheduled(fixedDelayString = "${systers.notificacoes.sse.ping-ms:25000}")
+    public void manterConexoesVivas() {
+        conexoes.forEach((mentoriaId, daMentoria) -> daMentoria.forEach(conexao -> {
+            conexao.manterViva();
+            if (conexao.isEncerrada()) {
+                remover(mentoriaId, conexao);
+            }
+        }));
+    }
+
+    /**
+     * Retorna as métricas do chat.
+     * @return Mapa com conexões, mensagens enviadas, pendentes, gravadas, reenfileiradas,
+     *         retidas e guardadas como falha, e lotes
+     */
+    public Map<String, Object> metricas() {
+        int totalConexoes = conexoes.values().stream().mapToInt(Set::size).sum();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("mentorias", conexoes.size());
+        resultado.put("conexoes", totalConexoes);
+        resultado.put("enviadas", enviadas.sum());
+        resultado.put("pendentes", fila.size());
+        resultado.put("gravadas", gravadas.sum());
+        resultado.put("reenfileiradas", reenfileiradas.sum());
+        resultado.put("retidas", retidas.size());
+        resultado.put("falhas", falhas.sum());
+        resultado.put("lotes", lotes.sum());
+        return resultado;
+    }
+
+    /**
+     * Grava as mensagens pendentes e encerra as conexões quando a aplicação é desligada.
+     */
+    @PreDestroy
+    public void encerrar() {
+        gravar();
+        conexoes.values().forEach(daMentoria -> daMentoria.forEach(ConexaoSse::encerrar));
+        conexoes.clear();
+        executor.shutdown();
+    }
+
+    /**
+     * Grava o lote em uma transação; se falhar, grava as mensagens uma a uma
+     * e acrescenta a {@code falhas} as que continuarem falhando, com o erro.
+     */
+    private void gravarLote(List<EventoChat> lote, Map<EventoChat, RuntimeException> falhas) {
+        try {
+            transacao.executeWithoutResult(status ->
+                    dialogoMentoriaRepository.saveAll(lote.stream().map(this::paraDialogo).toList()));
+            lotes.increment();
+            lote.forEach(this::gravada);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar lote de {} mensagens de chat; gravando uma a uma", lote.size(), e);
+            for (EventoChat evento : lote) {
+                try {
+                    transacao.executeWithoutResult(status -> dialogoMentoriaRepository.save(paraDialogo(evento)));
+                    gravada(evento);
+                } catch (RuntimeException falha) {
+                    log.warn("Falha ao gravar a mensagem {} da mentoria {}", evento.id(), evento.mentoriaId(), falha);
+                    falhas.put(evento, falha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Devolve à fila uma mensagem que falhou; esgotadas as tentativas, ou com a fila
+     * cheia, guarda-a como falha. Se nem isso for possível, retém a mensagem em memória
+     * para o próximo ciclo.
+     */
+    private void tentarDeNovo(EventoChat evento, RuntimeException erro) {
+        int tentativa = tentativas.merge(evento.id(), 1, Integer::sum);
+        if (tentativa < tentativasMaximas && fila.offer(evento)) {
+            reenfileiradas.increment();
+            return;
+        }
+        try {
+            transacao.executeWithoutResult(status -> falhaGravacaoChatRepository.save(paraFalha(evento, erro)));
+        } catch (RuntimeException e) {
+            log.error("Mensagem {} da mentoria {} retida em memória", evento.id(), evento.mentoriaId(), e);
+            retidas.add(evento);
+            return;
+        }
+        log.error("Mensagem {} da mentoria {} guardada como falha após {} tentativas",
+                evento.id(), evento.mentoriaId(), tentativa);
+        falhas.increment();
+        removerDasNaoGravadas(evento);
+        publicar(new EventoChat(proximoId(), EventoChat.FALHA, evento.mentoriaId(), evento.id(),
+                evento.participanteId(), evento.autor(), evento.login(), null,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)));
+    }
+
+    private void gravada(EventoChat evento) {
+        gravadas.increment();
+        removerDasNaoGravadas(evento);
+    }
+
+    private void removerDasNaoGravadas(EventoChat evento) {
+        tentativas.remove(evento.id());
+        synchronized (naoGravadas) {
+            naoGravadas.remove(evento.id());
+        }
+    }
+
+    private static FalhaGravacaoChat paraFalha(EventoChat evento, RuntimeException erro) {
+        String descricao = String.valueOf(erro);
+        FalhaGravacaoChat falha = new FalhaGravacaoChat();
+        falha.setChave(evento.id());
+        falha.setMentoriaId(evento.mentoriaId());
+        falha.setParticipanteId(evento.participanteId());
+        falha.setMensagem(evento.mensagem());
+        falha.setDataHora(evento.dataHora());
+        falha.setErro(descricao.length() > 500 ? descricao.substring(0, 500) : descricao);
+        falha.setRegistradaEm(LocalDateTime.now());
+        return falha;
+    }
+
+    private boolean recente(Long mentoriaId, Long mensagemId) {
+        Deque<EventoChat> daMentoria = recentes.get(mentoriaId);
+        if (daMentoria == null) {
+            return false;
+        }
+        synchronized (daMentoria) {
+            return daMentoria.stream().anyMatch(evento -> evento.id() == mensagemId);
+        }
+    }
+
+    private DialogoMentoria paraDialogo(EventoChat evento) {
+        DialogoMentoria dialogo = new DialogoMentoria(null, evento.mensagem(),
+                mentoriaRepository.getReferenceById(evento.mentoriaId()),
+                participanteRepository.getReferenceById(evento.participanteId()),
+                evento.dataHora());
+        dialogo.setChave(evento.id());
+        return dialogo;
+    }
+
+    private void publicar(EventoChat evento) {
+        Set<ConexaoSse<EventoChat>> daMentoria = conexoes.get(evento.mentoriaId());
+        if (daMentoria != null) {
+            daMentoria.forEach(conexao -> conexao.publicar(evento));
+        }
+    }
+
+    private long proximoId() {
+        synchronized (naoGravadas) {
+            return ++ultimoId;
+        }
+    }
+
+    private static EventoChat evento(long id, String tipo, Participante participante, Long mensagemId, String mensagem) {
+        return new EventoChat(id, tipo, participante.getMentoria().getId(), mensagemId, participante.getId(),
+                participante.getNome(), participante.getUsuario().getLogin(), mensagem,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    private void remover(Long mentoriaId, ConexaoSse<EventoChat> conexao) {
+        conexoes.computeIfPresent(mentoriaId, (id, daMentoria) -> {
+            daMentoria.remove(conexao);
+            return daMentoria.isEmpty() ? null : daMentoria;
+        });
+    }
+}
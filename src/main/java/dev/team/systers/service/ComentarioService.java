@@ -5,13 +5,17 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.dto.NotificacaoAgrupavel;
 import dev.team.systers.exception.ComentarioException;
 import dev.team.systers.model.Comentario;
 import dev.team.systers.model.Membro;
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
 import dev.team.systers.model.Postagem;
 import dev.team.systers.model.Usuario;
 import dev.team.systers.repository.ComentarioRepository;
+import dev.team.systers.repository.GrupoRepository;
 import dev.team.systers.repository.MembroRepository;
 import dev.team.systers.repository.PostagemRepository;
 
@@ -38,24 +42,42 @@ public class ComentarioService {
      */
     private final MembroRepository membroRepository;
 
+    /**
+     * Repositório para acesso aos dados de grupos.
+     */
+    private final GrupoRepository grupoRepository;
+
+    /**
+     * Serviço de distribuição de notificações ao autor da postagem.
+     */
+    private final DistribuicaoNotificacoesService distribuicaoNotificacoesService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param comentarioRepository Repositório de comentários
      * @param postagemRepository Repositório de postagens
      * @param membroRepository Repositório de membros
+     * @param grupoRepository Repositório de grupos
+     * @param distribuicaoNotificacoesService Serviço de distribuição de notificações
      */
     @Autowired
     public ComentarioService(ComentarioRepository comentarioRepository,
                            PostagemRepository postagemRepository,
-                           MembroRepository membroRepository) {
+                           MembroRepository membroRepository,
+                           GrupoRepository grupoRepository,
+                           DistribuicaoNotificacoesService distribuicaoNotificacoesService) {
         this.comentarioRepository = comentarioRepository;
         this.postagemRepository = postagemRepository;
         this.membroRepository = membroRepository;
+        this.grupoRepository = grupoRepository;
+        this.distribuicaoNotificacoesService = distribuicaoNotificacoesService;
     }
 
     /**
      * Cria um novo comentário em uma postagem.
      * Verifica se o usuário é membro do grupo antes de permitir o comentário.
+     * O autor da postagem é notificado de forma assíncrona; comentários seguidos
+     * na mesma postagem são agrupados em um único resumo.
      * 
      * @param postagemId ID da postagem a ser comentada
      * @param conteudo Texto do comentário
@@ -63,6 +85,7 @@ public class ComentarioService {
      * @return Comentário criado
      * @throws ComentarioException se a postagem não existir ou usuário não for membro do grupo
      */
+    @Transactional
     public Comentario criarComentario(Long postagemId, String conteudo, Usuario autor) {
         Postagem postagem = postagemRepository.findById(postagemId)
                 .orElseThrow(() -> new ComentarioException("Postagem não encontrada"));
@@ -76,7 +99,13 @@ public class ComentarioService {
         comentario.setPostagem(postagem);
         comentario.setDataCriacao(LocalDateTime.now());
 
-        return comentarioRepository.save(comentario);
+        Comentario salvo = comentarioRepository.save(comentario);
+        grupoRepository.incrementarVersao(postagem.getGrupo().getId());
+        distribuicaoNotificacoesService.agendarAgrupavel(new NotificacaoAgrupavel(
+                TipoNotificacao.NOVO_COMENTARIO, null, postagem.getAutor().getUsuario().getId(), postagemId, autor.getId(),
+                autor.getLogin() + " comentou na sua postagem",
+                NotificacaoAgrupavel.QUANTIDADE + " novos comentários na sua postagem"));
+        return salvo;
     }
 
     /**
@@ -101,6 +130,7 @@ public class ComentarioService {
         }
 
         comentarioRepository.delete(comentario);
+        grupoRepository.incrementarVersao(comentario.getPostagem().getGrupo().getId());
     }
 
     /**
@@ -0,0 +1,321 @@
+package dev.team.systers.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.team.systers.dto.DenunciaRegistrada;
+import dev.team.systers.model.ContadorDenuncias;
+import dev.team.systers.model.Denuncia;
+import dev.team.systers.model.Denuncia.StatusDenuncia;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.model.Usuario.StatusConta;
+import dev.team.systers.repository.ContadorDenunciasRepository;
+import dev.team.systers.repository.DenunciaRepository;
+import dev.team.systers.repository.UsuarioRepository;
+import dev.team.systers.tools.JanelaDeslizante;
+import dev.team.systers.tools.RegraModeracao;
+
+/**
+ * Serviço responsável pelos contadores de denúncias por usuário e pelas regras de
+ * moderação automática.
+ *
+ * <p>Cada denúncia gravada, resolvida ou alterada ajusta, na mesma transação, os contadores
+ * do usuário denunciado por categoria e status, com uma atualização atômica no banco.
+ * Totais de pendentes são lidos desses contadores, sem percorrer a tabela de denúncias.</p>
+ *
+ * <p>As denúncias recentes ficam também em uma {@link JanelaDeslizante} em memória, com
+ * quem denunciou quem e quando. Após o commit de cada denúncia, as {@link RegraModeracao}
+ * configuradas são avaliadas para o usuário denunciado (por exemplo, cinco denunciantes
+ * distintos em 24 horas) e, se alguma disparar, a conta passa para o status da regra.
+ * Uma regra só agrava o status: contas já suspensas ou banidas não voltam atrás. A
+ * janela é reconstruída na inicialização com as denúncias do período.</p>
+ */
+@Service
+public class ContadoresDenunciasService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContadoresDenunciasService.class);
+
+    /**
+     * Duração mínima da janela, usada quando nenhuma regra é contada em janela.
+     */
+    private static final Duration JANELA_MINIMA = Duration.ofHours(1);
+
+    /**
+     * Repositório dos contadores de denúncias.
+     */
+    private final ContadorDenunciasRepository contadorDenunciasRepository;
+
+    /**
+     * Repositório de denúncias, para reconstruir a janela na inicialização.
+     */
+    private final DenunciaRepository denunciaRepository;
+
+    /**
+     * Repositório de usuários, para o status atual das contas.
+     */
+    private final UsuarioRepository usuarioRepository;
+
+    /**
+     * Serviço de usuários, que altera o status das contas.
+     */
+    private final UsuarioService usuarioService;
+
+    /**
+     * Publicador de eventos do Spring, usado para avaliar as regras após o commit.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Transação própria da avaliação das regras. Após o commit a transação da denúncia
+     * ainda está associada à thread e não aceita novas gravações.
+     */
+    private final TransactionTemplate transacaoNova;
+
+    /**
+     * Regras de moderação automática, na ordem configurada.
+     */
+    private final List<RegraModeracao> regras;
+
+    /**
+     * Duração da janela: a maior entre as regras.
+     */
+    private final Duration duracaoJanela;
+
+    /**
+     * Denúncias recentes por usuário denunciado, com o autor como origem.
+     */
+    private final JanelaDeslizante<Long> janela;
+
+    /**
+     * Quantidade de denúncias avaliadas e de contas alteradas pelas regras.
+     */
+    private final LongAdder avaliadas = new LongAdder();
+    private final LongAdder contasAlteradas = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param contadorDenunciasRepository Repositório dos contadores injetado pelo Spring
+     * @param denunciaRepository Repositório de denúncias injetado pelo Spring
+     * @param usuarioRepository Repositório de usuários injetado pelo Spring
+     * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param regras Regras de moderação automática, no formato {@code metrica>=limite[/janela]:STATUS}
+     */
+    @Autowired
+    public ContadoresDenunciasService(ContadorDenunciasRepository contadorDenunciasRepository,
+                                      DenunciaRepository denunciaRepository,
+                                      UsuarioRepository usuarioRepository,
+                                      UsuarioService usuarioService,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${systers.denuncias.regras:denunciantes>=5/24h:SUSPENSO}") List<String> regras) {
+        this.contadorDenunciasRepository = contadorDenunciasRepository;
+        this.denunciaRepository = denunciaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.usuarioService = usuarioService;
+        this.eventPublisher = eventPublisher;
+        this.transacaoNova = new TransactionTemplate(transactionManager);
+        this.transacaoNova.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.regras = RegraModeracao.lerTodas(regras);
+        this.duracaoJanela = this.regras.stream()
+                .map(RegraModeracao::janela)
+                .filter(Objects::nonNull)
+                .max(Duration::compareTo)
+                .orElse(JANELA_MINIMA);
+        this.janela = new JanelaDeslizante<>(duracaoJanela.toMillis());
+    }
+
+    /**
+     * Conta uma denúncia recém-gravada como pendente e agenda a avaliação das regras
+     * para depois do commit. Deve ser chamado na transação que grava a denúncia.
+     *
+     * @param denuncia Denúncia gravada
+     */
+    @Transactional
+    public void registrar(Denuncia denuncia) {
+        Long reportadoId = denuncia.getUsuarioReportado().getId();
+        contadorDenunciasRepository.somar(reportadoId, denuncia.getCategoria(), StatusDenuncia.PENDENTE.name(), 1,
+                LocalDateTime.now());
+        eventPublisher.publishEvent(new DenunciaRegistrada(denuncia.getId(), denuncia.getUsuarioAutor().getId(),
+                reportadoId, denuncia.getDataHora() != null ? denuncia.getDataHora() : LocalDateTime.now()));
+    }
+
+    /**
+     * Move uma denúncia de um contador para outro após mudar de categoria ou de status.
+     * Deve ser chamado na transação que altera a denúncia.
+     *
+     * @param usuarioId ID do usuário denunciado
+     * @param categoriaAnterior Categoria antes da alteração
+     * @param statusAnterior Status antes da alteração
+     * @param categoria Categoria atual
+     * @param status Status atual
+     */
+    @Transactional
+    public void alterar(Long usuarioId, String categoriaAnterior, StatusDenuncia statusAnterior,
+                        String categoria, StatusDenuncia status) {
+        if (Objects.equals(categoriaAnterior, categoria) && statusAnterior == status) {
+            return;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        contadorDenunciasRepository.somar(usuarioId, categoriaAnterior, statusAnterior.name(), -1, agora);
+        contadorDenunciasRepository.somar(usuarioId, categoria, status.name(), 1, agora);
+    }
+
+    /**
+     * Move uma denúncia de pendente para atendida nos contadores.
+     * Deve ser chamado na transação que resolve a denúncia.
+     *
+     * @param usuarioId ID do usuário denunciado
+     * @param categoria Categoria da denúncia
+     */
+    @Transactional
+    public void resolver(Long usuarioId, String categoria) {
+        resolver(usuarioId, categoria, 1);
+    }
+
+    /**
+     * Move várias denúncias da mesma categoria de pendentes para atendidas nos contadores.
+     * Deve ser chamado na transação que resolve as denúncias.
+     *
+     * @param usuarioId ID do usuário denunciado
+     * @param categoria Categoria das denúncias
+     * @param quantidade Quantidade de denúncias resolvidas
+     */
+    @Transactional
+    public void resolver(Long usuarioId, String categoria, long quantidade) {
+        LocalDateTime agora = LocalDateTime.now();
+        contadorDenunciasRepository.somar(usuarioId, categoria, StatusDenuncia.PENDENTE.name(), -quantidade, agora);
+        contadorDenunciasRepository.somar(usuarioId, categoria, StatusDenuncia.ATENDIDA.name(), quantidade, agora);
+    }
+
+    /**
+     * Retorna a quantidade de denúncias pendentes contra um usuário.
+     * @param usuarioId ID do usuário denunciado
+     * @return Quantidade de denúncias pendentes
+     */
+    public long pendentes(Long usuarioId) {
+        return contadorDenunciasRepository.somarPendentes(usuarioId);
+    }
+
+    /**
+     * Retorna os contadores de um usuário, por categoria e status.
+     * @param usuarioId ID do usuário denunciado
+     * @return Contadores do usuário
+     */
+    public List<ContadorDenuncias> contadoresDoUsuario(Long usuarioId) {
+        return contadorDenunciasRepository.findByUsuarioIdOrderByCategoriaAscStatusAsc(usuarioId);
+    }
+
+    /**
+     * Cria os contadores a partir das denúncias existentes, se ainda não houver nenhum,
+     * e carrega na janela as denúncias do período.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        if (contadorDenunciasRepository.count() == 0) {
+            contadorDenunciasRepository.reconstruir(LocalDateTime.now());
+        }
+        for (Object[] linha : denunciaRepository.findRegistradasDesde(LocalDateTime.now().minus(duracaoJanela))) {
+            janela.registrar(((Number) linha[0]).longValue(), emMs(emData(linha[2])), ((Number) linha[1]).longValue());
+        }
+    }
+
+    /**
+     * Registra a denúncia na janela e avalia as regras para o usuário denunciado, após o commit,
+     * em uma transação nova.
+     *
+     * @param evento Denúncia registrada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoRegistrarDenuncia(DenunciaRegistrada evento) {
+        janela.registrar(evento.reportadoId(), emMs(evento.dataHora()), evento.autorId());
+        avaliadas.increment();
+        try {
+            transacaoNova.executeWithoutResult(status -> avaliar(evento.reportadoId()));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao avaliar as regras de moderação para o usuário {}", evento.reportadoId(), e);
+        }
+    }
+
+    /**
+     * Descarta da janela as denúncias que saíram do período.
+     */
+    @Scheduled(fixedDelayString = "${systers.denuncias.limpeza-ms:600000}",
+               initialDelayString = "${systers.denuncias.limpeza-ms:600000}")
+    public void limpar() {
+        janela.descartarAntesDe(System.currentTimeMillis() - duracaoJanela.toMillis());
+    }
+
+    /**
+     * Retorna as métricas dos contadores e das regras.
+     * @return Mapa com as regras, o tamanho da janela, as denúncias avaliadas e as contas alteradas
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("regras", regras.stream().map(RegraModeracao::toString).toList());
+        resultado.put("usuariosNaJanela", janela.chaves());
+        resultado.put("denunciasNaJanela", janela.tamanho());
+        resultado.put("avaliadas", avaliadas.sum());
+        resultado.put("contasAlteradas", contasAlteradas.sum());
+        return resultado;
+    }
+
+    /**
+     * Aplica à conta o status mais grave entre as regras que dispararam,
+     * se for mais grave que o atual.
+     */
+    private void avaliar(Long usuarioId) {
+        long agora = System.currentTimeMillis();
+        long pendentes = regras.stream().anyMatch(regra -> regra.metrica() == RegraModeracao.Metrica.PENDENTES)
+                ? pendentes(usuarioId) : 0;
+        RegraModeracao disparada = null;
+        for (RegraModeracao regra : regras) {
+            if (regra.disparou(janela, usuarioId, agora, pendentes) && (disparada == null || regra.status().ordinal() > disparada.status().ordinal())) {
+                disparada = regra;
+            }
+        }
+        if (disparada == null) {
+            return;
+        }
+        Usuario usuario = usuarioRepository.findById(usuarioId).orElse(null);
+        StatusConta atual = usuario != null && usuario.getStatusConta() != null ? usuario.getStatusConta() : StatusConta.NORMAL;
+        if (usuario == null || atual.ordinal() >= disparada.status().ordinal()) {
+            return;
+        }
+        usuarioService.atualizarStatusUsuario(usuarioId, disparada.status());
+        contasAlteradas.increment();
+        log.info("Conta do usuário {} passou para {} pela regra {}", usuarioId, disparada.status(), disparada);
+    }
+
+    private static LocalDateTime emData(Object valor) {
+        return valor instanceof Timestamp data ? data.toLocalDateTime() : (LocalDateTime) valor;
+    }
+
+    private static long emMs(LocalDateTime horario) {
+        return horario.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,417 @@
+package dev.team.systers.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.team.systers.dto.DisponibilidadeAlterada;
+import dev.team.systers.dto.JanelaDisponibilidade;
+import dev.team.systers.dto.MentorCompativel;
+import dev.team.systers.dto.NotaMentor;
+import dev.team.systers.exception.MentoriaException;
+import dev.team.systers.model.AgregadoAvaliacao;
+import dev.team.systers.model.DisponibilidadeMentor;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.AgregadoAvaliacaoRepository;
+import dev.team.systers.repository.DisponibilidadeMentorRepository;
+import dev.team.systers.tools.ArvoreIntervalos;
+
+/**
+ * Serviço responsável por sugerir mentores compatíveis com um mentorado.
+ *
+ * <p>Os mentores publicam janelas de disponibilidade com os temas que atendem.
+ * As janelas válidas ficam em uma {@link ArvoreIntervalos} em memória, em horário
+ * absoluto (já convertidas pelo fuso horário de cada mentor), carregada na
+ * inicialização e atualizada a cada janela criada ou removida, após o commit.
+ * Uma consulta busca as janelas que se sobrepõem ao período pedido, agrupa por
+ * mentor, pontua por temas em comum, tempo disponível e avaliação, e devolve os
+ * melhores sem ir ao banco.</p>
+ */
+@Service
+public class CorrespondenciaMentoriaService {
+
+    /**
+     * Avaliações fictícias somadas à média de cada mentor, para que poucas notas
+     * não dominem a ordenação.
+     */
+    private static final int AVALIACOES_PRIORI = 2;
+
+    /**
+     * Nota atribuída às avaliações fictícias.
+     */
+    private static final double NOTA_PRIORI = 3.0;
+
+    /**
+     * Nota máxima de uma avaliação.
+     */
+    private static final double NOTA_MAXIMA = 5.0;
+
+    /**
+     * Repositório das janelas de disponibilidade.
+     */
+    private final DisponibilidadeMentorRepository disponibilidadeRepository;
+
+    /**
+     * Repositório dos agregados de avaliações, usado para as médias dos mentores.
+     */
+    private final AgregadoAvaliacaoRepository agregadoAvaliacaoRepository;
+
+    /**
+     * Publicador de eventos do Spring, usado para atualizar o índice após o commit.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Quantidade máxima de mentores devolvidos por consulta.
+     */
+    private final int limiteMaximo;
+
+    /**
+     * Índice das janelas válidas, por horário absoluto em milissegundos.
+     */
+    private final ArvoreIntervalos<JanelaDisponibilidade> indice = new ArvoreIntervalos<>();
+
+    /**
+     * Janelas indexadas, por ID, para remoção.
+     */
+    private final Map<Long, JanelaDisponibilidade> janelas = new HashMap<>();
+
+    /**
+     * Protege o índice: consultas em paralelo, alterações exclusivas.
+     */
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Média e quantidade de avaliações por mentor; substituído a cada atualização.
+     */
+    private volatile Map<Long, NotaMentor> notas = Map.of();
+
+    /**
+     * Quantidade de consultas e tempo total gasto nelas, em nanossegundos.
+     */
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder tempoConsultasNanos = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param disponibilidadeRepository Repositório de disponibilidade injetado pelo Spring
+     * @param agregadoAvaliacaoRepository Repositório dos agregados de avaliações injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param limiteMaximo Quantidade máxima de mentores por consulta
+     */
+    @Autowired
+    public CorrespondenciaMentoriaService(DisponibilidadeMentorRepository disponibilidadeRepository,
+                                          AgregadoAvaliacaoRepository agregadoAvaliacaoRepository,
+                                          ApplicationEventPublisher eventPublisher,
+                                          @Value("${systers.correspondencia.limite-maximo:50}") int limiteMaximo) {
+        this.disponibilidadeRepository = disponibilidadeRepository;
+        this.agregadoAvaliacaoRepository = agregadoAvaliacaoRepository;
+        this.eventPublisher = eventPublisher;
+        this.limiteMaximo = limiteMaximo;
+    }
+
+    /**
+     * Publica uma janela de disponibilidade de um mentor.
+     *
+     * @param mentor Usuário mentor
+     * @param inicio Início da janela, no fuso horário do mentor
+     * @param fim Fim da janela, no fuso horário do mentor
+     * @param temas Temas atendidos, separados por vírgula
+     * @return Janela criada
+     * @throws MentoriaException se o usuário não for mentor ou o período for inválido
+     */
+    @Transactional
+    public DisponibilidadeMentor publicarDisponibilidade(Usuario mentor, LocalDateTime inicio, LocalDateTime fim, String temas) {
+        if (mentor.getTipoMentor() == null || !mentor.getTipoMentor()) {
+            throw new MentoriaException("Usuário não é um mentor.");
+        }
+        if (inicio == null || fim == null || !fim.isAfter(inicio)) {
+            throw new MentoriaException("O fim da disponibilidade deve ser posterior ao início.");
+        }
+        if (!fim.atZone(zona(mentor)).toInstant().isAfter(Instant.now())) {
+            throw new MentoriaException("A disponibilidade deve terminar no futuro.");
+        }
+        Set<String> listaTemas = normalizarTemas(temas);
+        if (listaTemas.isEmpty()) {
+            throw new MentoriaException("Informe ao menos um tema.");
+        }
+        DisponibilidadeMentor disponibilidade = new DisponibilidadeMentor();
+        disponibilidade.setMentor(mentor);
+        disponibilidade.setInicio(inicio);
+        disponibilidade.setFim(fim);
+        disponibilidade.setTemas(String.join(",", listaTemas));
+        disponibilidadeRepository.save(disponibilidade);
+        eventPublisher.publishEvent(new DisponibilidadeAlterada(disponibilidade.getId()));
+        return disponibilidade;
+    }
+
+    /**
+     * Remove uma janela de disponibilidade.
+     *
+     * @param disponibilidadeId ID da janela
+     * @param mentor Usuário que solicita a remoção
+     * @throws MentoriaException se a janela não existir ou não for do usuário
+     */
+    @Transactional
+    public void removerDisponibilidade(Long disponibilidadeId, Usuario mentor) {
+        DisponibilidadeMentor disponibilidade = disponibilidadeRepository.findById(disponibilidadeId)
+                .orElseThrow(() -> new MentoriaException("Disponibilidade não encontrada"));
+        if (!disponibilidade.getMentor().getId().equals(mentor.getId())) {
+            throw new MentoriaException("A disponibilidade pertence a outro mentor.");
+        }
+        disponibilidadeRepository.delete(disponibilidade);
+        eventPublisher.publishEvent(new DisponibilidadeAlterada(disponibilidadeId));
+    }
+
+    /**
+     * Lista as janelas ainda válidas de um mentor.
+     * @param mentorId ID do mentor
+     * @return Janelas do mentor, das mais próximas para as mais distantes
+     */
+    public List<DisponibilidadeMentor> listarDisponibilidades(Long mentorId) {
+        return disponibilidadeRepository.findValidasDoMentor(mentorId, LocalDateTime.now().minusDays(1));
+    }
+
+    /**
+     * Busca os mentores mais compatíveis com um mentorado em um período.
+     * Só entram mentores com disponibilidade sobreposta ao período e, se temas forem
+     * informados, com ao menos um tema em comum.
+     *
+     * @param mentorado Usuário que procura mentoria
+     * @param inicio Início do período, no fuso horário do mentorado
+     * @param fim Fim do período, no fuso horário do mentorado
+     * @param temas Temas de interesse, separados por vírgula (opcional)
+     * @param limite Quantidade máxima de mentores
+     * @return Mentores compatíveis, do mais para o menos compatível
+     * @throws MentoriaException se o período for inválido
+     */
+    public List<MentorCompativel> buscarMentoresCompativeis(Usuario mentorado, LocalDateTime inicio, LocalDateTime fim,
+                                                            String temas, int limite) {
+        if (inicio == null || fim == null || !fim.isAfter(inicio)) {
+            throw new MentoriaException("O fim do período deve ser posterior ao início.");
+        }
+        long comeco = System.nanoTime();
+        ZoneId zonaMentorado = zona(mentorado);
+        long inicioMs = inicio.atZone(zonaMentorado).toInstant().toEpochMilli();
+        long fimMs = fim.atZone(zonaMentorado).toInstant().toEpochMilli();
+        Set<String> temasPedidos = normalizarTemas(temas);
+
+        List<JanelaDisponibilidade> sobrepostas;
+        trava.readLock().lock();
+        try {
+            sobrepostas = indice.sobrepostos(inicioMs, fimMs);
+        } finally {
+            trava.readLock().unlock();
+        }
+
+        Map<Long, List<JanelaDisponibilidade>> porMentor = new HashMap<>();
+        for (JanelaDisponibilidade janela : sobrepostas) {
+            if (!janela.mentorId().equals(mentorado.getId())) {
+                porMentor.computeIfAbsent(janela.mentorId(), id -> new ArrayList<>()).add(janela);
+            }
+        }
+
+        int k = Math.max(1, Math.min(limite, limiteMaximo));
+        Map<Long, NotaMentor> notasAtuais = notas;
+        PriorityQueue<MentorCompativel> melhores = new PriorityQueue<>(Comparator.comparingDouble(MentorCompativel::pontuacao));
+        for (List<JanelaDisponibilidade> doMentor : porMentor.values()) {
+            MentorCompativel candidato = pontuar(doMentor, temasPedidos, inicioMs, fimMs, zonaMentorado, notasAtuais);
+            if (candidato == null) {
+                continue;
+            }
+            melhores.add(candidato);
+            if (melhores.size() > k) {
+                melhores.poll();
+            }
+        }
+
+        List<MentorCompativel> resultado = new ArrayList<>(melhores);
+        resultado.sort(Comparator.comparingDouble(MentorCompativel::pontuacao).reversed());
+        consultas.increment();
+        tempoConsultasNanos.add(System.nanoTime() - comeco);
+        return resultado;
+    }
+
+    /**
+     * Monta o índice com as janelas válidas e carrega as médias dos mentores.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        List<DisponibilidadeMentor> validas = disponibilidadeRepository.findValidasComMentor(LocalDateTime.now().minusDays(1));
+        trava.writeLock().lock();
+        try {
+            indice.limpar();
+            janelas.clear();
+            validas.forEach(this::indexar);
+        } finally {
+            trava.writeLock().unlock();
+        }
+        atualizarNotas();
+    }
+
+    /**
+     * Atualiza o índice com a janela criada ou removida, após o commit.
+     * @param evento Janela alterada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoAlterarDisponibilidade(DisponibilidadeAlterada evento) {
+        DisponibilidadeMentor disponibilidade = disponibilidadeRepository.findComMentorById(evento.disponibilidadeId()).orElse(null);
+        trava.writeLock().lock();
+        try {
+            desindexar(evento.disponibilidadeId());
+            if (disponibilidade != null) {
+                indexar(disponibilidade);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recarrega as médias dos mentores e retira do índice as janelas já encerradas.
+     */
+    @Scheduled(fixedDelayString = "${systers.correspondencia.intervalo-ms:300000}",
+               initialDelayString = "${systers.correspondencia.intervalo-ms:300000}")
+    public void atualizar() {
+        atualizarNotas();
+        long agora = System.currentTimeMillis();
+        trava.writeLock().lock();
+        try {
+            janelas.values().stream()
+                    .filter(janela -> janela.fimMs() <= agora)
+                    .map(JanelaDisponibilidade::disponibilidadeId)
+                    .toList()
+                    .forEach(this::desindexar);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna as métricas da busca de mentores.
+     * @return Mapa com tamanho do índice e tempo médio das consultas
+     */
+    public Map<String, Object> metricas() {
+        long total = consultas.sum();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        trava.readLock().lock();
+        try {
+            resultado.put("janelasIndexadas", indice.tamanho());
+        } finally {
+            trava.readLock().unlock();
+        }
+        resultado.put("mentoresAvaliados", notas.size());
+        resultado.put("consultas", total);
+        resultado.put("tempoMedioConsultaMs", total == 0 ? 0.0 : tempoConsultasNanos.sum() / 1_000_000.0 / total);
+        return resultado;
+    }
+
+    /**
+     * Pontua um mentor pelas suas janelas sobrepostas ao período pedido.
+     * @return Mentor pontuado, ou null se não tiver nenhum dos temas pedidos
+     */
+    private static MentorCompativel pontuar(List<JanelaDisponibilidade> janelasDoMentor, Set<String> temasPedidos,
+                                            long inicioMs, long fimMs, ZoneId zonaMentorado, Map<Long, NotaMentor> notasAtuais) {
+        Set<String> temasMentor = new LinkedHashSet<>();
+        long sobreposicaoMs = 0;
+        long primeiroInicioMs = Long.MAX_VALUE;
+        for (JanelaDisponibilidade janela : janelasDoMentor) {
+            long inicio = Math.max(inicioMs, janela.inicioMs());
+            sobreposicaoMs += Math.min(fimMs, janela.fimMs()) - inicio;
+            primeiroInicioMs = Math.min(primeiroInicioMs, inicio);
+            temasMentor.addAll(janela.temas());
+        }
+        List<String> emComum = temasPedidos.isEmpty()
+                ? List.copyOf(temasMentor)
+                : temasPedidos.stream().filter(temasMentor::contains).toList();
+        if (!temasPedidos.isEmpty() && emComum.isEmpty()) {
+            return null;
+        }
+        JanelaDisponibilidade primeira = janelasDoMentor.get(0);
+        NotaMentor nota = notasAtuais.get(primeira.mentorId());
+        double fracaoTemas = temasPedidos.isEmpty() ? 1.0 : (double) emComum.size() / temasPedidos.size();
+        double fracaoTempo = Math.min(1.0, (double) sobreposicaoMs / (fimMs - inicioMs));
+        double notaSuavizada = nota == null ? NOTA_PRIORI
+                : (nota.media() * nota.quantidade() + NOTA_PRIORI * AVALIACOES_PRIORI) / (nota.quantidade() + AVALIACOES_PRIORI);
+        double pontuacao = 0.5 * fracaoTemas + 0.3 * fracaoTempo + 0.2 * notaSuavizada / NOTA_MAXIMA;
+        return new MentorCompativel(primeira.mentorId(), primeira.login(), primeira.nome(), emComum,
+                Duration.ofMillis(sobreposicaoMs).toMinutes(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(primeiroInicioMs), zonaMentorado),
+                nota != null ? nota.media() : null, nota != null ? nota.quantidade() : 0, pontuacao);
+    }
+
+    private void atualizarNotas() {
+        Map<Long, NotaMentor> novas = new HashMap<>();
+        for (AgregadoAvaliacao agregado : agregadoAvaliacaoRepository.findByEscopo(AgregadoAvaliacao.Escopo.MENTOR)) {
+            if (agregado.getQuantidade() > 0) {
+                novas.put(agregado.getReferenciaId(),
+                        new NotaMentor((double) agregado.getSoma() / agregado.getQuantidade(), agregado.getQuantidade()));
+            }
+        }
+        notas = novas;
+    }
+
+    /**
+     * Insere a janela no índice. Deve ser chamado com a trava de escrita.
+     */
+    private void indexar(DisponibilidadeMentor disponibilidade) {
+        Usuario mentor = disponibilidade.getMentor();
+        ZoneId zonaMentor = zona(mentor);
+        JanelaDisponibilidade janela = new JanelaDisponibilidade(disponibilidade.getId(), mentor.getId(), mentor.getLogin(), mentor.getNome(),
+                disponibilidade.getInicio().atZone(zonaMentor).toInstant().toEpochMilli(),
+                disponibilidade.getFim().atZone(zonaMentor).toInstant().toEpochMilli(),
+                normalizarTemas(disponibilidade.getTemas()));
+        indice.inserir(janela.inicioMs(), janela.fimMs(), janela.disponibilidadeId(), janela);
+        janelas.put(janela.disponibilidadeId(), janela);
+    }
+
+    /**
+     * Retira a janela do índice. Deve ser chamado com a trava de escrita.
+     */
+    private void desindexar(Long disponibilidadeId) {
+        JanelaDisponibilidade janela = janelas.remove(disponibilidadeId);
+        if (janela != null) {
+            indice.remover(janela.inicioMs(), disponibilidadeId);
+        }
+    }
+
+    private static ZoneId zona(Usuario usuario) {
+        return usuario.getFusoHorario() != null ? usuario.getFusoHorario().toZoneId() : ZoneId.systemDefault();
+    }
+
+    private static Set<String> normalizarTemas(String temas) {
+        if (temas == null || temas.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(temas.split(","))
+                .map(tema -> tema.trim().toLowerCase())
+                .filter(tema -> !tema.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -6,8 +6,11 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.evento.DenunciaResolvida;
 import dev.team.systers.model.Denuncia;
+import dev.team.systers.model.Usuario;
 import dev.team.systers.repository.DenunciaRepository;
 
 /**
@@ -28,15 +31,46 @@ public class DenunciaService {
      */
     private final UsuarioService usuarioService;
 
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
+    /**
+     * Serviço da fila de moderação, que classifica a gravidade das denúncias.
+     */
+    private final ModeracaoService moderacaoService;
+
+    /**
+     * Serviço dos contadores de denúncias por usuário.
+     */
+    private final ContadoresDenunciasService contadoresDenunciasService;
+
+    /**
+     * Serviço das séries temporais de denúncias.
+     */
+    private final SeriesDenunciasService seriesDenunciasService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param denunciaRepository Repositório de denúncias injetado pelo Spring
      * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param eventoDominioService Serviço de eventos de domínio injetado pelo Spring
+     * @param moderacaoService Serviço da fila de moderação injetado pelo Spring
+     * @param contadoresDenunciasService Serviço dos contadores de denúncias injetado pelo Spring
+     * @param seriesDenunciasService Serviço das séries de denúncias injetado pelo Spring
      */
     @Autowired
-    public DenunciaService(DenunciaRepository denunciaRepository, UsuarioService usuarioService) {
+    public DenunciaService(DenunciaRepository denunciaRepository, UsuarioService usuarioService,
+                           EventoDominioService eventoDominioService, ModeracaoService moderacaoService,
+                           ContadoresDenunciasService contadoresDenunciasService,
+                           SeriesDenunciasService seriesDenunciasService) {
         this.denunciaRepository = denunciaRepository;
         this.usuarioService = usuarioService;
+        this.eventoDominioService = eventoDominioService;
+        this.moderacaoService = moderacaoService;
+        this.contadoresDenunciasService = contadoresDenunciasService;
+        this.seriesDenunciasService = seriesDenunciasService;
     }
 
     /**
@@ -103,11 +137,16 @@ public class DenunciaService {
      * @return Denúncia salva com dados atualizados
      * @throws IllegalArgumentException se a denúncia for inválida
      */
+    @Transactional
     public Denuncia salvarDenuncia(Denuncia denuncia) {
         validarDenuncia(denuncia);
         denuncia.setDataHora(LocalDateTime.now());
         denuncia.setStatus(Denuncia.StatusDenuncia.PENDENTE);
-        return denunciaRepository.save(denuncia);
+        denuncia.setGravidade(moderacaoService.gravidade(denuncia.getCategoria()));
+        Denuncia salva = denunciaRepository.save(denuncia);
+        contadoresDenunciasService.registrar(salva);
+        seriesDenunciasService.registrar(salva.getCategoria(), salva.getDataHora());
+        return salva;
     }
 
     /**
@@ -156,6 +195,7 @@ public class DenunciaService {
      * @return Optional contendo a denúncia atualizada se encontrada
      * @throws IllegalArgumentException se o ID ou denúncia forem nulos
      */
+    @Transactional
     public Optional<Denuncia> atualizarDenuncia(Long id, Denuncia denuncia) {
         if (id == null || denuncia == null) {
             throw new IllegalArgumentException("ID e denúncia não podem ser nulos");
@@ -163,10 +203,26 @@ public class DenunciaService {
 
         return denunciaRepository.findById(id)
             .map(denunciaExistente -> {
+                String categoriaAnterior = denunciaExistente.getCategoria();
+                Denuncia.StatusDenuncia statusAnterior = denunciaExistente.getStatus();
                 denunciaExistente.setDescricao(denuncia.getDescricao());
                 denunciaExistente.setCategoria(denuncia.getCategoria());
+                denunciaExistente.setGravidade(moderacaoService.gravidade(denuncia.getCategoria()));
                 denunciaExistente.setStatus(denuncia.getStatus());
-                return denunciaRepository.save(denunciaExistente);
+                boolean resolvida = statusAnterior != Denuncia.StatusDenuncia.ATENDIDA
+                        && denuncia.getStatus() == Denuncia.StatusDenuncia.ATENDIDA;
+                if (resolvida) {
+                    denunciaExistente.setResolvidaEm(LocalDateTime.now());
+                } else if (denuncia.getStatus() != Denuncia.StatusDenuncia.ATENDIDA) {
+                    denunciaExistente.setResolvidaEm(null);
+                }
+                Denuncia salva = denunciaRepository.save(denunciaExistente);
+                contadoresDenunciasService.alterar(salva.getUsuarioReportado().getId(),
+                        categoriaAnterior, statusAnterior, salva.getCategoria(), salva.getStatus());
+                if (resolvida) {
+                    seriesDenunciasService.resolver(salva.getCategoria(), List.of(salva.getDataHora()), salva.getResolvidaEm());
+                }
+                return salva;
             });
     }
 
@@ -202,13 +258,34 @@ public class DenunciaService {
 
     /**
      * Marca uma denúncia como resolvida.
+     * Se a denúncia ainda estava pendente, publica o evento {@link DenunciaResolvida},
+     * a partir do qual seu autor é notificado de forma assíncrona.
+     * Uma reserva da denúncia na fila de moderação é encerrada.
+     * A linha da denúncia é bloqueada antes de o status ser lido, como na fila e no lote:
+     * se ela for resolvida ao mesmo tempo por outro caminho, só um deles a encontra pendente,
+     * e os contadores, as séries e o evento são atualizados uma única vez.
      * @param id ID da denúncia
+     * @param loginModerador Login de quem resolveu a denúncia
      * @return True se a denúncia foi resolvida com sucesso, false caso contrário
      */
-    public boolean resolverDenuncia(Long id) {
-        return denunciaRepository.findById(id).map(denuncia -> {
+    @Transactional
+    public boolean resolverDenuncia(Long id, String loginModerador) {
+        return denunciaRepository.findParaResolverById(id).map(denuncia -> {
+            if (denuncia.getStatus() == Denuncia.StatusDenuncia.ATENDIDA) {
+                return true;
+            }
             denuncia.setStatus(Denuncia.StatusDenuncia.ATENDIDA);
+            denuncia.setReservadaPor(null);
+            denuncia.setReservadaAte(null);
+            denuncia.setResolvidaEm(LocalDateTime.now());
             denunciaRepository.save(denuncia);
+            contadoresDenunciasService.resolver(denuncia.getUsuarioReportado().getId(), denuncia.getCategoria());
+            seriesDenunciasService.resolver(denuncia.getCategoria(), List.of(denuncia.getDataHora()), denuncia.getResolvidaEm());
+            Usuario moderador = usuarioService.encontrarPorLogin(loginModerador);
+            eventoDominioService.publicar(new DenunciaResolvida(denuncia.getId(),
+                    denuncia.getUsuarioAutor().getId(),
+                    denuncia.getUsuarioReportado() != null ? denuncia.getUsuarioReportado().getId() : null,
+                    moderador.getId()));
             return true;
         }).orElse(false);
     }
@@ -224,6 +301,7 @@ public class DenunciaService {
     public Denuncia criarDenuncia(String categoria, String descricao, String loginAutor, String loginReportado) {
         Denuncia denuncia = new Denuncia();
         denuncia.setCategoria(categoria);
+        denuncia.setGravidade(moderacaoService.gravidade(categoria));
         denuncia.setDescricao(descricao);
         denuncia.setDataHora(LocalDateTime.now());
         denuncia.setUsuarioAutor(usuarioService.encontrarPorLogin(loginAutor));
@@ -233,14 +311,25 @@ public class DenunciaService {
 
     /**
      * Salva uma denúncia de forma simplificada.
+     * Denúncias novas entram nos contadores do usuário denunciado e nas séries de denúncias.
      * @param denuncia Denúncia a ser salva
      */
+    @Transactional
     public void salvarDenunciaSimples(Denuncia denuncia) {
-        denunciaRepository.save(denuncia);
+        boolean nova = denuncia.getId() == null;
+        if (denuncia.getGravidade() == null) {
+            denuncia.setGravidade(moderacaoService.gravidade(denuncia.getCategoria()));
+        }
+        Denuncia salva = denunciaRepository.save(denuncia);
+        if (nova) {
+            contadoresDenunciasService.registrar(salva);
+            seriesDenunciasService.registrar(salva.getCategoria(), salva.getDataHora());
+        }
     }
 
     /**
      * Lista todas as denúncias pendentes.
+     * Para distribuir o trabalho entre moderadores, use a fila de {@link ModeracaoService}.
      * @return Lista de denúncias com status PENDENTE
      */
     public List<Denuncia> listarPendentes() {
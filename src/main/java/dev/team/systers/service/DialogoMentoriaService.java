@@ -1,11 +1,30 @@
 package dev.team.systers.service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import dev.team.systers.dto.MensagemDialogo;
+import dev.team.systers.dto.PaginaBuscaDialogo;
+import dev.team.systers.dto.PaginaDialogo;
+import dev.team.systers.dto.ResultadoBuscaDialogo;
+import dev.team.systers.model.ArquivoDialogo;
 import dev.team.systers.model.DialogoMentoria;
 import dev.team.systers.repository.DialogoMentoriaRepository;
 
@@ -17,18 +36,63 @@ import dev.team.systers.repository.DialogoMentoriaRepository;
 @Service
 public class DialogoMentoriaService {
 
+    private static final Logger log = LoggerFactory.getLogger(DialogoMentoriaService.class);
+
+    /**
+     * Quantidade máxima de mensagens por página do histórico.
+     */
+    private static final int LIMITE_MAXIMO_PAGINA = 200;
+
+    /**
+     * Quantidade máxima de resultados por página da busca.
+     */
+    private static final int LIMITE_MAXIMO_BUSCA = 50;
+
+    /**
+     * Limites usados quando a busca não informa o período.
+     */
+    private static final LocalDateTime INICIO_DO_HISTORICO = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FIM_DO_HISTORICO = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    /**
+     * Marcadores do trecho destacado devolvidos pelo banco, trocados por {@code <mark>}
+     * depois de escapar o texto da mensagem.
+     */
+    private static final String INICIO_DESTAQUE = "⟦";
+    private static final String FIM_DESTAQUE = "⟧";
+
     /**
      * Repositório para acesso aos dados de diálogos.
      */
     private final DialogoMentoriaRepository dialogoMentoriaRepository;
 
+    /**
+     * Serviço do arquivo frio dos diálogos de mentorias concluídas.
+     */
+    private final ArquivoDialogosService arquivoDialogosService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param dialogoMentoriaRepository Repositório de diálogos injetado pelo Spring
+     * @param arquivoDialogosService Serviço do arquivo de diálogos injetado pelo Spring
      */
     @Autowired
-    public DialogoMentoriaService(DialogoMentoriaRepository dialogoMentoriaRepository) {
+    public DialogoMentoriaService(DialogoMentoriaRepository dialogoMentoriaRepository,
+                                  ArquivoDialogosService arquivoDialogosService) {
         this.dialogoMentoriaRepository = dialogoMentoriaRepository;
+        this.arquivoDialogosService = arquivoDialogosService;
+    }
+
+    /**
+     * Cria o índice de busca textual das mensagens.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void criarIndiceBusca() {
+        try {
+            dialogoMentoriaRepository.criarIndiceBusca();
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível criar o índice de busca das mensagens", e);
+        }
     }
 
     /**
@@ -50,13 +114,151 @@ public class DialogoMentoriaService {
 
     /**
      * Lista os diálogos de uma mentoria específica.
+     * Se o diálogo estiver arquivado, inclui as mensagens do arquivo.
      * @param mentoriaId ID da mentoria
      * @return Lista de diálogos da mentoria
      */
     public List<DialogoMentoria> listarPorMentoria(Long mentoriaId) {
+        if (arquivoDialogosService.isArquivado(mentoriaId)) {
+            return listarComArquivo(mentoriaId);
+        }
         return dialogoMentoriaRepository.findByMentoria_Id(mentoriaId);
     }
 
+    /**
+     * Busca uma página do histórico do diálogo de uma mentoria, voltando no tempo.
+     * A paginação é por cursor (keyset) em (data, id): sem cursor vêm as mensagens
+     * mais recentes; com o cursor, as imediatamente anteriores à mais antiga já exibida.
+     * As mensagens de cada página vêm das mais antigas para as mais recentes.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param cursor Cursor retornado na página anterior, ou null para as mensagens mais recentes
+     * @param limite Quantidade de mensagens por página
+     * @return Página com as mensagens e o cursor para as anteriores
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaDialogo buscarHistorico(Long mentoriaId, String cursor, int limite) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        LocalDateTime dataHora = null;
+        Long id = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = cursor.split("_", 2);
+            try {
+                dataHora = LocalDateTime.parse(partes[0]);
+                id = Long.valueOf(partes[1]);
+            } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor de paginação inválido.");
+            }
+        }
+
+        List<DialogoMentoria> dialogos = id == null
+                ? dialogoMentoriaRepository.findUltimasDaMentoria(mentoriaId, PageRequest.of(0, tamanho))
+                : dialogoMentoriaRepository.findUltimasDaMentoriaAntesDe(mentoriaId, dataHora, id, PageRequest.of(0, tamanho));
+        if (arquivoDialogosService.isArquivado(mentoriaId)) {
+            // Diálogo arquivado: junta a página do arquivo, lida só dos blocos que a cobrem,
+            // à da tabela, com as mensagens enviadas depois ou ainda não apagadas.
+            Comparator<DialogoMentoria> recentesPrimeiro = Comparator.comparing(DialogoMentoria::getDataHora,
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                    .thenComparing(DialogoMentoria::getId).reversed();
+            dialogos = juntar(arquivoDialogosService.lerAntesDe(mentoriaId, dataHora, id, tamanho), dialogos).stream()
+                    .sorted(recentesPrimeiro)
+                    .limit(tamanho)
+                    .toList();
+        }
+
+        String cursorAnterior = null;
+        if (dialogos.size() == tamanho) {
+            DialogoMentoria maisAntiga = dialogos.get(dialogos.size() - 1);
+            cursorAnterior = maisAntiga.getDataHora() + "_" + maisAntiga.getId();
+        }
+
+        List<MensagemDialogo> mensagens = new ArrayList<>(dialogos.stream().map(MensagemDialogo::de).toList());
+        Collections.reverse(mensagens);
+        return new PaginaDialogo(mensagens, cursorAnterior);
+    }
+
+    /**
+     * Busca as mensagens gravadas depois da última que o cliente recebeu, em ordem de ID.
+     * Usada por clientes que reconectam para completar o que perderam.
+     *
+     * @param mentoriaId ID da mentoria
+     * @param ultimoId ID da última mensagem recebida pelo cliente
+     * @param limite Quantidade máxima de mensagens
+     * @return Mensagens posteriores ao ID informado
+     */
+    @Transactional(readOnly = true)
+    public List<MensagemDialogo> buscarPosterioresA(Long mentoriaId, Long ultimoId, int limite) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        List<DialogoMentoria> dialogos = dialogoMentoriaRepository.findPosterioresA(
+                mentoriaId, ultimoId, PageRequest.of(0, tamanho));
+        if (arquivoDialogosService.isArquivado(mentoriaId)) {
+            dialogos = juntar(arquivoDialogosService.lerPosterioresA(mentoriaId, ultimoId, tamanho), dialogos).stream()
+                    .limit(tamanho)
+                    .toList();
+        }
+        return dialogos.stream().map(MensagemDialogo::de).toList();
+    }
+
+    /**
+     * Busca mensagens nas conversas das mentorias de que o usuário participa.
+     * A busca é textual, em português (ignora acentuação de flexões e palavras comuns),
+     * com os resultados mais relevantes primeiro e um trecho com os termos destacados.
+     * A paginação é por cursor (keyset) em (relevância, id).
+     *
+     * @param usuarioId ID do usuário que busca
+     * @param termo Termos da busca
+     * @param mentoriaId ID de uma mentoria para restringir a busca, ou null para todas
+     * @param desde Início do período, ou null para desde o começo
+     * @param ate Fim do período (exclusivo), ou null para até agora
+     * @param cursor Cursor retornado na página anterior, ou null para a primeira página
+     * @param limite Quantidade de resultados por página
+     * @return Página com os resultados e o próximo cursor
+     * @throws IllegalArgumentException se o termo estiver vazio ou o cursor for inválido
+     */
+    public PaginaBuscaDialogo buscarNasConversas(Long usuarioId, String termo, Long mentoriaId,
+                                                 LocalDateTime desde, LocalDateTime ate,
+                                                 String cursor, int limite) {
+        if (termo == null || termo.isBlank()) {
+            throw new IllegalArgumentException("Informe o que deseja buscar.");
+        }
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_BUSCA));
+
+        float relevancia = Float.MAX_VALUE;
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = cursor.split("_", 2);
+            try {
+                relevancia = Float.parseFloat(partes[0]);
+                id = Long.parseLong(partes[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor de paginação inválido.");
+            }
+        }
+
+        List<ResultadoBuscaDialogo> resultados = dialogoMentoriaRepository.buscarNasConversas(
+                usuarioId, termo.trim(), mentoriaId != null ? mentoriaId : 0,
+                desde != null ? desde : INICIO_DO_HISTORICO, ate != null ? ate : FIM_DO_HISTORICO,
+                relevancia, id, tamanho).stream()
+                .map(linha -> new ResultadoBuscaDialogo(
+                        ((Number) linha[0]).longValue(),
+                        ((Number) linha[1]).longValue(),
+                        (String) linha[2],
+                        (String) linha[3],
+                        (String) linha[4],
+                        destacar((String) linha[5]),
+                        linha[6] instanceof Timestamp data ? data.toLocalDateTime() : (LocalDateTime) linha[6],
+                        ((Number) linha[7]).floatValue()))
+                .toList();
+
+        String proximoCursor = null;
+        if (resultados.size() == tamanho) {
+            ResultadoBuscaDialogo ultimo = resultados.get(resultados.size() - 1);
+            proximoCursor = ultimo.relevancia() + "_" + ultimo.id();
+        }
+        return new PaginaBuscaDialogo(resultados, proximoCursor);
+    }
+
     /**
      * Lista os diálogos ocorridos após uma data específica.
      * @param dataHora Data/hora de referência
@@ -66,6 +268,25 @@ public class DialogoMentoriaService {
         return dialogoMentoriaRepository.findByDataHoraAfter(dataHora);
     }
 
+    /**
+     * Calcula a versão atual do diálogo de uma mentoria, sem carregar as mensagens.
+     * Composta pela quantidade de mensagens e pelo maior ID, que mudam a cada envio,
+     * somando as mensagens arquivadas.
+     * @param mentoriaId ID da mentoria
+     * @return Versão do diálogo no formato "quantidade-maiorId"
+     */
+    public String buscarVersaoDoDialogo(Long mentoriaId) {
+        List<Object[]> resumo = dialogoMentoriaRepository.resumirPorMentoria(mentoriaId);
+        long quantidade = resumo.isEmpty() ? 0 : ((Number) resumo.get(0)[0]).longValue();
+        long maiorId = resumo.isEmpty() ? 0 : ((Number) resumo.get(0)[1]).longValue();
+        ArquivoDialogo arquivado = arquivoDialogosService.localizar(mentoriaId);
+        if (arquivado != null) {
+            quantidade += arquivado.getQuantidade();
+            maiorId = Math.max(maiorId, arquivado.getMaiorId());
+        }
+        return quantidade + "-" + maiorId;
+    }
+
     /**
      * Salva um novo diálogo de mentoria.
      * Realiza validações básicas antes de salvar.
@@ -83,4 +304,34 @@ public class DialogoMentoriaService {
         }
         return dialogoMentoriaRepository.save(dialogoMentoria);
     }
+
+    /**
+     * Junta as mensagens arquivadas às que estão na tabela, em ordem de ID.
+     * Durante o arquivamento ou a restauração a mesma mensagem pode estar nos dois; fica uma só.
+     */
+    private List<DialogoMentoria> listarComArquivo(Long mentoriaId) {
+        return juntar(arquivoDialogosService.lerDialogos(mentoriaId), dialogoMentoriaRepository.findByMentoria_Id(mentoriaId));
+    }
+
+    /**
+     * Junta mensagens do arquivo e da tabela em ordem de ID, mantendo uma só de cada ID.
+     */
+    private static List<DialogoMentoria> juntar(List<DialogoMentoria> arquivadas, List<DialogoMentoria> daTabela) {
+        Map<Long, DialogoMentoria> porId = new TreeMap<>();
+        arquivadas.forEach(dialogo -> porId.put(dialogo.getId(), dialogo));
+        daTabela.forEach(dialogo -> porId.put(dialogo.getId(), dialogo));
+        return new ArrayList<>(porId.values());
+    }
+
+    /**
+     * Escapa o trecho para HTML e troca os marcadores do banco por {@code <mark>}.
+     */
+    private static String destacar(String trecho) {
+        if (trecho == null) {
+            return "";
+        }
+        return HtmlUtils.htmlEscape(trecho)
+                .replace(INICIO_DESTAQUE, "<mark>")
+                .replace(FIM_DESTAQUE, "</mark>");
+    }
 }
@@ -0,0 +1,569 @@
+package dev.team.systers.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.team.systers.dto.NotificacaoAgendada;
+import dev.team.systers.dto.NotificacaoAgrupavel;
+import dev.team.systers.dto.NotificacaoEnviada;
+import dev.team.systers.model.AgrupamentoNotificacao;
+import dev.team.systers.model.NotificacaoSaida;
+import dev.team.systers.model.NotificacaoSaida.StatusSaida;
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
+import dev.team.systers.repository.AgrupamentoNotificacaoRepository;
+import dev.team.systers.repository.NotificacaoLoteRepository;
+import dev.team.systers.repository.NotificacaoSaidaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serviço responsável pela distribuição assíncrona de notificações.
+ *
+ * <p>As operações de domínio apenas gravam uma entrada na caixa de saída
+ * ({@link NotificacaoSaida}) na própria transação. Depois do commit, um laço de
+ * distribuição reserva as entradas prontas e as entrega a um conjunto fixo de
+ * trabalhadores, que expandem os destinatários em lotes: cada lote é inserido com
+ * um batch JDBC e confirmado junto com o avanço do cursor da entrada, de modo que
+ * uma falha recomeça do lote em que parou.</p>
+ *
+ * <p>Só são reservadas tantas entradas quantos trabalhadores livres houver; o restante
+ * espera no banco. Falhas são tentadas de novo com espera exponencial até o limite
+ * configurado.</p>
+ *
+ * <p>Notificações agrupáveis (novas postagens, comentários) passam antes por uma
+ * janela de agregação gravada no banco ({@link AgrupamentoNotificacao}), também na
+ * transação da alteração: a primeira de cada tipo e alvo vai para a caixa de saída na
+ * hora, e as seguintes dentro da janela viram um único resumo ("12 novos comentários
+ * na sua postagem"), gravado na caixa de saída quando a janela vence. Quem contribuiu
+ * para um resumo não o recebe.</p>
+ */
+@Service
+public class DistribuicaoNotificacoesService {
+
+    private static final Logger log = LoggerFactory.getLogger(DistribuicaoNotificacoesService.class);
+
+    /**
+     * Tamanho máximo do texto de uma notificação.
+     */
+    private static final int TAMANHO_MAXIMO_CONTEUDO = 255;
+
+    /**
+     * Repositório da caixa de saída.
+     */
+    private final NotificacaoSaidaRepository notificacaoSaidaRepository;
+
+    /**
+     * Repositório JDBC para inserção das notificações em lote.
+     */
+    private final NotificacaoLoteRepository notificacaoLoteRepository;
+
+    /**
+     * Publicador de eventos do Spring, usado para avisar as conexões em tempo real.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Template para as transações dos trabalhadores.
+     */
+    private final TransactionTemplate transacao;
+
+    /**
+     * Repositório das janelas de agregação.
+     */
+    private final AgrupamentoNotificacaoRepository agrupamentoNotificacaoRepository;
+
+    /**
+     * Duração de cada janela de agregação.
+     */
+    private final Duration janelaAgregacao;
+
+    /**
+     * Quantidade de notificações acumuladas em janelas em vez de entregues na hora.
+     */
+    private final LongAdder agrupadas = new LongAdder();
+
+    /**
+     * Quantidade de resumos gravados ao fechar janelas.
+     */
+    private final LongAdder resumos = new LongAdder();
+
+    /**
+     * Quantidade de trabalhadores.
+     */
+    private final int trabalhadores;
+
+    /**
+     * Quantidade de destinatários por lote.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Duração da reserva de uma entrada; renovada a cada lote.
+     */
+    private final Duration reserva;
+
+    /**
+     * Quantidade máxima de tentativas de uma entrada.
+     */
+    private final int tentativasMaximas;
+
+    /**
+     * Espera antes da primeira nova tentativa; dobra a cada falha.
+     */
+    private final long esperaBaseMs;
+
+    /**
+     * Intervalo máximo entre duas buscas por entradas prontas.
+     */
+    private final long intervaloMs;
+
+    /**
+     * Executor dos trabalhadores.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Sinal para o laço de distribuição buscar entradas sem esperar o intervalo.
+     */
+    private final Semaphore sinal = new Semaphore(0);
+
+    /**
+     * Quantidade de entradas sendo processadas agora.
+     */
+    private final AtomicInteger emAndamento = new AtomicInteger();
+
+    /**
+     * Thread do laço de distribuição.
+     */
+    private Thread distribuidor;
+
+    /**
+     * Indica se o serviço está sendo encerrado.
+     */
+    private volatile boolean encerrando;
+
+    /**
+     * Quantidade de entradas concluídas.
+     */
+    private final LongAdder concluidas = new LongAdder();
+
+    /**
+     * Quantidade de entradas que esgotaram as tentativas.
+     */
+    private final LongAdder falhas = new LongAdder();
+
+    /**
+     * Quantidade de falhas devolvidas à fila para nova tentativa.
+     */
+    private final LongAdder novasTentativas = new LongAdder();
+
+    /**
+     * Quantidade de notificações inseridas.
+     */
+    private final LongAdder entregues = new LongAdder();
+
+    /**
+     * Quantidade de lotes inseridos e tempo total gasto neles, em nanossegundos.
+     */
+    private final LongAdder lotes = new LongAdder();
+    private final LongAdder tempoLotesNanos = new LongAdder();
+
+    /**
+     * Tempo entre a gravação de uma entrada e sua conclusão, em milissegundos.
+     */
+    private final LongAdder latenciaTotalMs = new LongAdder();
+    private final AtomicLong latenciaMaximaMs = new AtomicLong();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param notificacaoSaidaRepository Repositório da caixa de saída injetado pelo Spring
+     * @param notificacaoLoteRepository Repositório de inserção em lote injetado pelo Spring
+     * @param agrupamentoNotificacaoRepository Repositório das janelas de agregação injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param trabalhadores Quantidade de trabalhadores
+     * @param tamanhoLote Quantidade de destinatários por lote
+     * @param reservaMs Duração da reserva de uma entrada
+     * @param tentativasMaximas Quantidade máxima de tentativas
+     * @param esperaBaseMs Espera antes da primeira nova tentativa
+     * @param intervaloMs Intervalo máximo entre buscas por entradas prontas
+     * @param janelaAgregacaoMs Duração da janela de agregação
+     */
+    @Autowired
+    public DistribuicaoNotificacoesService(NotificacaoSaidaRepository notificacaoSaidaRepository,
+                                           NotificacaoLoteRepository notificacaoLoteRepository,
+                                           AgrupamentoNotificacaoRepository agrupamentoNotificacaoRepository,
+                                           ApplicationEventPublisher eventPublisher,
+                                           PlatformTransactionManager transactionManager,
+                                           @Value("${systers.notificacoes.distribuicao.trabalhadores:4}") int trabalhadores,
+                                           @Value("${systers.notificacoes.distribuicao.lote:500}") int tamanhoLote,
+                                           @Value("${systers.notificacoes.distribuicao.reserva-ms:300000}") long reservaMs,
+                                           @Value("${systers.notificacoes.distribuicao.tentativas:5}") int tentativasMaximas,
+                                           @Value("${systers.notificacoes.distribuicao.espera-base-ms:2000}") long esperaBaseMs,
+                                           @Value("${systers.notificacoes.distribuicao.intervalo-ms:1000}") long intervaloMs,
+                                           @Value("${systers.notificacoes.agregacao.janela-ms:60000}") long janelaAgregacaoMs) {
+        this.notificacaoSaidaRepository = notificacaoSaidaRepository;
+        this.notificacaoLoteRepository = notificacaoLoteRepository;
+        this.agrupamentoNotificacaoRepository = agrupamentoNotificacaoRepository;
+        this.eventPublisher = eventPublisher;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.janelaAgregacao = Duration.ofMillis(janelaAgregacaoMs);
+        this.trabalhadores = trabalhadores;
+        this.tamanhoLote = tamanhoLote;
+        this.reserva = Duration.ofMillis(reservaMs);
+        this.tentativasMaximas = tentativasMaximas;
+        this.esperaBaseMs = esperaBaseMs;
+        this.intervaloMs = intervaloMs;
+        this.executor = Executors.newFixedThreadPool(trabalhadores, Thread.ofPlatform().name("distribuicao-notificacoes-", 1).factory());
+    }
+
+    /**
+     * Agenda uma notificação para todos os membros de um grupo, exceto o remetente.
+     * Deve ser chamado dentro da transação da alteração que originou a notificação.
+     *
+     * @param tipo Evento que originou a notificação
+     * @param grupoId ID do grupo
+     * @param remetenteId ID do usuário remetente
+     * @param conteudo Texto da notificação
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void agendarParaGrupo(TipoNotificacao tipo, Long grupoId, Long remetenteId, String conteudo) {
+        NotificacaoSaida saida = novaEntrada(tipo, remetenteId, conteudo);
+        saida.setGrupoId(grupoId);
+        gravar(saida);
+    }
+
+    /**
+     * Agenda uma notificação para um único usuário.
+     * Deve ser chamado dentro da transação da alteração que originou a notificação.
+     * Não faz nada se o destinatário for o próprio remetente.
+     *
+     * @param tipo Evento que originou a notificação
+     * @param destinatarioId ID do usuário destinatário
+     * @param remetenteId ID do usuário remetente
+     * @param conteudo Texto da notificação
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void agendarParaUsuario(TipoNotificacao tipo, Long destinatarioId, Long remetenteId, String conteudo) {
+        if (destinatarioId == null || destinatarioId.equals(remetenteId)) {
+            return;
+        }
+        NotificacaoSaida saida = novaEntrada(tipo, remetenteId, conteudo);
+        saida.setDestinatarioId(destinatarioId);
+        gravar(saida);
+    }
+
+    /**
+     * Agenda uma notificação agrupável.
+     * Deve ser chamado dentro da transação da alteração que originou a notificação.
+     * Se a janela da chave não estiver aberta, ela é aberta e a notificação vai para a
+     * caixa de saída na hora; senão, a notificação é somada ao próximo resumo da janela.
+     *
+     * @param notificacao Notificação e texto do resumo
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void agendarAgrupavel(NotificacaoAgrupavel notificacao) {
+        if (notificacao.destinatarioId() != null && notificacao.destinatarioId().equals(notificacao.remetenteId())) {
+            return;
+        }
+        int acumuladas = agrupamentoNotificacaoRepository.registrar(notificacao.chave(), notificacao.tipo().name(),
+                notificacao.grupoId(), notificacao.destinatarioId(), notificacao.remetenteId(),
+                notificacao.conteudo(), notificacao.resumo(), LocalDateTime.now().plus(janelaAgregacao));
+        if (acumuladas == 0) {
+            NotificacaoSaida saida = novaEntrada(notificacao.tipo(), notificacao.remetenteId(), notificacao.conteudo());
+            saida.setGrupoId(notificacao.grupoId());
+            saida.setDestinatarioId(notificacao.destinatarioId());
+            gravar(saida);
+        } else {
+            agrupadas.increment();
+        }
+    }
+
+    /**
+     * Grava um resumo para cada janela de agregação vencida com notificações acumuladas.
+     * Cada lote de janelas é emitido em uma transação; janelas reservadas por outra
+     * instância são ignoradas.
+     */
+    @Scheduled(fixedDelayString = "${systers.notificacoes.agregacao.intervalo-ms:5000}")
+    public void emitirResumos() {
+        Integer emitidas;
+        do {
+            emitidas = transacao.execute(status -> emitirVencidas(LocalDateTime.now()));
+        } while (emitidas != null && emitidas == tamanhoLote);
+    }
+
+    /**
+     * Retorna as métricas da distribuição.
+     * @return Mapa com profundidade da fila, trabalhadores ocupados, entregas e latências
+     */
+    public Map<String, Object> metricas() {
+        long concluidasTotal = concluidas.sum();
+        long lotesTotal = lotes.sum();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("pendentes", notificacaoSaidaRepository.countByStatus(StatusSaida.PENDENTE));
+        resultado.put("processando", notificacaoSaidaRepository.countByStatus(StatusSaida.PROCESSANDO));
+        resultado.put("falharam", notificacaoSaidaRepository.countByStatus(StatusSaida.FALHOU));
+        resultado.put("trabalhadores", trabalhadores);
+        resultado.put("trabalhadoresOcupados", emAndamento.get());
+        resultado.put("concluidas", concluidasTotal);
+        resultado.put("novasTentativas", novasTentativas.sum());
+        resultado.put("falhasDefinitivas", falhas.sum());
+        resultado.put("notificacoesEntregues", entregues.sum());
+        resultado.put("lotes", lotesTotal);
+        resultado.put("tempoMedioLoteMs", lotesTotal == 0 ? 0.0 : tempoLotesNanos.sum() / 1_000_000.0 / lotesTotal);
+        resultado.put("latenciaMediaMs", concluidasTotal == 0 ? 0.0 : (double) latenciaTotalMs.sum() / concluidasTotal);
+        resultado.put("latenciaMaximaMs", latenciaMaximaMs.get());
+        resultado.put("janelasAbertas", agrupamentoNotificacaoRepository.count());
+        resultado.put("notificacoesAgrupadas", agrupadas.sum());
+        resultado.put("resumosGravados", resumos.sum());
+        return resultado;
+    }
+
+    /**
+     * Inicia o laço de distribuição.
+     */
+    @PostConstruct
+    public void iniciar() {
+        distribuidor = Thread.ofPlatform().name("distribuicao-notificacoes").daemon().start(this::distribuir);
+    }
+
+    /**
+     * Encerra o laço e aguarda os trabalhadores terminarem o lote atual.
+     * Entradas interrompidas continuam reservadas e são retomadas quando a reserva expirar;
+     * janelas de agregação abertas continuam no banco e são emitidas ao vencer.
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        encerrando = true;
+        distribuidor.interrupt();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private NotificacaoSaida novaEntrada(TipoNotificacao tipo, Long remetenteId, String conteudo) {
+        LocalDateTime agora = LocalDateTime.now();
+        NotificacaoSaida saida = new NotificacaoSaida();
+        saida.setTipo(tipo);
+        saida.setRemetenteId(remetenteId);
+        saida.setConteudo(conteudo.length() > TAMANHO_MAXIMO_CONTEUDO
+                ? conteudo.substring(0, TAMANHO_MAXIMO_CONTEUDO - 3) + "..."
+                : conteudo);
+        saida.setCriadaEm(agora);
+        saida.setDisponivelEm(agora);
+        return saida;
+    }
+
+    /**
+     * Acorda o laço de distribuição assim que a entrada é confirmada,
+     * sem esperar o próximo intervalo.
+     *
+     * @param evento Entrada gravada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoAgendar(NotificacaoAgendada evento) {
+        sinal.release();
+    }
+
+    private void gravar(NotificacaoSaida saida) {
+        notificacaoSaidaRepository.save(saida);
+        eventPublisher.publishEvent(new NotificacaoAgendada(saida.getId()));
+    }
+
+    /**
+     * Grava na caixa de saída o resumo de cada janela vencida com notificações acumuladas
+     * e a reabre; janelas vencidas sem nada acumulado são apagadas, e a próxima notificação
+     * da chave volta a ser entregue na hora.
+     * O resumo aparece como enviado pelo último remetente e não é entregue a nenhum deles.
+     * @return Quantidade de janelas vencidas tratadas
+     */
+    private int emitirVencidas(LocalDateTime agora) {
+        List<AgrupamentoNotificacao> vencidas = agrupamentoNotificacaoRepository.findVencidasParaEmitir(agora, tamanhoLote);
+        for (AgrupamentoNotificacao janela : vencidas) {
+            if (janela.getQuantidade() == 0) {
+                agrupamentoNotificacaoRepository.delete(janela);
+                continue;
+            }
+            NotificacaoSaida saida = novaEntrada(janela.getTipo(), janela.getRemetenteId(),
+                    NotificacaoAgrupavel.resumoPara(janela.getConteudo(), janela.getResumo(), janela.getQuantidade()));
+            saida.setGrupoId(janela.getGrupoId());
+            saida.setDestinatarioId(janela.getDestinatarioId());
+            saida.setExcluidos(janela.getRemetentes());
+            gravar(saida);
+            janela.setQuantidade(0);
+            janela.setRemetentes(",");
+            janela.setVenceEm(agora.plus(janelaAgregacao));
+            resumos.increment();
+        }
+        return vencidas.size();
+    }
+
+    /**
+     * Laço de distribuição: espera um sinal (ou o intervalo) e reserva tantas
+     * entradas quantos trabalhadores livres houver.
+     */
+    private void distribuir() {
+        while (!encerrando) {
+            try {
+                sinal.tryAcquire(intervaloMs, TimeUnit.MILLISECONDS);
+                sinal.drainPermits();
+                int livres = trabalhadores - emAndamento.get();
+                if (livres <= 0) {
+                    continue;
+                }
+                List<Long> reservadas = reservar(livres);
+                for (Long id : reservadas) {
+                    emAndamento.incrementAndGet();
+                    executor.execute(() -> processar(id));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao reservar notificações para distribuição", e);
+            }
+        }
+    }
+
+    private List<Long> reservar(int limite) {
+        return transacao.execute(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            List<Long> ids = notificacaoSaidaRepository.findDisponiveisParaReserva(agora, limite);
+            if (!ids.isEmpty()) {
+                notificacaoSaidaRepository.reservar(ids, agora.plus(reserva));
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Entrega todos os lotes de uma entrada reservada.
+     */
+    private void processar(Long id) {
+        NotificacaoSaida saida = null;
+        try {
+            saida = transacao.execute(status -> notificacaoSaidaRepository.findById(id).orElse(null));
+            if (saida == null || saida.getStatus() != StatusSaida.PROCESSANDO) {
+                return;
+            }
+            long cursor = saida.getCursor();
+            while (!encerrando) {
+                Long proximo = entregarLote(saida, cursor);
+                if (proximo == null) {
+                    break;
+                }
+                cursor = proximo;
+            }
+            if (encerrando) {
+                return;
+            }
+            transacao.executeWithoutResult(status -> notificacaoSaidaRepository.atualizarStatus(
+                    id, StatusSaida.CONCLUIDA, 0, LocalDateTime.now(), null));
+            registrarConclusao(saida);
+        } catch (RuntimeException e) {
+            registrarFalha(id, saida != null ? saida.getTentativas() : 0, e);
+        } finally {
+            emAndamento.decrementAndGet();
+            sinal.release();
+        }
+    }
+
+    /**
+     * Insere as notificações do próximo lote e avança o cursor na mesma transação.
+     * @return ID do último destinatário do lote, ou null se não houver mais destinatários
+     */
+    private Long entregarLote(NotificacaoSaida saida, long cursor) {
+        long inicio = System.nanoTime();
+        Long ultimo = transacao.execute(status -> {
+            List<Long> destinatarios = proximosDestinatarios(saida, cursor);
+            if (destinatarios.isEmpty()) {
+                return null;
+            }
+            LocalDateTime agora = LocalDateTime.now();
+            List<Long> ids = notificacaoLoteRepository.inserir(destinatarios, saida.getRemetenteId(), saida.getConteudo(), agora);
+            notificacaoLoteRepository.incrementarContadores(destinatarios);
+            Long ultimoDestinatario = destinatarios.get(destinatarios.size() - 1);
+            notificacaoSaidaRepository.avancar(saida.getId(), ultimoDestinatario, destinatarios.size(), agora.plus(reserva));
+            for (int i = 0; i < ids.size(); i++) {
+                eventPublisher.publishEvent(new NotificacaoEnviada(ids.get(i), destinatarios.get(i)));
+            }
+            entregues.add(destinatarios.size());
+            return ultimoDestinatario;
+        });
+        if (ultimo != null) {
+            lotes.increment();
+            tempoLotesNanos.add(System.nanoTime() - inicio);
+        }
+        return ultimo;
+    }
+
+    private List<Long> proximosDestinatarios(NotificacaoSaida saida, long cursor) {
+        if (saida.getGrupoId() != null) {
+            return notificacaoLoteRepository.buscarMembrosDoGrupo(saida.getGrupoId(), cursor, saida.getRemetenteId(),
+                    saida.getExcluidos(), tamanhoLote);
+        }
+        if (saida.getDestinatarioId() != null && saida.getDestinatarioId() > cursor) {
+            return List.of(saida.getDestinatarioId());
+        }
+        return List.of();
+    }
+
+    private void registrarConclusao(NotificacaoSaida saida) {
+        concluidas.increment();
+        long latencia = Duration.between(saida.getCriadaEm(), LocalDateTime.now()).toMillis();
+        latenciaTotalMs.add(latencia);
+        latenciaMaximaMs.accumulateAndGet(latencia, Math::max);
+    }
+
+    /**
+     * Devolve a entrada para a fila com espera exponencial, ou a marca como falha
+     * definitiva quando as tentativas se esgotam.
+     */
+    private void registrarFalha(Long id, int tentativasAnteriores, RuntimeException erro) {
+        int tentativas = tentativasAnteriores + 1;
+        boolean desistir = tentativas >= tentativasMaximas;
+        String mensagem = String.valueOf(erro.getMessage());
+        if (mensagem.length() > 500) {
+            mensagem = mensagem.substring(0, 500);
+        }
+        LocalDateTime proximaTentativa = LocalDateTime.now().plus(Duration.ofMillis(esperaBaseMs << Math.min(tentativas - 1, 16)));
+        String ultimoErro = mensagem;
+        try {
+            transacao.executeWithoutResult(status -> notificacaoSaidaRepository.atualizarStatus(
+                    id, desistir ? StatusSaida.FALHOU : StatusSaida.PENDENTE, tentativas, proximaTentativa, ultimoErro));
+        } catch (RuntimeException e) {
+            // A reserva expira sozinha e a entrada volta a ser processada.
+            log.warn("Falha ao registrar erro da distribuição {}", id, e);
+        }
+        if (desistir) {
+            falhas.increment();
+            log.error("Distribuição de notificação {} desistiu após {} tentativas", id, tentativas, erro);
+        } else {
+            novasTentativas.increment();
+            log.warn("Distribuição de notificação {} falhou (tentativa {}), nova tentativa às {}", id, tentativas, proximaTentativa);
+        }
+    }
+}
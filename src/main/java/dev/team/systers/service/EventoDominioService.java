@@ -0,0 +1,410 @@
+package dev.team.systers.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.team.systers.dto.EventoGravado;
+import dev.team.systers.evento.EventoDominio;
+import dev.team.systers.evento.OuvinteEventos;
+import dev.team.systers.model.EventoSaida;
+import dev.team.systers.model.EventoSaida.StatusEvento;
+import dev.team.systers.repository.EventoSaidaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serviço responsável pela publicação e entrega dos eventos de domínio.
+ *
+ * <p>Os serviços publicam eventos ({@link EventoDominio}) dentro da própria transação;
+ * o evento é serializado e gravado na caixa de saída ({@link EventoSaida}) junto com a
+ * alteração, de modo que ou ambos são confirmados ou nenhum. Depois do commit, um laço
+ * de entrega reserva os eventos prontos e os entrega aos {@link OuvinteEventos} em um
+ * conjunto fixo de trabalhadores.</p>
+ *
+ * <p>A reserva só considera o evento mais antigo ainda não entregue de cada agregado,
+ * então eventos do mesmo grupo, mentoria ou denúncia são entregues um de cada vez e
+ * na ordem em que foram gravados, enquanto agregados diferentes seguem em paralelo.
+ * Um evento com falha é tentado de novo com espera exponencial e segura os seguintes
+ * do mesmo agregado até ser entregue ou esgotar as tentativas.</p>
+ */
+@Service
+public class EventoDominioService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventoDominioService.class);
+
+    /**
+     * Repositório da caixa de saída de eventos.
+     */
+    private final EventoSaidaRepository eventoSaidaRepository;
+
+    /**
+     * Ouvintes que recebem todos os eventos.
+     */
+    private final List<OuvinteEventos> ouvintes;
+
+    /**
+     * Conversor JSON dos eventos.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Publicador de eventos do Spring, usado para acordar o laço de entrega após o commit.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Template para as transações dos trabalhadores.
+     */
+    private final TransactionTemplate transacao;
+
+    /**
+     * Tipos de evento conhecidos, pelo nome gravado na caixa de saída.
+     */
+    private final Map<String, Class<?>> tipos = Arrays.stream(EventoDominio.class.getPermittedSubclasses())
+            .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    /**
+     * Quantidade de trabalhadores.
+     */
+    private final int trabalhadores;
+
+    /**
+     * Duração da reserva de um evento.
+     */
+    private final Duration reserva;
+
+    /**
+     * Quantidade máxima de tentativas de um evento.
+     */
+    private final int tentativasMaximas;
+
+    /**
+     * Espera antes da primeira nova tentativa; dobra a cada falha.
+     */
+    private final long esperaBaseMs;
+
+    /**
+     * Intervalo máximo entre duas buscas por eventos prontos.
+     */
+    private final long intervaloMs;
+
+    /**
+     * Executor dos trabalhadores.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Sinal para o laço de entrega buscar eventos sem esperar o intervalo.
+     */
+    private final Semaphore sinal = new Semaphore(0);
+
+    /**
+     * Quantidade de eventos sendo entregues agora.
+     */
+    private final AtomicInteger emAndamento = new AtomicInteger();
+
+    /**
+     * Thread do laço de entrega.
+     */
+    private Thread entregador;
+
+    /**
+     * Indica se o serviço está sendo encerrado.
+     */
+    private volatile boolean encerrando;
+
+    /**
+     * Quantidade de eventos publicados, entregues, devolvidos para nova tentativa e desistidos.
+     */
+    private final LongAdder publicados = new LongAdder();
+    private final LongAdder entregues = new LongAdder();
+    private final LongAdder novasTentativas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    /**
+     * Falhas por ouvinte.
+     */
+    private final Map<String, LongAdder> falhasPorOuvinte = new ConcurrentHashMap<>();
+
+    /**
+     * Tempo entre a gravação de um evento e sua entrega, em milissegundos.
+     */
+    private final LongAdder latenciaTotalMs = new LongAdder();
+    private final AtomicLong latenciaMaximaMs = new AtomicLong();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param eventoSaidaRepository Repositório da caixa de saída de eventos injetado pelo Spring
+     * @param ouvintes Ouvintes de eventos injetados pelo Spring
+     * @param objectMapper Conversor JSON injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param trabalhadores Quantidade de trabalhadores
+     * @param reservaMs Duração da reserva de um evento
+     * @param tentativasMaximas Quantidade máxima de tentativas
+     * @param esperaBaseMs Espera antes da primeira nova tentativa
+     * @param intervaloMs Intervalo máximo entre buscas por eventos prontos
+     */
+    @Autowired
+    public EventoDominioService(EventoSaidaRepository eventoSaidaRepository,
+                                List<OuvinteEventos> ouvintes,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${systers.eventos.trabalhadores:2}") int trabalhadores,
+                                @Value("${systers.eventos.reserva-ms:60000}") long reservaMs,
+                                @Value("${systers.eventos.tentativas:8}") int tentativasMaximas,
+                                @Value("${systers.eventos.espera-base-ms:1000}") long esperaBaseMs,
+                                @Value("${systers.eventos.intervalo-ms:1000}") long intervaloMs) {
+        this.eventoSaidaRepository = eventoSaidaRepository;
+        this.ouvintes = ouvintes;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.trabalhadores = trabalhadores;
+        this.reserva = Duration.ofMillis(reservaMs);
+        this.tentativasMaximas = tentativasMaximas;
+        this.esperaBaseMs = esperaBaseMs;
+        this.intervaloMs = intervaloMs;
+        this.executor = Executors.newFixedThreadPool(trabalhadores, Thread.ofPlatform().name("eventos-dominio-", 1).factory());
+    }
+
+    /**
+     * Publica um evento de domínio.
+     * Deve ser chamado dentro da transação da alteração que originou o evento;
+     * se ela for desfeita, o evento também é.
+     *
+     * @param evento Evento ocorrido
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publicar(EventoDominio evento) {
+        LocalDateTime agora = LocalDateTime.now();
+        EventoSaida saida = new EventoSaida();
+        saida.setTipo(evento.getClass().getSimpleName());
+        saida.setAgregado(evento.agregado());
+        saida.setAgregadoId(evento.agregadoId());
+        saida.setDados(serializar(evento));
+        saida.setCriadoEm(agora);
+        saida.setDisponivelEm(agora);
+        eventoSaidaRepository.save(saida);
+        eventPublisher.publishEvent(new EventoGravado(saida.getId()));
+    }
+
+    /**
+     * Acorda o laço de entrega assim que o evento é confirmado,
+     * sem esperar o próximo intervalo.
+     *
+     * @param evento Evento gravado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoPublicar(EventoGravado evento) {
+        publicados.increment();
+        sinal.release();
+    }
+
+    /**
+     * Retorna as métricas dos eventos de domínio.
+     * @return Mapa com profundidade da fila, entregas, falhas por ouvinte e latências
+     */
+    public Map<String, Object> metricas() {
+        long entreguesTotal = entregues.sum();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("pendentes", eventoSaidaRepository.countByStatus(StatusEvento.PENDENTE));
+        resultado.put("processando", eventoSaidaRepository.countByStatus(StatusEvento.PROCESSANDO));
+        resultado.put("falharam", eventoSaidaRepository.countByStatus(StatusEvento.FALHOU));
+        resultado.put("ouvintes", ouvintes.stream().map(OuvinteEventos::nome).toList());
+        resultado.put("trabalhadores", trabalhadores);
+        resultado.put("trabalhadoresOcupados", emAndamento.get());
+        resultado.put("publicados", publicados.sum());
+        resultado.put("entregues", entreguesTotal);
+        resultado.put("novasTentativas", novasTentativas.sum());
+        resultado.put("falhasDefinitivas", falhas.sum());
+        Map<String, Long> porOuvinte = new LinkedHashMap<>();
+        falhasPorOuvinte.forEach((nome, total) -> porOuvinte.put(nome, total.sum()));
+        resultado.put("falhasPorOuvinte", porOuvinte);
+        resultado.put("latenciaMediaMs", entreguesTotal == 0 ? 0.0 : (double) latenciaTotalMs.sum() / entreguesTotal);
+        resultado.put("latenciaMaximaMs", latenciaMaximaMs.get());
+        return resultado;
+    }
+
+    /**
+     * Inicia o laço de entrega.
+     */
+    @PostConstruct
+    public void iniciar() {
+        entregador = Thread.ofPlatform().name("eventos-dominio").daemon().start(this::distribuir);
+    }
+
+    /**
+     * Encerra o laço e aguarda os trabalhadores terminarem o evento atual.
+     * Eventos reservados e não entregues voltam a ser entregues quando a reserva expirar.
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        encerrando = true;
+        entregador.interrupt();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private String serializar(EventoDominio evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Evento não serializável: " + evento.getClass().getSimpleName(), e);
+        }
+    }
+
+    private EventoDominio desserializar(EventoSaida saida) {
+        Class<?> tipo = tipos.get(saida.getTipo());
+        if (tipo == null) {
+            throw new IllegalStateException("Tipo de evento desconhecido: " + saida.getTipo());
+        }
+        try {
+            return (EventoDominio) objectMapper.readValue(saida.getDados(), tipo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento " + saida.getId() + " ilegível", e);
+        }
+    }
+
+    /**
+     * Laço de entrega: espera um sinal (ou o intervalo) e reserva tantos
+     * eventos quantos trabalhadores livres houver.
+     */
+    private void distribuir() {
+        while (!encerrando) {
+            try {
+                sinal.tryAcquire(intervaloMs, TimeUnit.MILLISECONDS);
+                sinal.drainPermits();
+                int livres = trabalhadores - emAndamento.get();
+                if (livres <= 0) {
+                    continue;
+                }
+                List<Long> reservados = reservar(livres);
+                for (Long id : reservados) {
+                    emAndamento.incrementAndGet();
+                    executor.execute(() -> entregar(id));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao reservar eventos de domínio", e);
+            }
+        }
+    }
+
+    private List<Long> reservar(int limite) {
+        return transacao.execute(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            List<Long> ids = eventoSaidaRepository.findDisponiveisParaReserva(agora, limite);
+            if (!ids.isEmpty()) {
+                eventoSaidaRepository.reservar(ids, agora.plus(reserva));
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Entrega um evento reservado a todos os ouvintes e o marca como entregue,
+     * tudo na mesma transação.
+     */
+    private void entregar(Long id) {
+        EventoSaida[] saida = new EventoSaida[1];
+        String[] ouvinteAtual = new String[1];
+        try {
+            boolean entregue = Boolean.TRUE.equals(transacao.execute(status -> {
+                saida[0] = eventoSaidaRepository.findById(id).orElse(null);
+                if (saida[0] == null || saida[0].getStatus() != StatusEvento.PROCESSANDO) {
+                    return false;
+                }
+                EventoDominio evento = desserializar(saida[0]);
+                for (OuvinteEventos ouvinte : ouvintes) {
+                    ouvinteAtual[0] = ouvinte.nome();
+                    ouvinte.aoReceber(evento);
+                }
+                ouvinteAtual[0] = null;
+                eventoSaidaRepository.atualizarStatus(id, StatusEvento.ENTREGUE, saida[0].getTentativas(), LocalDateTime.now(), null);
+                return true;
+            }));
+            if (entregue) {
+                registrarEntrega(saida[0]);
+            }
+        } catch (RuntimeException e) {
+            if (ouvinteAtual[0] != null) {
+                falhasPorOuvinte.computeIfAbsent(ouvinteAtual[0], nome -> new LongAdder()).increment();
+            }
+            registrarFalha(id, saida[0] != null ? saida[0].getTentativas() : 0, ouvinteAtual[0], e);
+        } finally {
+            emAndamento.decrementAndGet();
+            // O próximo evento do mesmo agregado pode ter ficado elegível.
+            sinal.release();
+        }
+    }
+
+    private void registrarEntrega(EventoSaida saida) {
+        entregues.increment();
+        long latencia = Duration.between(saida.getCriadoEm(), LocalDateTime.now()).toMillis();
+        latenciaTotalMs.add(latencia);
+        latenciaMaximaMs.accumulateAndGet(latencia, Math::max);
+    }
+
+    /**
+     * Devolve o evento para a fila com espera exponencial, ou o marca como falha
+     * definitiva quando as tentativas se esgotam, liberando os seguintes do agregado.
+     */
+    private void registrarFalha(Long id, int tentativasAnteriores, String ouvinte, RuntimeException erro) {
+        int tentativas = tentativasAnteriores + 1;
+        boolean desistir = tentativas >= tentativasMaximas;
+        String mensagem = (ouvinte != null ? ouvinte + ": " : "") + erro.getMessage();
+        if (mensagem.length() > 500) {
+            mensagem = mensagem.substring(0, 500);
+        }
+        LocalDateTime proximaTentativa = LocalDateTime.now().plus(Duration.ofMillis(esperaBaseMs << Math.min(tentativas - 1, 16)));
+        String ultimoErro = mensagem;
+        try {
+            transacao.executeWithoutResult(status -> eventoSaidaRepository.atualizarStatus(
+                    id, desistir ? StatusEvento.FALHOU : StatusEvento.PENDENTE, tentativas, proximaTentativa, ultimoErro));
+        } catch (RuntimeException e) {
+            // A reserva expira sozinha e o evento volta a ser entregue.
+            log.warn("Falha ao registrar erro do evento {}", id, e);
+        }
+        if (desistir) {
+            falhas.increment();
+            log.error("Entrega do evento {} desistiu após {} tentativas", id, tentativas, erro);
+        } else {
+            novasTentativas.increment();
+            log.warn("Entrega do evento {} falhou (tentativa {}), nova tentativa às {}", id, tentativas, proximaTentativa);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package dev.team.systers.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.ISpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import dev.team.systers.model.Comentario;
+import dev.team.systers.model.Grupo;
+import dev.team.systers.model.Postagem;
+import dev.team.systers.tools.CacheLru;
+import dev.team.systers.tools.RespostaSemReescritaDeUrl;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Serviço de cache de fragmentos HTML renderizados.
+ * Guarda o HTML das partes das páginas que são iguais para todos os usuários
+ * (cabeçalho e conteúdo das postagens, comentários e cartões de grupo), indexado por
+ * fragmento, ID e versão da entidade. Quando uma postagem, comentário ou grupo é alterado
+ * sua versão muda, e a entrada antiga deixa de ser usada até ser descartada pelo LRU.
+ *
+ * <p>Os fragmentos ficam em {@code templates/fragmentos/cache.html} e não podem conter
+ * partes que dependem de quem está visualizando (botões de exclusão, token CSRF).</p>
+ */
+@Service
+public class FragmentoService {
+
+    /**
+     * Template que contém os fragmentos cacheáveis.
+     */
+    private static final String TEMPLATE = "fragmentos/cache";
+
+    /**
+     * Motor de templates do Thymeleaf configurado pelo Spring Boot.
+     */
+    private final ISpringTemplateEngine templateEngine;
+
+    /**
+     * HTML renderizado, indexado por "fragmento:id:versão".
+     */
+    private final CacheLru<String, String> cache;
+
+    /**
+     * Quantidade de acertos no cache, por fragmento.
+     */
+    private final Map<String, LongAdder> acertos = new ConcurrentHashMap<>();
+
+    /**
+     * Quantidade de renderizações (faltas no cache), por fragmento.
+     */
+    private final Map<String, LongAdder> renderizacoes = new ConcurrentHashMap<>();
+
+    /**
+     * Tempo total gasto renderizando, em nanossegundos, por fragmento.
+     */
+    private final Map<String, LongAdder> tempoRenderizacaoNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param templateEngine Motor de templates injetado pelo Spring
+     * @param capacidade Quantidade máxima de fragmentos mantidos em memória
+     */
+    @Autowired
+    public FragmentoService(ISpringTemplateEngine templateEngine,
+                            @Value("${systers.fragmentos.capacidade:5000}") int capacidade) {
+        this.templateEngine = templateEngine;
+        this.cache = new CacheLru<>(capacidade);
+    }
+
+    /**
+     * Retorna o cabeçalho e o conteúdo de uma postagem.
+     * @param postagem Postagem com autor carregado
+     * @return HTML do fragmento
+     */
+    public String postagem(Postagem postagem) {
+        return obter("postagem", postagem.getId(), postagem.getVersao(), postagem);
+    }
+
+    /**
+     * Retorna o cabeçalho e o conteúdo de um comentário.
+     * Comentários não são editáveis, então a versão é sempre a mesma.
+     * @param comentario Comentário com autor carregado
+     * @return HTML do fragmento
+     */
+    public String comentario(Comentario comentario) {
+        return obter("comentario", comentario.getId(), 0L, comentario);
+    }
+
+    /**
+     * Retorna o cartão de um grupo exibido na pesquisa de grupos.
+     * Em caso de acerto, os membros do grupo nem chegam a ser carregados.
+     * @param grupo Grupo a exibir
+     * @return HTML do fragmento
+     */
+    public String grupoCard(Grupo grupo) {
+        return obter("grupo-card", grupo.getId(), grupo.getVersao(), grupo);
+    }
+
+    /**
+     * Retorna as métricas do cache por fragmento.
+     * @return Mapa com acertos, renderizações, tempo médio de renderização e estado do cache
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        for (String fragmento : renderizacoes.keySet()) {
+            long renderizadas = renderizacoes.get(fragmento).sum();
+            long tempoTotal = tempoRenderizacaoNanos.getOrDefault(fragmento, new LongAdder()).sum();
+            Map<String, Object> porFragmento = new LinkedHashMap<>();
+            porFragmento.put("acertos", acertos.getOrDefault(fragmento, new LongAdder()).sum());
+            porFragmento.put("renderizacoes", renderizadas);
+            porFragmento.put("tempoMedioRenderizacaoMs", renderizadas == 0 ? 0.0 : tempoTotal / 1_000_000.0 / renderizadas);
+            resultado.put(fragmento, porFragmento);
+        }
+        resultado.put("tamanho", cache.tamanho());
+        resultado.put("capacidade", cache.getCapacidade());
+        resultado.put("descartes", cache.getDescartes());
+        return resultado;
+    }
+
+    /**
+     * Busca o fragmento no cache ou o renderiza e guarda.
+     */
+    private String obter(String fragmento, Long id, Long versao, Object entidade) {
+        String chave = fragmento + ":" + id + ":" + (versao != null ? versao : 0L);
+        String html = cache.buscar(chave);
+        if (html != null) {
+            contador(acertos, fragmento).increment();
+            return html;
+        }
+        long inicio = System.nanoTime();
+        html = renderizar(fragmento, entidade);
+        contador(tempoRenderizacaoNanos, fragmento).add(System.nanoTime() - inicio);
+        contador(renderizacoes, fragmento).increment();
+        cache.guardar(chave, html);
+        return html;
+    }
+
+    /**
+     * Renderiza um fragmento isolado com a entidade como única variável.
+     * Usa a requisição atual apenas para montar os links, sem reescrita de sessão.
+     */
+    private String renderizar(String fragmento, Object entidade) {
+        ServletRequestAttributes atributos = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = atributos.getRequest();
+        JakartaServletWebApplication aplicacao = JakartaServletWebApplication.buildApplication(request.getServletContext());
+        WebContext contexto = new WebContext(
+                aplicacao.buildExchange(request, new RespostaSemReescritaDeUrl(atributos.getResponse())),
+                LocaleContextHolder.getLocale(),
+                Map.of(nomeDaVariavel(fragmento), entidade));
+        return templateEngine.process(TEMPLATE, Set.of(fragmento), contexto);
+    }
+
+    private static String nomeDaVariavel(String fragmento) {
+        return switch (fragmento) {
+            case "grupo-card" -> "grupo";
+            default -> fragmento;
+        };
+    }
+
+    private static LongAdder contador(Map<String, LongAdder> contadores, String fragmento) {
+        return contadores.computeIfAbsent(fragmento, f -> new LongAdder());
+    }
+}
@@ -1,12 +1,17 @@
 package dev.team.systers.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.dto.ResultadoLote;
+import dev.team.systers.evento.MembroEntrou;
 import dev.team.systers.exception.GrupoException;
 import dev.team.systers.exception.MembroException;
 import dev.team.systers.model.Grupo;
@@ -18,6 +23,7 @@ import dev.team.systers.repository.GrupoRepository;
 import dev.team.systers.repository.MembroRepository;
 import dev.team.systers.repository.PostagemRepository;
 import dev.team.systers.repository.UsuarioRepository;
+import dev.team.systers.tools.SingleFlight;
 
 /**
  * Serviço responsável pelo gerenciamento de grupos no sistema.
@@ -52,6 +58,17 @@ public class GrupoService {
      */
     private final ComentarioRepository comentarioRepository;
 
+    /**
+     * Coalescência das cargas de postagens de um grupo, por grupo e versão.
+     * Quando muitos membros recarregam a página ao mesmo tempo, apenas uma consulta vai ao banco.
+     */
+    private final SingleFlight<String, List<Postagem>> cargasDePostagens;
+
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param grupoRepository Repositório de grupos
@@ -59,16 +76,22 @@ public class GrupoService {
      * @param usuarioRepository Repositório de usuários
      * @param postagemRepository Repositório de postagens
      * @param comentarioRepository Repositório de comentários
+     * @param eventoDominioService Serviço de eventos de domínio
+     * @param janelaCoalescenciaMs Tempo em que uma carga concluída ainda é reaproveitada
      */
     @Autowired
     public GrupoService(GrupoRepository grupoRepository, MembroRepository membroRepository, 
                        UsuarioRepository usuarioRepository, PostagemRepository postagemRepository, 
-                       ComentarioRepository comentarioRepository) {
+                       ComentarioRepository comentarioRepository,
+                       EventoDominioService eventoDominioService,
+                       @Value("${systers.coalescencia.janela-ms:500}") long janelaCoalescenciaMs) {
         this.grupoRepository = grupoRepository;
         this.membroRepository = membroRepository;
         this.usuarioRepository = usuarioRepository;
         this.postagemRepository = postagemRepository;
         this.comentarioRepository = comentarioRepository;
+        this.eventoDominioService = eventoDominioService;
+        this.cargasDePostagens = new SingleFlight<>(janelaCoalescenciaMs);
     }
 
     /**
@@ -107,10 +130,12 @@ public class GrupoService {
 
     /**
      * Adiciona um usuário como membro de um grupo.
+     * Publica o evento {@link MembroEntrou}.
      * @param grupoId ID do grupo
      * @param usuarioId ID do usuário
      * @throws GrupoException se o grupo não existir, usuário não for encontrado ou já for membro
      */
+    @Transactional
     public void participarGrupo(Long grupoId, Long usuarioId) {
         Grupo grupo = grupoRepository.findById(grupoId)
                 .orElseThrow(() -> new GrupoException("Grupo não encontrado"));
@@ -130,7 +155,9 @@ public class GrupoService {
         membro.setUsuario(usuario);
         membro.setGrupo(grupo);
 
-        membroRepository.save(membro);
+        Membro salvo = membroRepository.save(membro);
+        grupoRepository.incrementarVersao(grupoId);
+        eventoDominioService.publicar(new MembroEntrou(grupoId, usuarioId, salvo.getId()));
     }
 
     /**
@@ -153,6 +180,7 @@ public class GrupoService {
         verificarPermissao(usuario, grupo, Membro.Autorizacao.DONO);
         grupo.setNome(novoNome);
         grupoRepository.save(grupo);
+        grupoRepository.incrementarVersao(grupoId);
     }
 
     /**
@@ -167,6 +195,7 @@ public class GrupoService {
         verificarPermissao(usuario, grupo, Membro.Autorizacao.DONO);
         grupo.setDescricao(novaDescricao);
         grupoRepository.save(grupo);
+        grupoRepository.incrementarVersao(grupoId);
     }
 
     /**
@@ -181,6 +210,7 @@ public class GrupoService {
         verificarPermissao(usuario, grupo, Membro.Autorizacao.DONO);
         grupo.setStatusAtivo(aberto);
         grupoRepository.save(grupo);
+        grupoRepository.incrementarVersao(grupoId);
     }
 
     /**
@@ -219,6 +249,33 @@ public class GrupoService {
         Membro membro = membroRepository.findById(membroId).orElseThrow(() -> new GrupoException("Membro não encontrado"));
         membro.setStatusAcesso(status);
         membroRepository.save(membro);
+        grupoRepository.incrementarVersao(grupoId);
+    }
+
+    /**
+     * Altera o status de acesso de vários membros do grupo com uma única atualização.
+     * Membros de outros grupos são tratados como não encontrados. O tamanho do lote
+     * é validado por quem chama.
+     * @param grupoId ID do grupo
+     * @param membroIds IDs dos membros
+     * @param status Novo status de acesso
+     * @param usuario Usuário que está realizando a moderação
+     * @return Situação de cada membro, na ordem do pedido
+     * @throws GrupoException se o grupo não existir ou usuário não tiver permissão
+     */
+    @Transactional
+    public Map<Long, ResultadoLote.Situacao> moderarMembros(Long grupoId, Collection<Long> membroIds,
+                                                            Membro.StatusAcesso status, Usuario usuario) {
+        Grupo grupo = grupoRepository.findById(grupoId).orElseThrow(() -> new GrupoException("Grupo não encontrado"));
+        verificarPermissao(usuario, grupo, Membro.Autorizacao.MODERADOR);
+        Map<Long, ResultadoLote.Situacao> itens = ResultadoLote.classificar(membroIds,
+                membroRepository.findStatusAcessoParaAlterar(grupoId, membroIds), 1, status.name());
+        List<Long> alterar = ResultadoLote.aplicados(itens);
+        if (!alterar.isEmpty()) {
+            membroRepository.alterarStatusAcesso(grupoId, alterar, status);
+            grupoRepository.incrementarVersao(grupoId);
+        }
+        return itens;
     }
 
     /**
@@ -280,6 +337,31 @@ public class GrupoService {
         return listarPostagens(grupo);
     }
 
+    /**
+     * Carrega as postagens de um grupo com autores e comentários já inicializados.
+     * Usado pela página do grupo, que monta suas partes fora da sessão da requisição.
+     * Cargas simultâneas da mesma versão do grupo compartilham uma única consulta;
+     * como a versão muda a cada alteração, quem acabou de postar nunca recebe a lista antiga.
+     * 
+     * @param grupoId ID do grupo
+     * @param versao Versão atual do grupo (ver {@link #buscarVersaoDoGrupo(Long)})
+     * @return Lista somente leitura de postagens do grupo, mais recentes primeiro
+     */
+    public List<Postagem> carregarPostagensDoGrupo(Long grupoId, Long versao) {
+        return cargasDePostagens.executar(grupoId + ":" + versao,
+                () -> List.copyOf(postagemRepository.findByGrupoIdComComentarios(grupoId)));
+    }
+
+    /**
+     * Busca a versão atual do conteúdo de um grupo, sem carregá-lo.
+     * A versão muda sempre que o grupo, seus membros, postagens ou comentários são alterados.
+     * @param grupoId ID do grupo
+     * @return Versão do grupo ou null se o grupo não existir
+     */
+    public Long buscarVersaoDoGrupo(Long grupoId) {
+        return grupoRepository.findVersaoById(grupoId).orElse(null);
+    }
+
     /**
      * Remove um usuário de um grupo.
      * @param grupoId ID do grupo
@@ -308,6 +390,7 @@ public class GrupoService {
 
         // Por fim, remove o membro do grupo
         membroRepository.delete(membro);
+        grupoRepository.incrementarVersao(grupoId);
     }
 
     /**
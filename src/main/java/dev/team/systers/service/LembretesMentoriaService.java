@@ -0,0 +1,290 @@
+package dev.team.systers.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.team.systers.dto.AgendaAlterada;
+import dev.team.systers.dto.LembreteMentoria;
+import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
+import dev.team.systers.model.Participante;
+import dev.team.systers.repository.MentoriaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.tools.RodaTemporal;
+
+/**
+ * Serviço responsável pelos lembretes de mentorias.
+ *
+ * <p>Cada mentoria ainda não encerrada tem um lembrete por antecedência configurada
+ * (por padrão, 24 horas e 15 minutos antes do início) em uma {@link RodaTemporal}, que
+ * agenda e cancela em O(1) e, a cada tique, só toca os lembretes que estão vencendo.
+ * Os lembretes vencidos geram notificações para os participantes pela caixa de saída,
+ * em lotes.</p>
+ *
+ * <p>Os lembretes não são gravados: a roda é reconstruída na inicialização a partir
+ * do início das mentorias e refeita para cada mentoria após as alterações de agenda.
+ * Lembretes cujo horário passou com o sistema parado não são enviados.</p>
+ */
+@Service
+public class LembretesMentoriaService {
+
+    private static final Logger log = LoggerFactory.getLogger(LembretesMentoriaService.class);
+
+    /**
+     * Formato do horário de início nos lembretes.
+     */
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    /**
+     * Duração de um tique da roda: a precisão dos lembretes.
+     */
+    private static final long TIQUE_MS = 1000;
+
+    /**
+     * Níveis da roda; com tiques de um segundo, quatro níveis cobrem cerca de 194 dias.
+     */
+    private static final int NIVEIS = 4;
+
+    /**
+     * Repositório para acesso aos dados de mentorias.
+     */
+    private final MentoriaRepository mentoriaRepository;
+
+    /**
+     * Repositório para acesso aos dados de participantes.
+     */
+    private final ParticipanteRepository participanteRepository;
+
+    /**
+     * Serviço de distribuição de notificações.
+     */
+    private final DistribuicaoNotificacoesService distribuicaoNotificacoesService;
+
+    /**
+     * Transação de cada lote de lembretes.
+     */
+    private final TransactionTemplate transacao;
+
+    /**
+     * Antecedências dos lembretes, em minutos.
+     */
+    private final long[] antecedenciasMin;
+
+    /**
+     * Quantidade máxima de lembretes por transação.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Lembretes pendentes.
+     */
+    private final RodaTemporal<LembreteMentoria, LembreteMentoria> roda;
+
+    /**
+     * Quantidade de lembretes enviados, de notificações geradas e de lembretes descartados
+     * porque a mentoria foi encerrada ou remarcada.
+     */
+    private final LongAdder enviados = new LongAdder();
+    private final LongAdder notificacoes = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param mentoriaRepository Repositório de mentorias injetado pelo Spring
+     * @param participanteRepository Repositório de participantes injetado pelo Spring
+     * @param distribuicaoNotificacoesService Serviço de distribuição de notificações injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param antecedenciasMin Antecedências dos lembretes, em minutos
+     * @param tamanhoLote Quantidade máxima de lembretes por transação
+     */
+    @Autowired
+    public LembretesMentoriaService(MentoriaRepository mentoriaRepository,
+                                    ParticipanteRepository participanteRepository,
+                                    DistribuicaoNotificacoesService distribuicaoNotificacoesService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${systers.lembretes.antecedencias-min:1440,15}") long[] antecedenciasMin,
+                                    @Value("${systers.lembretes.lote:200}") int tamanhoLote) {
+        this.mentoriaRepository = mentoriaRepository;
+        this.participanteRepository = participanteRepository;
+        this.distribuicaoNotificacoesService = distribuicaoNotificacoesService;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.antecedenciasMin = antecedenciasMin;
+        this.tamanhoLote = tamanhoLote;
+        this.roda = new RodaTemporal<>(TIQUE_MS, NIVEIS, System.currentTimeMillis());
+    }
+
+    /**
+     * Agenda os lembretes de todas as mentorias não encerradas que ainda vão começar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long agora = System.currentTimeMillis();
+        List<Object[]> inicios = mentoriaRepository.findInicioDasAtivasApos(
+                EnumSet.of(StatusMentoria.AGENDADA, StatusMentoria.EM_ANDAMENTO), LocalDateTime.now());
+        for (Object[] linha : inicios) {
+            agendar((Long) linha[0], (LocalDateTime) linha[1], agora);
+        }
+    }
+
+    /**
+     * Refaz os lembretes da mentoria após o commit de uma alteração de horário ou status.
+     * Também é chamado fora de transação, quando a alteração não abriu uma.
+     *
+     * @param evento Mentoria alterada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAgenda(AgendaAlterada evento) {
+        Mentoria mentoria = mentoriaRepository.findById(evento.mentoriaId()).orElse(null);
+        if (mentoria == null || mentoria.getDataHoraInicio() == null
+                || (mentoria.getStatus() != null && !mentoria.getStatus().isAtiva())) {
+            cancelar(evento.mentoriaId());
+            return;
+        }
+        agendar(mentoria.getId(), mentoria.getDataHoraInicio(), System.currentTimeMillis());
+    }
+
+    /**
+     * Avança a roda e envia os lembretes vencidos, em lotes.
+     */
+    @Scheduled(fixedDelayString = "${systers.lembretes.tick-ms:1000}",
+               initialDelayString = "${systers.lembretes.tick-ms:1000}")
+    public void enviar() {
+        List<LembreteMentoria> vencidos = roda.avancar(System.currentTimeMillis());
+        for (int i = 0; i < vencidos.size(); i += tamanhoLote) {
+            enviarLote(vencidos.subList(i, Math.min(i + tamanhoLote, vencidos.size())));
+        }
+    }
+
+    /**
+     * Retorna as métricas dos lembretes.
+     * @return Mapa com lembretes pendentes, enviados, notificações geradas e descartes
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("pendentes", roda.tamanho());
+        resultado.put("enviados", enviados.sum());
+        resultado.put("notificacoes", notificacoes.sum());
+        resultado.put("descartados", descartados.sum());
+        return resultado;
+    }
+
+    /**
+     * Gera as notificações de um lote de lembretes em uma transação.
+     * Se a transação falhar, os lembretes voltam para a roda e são tentados no próximo tique.
+     */
+    private void enviarLote(List<LembreteMentoria> lembretes) {
+        long agora = System.currentTimeMillis();
+        try {
+            transacao.executeWithoutResult(status -> {
+                Map<Long, List<Participante>> porMentoria = participanteRepository.findByMentoriaIdsComUsuario(
+                        lembretes.stream().map(LembreteMentoria::mentoriaId).distinct().toList()).stream()
+                        .collect(Collectors.groupingBy(participante -> participante.getMentoria().getId()));
+                for (LembreteMentoria lembrete : lembretes) {
+                    List<Participante> participantes = porMentoria.getOrDefault(lembrete.mentoriaId(), List.of());
+                    if (participantes.isEmpty() || !valido(lembrete, participantes.get(0).getMentoria(), agora)) {
+                        descartados.increment();
+                        continue;
+                    }
+                    notificar(lembrete, participantes);
+                    enviados.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar {} lembretes de mentoria", lembretes.size(), e);
+            lembretes.forEach(lembrete -> roda.agendar(lembrete, agora, lembrete));
+        }
+    }
+
+    /**
+     * Notifica cada participante; o remetente é o mentor para os mentorados
+     * e um dos mentorados para o mentor.
+     */
+    private void notificar(LembreteMentoria lembrete, List<Participante> participantes) {
+        Mentoria mentoria = participantes.get(0).getMentoria();
+        Long mentorId = idDoPrimeiro(participantes, Participante.TipoParticipante.MENTOR);
+        Long mentoradoId = idDoPrimeiro(participantes, Participante.TipoParticipante.MENTORADO);
+        String conteudo = "Lembrete: a mentoria " + mentoria.getNome() + " começa em "
+                + descrever(lembrete.antecedenciaMin()) + " (" + mentoria.getDataHoraInicio().format(FORMATO) + ").";
+        for (Participante participante : participantes) {
+            Long remetenteId = participante.getTipo() == Participante.TipoParticipante.MENTOR ? mentoradoId : mentorId;
+            if (remetenteId == null) {
+                continue;
+            }
+            distribuicaoNotificacoesService.agendarParaUsuario(TipoNotificacao.LEMBRETE_MENTORIA,
+                    participante.getUsuario().getId(), remetenteId, conteudo);
+            notificacoes.increment();
+        }
+    }
+
+    /**
+     * Um lembrete só vale se a mentoria ainda não começou, não foi encerrada
+     * e não foi remarcada para mais tarde.
+     */
+    private boolean valido(LembreteMentoria lembrete, Mentoria mentoria, long agora) {
+        if (mentoria.getDataHoraInicio() == null || (mentoria.getStatus() != null && !mentoria.getStatus().isAtiva())) {
+            return false;
+        }
+        long inicio = emMs(mentoria.getDataHoraInicio());
+        return inicio > agora && inicio - lembrete.antecedenciaMin() * 60_000 <= agora + TIQUE_MS;
+    }
+
+    /**
+     * Agenda os lembretes da mentoria que ainda estão no futuro, substituindo os anteriores.
+     */
+    private void agendar(Long mentoriaId, LocalDateTime inicio, long agora) {
+        long inicioMs = emMs(inicio);
+        for (long antecedencia : antecedenciasMin) {
+            LembreteMentoria lembrete = new LembreteMentoria(mentoriaId, antecedencia);
+            long prazo = inicioMs - antecedencia * 60_000;
+            if (prazo > agora) {
+                roda.agendar(lembrete, prazo, lembrete);
+            } else {
+                roda.cancelar(lembrete);
+            }
+        }
+    }
+
+    private void cancelar(Long mentoriaId) {
+        Arrays.stream(antecedenciasMin).forEach(antecedencia -> roda.cancelar(new LembreteMentoria(mentoriaId, antecedencia)));
+    }
+
+    private static Long idDoPrimeiro(List<Participante> participantes, Participante.TipoParticipante tipo) {
+        return participantes.stream()
+                .filter(participante -> participante.getTipo() == tipo)
+                .map(participante -> participante.getUsuario().getId())
+                .findFirst().orElse(null);
+    }
+
+    private static String descrever(long minutos) {
+        if (minutos % 60 == 0) {
+            return minutos / 60 + (minutos == 60 ? " hora" : " horas");
+        }
+        return minutos + (minutos == 1 ? " minuto" : " minutos");
+    }
+
+    private static long emMs(LocalDateTime horario) {
+        return horario.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -4,7 +4,9 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.evento.MembroEntrou;
 import dev.team.systers.exception.MembroException;
 import dev.team.systers.model.Grupo;
 import dev.team.systers.model.Membro;
@@ -36,21 +38,30 @@ public class MembroService {
      */
     private final UsuarioRepository usuarioRepository;
 
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param membroRepository Repositório de membros
      * @param grupoRepository Repositório de grupos
      * @param usuarioRepository Repositório de usuários
+     * @param eventoDominioService Serviço de eventos de domínio
      */
     @Autowired
-    public MembroService(MembroRepository membroRepository, GrupoRepository grupoRepository, UsuarioRepository usuarioRepository) {
+    public MembroService(MembroRepository membroRepository, GrupoRepository grupoRepository, UsuarioRepository usuarioRepository,
+                         EventoDominioService eventoDominioService) {
         this.membroRepository = membroRepository;
         this.grupoRepository = grupoRepository;
         this.usuarioRepository = usuarioRepository;
+        this.eventoDominioService = eventoDominioService;
     }
 
     /**
      * Adiciona um novo membro a um grupo.
+     * Publica o evento {@link MembroEntrou}.
      * 
      * @param grupoId ID do grupo
      * @param usuarioId ID do usuário a ser adicionado
@@ -58,6 +69,7 @@ public class MembroService {
      * @return Membro criado
      * @throws MembroException se o grupo/usuário não existir ou usuário já for membro
      */
+    @Transactional
     public Membro adicionarMembro(Long grupoId, Long usuarioId, Membro.Autorizacao autorizacao) {
         Grupo grupo = grupoRepository.findById(grupoId)
                 .orElseThrow(() -> new MembroException("Grupo não encontrado"));
@@ -77,7 +89,10 @@ public class MembroService {
         membro.setAutorizacao(autorizacao != null ? autorizacao : Membro.Autorizacao.PADRAO);
         membro.setStatusAcesso(Membro.StatusAcesso.NORMAL);
 
-        return membroRepository.save(membro);
+        Membro salvo = membroRepository.save(membro);
+        grupoRepository.incrementarVersao(grupoId);
+        eventoDominioService.publicar(new MembroEntrou(grupoId, usuarioId, salvo.getId()));
+        return salvo;
     }
 
     /**
@@ -107,6 +122,7 @@ public class MembroService {
         }
 
         membroRepository.delete(membro);
+        grupoRepository.incrementarVersao(grupoId);
     }
 
     /**
@@ -150,6 +166,7 @@ public class MembroService {
 
         membro.setAutorizacao(novaAutorizacao);
         membroRepository.save(membro);
+        grupoRepository.incrementarVersao(grupoId);
     }
 
     /**
@@ -162,4 +179,16 @@ public class MembroService {
     public Membro buscarMembroPorUsuarioEGrupo(Long usuarioId, Long grupoId) {
         return membroRepository.findByUsuarioIdAndGrupoId(usuarioId, grupoId);
     }
+
+    /**
+     * Busca um membro específico pelo login do usuário e pelo ID do grupo.
+     * Dispensa carregar o usuário antes de verificar a participação no grupo.
+     * 
+     * @param login Login do usuário
+     * @param grupoId ID do grupo
+     * @return Membro encontrado ou null se o usuário não participar do grupo
+     */
+    public Membro buscarMembroPorLoginEGrupo(String login, Long grupoId) {
+        return membroRepository.findByUsuarioLoginAndGrupoId(login, grupoId);
+    }
 }
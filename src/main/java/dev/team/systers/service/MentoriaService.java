@@ -1,14 +1,27 @@
 package dev.team.systers.service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.dto.AgendaAlterada;
+import dev.team.systers.dto.MinhaMentoria;
+import dev.team.systers.dto.PaginaMinhasMentorias;
+import dev.team.systers.evento.MentoriaFinalizada;
 import dev.team.systers.exception.MentoriaException;
 import dev.team.systers.model.Avaliacao;
 import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
 import dev.team.systers.model.Participante;
 import dev.team.systers.model.Usuario;
 import dev.team.systers.repository.AvaliacaoRepository;
@@ -23,6 +36,16 @@ import dev.team.systers.repository.ParticipanteRepository;
 @Service
 public class MentoriaService {
 
+    /**
+     * Quantidade máxima de mentorias por página.
+     */
+    private static final int LIMITE_MAXIMO_PAGINA = 100;
+
+    /**
+     * Status das mentorias encerradas, listadas depois das ativas.
+     */
+    private static final Set<StatusMentoria> ENCERRADAS = Set.of(StatusMentoria.CONCLUIDA, StatusMentoria.CANCELADA);
+
     /**
      * Repositório para acesso aos dados de mentorias.
      */
@@ -38,17 +61,57 @@ public class MentoriaService {
      */
     private final AvaliacaoRepository avaliacaoRepository;
 
+    /**
+     * Serviço de distribuição de notificações aos mentores.
+     */
+    private final DistribuicaoNotificacoesService distribuicaoNotificacoesService;
+
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
+    /**
+     * Serviço de agendas dos participantes, para detectar conflitos de horário.
+     */
+    private final AgendaMentoriaService agendaMentoriaService;
+
+    /**
+     * Publicador de eventos do Spring, usado para atualizar as agendas.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Serviço dos agregados de avaliações, atualizados a cada avaliação.
+     */
+    private final AgregadosAvaliacaoService agregadosAvaliacaoService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param mentoriaRepository Repositório de mentorias
      * @param participanteRepository Repositório de participantes
      * @param avaliacaoRepository Repositório de avaliações
+     * @param distribuicaoNotificacoesService Serviço de distribuição de notificações
+     * @param eventoDominioService Serviço de eventos de domínio
+     * @param agendaMentoriaService Serviço de agendas dos participantes
+     * @param eventPublisher Publicador de eventos do Spring
+     * @param agregadosAvaliacaoService Serviço dos agregados de avaliações
      */
     @Autowired
-    public MentoriaService(MentoriaRepository mentoriaRepository, ParticipanteRepository participanteRepository, AvaliacaoRepository avaliacaoRepository) {
+    public MentoriaService(MentoriaRepository mentoriaRepository, ParticipanteRepository participanteRepository, AvaliacaoRepository avaliacaoRepository,
+                           DistribuicaoNotificacoesService distribuicaoNotificacoesService,
+                           EventoDominioService eventoDominioService,
+                           AgendaMentoriaService agendaMentoriaService,
+                           ApplicationEventPublisher eventPublisher,
+                           AgregadosAvaliacaoService agregadosAvaliacaoService) {
         this.mentoriaRepository = mentoriaRepository;
         this.participanteRepository = participanteRepository;
         this.avaliacaoRepository = avaliacaoRepository;
+        this.distribuicaoNotificacoesService = distribuicaoNotificacoesService;
+        this.eventoDominioService = eventoDominioService;
+        this.agendaMentoriaService = agendaMentoriaService;
+        this.eventPublisher = eventPublisher;
+        this.agregadosAvaliacaoService = agregadosAvaliacaoService;
     }
 
     /**
@@ -61,11 +124,12 @@ public class MentoriaService {
 
     /**
      * Lista mentorias por status específico.
-     * @param status Status da mentoria (ex: Agendada, Em Andamento, Concluída)
+     * @param status Status da mentoria, pela descrição ou pelo nome (ex: Agendada, EM_ANDAMENTO)
      * @return Lista de mentorias com o status especificado
+     * @throws IllegalArgumentException se o status não existir
      */
     public List<Mentoria> listarPorStatus(String status) {
-        return mentoriaRepository.findByStatus(status);
+        return mentoriaRepository.findByStatus(StatusMentoria.deDescricao(status));
     }
 
     /**
@@ -129,29 +193,105 @@ public class MentoriaService {
             .toList();
     }
 
+    /**
+     * Lista uma página das mentorias do usuário já com o que a página de mentorias exibe:
+     * os demais participantes, se o usuário já avaliou e a nota recebida.
+     * Como em {@link #listarMentoriasPorUsuario}, considera as mentorias em que o usuário é
+     * mentor, se for mentor, ou mentorado, caso contrário. Tudo vem de uma única consulta.
+     * As ativas vêm primeiro, pela data de início mais próxima, e as encerradas depois,
+     * da mais recente para a mais antiga. A paginação é por cursor (keyset).
+     *
+     * @param usuario Usuário dono das mentorias
+     * @param cursor Cursor retornado na página anterior, ou null para a primeira página
+     * @param limite Quantidade de mentorias por página
+     * @return Página com as mentorias e o próximo cursor
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public PaginaMinhasMentorias listarMinhasMentorias(Usuario usuario, String cursor, int limite) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        Participante.TipoParticipante tipo = usuario.getTipoMentor() != null && usuario.getTipoMentor()
+                ? Participante.TipoParticipante.MENTOR
+                : Participante.TipoParticipante.MENTORADO;
+
+        int grupo = -1;
+        long ordem = 0;
+        long id = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = cursor.split("_", 3);
+            try {
+                grupo = Integer.parseInt(partes[0]);
+                ordem = Long.parseLong(partes[1]);
+                id = Long.parseLong(partes[2]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor de paginação inválido.");
+            }
+        }
+
+        List<Object[]> linhas = participanteRepository.findMinhasMentorias(usuario.getId(), tipo.name(),
+                ENCERRADAS.stream().map(StatusMentoria::getDescricao).toList(), grupo, ordem, id, tamanho);
+
+        Map<Long, MinhaMentoria> mentorias = new LinkedHashMap<>();
+        for (Object[] linha : linhas) {
+            Long mentoriaId = ((Number) linha[0]).longValue();
+            MinhaMentoria mentoria = mentorias.computeIfAbsent(mentoriaId, chave -> new MinhaMentoria(
+                    chave,
+                    (String) linha[1],
+                    emData(linha[2]),
+                    emData(linha[3]),
+                    linha[4] != null ? StatusMentoria.deDescricao((String) linha[4]) : null,
+                    Participante.TipoParticipante.valueOf((String) linha[5]),
+                    new ArrayList<>(),
+                    Boolean.TRUE.equals(linha[11]),
+                    linha[12] != null ? ((Number) linha[12]).intValue() : null));
+            if (linha[8] != null) {
+                mentoria.contrapartes().add(new MinhaMentoria.Contraparte((String) linha[8], (String) linha[9],
+                        Participante.TipoParticipante.valueOf((String) linha[10])));
+            }
+        }
+
+        String proximoCursor = null;
+        if (mentorias.size() == tamanho) {
+            Object[] ultima = linhas.get(linhas.size() - 1);
+            proximoCursor = ((Number) ultima[6]).intValue() + "_" + ((Number) ultima[7]).longValue() + "_" + ultima[0];
+        }
+        return new PaginaMinhasMentorias(List.copyOf(mentorias.values()), proximoCursor);
+    }
+
     /**
      * Permite que um mentorado solicite participação em uma mentoria.
+     * O mentor é notificado de forma assíncrona.
      * @param mentoriaId ID da mentoria
      * @param mentee Usuário solicitante (mentorado)
      * @return Mentoria atualizada
-     * @throws MentoriaException se a mentoria não existir ou não estiver disponível
+     * @throws MentoriaException se a mentoria não existir, não estiver disponível
+     *         ou conflitar com outra sessão do mentorado
      */
+    @Transactional
     public Mentoria solicitarMentoria(Long mentoriaId, Usuario mentee) {
         Mentoria mentoria = mentoriaRepository.findById(mentoriaId)
                 .orElseThrow(() -> new MentoriaException("Mentoria não encontrada"));
 
-        if (mentoria.getStatus().equals("Concluída") || mentoria.getStatus().equals("Cancelada")) {
+        if (mentoria.getStatus() != null && !mentoria.getStatus().isAtiva()) {
             throw new MentoriaException("Mentoria não disponível para solicitação.");
         }
+        agendaMentoriaService.verificarDisponibilidade(List.of(mentee.getId()),
+                mentoria.getDataHoraInicio(), mentoria.getDataHoraFim(), mentoriaId);
 
         Participante participante = new Participante();
         participante.setMentoria(mentoria);
         participante.setUsuario(mentee);
         participante.setTipo(Participante.TipoParticipante.MENTORADO);
         participanteRepository.save(participante);
+        eventPublisher.publishEvent(new AgendaAlterada(mentoriaId));
 
-        if (mentoria.getStatus().equals("Agendada")) {
-            mentoria.setStatus("Em Andamento");
+        for (Participante mentor : participanteRepository.findByMentoriaIdAndTipo(mentoriaId, Participante.TipoParticipante.MENTOR)) {
+            distribuicaoNotificacoesService.agendarParaUsuario(TipoNotificacao.SOLICITACAO_MENTORIA,
+                    mentor.getUsuario().getId(), mentee.getId(),
+                    mentee.getLogin() + " solicitou participar da mentoria " + mentoria.getNome());
+        }
+
+        if (mentoria.getStatus() == StatusMentoria.AGENDADA) {
+            alterarStatus(mentoria, StatusMentoria.EM_ANDAMENTO);
             mentoriaRepository.save(mentoria);
         }
 
@@ -163,7 +303,7 @@ public class MentoriaService {
      * @param mentoria Dados da mentoria a ser oferecida
      * @param mentor Usuário que está oferecendo a mentoria
      * @return Mentoria criada
-     * @throws MentoriaException se o usuário não for mentor
+     * @throws MentoriaException se o usuário não for mentor ou já tiver outra sessão no horário
      * @throws IllegalArgumentException se dados obrigatórios estiverem faltando
      */
     public Mentoria oferecerMentoria(Mentoria mentoria, Usuario mentor) {
@@ -180,22 +320,38 @@ public class MentoriaService {
         if (mentoria.getDataHoraInicio().isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("A data de início deve ser futura.");
         }
+        agendaMentoriaService.verificarDisponibilidade(List.of(mentor.getId()),
+                mentoria.getDataHoraInicio(), mentoria.getDataHoraFim(), null);
 
-        mentoria.setStatus("Agendada");
+        mentoria.setStatus(StatusMentoria.AGENDADA);
         return mentoriaRepository.save(mentoria);
     }
 
     /**
      * Atualiza informações de uma mentoria existente.
+     * Passar o status para concluída tem o mesmo efeito de {@link #finalizarMentoria(Long)}:
+     * o término é registrado (agora, se não for informado) e {@link MentoriaFinalizada} é publicado.
      * @param mentoriaId ID da mentoria
      * @param mentoriaAtualizada Novos dados da mentoria
      * @return Mentoria atualizada
-     * @throws MentoriaException se a mentoria não existir
+     * @throws MentoriaException se a mentoria não existir, o novo horário conflitar
+     *         com outra sessão de algum participante ou a mudança de status não for permitida
      */
+    @Transactional
     public Mentoria gerenciarAgenda(Long mentoriaId, Mentoria mentoriaAtualizada) {
         Mentoria mentoriaExistente = mentoriaRepository.findById(mentoriaId)
                 .orElseThrow(() -> new MentoriaException("Mentoria não encontrada"));
 
+        if (mentoriaAtualizada.getDataHoraInicio() != null || mentoriaAtualizada.getDataHoraFim() != null) {
+            List<Long> usuarios = participanteRepository.findByMentoriaIdComUsuario(mentoriaId).stream()
+                    .map(participante -> participante.getUsuario().getId())
+                    .toList();
+            agendaMentoriaService.verificarDisponibilidade(usuarios,
+                    mentoriaAtualizada.getDataHoraInicio() != null ? mentoriaAtualizada.getDataHoraInicio() : mentoriaExistente.getDataHoraInicio(),
+                    mentoriaAtualizada.getDataHoraFim() != null ? mentoriaAtualizada.getDataHoraFim() : mentoriaExistente.getDataHoraFim(),
+                    mentoriaId);
+        }
+
         if (mentoriaAtualizada.getNome() != null) {
             mentoriaExistente.setNome(mentoriaAtualizada.getNome());
         }
@@ -205,31 +361,46 @@ public class MentoriaService {
         if (mentoriaAtualizada.getDataHoraFim() != null) {
             mentoriaExistente.setDataHoraFim(mentoriaAtualizada.getDataHoraFim());
         }
-        if (mentoriaAtualizada.getStatus() != null) {
-            mentoriaExistente.setStatus(mentoriaAtualizada.getStatus());
+        boolean concluida = false;
+        if (mentoriaAtualizada.getStatus() == StatusMentoria.CONCLUIDA && mentoriaExistente.getStatus() != StatusMentoria.CONCLUIDA) {
+            concluir(mentoriaExistente, mentoriaAtualizada.getDataHoraFim() != null
+                    ? mentoriaAtualizada.getDataHoraFim() : LocalDateTime.now());
+            concluida = true;
+        } else if (mentoriaAtualizada.getStatus() != null && mentoriaAtualizada.getStatus() != mentoriaExistente.getStatus()) {
+            alterarStatus(mentoriaExistente, mentoriaAtualizada.getStatus());
         }
 
-        return mentoriaRepository.save(mentoriaExistente);
+        Mentoria salva = mentoriaRepository.save(mentoriaExistente);
+        if (concluida) {
+            eventoDominioService.publicar(new MentoriaFinalizada(salva.getId(), salva.getDataHoraFim()));
+        }
+        eventPublisher.publishEvent(new AgendaAlterada(mentoriaId));
+        return salva;
     }
 
     /**
      * Finaliza uma mentoria em andamento.
+     * Publica o evento {@link MentoriaFinalizada}, a partir do qual os mentorados
+     * são convidados a avaliar a mentoria.
      * @param mentoriaId ID da mentoria
      * @return Mentoria finalizada
-     * @throws MentoriaException se a mentoria não existir ou já estiver finalizada
+     * @throws MentoriaException se a mentoria não existir ou já estiver encerrada
      */
+    @Transactional
     public Mentoria finalizarMentoria(Long mentoriaId) {
         Mentoria mentoria = mentoriaRepository.findById(mentoriaId)
                 .orElseThrow(() -> new MentoriaException("Mentoria não encontrada"));
 
-        if (mentoria.getStatus().equals("Concluída")) {
+        if (mentoria.getStatus() == StatusMentoria.CONCLUIDA) {
             throw new MentoriaException("Mentoria já está finalizada.");
         }
 
-        mentoria.setStatus("Concluída");
-        mentoria.setDataHoraFim(LocalDateTime.now());
-        
-        return mentoriaRepository.save(mentoria);
+        concluir(mentoria, LocalDateTime.now());
+
+        Mentoria salva = mentoriaRepository.save(mentoria);
+        eventoDominioService.publicar(new MentoriaFinalizada(salva.getId(), salva.getDataHoraFim()));
+        eventPublisher.publishEvent(new AgendaAlterada(salva.getId()));
+        return salva;
     }
 
     /**
@@ -237,12 +408,18 @@ public class MentoriaService {
      * Apenas o mentorado pode avaliar a mentoria.
      * 
      * @param avaliacao Avaliação a ser registrada
-     * @throws MentoriaException se a mentoria não estiver concluída, usuário não for participante ou já tiver avaliado
+     * @throws MentoriaException se a nota for inválida, a mentoria não estiver concluída,
+     *         o usuário não for participante ou já tiver avaliado
      */
+    @Transactional
     public void avaliarMentoria(Avaliacao avaliacao) {
         Mentoria mentoria = avaliacao.getMentoriaAvaliada();
+
+        if (avaliacao.getAvaliacaoMentoria() < 0 || avaliacao.getAvaliacaoMentoria() > 5) {
+            throw new MentoriaException("A nota deve estar entre 0 e 5.");
+        }
         
-        if (!mentoria.getStatus().equals("Concluída")) {
+        if (mentoria.getStatus() != StatusMentoria.CONCLUIDA) {
             throw new MentoriaException("Só é possível avaliar mentorias finalizadas");
         }
         
@@ -260,6 +437,7 @@ public class MentoriaService {
         }
         
         avaliacaoRepository.save(avaliacao);
+        agregadosAvaliacaoService.registrar(avaliacao);
     }
 
     /**
@@ -289,4 +467,33 @@ public class MentoriaService {
     public Avaliacao buscarAvaliacao(Long mentoriaId) {
         return avaliacaoRepository.findByMentoriaAvaliadaId(mentoriaId);
     }
+
+    /**
+     * Passa a mentoria para concluída com o término informado.
+     * Quem chama deve publicar {@link MentoriaFinalizada} depois de salvar.
+     */
+    private void concluir(Mentoria mentoria, LocalDateTime fim) {
+        alterarStatus(mentoria, StatusMentoria.CONCLUIDA);
+        mentoria.setDataHoraFim(fim);
+    }
+
+    /**
+     * Altera o status da mentoria respeitando as transições permitidas.
+     * Mentorias sem status, anteriores ao controle de transições, aceitam qualquer destino.
+     *
+     * @param mentoria Mentoria a ser alterada
+     * @param destino Novo status
+     * @throws MentoriaException se a transição não for permitida
+     */
+    private void alterarStatus(Mentoria mentoria, StatusMentoria destino) {
+        StatusMentoria atual = mentoria.getStatus();
+        if (atual != null && !atual.podeIrPara(destino)) {
+            throw new MentoriaException("Não é possível passar a mentoria de " + atual + " para " + destino + ".");
+        }
+        mentoria.setStatus(destino);
+    }
+
+    private static LocalDateTime emData(Object valor) {
+        return valor instanceof Timestamp data ? data.toLocalDateTime() : (LocalDateTime) valor;
+    }
 }
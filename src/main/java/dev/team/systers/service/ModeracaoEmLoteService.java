@@ -0,0 +1,180 @@
+package dev.team.systers.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.dto.ResultadoLote;
+import dev.team.systers.model.Membro;
+import dev.team.systers.model.RegistroModeracao;
+import dev.team.systers.model.RegistroModeracao.Acao;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.RegistroModeracaoRepository;
+
+/**
+ * Serviço das ações de moderação em lote.
+ *
+ * <p>Resolve denúncias, altera o status da conta de usuários ou o status de acesso de
+ * membros de um grupo em muitos registros de uma vez: os registros pedidos são lidos e
+ * bloqueados com uma consulta, os que precisam mudar são alterados com uma única
+ * atualização, e a ação é registrada na auditoria, tudo na mesma transação. O resultado
+ * informa a situação de cada ID pedido.</p>
+ */
+@Service
+public class ModeracaoEmLoteService {
+
+    /**
+     * Serviço da fila de moderação, que resolve as denúncias.
+     */
+    private final ModeracaoService moderacaoService;
+
+    /**
+     * Serviço de usuários, que altera o status das contas.
+     */
+    private final UsuarioService usuarioService;
+
+    /**
+     * Serviço de grupos, que altera o status dos membros.
+     */
+    private final GrupoService grupoService;
+
+    /**
+     * Repositório dos registros de auditoria da moderação.
+     */
+    private final RegistroModeracaoRepository registroModeracaoRepository;
+
+    /**
+     * Quantidade máxima de registros por ação.
+     */
+    private final int loteMaximo;
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param moderacaoService Serviço da fila de moderação injetado pelo Spring
+     * @param usuarioService Serviço de usuário injetado pelo Spring
+     * @param grupoService Serviço de grupo injetado pelo Spring
+     * @param registroModeracaoRepository Repositório de auditoria injetado pelo Spring
+     * @param loteMaximo Quantidade máxima de registros por ação
+     */
+    @Autowired
+    public ModeracaoEmLoteService(ModeracaoService moderacaoService,
+                                  UsuarioService usuarioService,
+                                  GrupoService grupoService,
+                                  RegistroModeracaoRepository registroModeracaoRepository,
+                                  @Value("${systers.moderacao.lote-em-massa:500}") int loteMaximo) {
+        this.moderacaoService = moderacaoService;
+        this.usuarioService = usuarioService;
+        this.grupoService = grupoService;
+        this.registroModeracaoRepository = registroModeracaoRepository;
+        this.loteMaximo = loteMaximo;
+    }
+
+    /**
+     * Resolve as denúncias pedidas, estejam reservadas ou não.
+     *
+     * @param moderador Usuário que executa a ação
+     * @param ids IDs das denúncias
+     * @return Situação de cada denúncia
+     * @throws IllegalArgumentException se o lote estiver vazio ou for maior que o máximo
+     */
+    @Transactional
+    public ResultadoLote resolverDenuncias(Usuario moderador, Collection<Long> ids) {
+        Set<Long> lote = validarLote(ids);
+        return registrar(moderador, Acao.RESOLVER_DENUNCIAS, null, null,
+                moderacaoService.resolverEmLote(moderador.getId(), lote));
+    }
+
+    /**
+     * Altera o status da conta dos usuários pedidos.
+     *
+     * @param moderador Usuário que executa a ação
+     * @param ids IDs dos usuários
+     * @param status Nome do novo status da conta
+     * @return Situação de cada usuário
+     * @throws IllegalArgumentException se o lote ou o status forem inválidos
+     */
+    @Transactional
+    public ResultadoLote alterarStatusUsuarios(Usuario moderador, Collection<Long> ids, String status) {
+        Set<Long> lote = validarLote(ids);
+        Usuario.StatusConta novoStatus = lerStatus(Usuario.StatusConta.class, status);
+        return registrar(moderador, Acao.ALTERAR_STATUS_USUARIOS, null, novoStatus.name(),
+                usuarioService.atualizarStatusUsuarios(lote, novoStatus));
+    }
+
+    /**
+     * Altera o status de acesso dos membros pedidos de um grupo.
+     *
+     * @param moderador Usuário que executa a ação, moderador do grupo
+     * @param grupoId ID do grupo
+     * @param ids IDs dos membros
+     * @param status Nome do novo status de acesso
+     * @return Situação de cada membro
+     * @throws IllegalArgumentException se o lote ou o status forem inválidos
+     * @throws dev.team.systers.exception.GrupoException se o grupo não existir ou o usuário não tiver permissão
+     */
+    @Transactional
+    public ResultadoLote alterarStatusMembros(Usuario moderador, Long grupoId, Collection<Long> ids, String status) {
+        Set<Long> lote = validarLote(ids);
+        Membro.StatusAcesso novoStatus = lerStatus(Membro.StatusAcesso.class, status);
+        return registrar(moderador, Acao.ALTERAR_STATUS_MEMBROS, grupoId, novoStatus.name(),
+                grupoService.moderarMembros(grupoId, lote, novoStatus, moderador));
+    }
+
+    /**
+     * Lista os registros de auditoria mais recentes.
+     * @param quantidade Quantidade de registros, limitada ao lote máximo
+     * @return Registros, mais recentes primeiro
+     */
+    public List<RegistroModeracao> registrosRecentes(int quantidade) {
+        return registroModeracaoRepository.findAllByOrderByIdDesc(
+                PageRequest.of(0, Math.max(1, Math.min(quantidade, loteMaximo))));
+    }
+
+    private ResultadoLote registrar(Usuario moderador, Acao acao, Long grupoId, String valor,
+                                    Map<Long, ResultadoLote.Situacao> itens) {
+        ResultadoLote resultado = ResultadoLote.de(acao, valor, itens);
+        RegistroModeracao registro = new RegistroModeracao();
+        registro.setModeradorId(moderador.getId());
+        registro.setAcao(acao);
+        registro.setGrupoId(grupoId);
+        registro.setValor(valor);
+        registro.setAplicados(resultado.aplicados());
+        registro.setIgnorados(resultado.ignorados());
+        registro.setAlvos(ResultadoLote.aplicados(itens).stream().map(String::valueOf).collect(Collectors.joining(",")));
+        registro.setDataHora(LocalDateTime.now());
+        registroModeracaoRepository.save(registro);
+        return resultado;
+    }
+
+    private Set<Long> validarLote(Collection<Long> ids) {
+        Set<Long> lote = ids == null ? Set.of()
+                : ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (lote.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um ID.");
+        }
+        if (lote.size() > loteMaximo) {
+            throw new IllegalArgumentException("No máximo " + loteMaximo + " registros por vez.");
+        }
+        return lote;
+    }
+
+    private static <E extends Enum<E>> E lerStatus(Class<E> tipo, String status) {
+        try {
+            return Enum.valueOf(tipo, status == null ? "" : status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status inválido: " + status);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package dev.team.systers.service;
+
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.dto.DenunciaReservada;
+import dev.team.systers.dto.ResultadoLote;
+import dev.team.systers.evento.DenunciaResolvida;
+import dev.team.systers.model.Denuncia;
+import dev.team.systers.repository.DenunciaRepository;
+
+/**
+ * Serviço da fila de moderação de denúncias.
+ *
+ * <p>Em vez de todos os moderadores verem a lista inteira de pendentes, cada um reserva
+ * um lote das denúncias de maior prioridade. A reserva é feita com
+ * {@code FOR UPDATE SKIP LOCKED}: moderadores que pedem ao mesmo tempo recebem lotes
+ * diferentes, sem esperar uns pelos outros. A reserva vale por um prazo; se o moderador
+ * não resolver nem liberar as denúncias, elas voltam sozinhas para a fila quando o
+ * prazo vence.</p>
+ *
+ * <p>A prioridade combina a gravidade da categoria, a quantidade de denúncias pendentes
+ * contra o mesmo usuário e o tempo de espera, com pesos configuráveis. A gravidade é
+ * atribuída no registro da denúncia, a partir de palavras da categoria.</p>
+ */
+@Service
+public class ModeracaoService {
+
+    /**
+     * Repositório para acesso aos dados de denúncias.
+     */
+    private final DenunciaRepository denunciaRepository;
+
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
+    /**
+     * Serviço dos contadores de denúncias por usuário.
+     */
+    private final ContadoresDenunciasService contadoresDenunciasService;
+
+    /**
+     * Serviço das séries temporais de denúncias.
+     */
+    private final SeriesDenunciasService seriesDenunciasService;
+
+    /**
+     * Duração das reservas, em minutos.
+     */
+    private final long reservaMin;
+
+    /**
+     * Quantidade máxima de denúncias por operação.
+     */
+    private final int loteMaximo;
+
+    /**
+     * Pesos da gravidade, de cada denúncia pendente contra o mesmo usuário e de cada hora de espera.
+     */
+    private final double pesoGravidade;
+    private final double pesoReincidencia;
+    private final double pesoHora;
+
+    /**
+     * Palavras que classificam a categoria como grave ou média, sem acentos e em minúsculas.
+     */
+    private final List<String> categoriasGraves;
+    private final List<String> categoriasMedias;
+
+    /**
+     * Quantidade de denúncias reservadas, liberadas e resolvidas pela fila, e de denúncias
+     * que não puderam ser resolvidas porque não estavam reservadas pelo moderador.
+     */
+    private final LongAdder reservadas = new LongAdder();
+    private final LongAdder liberadas = new LongAdder();
+    private final LongAdder resolvidas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param denunciaRepository Repositório de denúncias injetado pelo Spring
+     * @param eventoDominioService Serviço de eventos de domínio injetado pelo Spring
+     * @param contadoresDenunciasService Serviço dos contadores de denúncias injetado pelo Spring
+     * @param seriesDenunciasService Serviço das séries de denúncias injetado pelo Spring
+     * @param reservaMin Duração das reservas, em minutos
+     * @param loteMaximo Quantidade máxima de denúncias por operação
+     * @param pesoGravidade Peso de cada nível de gravidade
+     * @param pesoReincidencia Peso de cada denúncia pendente contra o mesmo usuário
+     * @param pesoHora Peso de cada hora de espera
+     * @param categoriasGraves Palavras das categorias graves
+     * @param categoriasMedias Palavras das categorias de gravidade média
+     */
+    @Autowired
+    public ModeracaoService(DenunciaRepository denunciaRepository,
+                            EventoDominioService eventoDominioService,
+                            ContadoresDenunciasService contadoresDenunciasService,
+                            SeriesDenunciasService seriesDenunciasService,
+                            @Value("${systers.moderacao.reserva-min:15}") long reservaMin,
+                            @Value("${systers.moderacao.lote-maximo:50}") int loteMaximo,
+                            @Value("${systers.moderacao.peso-gravidade:100}") double pesoGravidade,
+                            @Value("${systers.moderacao.peso-reincidencia:10}") double pesoReincidencia,
+                            @Value("${systers.moderacao.peso-hora:1}") double pesoHora,
+                            @Value("${systers.moderacao.categorias.graves:assedio,ameaca,violencia,odio,abuso,exploracao}") List<String> categoriasGraves,
+                            @Value("${systers.moderacao.categorias.medias:ofens,inadequad,fraude,golpe,discrimina}") List<String> categoriasMedias) {
+        this.denunciaRepository = denunciaRepository;
+        this.eventoDominioService = eventoDominioService;
+        this.contadoresDenunciasService = contadoresDenunciasService;
+        this.seriesDenunciasService = seriesDenunciasService;
+        this.reservaMin = reservaMin;
+        this.loteMaximo = loteMaximo;
+        this.pesoGravidade = pesoGravidade;
+        this.pesoReincidencia = pesoReincidencia;
+        this.pesoHora = pesoHora;
+        this.categoriasGraves = categoriasGraves.stream().map(ModeracaoService::normalizar).toList();
+        this.categoriasMedias = categoriasMedias.stream().map(ModeracaoService::normalizar).toList();
+    }
+
+    /**
+     * Classifica a gravidade de uma categoria pelas palavras que ela contém,
+     * ignorando acentos e maiúsculas.
+     * @param categoria Categoria informada pelo autor da denúncia
+     * @return 3 para graves, 2 para médias e 1 para as demais
+     */
+    public int gravidade(String categoria) {
+        String texto = normalizar(categoria == null ? "" : categoria);
+        if (categoriasGraves.stream().anyMatch(texto::contains)) {
+            return 3;
+        }
+        if (categoriasMedias.stream().anyMatch(texto::contains)) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * Reserva para o moderador as denúncias livres de maior prioridade.
+     *
+     * @param moderadorId ID do moderador
+     * @param quantidade Quantidade desejada, limitada ao lote máximo
+     * @return Denúncias reservadas, maior prioridade primeiro
+     */
+    @Transactional
+    public List<DenunciaReservada> reservar(Long moderadorId, int quantidade) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Object[]> livres = denunciaRepository.findLivresParaReserva(agora, pesoGravidade, pesoReincidencia,
+                pesoHora, Math.max(1, Math.min(quantidade, loteMaximo)));
+        if (livres.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = livres.stream().map(linha -> ((Number) linha[0]).longValue()).toList();
+        LocalDateTime reservadaAte = agora.plusMinutes(reservaMin);
+        denunciaRepository.reservar(ids, moderadorId, reservadaAte);
+        reservadas.add(ids.size());
+
+        Map<Long, Denuncia> denuncias = denunciaRepository.findByIdsWithUsuarios(ids).stream()
+                .collect(Collectors.toMap(Denuncia::getId, Function.identity()));
+        return livres.stream()
+                .filter(linha -> denuncias.containsKey(((Number) linha[0]).longValue()))
+                .map(linha -> {
+                    Denuncia denuncia = denuncias.get(((Number) linha[0]).longValue());
+                    return new DenunciaReservada(denuncia.getId(), denuncia.getCategoria(), denuncia.getDescricao(),
+                            denuncia.getDataHora(),
+                            denuncia.getUsuarioAutor().getLogin(),
+                            denuncia.getUsuarioReportado().getId(),
+                            denuncia.getUsuarioReportado().getLogin(),
+                            denuncia.getGravidade() != null ? denuncia.getGravidade() : 1,
+                            ((Number) linha[2]).longValue(),
+                            ((Number) linha[1]).doubleValue(),
+                            reservadaAte);
+                })
+                .toList();
+    }
+
+    /**
+     * Devolve para a fila denúncias reservadas pelo moderador, sem resolvê-las.
+     * Denúncias reservadas por outro moderador ou já resolvidas são ignoradas.
+     *
+     * @param moderadorId ID do moderador
+     * @param ids IDs das denúncias
+     * @return Quantidade de denúncias liberadas
+     * @throws IllegalArgumentException se a lista for maior que o lote máximo
+     */
+    @Transactional
+    public int liberar(Long moderadorId, Collection<Long> ids) {
+        Set<Long> lote = validarLote(ids);
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        int quantidade = denunciaRepository.liberar(lote, moderadorId);
+        liberadas.add(quantidade);
+        return quantidade;
+    }
+
+    /**
+     * Resolve denúncias reservadas pelo moderador e publica o evento {@link DenunciaResolvida}
+     * de cada uma. Denúncias reservadas por outro moderador ou já resolvidas são ignoradas;
+     * uma reserva vencida ainda vale enquanto nenhum outro moderador reservar a denúncia.
+     *
+     * @param moderadorId ID do moderador
+     * @param ids IDs das denúncias
+     * @return Quantidade de denúncias resolvidas
+     * @throws IllegalArgumentException se a lista for maior que o lote máximo
+     */
+    @Transactional
+    public int resolver(Long moderadorId, Collection<Long> ids) {
+        Set<Long> lote = validarLote(ids);
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> reservadasPeloModerador = denunciaRepository.findReservadasPor(lote, moderadorId);
+        recusadas.add(lote.size() - reservadasPeloModerador.size());
+        if (reservadasPeloModerador.isEmpty()) {
+            return 0;
+        }
+        resolverLinhas(moderadorId, reservadasPeloModerador, 4);
+        return reservadasPeloModerador.size();
+    }
+
+    /**
+     * Resolve as denúncias pedidas, reservadas ou não, com uma única atualização,
+     * e publica o evento {@link DenunciaResolvida} de cada uma. O tamanho do lote
+     * é validado por quem chama.
+     *
+     * @param moderadorId ID de quem resolveu
+     * @param ids IDs das denúncias
+     * @return Situação de cada denúncia, na ordem do pedido
+     */
+    @Transactional
+    public Map<Long, ResultadoLote.Situacao> resolverEmLote(Long moderadorId, Collection<Long> ids) {
+        List<Object[]> linhas = denunciaRepository.findParaResolverEmLote(ids);
+        Map<Long, ResultadoLote.Situacao> itens = ResultadoLote.classificar(ids, linhas, 4,
+                Denuncia.StatusDenuncia.ATENDIDA.name());
+        List<Object[]> pendentes = linhas.stream()
+                .filter(linha -> itens.get(((Number) linha[0]).longValue()) == ResultadoLote.Situacao.APLICADO)
+                .toList();
+        if (pendentes.isEmpty()) {
+            return itens;
+        }
+        resolverLinhas(moderadorId, pendentes, 5);
+        return itens;
+    }
+
+    /**
+     * Retorna as métricas da fila de moderação.
+     * @return Mapa com denúncias reservadas, liberadas, resolvidas e recusadas
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("reservadas", reservadas.sum());
+        resultado.put("liberadas", liberadas.sum());
+        resultado.put("resolvidas", resolvidas.sum());
+        resultado.put("recusadas", recusadas.sum());
+        return resultado;
+    }
+
+    /**
+     * Resolve as denúncias lidas e bloqueadas, atualiza os contadores por usuário e categoria
+     * e as séries por categoria, e publica o evento de cada uma. As linhas trazem o ID da
+     * denúncia, do autor e do usuário denunciado e a categoria, nesta ordem.
+     */
+    private void resolverLinhas(Long moderadorId, List<Object[]> linhas, int colunaDataHora) {
+        LocalDateTime agora = LocalDateTime.now();
+        denunciaRepository.resolver(linhas.stream().map(linha -> ((Number) linha[0]).longValue()).toList(), agora);
+        Map<Long, Map<String, Long>> porUsuario = linhas.stream()
+                .filter(linha -> linha[2] != null)
+                .collect(Collectors.groupingBy(linha -> ((Number) linha[2]).longValue(),
+                        Collectors.groupingBy(linha -> (String) linha[3], Collectors.counting())));
+        porUsuario.forEach((usuarioId, categorias) -> categorias.forEach((categoria, quantidade) ->
+                contadoresDenunciasService.resolver(usuarioId, categoria, quantidade)));
+        linhas.stream()
+                .collect(Collectors.groupingBy(linha -> (String) linha[3],
+                        Collectors.mapping(linha -> emData(linha[colunaDataHora]), Collectors.toList())))
+                .forEach((categoria, registradasEm) -> seriesDenunciasService.resolver(categoria, registradasEm, agora));
+        for (Object[] linha : linhas) {
+            eventoDominioService.publicar(new DenunciaResolvida(((Number) linha[0]).longValue(),
+                    ((Number) linha[1]).longValue(),
+                    linha[2] != null ? ((Number) linha[2]).longValue() : null,
+                    moderadorId));
+        }
+        resolvidas.add(linhas.size());
+    }
+
+    private Set<Long> validarLote(Collection<Long> ids) {
+        if (ids == null) {
+            return Set.of();
+        }
+        Set<Long> lote = ids.stream().filter(id -> id != null).collect(Collectors.toSet());
+        if (lote.size() > loteMaximo) {
+            throw new IllegalArgumentException("No máximo " + loteMaximo + " denúncias por vez.");
+        }
+        return lote;
+    }
+
+    private static LocalDateTime emData(Object valor) {
+        return valor instanceof Timestamp data ? data.toLocalDateTime() : (LocalDateTime) valor;
+    }
+
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+}
@@ -0,0 +1,121 @@
+package dev.team.systers.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import dev.team.systers.dto.NotificacaoAgrupavel;
+import dev.team.systers.evento.DenunciaResolvida;
+import dev.team.systers.evento.EventoDominio;
+import dev.team.systers.evento.MembroEntrou;
+import dev.team.systers.evento.MentoriaFinalizada;
+import dev.team.systers.evento.OuvinteEventos;
+import dev.team.systers.evento.PostagemCriada;
+import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
+import dev.team.systers.model.Participante;
+import dev.team.systers.model.Postagem;
+import dev.team.systers.repository.MentoriaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.repository.PostagemRepository;
+
+/**
+ * Ouvinte que transforma eventos de domínio em notificações.
+ * Roda na transação de entrega do evento, então as notificações agendadas aqui
+ * são confirmadas junto com a entrega.
+ */
+@Service
+public class NotificacaoEventosService implements OuvinteEventos {
+
+    /**
+     * Serviço de distribuição de notificações.
+     */
+    private final DistribuicaoNotificacoesService distribuicaoNotificacoesService;
+
+    /**
+     * Repositório para acesso aos dados de postagens.
+     */
+    private final PostagemRepository postagemRepository;
+
+    /**
+     * Repositório para acesso aos dados de mentorias.
+     */
+    private final MentoriaRepository mentoriaRepository;
+
+    /**
+     * Repositório para acesso aos dados de participantes.
+     */
+    private final ParticipanteRepository participanteRepository;
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param distribuicaoNotificacoesService Serviço de distribuição de notificações injetado pelo Spring
+     * @param postagemRepository Repositório de postagens injetado pelo Spring
+     * @param mentoriaRepository Repositório de mentorias injetado pelo Spring
+     * @param participanteRepository Repositório de participantes injetado pelo Spring
+     */
+    @Autowired
+    public NotificacaoEventosService(DistribuicaoNotificacoesService distribuicaoNotificacoesService,
+                                     PostagemRepository postagemRepository,
+                                     MentoriaRepository mentoriaRepository,
+                                     ParticipanteRepository participanteRepository) {
+        this.distribuicaoNotificacoesService = distribuicaoNotificacoesService;
+        this.postagemRepository = postagemRepository;
+        this.mentoriaRepository = mentoriaRepository;
+        this.participanteRepository = participanteRepository;
+    }
+
+    @Override
+    public String nome() {
+        return "notificacoes";
+    }
+
+    @Override
+    public void aoReceber(EventoDominio evento) {
+        switch (evento) {
+            case PostagemCriada postagem -> notificarPostagem(postagem);
+            case DenunciaResolvida denuncia -> distribuicaoNotificacoesService.agendarParaUsuario(
+                    TipoNotificacao.DENUNCIA_RESOLVIDA, denuncia.autorId(), denuncia.moderadorId(),
+                    "Sua denúncia #" + denuncia.denunciaId() + " foi analisada e resolvida pela moderação");
+            case MentoriaFinalizada mentoria -> notificarMentorados(mentoria);
+            case MembroEntrou membro -> { }
+        }
+    }
+
+    /**
+     * Avisa os membros do grupo sobre a nova postagem; postagens seguidas no
+     * mesmo grupo são agrupadas em um único resumo. A entrada da caixa de saída (ou a
+     * janela de agregação) é gravada na transação que marca o evento como entregue, então
+     * uma falha desfaz as duas e a nova tentativa do evento gera a notificação.
+     */
+    private void notificarPostagem(PostagemCriada evento) {
+        Postagem postagem = postagemRepository.findById(evento.postagemId()).orElse(null);
+        if (postagem == null) {
+            return;
+        }
+        String grupo = postagem.getGrupo().getNome();
+        distribuicaoNotificacoesService.agendarAgrupavel(new NotificacaoAgrupavel(
+                TipoNotificacao.NOVA_POSTAGEM, evento.grupoId(), null, evento.grupoId(), evento.autorId(),
+                postagem.getAutor().getTag() + " publicou no grupo " + grupo,
+                NotificacaoAgrupavel.QUANTIDADE + " novas postagens no grupo " + grupo));
+    }
+
+    /**
+     * Convida os mentorados de uma mentoria finalizada a avaliá-la.
+     */
+    private void notificarMentorados(MentoriaFinalizada evento) {
+        Mentoria mentoria = mentoriaRepository.findById(evento.mentoriaId()).orElse(null);
+        if (mentoria == null) {
+            return;
+        }
+        Long mentorId = participanteRepository.findByMentoriaIdAndTipo(mentoria.getId(), Participante.TipoParticipante.MENTOR)
+                .stream().findFirst().map(mentor -> mentor.getUsuario().getId()).orElse(null);
+        if (mentorId == null) {
+            return;
+        }
+        for (Participante mentorado : participanteRepository.findByMentoriaIdAndTipo(mentoria.getId(), Participante.TipoParticipante.MENTORADO)) {
+            distribuicaoNotificacoesService.agendarParaUsuario(TipoNotificacao.MENTORIA_FINALIZADA,
+                    mentorado.getUsuario().getId(), mentorId,
+                    "A mentoria " + mentoria.getNome() + " foi finalizada. Conte como foi avaliando-a");
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package dev.team.systers.service;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.dto.NotificacaoEnviada;
+import dev.team.systers.dto.NotificacaoResumo;
+import dev.team.systers.dto.PaginaNotificacoes;
 import dev.team.systers.model.Notificacao;
+import dev.team.systers.repository.ContadorNotificacoesRepository;
 import dev.team.systers.repository.NotificacaoRepository;
 
 /**
@@ -15,24 +24,59 @@ import dev.team.systers.repository.NotificacaoRepository;
  */
 @Service
 public class NotificacaoService {
-    
+
+    /**
+     * Tamanho máximo de uma página da caixa de entrada.
+     */
+    private static final int LIMITE_MAXIMO_PAGINA = 100;
+
+    /**
+     * Data usada como início quando o histórico completo é pedido.
+     */
+    private static final LocalDateTime INICIO_DO_HISTORICO = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     /**
      * Repositório para acesso aos dados de notificações.
      */
     private final NotificacaoRepository notificacaoRepository;
 
+    /**
+     * Repositório dos contadores de notificações não lidas.
+     */
+    private final ContadorNotificacoesRepository contadorNotificacoesRepository;
+
+    /**
+     * Publicador de eventos do Spring, usado para avisar as conexões em tempo real.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Quantidade de dias exibidos na caixa de entrada quando o histórico não é pedido.
+     */
+    private final int diasRecentes;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param notificacaoRepository Repositório de notificações injetado pelo Spring
+     * @param contadorNotificacoesRepository Repositório de contadores injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param diasRecentes Quantidade de dias exibidos na caixa de entrada sem o histórico
      */
     @Autowired
-    public NotificacaoService(NotificacaoRepository notificacaoRepository) {
+    public NotificacaoService(NotificacaoRepository notificacaoRepository,
+                              ContadorNotificacoesRepository contadorNotificacoesRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${systers.notificacoes.dias-recentes:90}") int diasRecentes) {
         this.notificacaoRepository = notificacaoRepository;
+        this.contadorNotificacoesRepository = contadorNotificacoesRepository;
+        this.eventPublisher = eventPublisher;
+        this.diasRecentes = diasRecentes;
     }
 
     /**
      * Busca todas as notificações de um usuário específico.
-     * 
+     * Para listagens exibidas ao usuário, prefira {@link #buscarCaixaDeEntrada(Long, String, int, boolean)}.
+     *
      * @param usuarioId ID do usuário destinatário das notificações
      * @return Lista de notificações do usuário
      */
@@ -40,14 +84,78 @@ public class NotificacaoService {
         return notificacaoRepository.findNotificacaosByUsuarioNotificacaoDestinatario_Id(usuarioId);
     }
 
+    /**
+     * Busca uma página da caixa de entrada de um usuário, mais recentes primeiro.
+     * A paginação é por cursor (keyset): o cursor identifica a última notificação
+     * da página anterior e a próxima página começa logo depois dela.
+     * Sem o histórico, apenas as notificações dos últimos dias configurados são consideradas.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @param cursor Cursor retornado na página anterior, ou null para a primeira página
+     * @param limite Quantidade de notificações por página
+     * @param historico true para percorrer também as notificações antigas
+     * @return Página com as notificações, o próximo cursor e o total de não lidas
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaNotificacoes buscarCaixaDeEntrada(Long usuarioId, String cursor, int limite, boolean historico) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        PageRequest pagina = PageRequest.of(0, tamanho);
+        LocalDateTime desde = historico ? INICIO_DO_HISTORICO : LocalDateTime.now().minusDays(diasRecentes);
+
+        List<Notificacao> notificacoes;
+        if (cursor == null || cursor.isBlank()) {
+            notificacoes = notificacaoRepository.findCaixaDeEntrada(usuarioId, desde, pagina);
+        } else {
+            String[] partes = cursor.split("_", 2);
+            try {
+                notificacoes = notificacaoRepository.findCaixaDeEntradaAntesDe(
+                        usuarioId, desde, LocalDateTime.parse(partes[0]), Long.valueOf(partes[1]), pagina);
+            } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor de paginação inválido.");
+            }
+        }
+
+        String proximoCursor = null;
+        if (notificacoes.size() == tamanho) {
+            Notificacao ultima = notificacoes.get(notificacoes.size() - 1);
+            proximoCursor = ultima.getDataEnvio() + "_" + ultima.getId();
+        }
+
+        return new PaginaNotificacoes(
+                notificacoes.stream().map(NotificacaoResumo::de).toList(),
+                proximoCursor,
+                contarNaoLidas(usuarioId));
+    }
+
+    /**
+     * Retorna a quantidade de notificações não lidas de um usuário na caixa de entrada.
+     * Lê apenas o contador do usuário, sem percorrer suas notificações; as não lidas que
+     * saem da caixa de entrada são descontadas dele pela retenção. Se o contador ainda não
+     * existir (ele só é criado na primeira alteração), as não lidas dos últimos dias
+     * configurados são contadas diretamente.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @return Quantidade de notificações não lidas
+     */
+    public long contarNaoLidas(Long usuarioId) {
+        return contadorNotificacoesRepository.findById(usuarioId)
+                .map(contador -> contador.getNaoLidas())
+                .orElseGet(() -> notificacaoRepository.countByUsuarioNotificacaoDestinatario_IdAndStatusLidaFalseAndDataEnvioGreaterThanEqual(
+                        usuarioId, LocalDateTime.now().minusDays(diasRecentes)));
+    }
+
     /**
      * Envia uma nova notificação para um usuário.
      * Define automaticamente a data de envio e marca como não lida.
-     * 
+     * O contador de não lidas do destinatário é atualizado na mesma transação, e as
+     * conexões em tempo real do destinatário recebem a notificação após o commit.
+     *
      * @param notificacao Objeto contendo os dados da notificação a ser enviada
      * @return Notificação salva no sistema
      * @throws IllegalArgumentException se a notificação ou destinatário for nulo
      */
+    @Transactional
     public Notificacao enviarNotificacao(Notificacao notificacao) {
         if (notificacao == null || notificacao.getUsuarioNotificacaoDestinatario() == null) {
             throw new IllegalArgumentException("Notificação ou destinatário não pode ser nulo.");
@@ -56,6 +164,46 @@ public class NotificacaoService {
         notificacao.setDataEnvio(LocalDateTime.now());
         notificacao.setStatusLida(false);
 
-        return notificacaoRepository.save(notificacao);
+        Notificacao salva = notificacaoRepository.save(notificacao);
+        contadorNotificacoesRepository.incrementar(salva.getUsuarioNotificacaoDestinatario().getId());
+        eventPublisher.publishEvent(new NotificacaoEnviada(salva.getId(), salva.getUsuarioNotificacaoDestinatario().getId()));
+        return salva;
+    }
+
+    /**
+     * Marca uma notificação como lida.
+     * O contador só é decrementado se a notificação ainda não estava lida nem já tinha
+     * sido descontada dele ao sair da caixa de entrada.
+     *
+     * @param notificacaoId ID da notificação
+     * @return Notificação atualizada ou null se não existir
+     */
+    @Transactional
+    public Notificacao marcarComoLida(Long notificacaoId) {
+        Notificacao notificacao = notificacaoRepository.findById(notificacaoId).orElse(null);
+        if (notificacao == null) {
+            return null;
+        }
+        if (notificacaoRepository.marcarComoLidaContada(notificacaoId) == 1) {
+            contadorNotificacoesRepository.decrementar(notificacao.getUsuarioNotificacaoDestinatario().getId(), 1);
+        } else {
+            notificacaoRepository.marcarComoLida(notificacaoId);
+        }
+        notificacao.setStatusLida(true);
+        return notificacao;
+    }
+
+    /**
+     * Marca todas as notificações de um usuário como lidas em um único UPDATE.
+     * O contador é zerado antes, mantendo sua linha bloqueada até o fim da transação,
+     * para que notificações enviadas ao mesmo tempo sejam contadas corretamente.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @return Quantidade de notificações marcadas como lidas
+     */
+    @Transactional
+    public int marcarTodasComoLidas(Long usuarioId) {
+        contadorNotificacoesRepository.zerar(usuarioId);
+        return notificacaoRepository.marcarTodasComoLidas(usuarioId);
     }
 }
@@ -0,0 +1,192 @@
+package dev.team.systers.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.team.systers.dto.NotificacaoEnviada;
+import dev.team.systers.dto.NotificacaoResumo;
+import dev.team.systers.repository.NotificacaoRepository;
+import dev.team.systers.tools.ConexaoSse;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serviço responsável pela entrega de notificações em tempo real via Server-Sent Events.
+ * Cada usuário pode ter várias conexões abertas (uma por aba). As notificações são
+ * enviadas depois do commit da transação que as criou, e clientes que reconectam
+ * recebem tudo o que foi criado depois do último ID visto.
+ */
+@Service
+public class NotificacaoTempoRealService {
+
+    /**
+     * Nome do evento SSE das notificações.
+     */
+    private static final String EVENTO = "notificacao";
+
+    /**
+     * Repositório para acesso aos dados de notificações.
+     */
+    private final NotificacaoRepository notificacaoRepository;
+
+    /**
+     * Conexões abertas, por ID do usuário.
+     */
+    private final Map<Long, Set<ConexaoSse<NotificacaoResumo>>> conexoes = new ConcurrentHashMap<>();
+
+    /**
+     * Executor que cria uma thread virtual por envio em andamento.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Quantidade máxima de notificações aguardando envio em cada conexão.
+     */
+    private final int capacidadeFila;
+
+    /**
+     * Tempo máximo de uma conexão, em milissegundos; depois dele o navegador reconecta.
+     */
+    private final long timeoutMs;
+
+    /**
+     * Quantidade máxima de notificações recuperadas ao reconectar.
+     */
+    private final int recuperacaoMaxima;
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param notificacaoRepository Repositório de notificações injetado pelo Spring
+     * @param capacidadeFila Tamanho da fila de envio de cada conexão
+     * @param timeoutMs Duração máxima de uma conexão
+     * @param recuperacaoMaxima Limite de notificações recuperadas ao reconectar
+     */
+    @Autowired
+    public NotificacaoTempoRealService(NotificacaoRepository notificacaoRepository,
+                                       @Value("${systers.notificacoes.sse.fila:64}") int capacidadeFila,
+                                       @Value("${systers.notificacoes.sse.timeout-ms:1800000}") long timeoutMs,
+                                       @Value("${systers.notificacoes.sse.recuperacao-maxima:200}") int recuperacaoMaxima) {
+        this.notificacaoRepository = notificacaoRepository;
+        this.capacidadeFila = capacidadeFila;
+        this.timeoutMs = timeoutMs;
+        this.recuperacaoMaxima = recuperacaoMaxima;
+    }
+
+    /**
+     * Abre uma conexão SSE para o usuário.
+     * Se o cliente informar o último ID recebido, as notificações posteriores a ele
+     * são enviadas antes das novas.
+     *
+     * @param usuarioId ID do usuário destinatário
+     * @param ultimoIdVisto ID da última notificação recebida pelo cliente, ou null
+     * @return Emissor SSE a ser retornado pelo controlador
+     */
+    public SseEmitter conectar(Long usuarioId, Long ultimoIdVisto) {
+        SseEmitter emissor = new SseEmitter(timeoutMs);
+        ConexaoSse<NotificacaoResumo> conexao = new ConexaoSse<>(EVENTO, emissor, capacidadeFila, NotificacaoResumo::id, executor);
+
+        // Registra antes de consultar o banco, para não perder o que for criado durante a consulta.
+        conexoes.compute(usuarioId, (id, doUsuario) -> {
+            Set<ConexaoSse<NotificacaoResumo>> conjunto = doUsuario != null ? doUsuario : ConcurrentHashMap.newKeySet();
+            conjunto.add(conexao);
+            return conjunto;
+        });
+        Runnable remover = () -> {
+            conexao.encerrar();
+            remover(usuarioId, conexao);
+        };
+        emissor.onCompletion(remover);
+        emissor.onTimeout(remover);
+        emissor.onError(erro -> remover.run());
+
+        List<NotificacaoResumo> perdidas = List.of();
+        if (ultimoIdVisto != null) {
+            try {
+                perdidas = notificacaoRepository.findPosterioresA(usuarioId, ultimoIdVisto, PageRequest.of(0, recuperacaoMaxima))
+                        .stream().map(NotificacaoResumo::de).toList();
+            } catch (RuntimeException e) {
+                remover.run();
+                throw e;
+            }
+        }
+        conexao.recuperar(perdidas);
+        return emissor;
+    }
+
+    /**
+     * Envia a notificação às conexões abertas do destinatário.
+     * Executado somente após o commit, para que o cliente nunca receba uma
+     * notificação que acabou sendo desfeita.
+     *
+     * @param evento Notificação salva
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoEnviarNotificacao(NotificacaoEnviada evento) {
+        Set<ConexaoSse<NotificacaoResumo>> doUsuario = conexoes.get(evento.destinatarioId());
+        if (doUsuario == null || doUsuario.isEmpty()) {
+            return;
+        }
+        notificacaoRepository.findComRemetenteById(evento.notificacaoId())
+                .map(NotificacaoResumo::de)
+                .ifPresent(resumo -> doUsuario.forEach(conexao -> conexao.publicar(resumo)));
+    }
+
+    /**
+     * Envia um ping a todas as conexões para mantê-las abertas em proxies
+     * e descobrir clientes que já saíram.
+     */
+    @Scheduled(fixedDelayString = "${systers.notificacoes.sse.ping-ms:25000}")
+    public void manterConexoesVivas() {
+        conexoes.forEach((usuarioId, doUsuario) -> doUsuario.forEach(conexao -> {
+            conexao.manterViva();
+            if (conexao.isEncerrada()) {
+                remover(usuarioId, conexao);
+            }
+        }));
+    }
+
+    /**
+     * Retorna as métricas das conexões abertas.
+     * @return Mapa com usuários conectados, conexões e notificações pendentes
+     */
+    public Map<String, Object> metricas() {
+        int totalConexoes = 0;
+        int pendentes = 0;
+        for (Set<ConexaoSse<NotificacaoResumo>> doUsuario : conexoes.values()) {
+            for (ConexaoSse<NotificacaoResumo> conexao : doUsuario) {
+                totalConexoes++;
+                pendentes += conexao.getPendentes();
+            }
+        }
+        return Map.of("usuarios", conexoes.size(), "conexoes", totalConexoes, "pendentes", pendentes);
+    }
+
+    /**
+     * Encerra todas as conexões quando a aplicação é desligada.
+     */
+    @PreDestroy
+    public void encerrar() {
+        conexoes.values().forEach(doUsuario -> doUsuario.forEach(ConexaoSse::encerrar));
+        conexoes.clear();
+        executor.shutdown();
+    }
+
+    private void remover(Long usuarioId, ConexaoSse<NotificacaoResumo> conexao) {
+        conexoes.computeIfPresent(usuarioId, (id, doUsuario) -> {
+            doUsuario.remove(conexao);
+            return doUsuario.isEmpty() ? null : doUsuario;
+        });
+    }
+}
@@ -1,8 +1,10 @@
 package dev.team.systers.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import dev.team.systers.dto.AgendaAlterada;
 import dev.team.systers.model.Mentoria;
 import dev.team.systers.model.Participante;
 import dev.team.systers.model.Usuario;
@@ -21,17 +23,25 @@ public class ParticipanteService {
      */
     private final ParticipanteRepository participanteRepository;
 
+    /**
+     * Publicador de eventos do Spring, usado para atualizar as agendas dos participantes.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param participanteRepository Repositório de participantes injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
      */
     @Autowired
-    public ParticipanteService(ParticipanteRepository participanteRepository) {
+    public ParticipanteService(ParticipanteRepository participanteRepository, ApplicationEventPublisher eventPublisher) {
         this.participanteRepository = participanteRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Cria um novo participante do tipo mentor em uma mentoria.
+     * A sessão entra na agenda do mentor; conflitos devem ser verificados antes.
      * 
      * @param mentor Usuário que será o mentor
      * @param mentoria Mentoria na qual o mentor participará
@@ -43,10 +53,12 @@ public class ParticipanteService {
         participante.setTipo(Participante.TipoParticipante.MENTOR);
         participante.setMentoria(mentoria);
         participanteRepository.save(participante);
+        eventPublisher.publishEvent(new AgendaAlterada(mentoria.getId()));
     }
 
     /**
      * Cria um novo participante do tipo mentorado em uma mentoria.
+     * A sessão entra na agenda do mentorado; conflitos devem ser verificados antes.
      * 
      * @param mentorado Usuário que será o mentorado
      * @param mentoria Mentoria na qual o mentorado participará
@@ -58,6 +70,7 @@ public class ParticipanteService {
         participante.setTipo(Participante.TipoParticipante.MENTORADO);
         participante.setMentoria(mentoria);
         participanteRepository.save(participante);
+        eventPublisher.publishEvent(new AgendaAlterada(mentoria.getId()));
     }
 
     /**
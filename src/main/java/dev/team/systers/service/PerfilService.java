@@ -59,6 +59,27 @@ public class PerfilService {
         return perfilRepository.findById(idUsuario).orElse(null);
     }
 
+    /**
+     * Busca o perfil de um usuário pelo login.
+     * 
+     * @param login Login do usuário cujo perfil será buscado
+     * @return Perfil do usuário ou null se não encontrado
+     */
+    public Perfil buscarPerfilPorLogin(String login) {
+        return perfilRepository.findPerfilByUsuarioPerfil_Login(login);
+    }
+
+    /**
+     * Busca a versão atual da página de perfil de um usuário, sem carregá-lo.
+     * A versão muda sempre que o perfil ou os dados do usuário são alterados.
+     * 
+     * @param login Login do usuário
+     * @return Versão do perfil ou null se não encontrado
+     */
+    public Long buscarVersaoDoPerfil(String login) {
+        return perfilRepository.findVersaoByLogin(login).orElse(null);
+    }
+
     /**
      * Busca todos os grupos dos quais um usuário participa.
      * 
@@ -108,5 +129,6 @@ public class PerfilService {
         }
 
         perfilRepository.save(existingPerfil);
+        perfilRepository.incrementarVersaoPorUsuario(existingPerfil.getUsuarioPerfil().getId());
     }
 }
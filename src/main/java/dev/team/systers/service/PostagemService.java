@@ -6,8 +6,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.evento.PostagemCriada;
 import dev.team.systers.exception.PostagemException;
 import dev.team.systers.model.Grupo;
 import dev.team.systers.model.Membro;
@@ -16,6 +20,7 @@ import dev.team.systers.model.Usuario;
 import dev.team.systers.repository.GrupoRepository;
 import dev.team.systers.repository.MembroRepository;
 import dev.team.systers.repository.PostagemRepository;
+import dev.team.systers.tools.SingleFlight;
 
 /**
  * Serviço responsável pelo gerenciamento de postagens em grupos.
@@ -40,22 +45,40 @@ public class PostagemService {
      */
     private final MembroRepository membroRepository;
 
+    /**
+     * Coalescência das cargas do feed, por usuário e limite.
+     */
+    private final SingleFlight<String, List<Postagem>> cargasDoFeed;
+
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param postagemRepository Repositório de postagens
      * @param grupoRepository Repositório de grupos
      * @param membroRepository Repositório de membros
+     * @param eventoDominioService Serviço de eventos de domínio
+     * @param janelaCoalescenciaMs Tempo em que uma carga concluída ainda é reaproveitada
      */
     @Autowired
-    public PostagemService(PostagemRepository postagemRepository, GrupoRepository grupoRepository, MembroRepository membroRepository) {
+    public PostagemService(PostagemRepository postagemRepository, GrupoRepository grupoRepository, MembroRepository membroRepository,
+                           EventoDominioService eventoDominioService,
+                           @Value("${systers.coalescencia.janela-ms:500}") long janelaCoalescenciaMs) {
         this.postagemRepository = postagemRepository;
         this.grupoRepository = grupoRepository;
         this.membroRepository = membroRepository;
+        this.eventoDominioService = eventoDominioService;
+        this.cargasDoFeed = new SingleFlight<>(janelaCoalescenciaMs);
     }
 
     /**
      * Cria uma nova postagem em um grupo.
      * Verifica se o usuário é membro do grupo antes de permitir a criação.
+     * Publica o evento {@link PostagemCriada}, a partir do qual os demais membros
+     * são notificados de forma assíncrona.
      * 
      * @param grupoId ID do grupo onde a postagem será criada
      * @param conteudo Texto da postagem
@@ -63,6 +86,7 @@ public class PostagemService {
      * @return Postagem criada
      * @throws PostagemException se o grupo não existir, usuário não for membro ou conteúdo for vazio
      */
+    @Transactional
     public Postagem criarPostagem(Long grupoId, String conteudo, Usuario autor) {
         Grupo grupo = grupoRepository.findById(grupoId)
                 .orElseThrow(() -> new PostagemException("Grupo não encontrado"));
@@ -79,7 +103,10 @@ public class PostagemService {
         postagem.setAutor(membro);
         postagem.setGrupo(grupo);
 
-        return postagemRepository.save(postagem);
+        Postagem salva = postagemRepository.save(postagem);
+        grupoRepository.incrementarVersao(grupoId);
+        eventoDominioService.publicar(new PostagemCriada(salva.getId(), grupoId, autor.getId(), salva.getDataCriacao()));
+        return salva;
     }
 
     /**
@@ -105,6 +132,8 @@ public class PostagemService {
 
         postagem.setConteudo(novoConteudo);
         postagemRepository.save(postagem);
+        postagemRepository.incrementarVersao(postagemId);
+        grupoRepository.incrementarVersao(postagem.getGrupo().getId());
     }
 
     /**
@@ -129,6 +158,7 @@ public class PostagemService {
         }
 
         postagemRepository.delete(postagem);
+        grupoRepository.incrementarVersao(postagem.getGrupo().getId());
     }
 
     /**
@@ -163,6 +193,20 @@ public class PostagemService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lista as postagens mais recentes dos grupos de um usuário em uma única consulta.
+     * Autores e grupos já vêm carregados, permitindo montar o feed fora da sessão da requisição.
+     * Recargas simultâneas do mesmo feed compartilham uma única consulta.
+     * 
+     * @param login Login do usuário
+     * @param limite Quantidade máxima de postagens
+     * @return Lista somente leitura das postagens mais recentes dos grupos do usuário
+     */
+    public List<Postagem> listarUltimasPostagensDosGrupos(String login, int limite) {
+        return cargasDoFeed.executar(login + ":" + limite,
+                () -> List.copyOf(postagemRepository.findRecentesDosGruposDoUsuario(login, PageRequest.of(0, limite))));
+    }
+
     /**
      * Exclui uma postagem existente.
      * Apenas o autor, moderadores ou dono do grupo podem excluir.
@@ -185,5 +229,6 @@ public class PostagemService {
         }
 
         postagemRepository.delete(postagem);
+        grupoRepository.incrementarVersao(postagem.getGrupo().getId());
     }
 }
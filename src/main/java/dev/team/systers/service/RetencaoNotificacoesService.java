@@ -0,0 +1,181 @@
+package dev.team.systers.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import dev.team.systers.repository.EventoSaidaRepository;
+import dev.team.systers.repository.NotificacaoRepository;
+import dev.team.systers.repository.NotificacaoSaidaRepository;
+
+/**
+ * Serviço responsável pela retenção das notificações.
+ * Periodicamente apaga as notificações já lidas mais antigas que o prazo configurado,
+ * as entradas concluídas da caixa de saída e os eventos de domínio já entregues, em lotes pequenos com uma pausa entre
+ * eles, para não disputar bloqueios nem o pool de conexões com as requisições.
+ * Notificações não lidas nunca são apagadas nem marcadas como lidas: quando saem da caixa
+ * de entrada (mais antigas que os dias recentes), apenas são descontadas do contador de não
+ * lidas, para que o indicador não conte o que a caixa de entrada não mostra.
+ */
+@Service
+public class RetencaoNotificacoesService {
+
+    /**
+     * Repositório para acesso aos dados de notificações.
+     */
+    private final NotificacaoRepository notificacaoRepository;
+
+    /**
+     * Repositório da caixa de saída de notificações.
+     */
+    private final NotificacaoSaidaRepository notificacaoSaidaRepository;
+
+    /**
+     * Repositório da caixa de saída de eventos de domínio.
+     */
+    private final EventoSaidaRepository eventoSaidaRepository;
+
+    /**
+     * Idade, em dias, a partir da qual notificações lidas são apagadas.
+     */
+    private final int diasRetencao;
+
+    /**
+     * Quantidade de dias exibidos na caixa de entrada; não lidas mais antigas saem do contador.
+     */
+    private final int diasRecentes;
+
+    /**
+     * Quantidade de linhas apagadas por transação.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Pausa entre dois lotes, em milissegundos.
+     */
+    private final long pausaMs;
+
+    /**
+     * Total de notificações não lidas descontadas do contador ao sair da caixa de entrada.
+     */
+    private final LongAdder notificacoesDescontadas = new LongAdder();
+
+    /**
+     * Total de notificações apagadas.
+     */
+    private final LongAdder notificacoesApagadas = new LongAdder();
+
+    /**
+     * Total de entradas da caixa de saída apagadas.
+     */
+    private final LongAdder saidasApagadas = new LongAdder();
+
+    /**
+     * Total de eventos de domínio entregues apagados.
+     */
+    private final LongAdder eventosApagados = new LongAdder();
+
+    /**
+     * Duração e momento da última limpeza.
+     */
+    private final AtomicLong duracaoUltimaLimpezaMs = new AtomicLong();
+    private volatile LocalDateTime ultimaLimpeza;
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param notificacaoRepository Repositório de notificações injetado pelo Spring
+     * @param notificacaoSaidaRepository Repositório da caixa de saída injetado pelo Spring
+     * @param eventoSaidaRepository Repositório da caixa de saída de eventos injetado pelo Spring
+     * @param diasRetencao Idade a partir da qual notificações lidas são apagadas
+     * @param diasRecentes Quantidade de dias exibidos na caixa de entrada
+     * @param tamanhoLote Quantidade de linhas apagadas por transação
+     * @param pausaMs Pausa entre dois lotes
+     */
+    @Autowired
+    public RetencaoNotificacoesService(NotificacaoRepository notificacaoRepository,
+                                       NotificacaoSaidaRepository notificacaoSaidaRepository,
+                                       EventoSaidaRepository eventoSaidaRepository,
+                                       @Value("${systers.notificacoes.retencao.dias:180}") int diasRetencao,
+                                       @Value("${systers.notificacoes.dias-recentes:90}") int diasRecentes,
+                                       @Value("${systers.notificacoes.retencao.lote:5000}") int tamanhoLote,
+                                       @Value("${systers.notificacoes.retencao.pausa-ms:200}") long pausaMs) {
+        this.notificacaoRepository = notificacaoRepository;
+        this.notificacaoSaidaRepository = notificacaoSaidaRepository;
+        this.eventoSaidaRepository = eventoSaidaRepository;
+        this.diasRetencao = diasRetencao;
+        this.diasRecentes = diasRecentes;
+        this.tamanhoLote = tamanhoLote;
+        this.pausaMs = pausaMs;
+    }
+
+    /**
+     * Desconta do contador as não lidas que saíram da caixa de entrada e apaga as notificações lidas,
+     * as entradas concluídas e os eventos entregues mais antigos que o prazo de retenção.
+     */
+    @Scheduled(fixedDelayString = "${systers.notificacoes.retencao.intervalo-ms:3600000}",
+               initialDelayString = "${systers.notificacoes.retencao.atraso-inicial-ms:60000}")
+    public void limpar() {
+        long inicio = System.currentTimeMillis();
+        LocalDateTime limite = LocalDateTime.now().minusDays(diasRetencao);
+        LocalDateTime foraDaCaixa = LocalDateTime.now().minusDays(diasRecentes);
+        notificacoesDescontadas.add(apagarEmLotes(() -> (int) notificacaoRepository.descontarNaoLidasAntesDe(foraDaCaixa, tamanhoLote)));
+        notificacoesApagadas.add(apagarEmLotes(() -> notificacaoRepository.apagarLidasAntesDe(limite, tamanhoLote)));
+        saidasApagadas.add(apagarEmLotes(() -> notificacaoSaidaRepository.apagarConcluidasAntesDe(limite, tamanhoLote)));
+        eventosApagados.add(apagarEmLotes(() -> eventoSaidaRepository.apagarEntreguesAntesDe(limite, tamanhoLote)));
+        duracaoUltimaLimpezaMs.set(System.currentTimeMillis() - inicio);
+        ultimaLimpeza = LocalDateTime.now();
+    }
+
+    /**
+     * Retorna as métricas da retenção.
+     * @return Mapa com totais apagados e dados da última limpeza
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("diasRetencao", diasRetencao);
+        resultado.put("diasRecentes", diasRecentes);
+        resultado.put("notificacoesDescontadas", notificacoesDescontadas.sum());
+        resultado.put("notificacoesApagadas", notificacoesApagadas.sum());
+        resultado.put("saidasApagadas", saidasApagadas.sum());
+        resultado.put("eventosApagados", eventosApagados.sum());
+        resultado.put("ultimaLimpeza", ultimaLimpeza);
+        resultado.put("duracaoUltimaLimpezaMs", duracaoUltimaLimpezaMs.get());
+        return resultado;
+    }
+
+    /**
+     * Repete a remoção até que um lote venha incompleto.
+     * @param lote Remoção de um lote, retornando a quantidade apagada
+     * @return Total apagado
+     */
+    private long apagarEmLotes(IntSupplier lote) {
+        long total = 0;
+        int apagadas;
+        do {
+            apagadas = lote.getAsInt();
+            total += apagadas;
+            if (apagadas == tamanhoLote && !pausar()) {
+                break;
+            }
+        } while (apagadas == tamanhoLote);
+        return total;
+    }
+
+    private boolean pausar() {
+        try {
+            Thread.sleep(pausaMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
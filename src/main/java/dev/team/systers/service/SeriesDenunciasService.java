@@ -0,0 +1,187 @@
+package dev.team.systers.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.team.systers.dto.PontoSerieDenuncias;
+import dev.team.systers.model.SerieDenuncias.Granularidade;
+import dev.team.systers.repository.SerieDenunciasRepository;
+
+/**
+ * Serviço das séries temporais da análise de denúncias.
+ *
+ * <p>Cada denúncia registrada ou resolvida soma seus valores aos intervalos de uma hora
+ * e de um dia que a contêm, por categoria, na mesma transação, com uma atualização
+ * atômica no banco. As consultas leem apenas os intervalos do período pedido, então
+ * o custo depende do tamanho do período e não da quantidade de denúncias guardadas.</p>
+ *
+ * <p>As denúncias contam na categoria e no intervalo em que foram registradas; uma
+ * resolução conta no intervalo em que aconteceu, com o tempo em que a denúncia ficou
+ * pendente. Mudanças posteriores de categoria e reaberturas não alteram as séries.</p>
+ */
+@Service
+public class SeriesDenunciasService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeriesDenunciasService.class);
+
+    /**
+     * Repositório das séries de denúncias.
+     */
+    private final SerieDenunciasRepository serieDenunciasRepository;
+
+    /**
+     * Quantidade máxima de intervalos por consulta.
+     */
+    private final int pontosMaximos;
+
+    /**
+     * Quantidade de consultas atendidas.
+     */
+    private final LongAdder consultas = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param serieDenunciasRepository Repositório das séries injetado pelo Spring
+     * @param pontosMaximos Quantidade máxima de intervalos por consulta
+     */
+    @Autowired
+    public SeriesDenunciasService(SerieDenunciasRepository serieDenunciasRepository,
+                                  @Value("${systers.denuncias.series.pontos-maximos:1000}") int pontosMaximos) {
+        this.serieDenunciasRepository = serieDenunciasRepository;
+        this.pontosMaximos = pontosMaximos;
+    }
+
+    /**
+     * Soma uma denúncia registrada às séries.
+     * Deve ser chamado dentro da transação que grava a denúncia.
+     *
+     * @param categoria Categoria da denúncia
+     * @param registradaEm Momento do registro
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(String categoria, LocalDateTime registradaEm) {
+        for (Granularidade granularidade : Granularidade.values()) {
+            serieDenunciasRepository.somar(granularidade.name(), granularidade.inicio(registradaEm), categoria, 1, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Soma denúncias resolvidas de uma mesma categoria às séries.
+     * Deve ser chamado dentro da transação que resolve as denúncias.
+     *
+     * @param categoria Categoria das denúncias
+     * @param registradasEm Momento do registro de cada denúncia resolvida
+     * @param resolvidaEm Momento da resolução
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void resolver(String categoria, Collection<LocalDateTime> registradasEm, LocalDateTime resolvidaEm) {
+        if (registradasEm.isEmpty()) {
+            return;
+        }
+        long soma = 0;
+        long maximo = 0;
+        for (LocalDateTime registradaEm : registradasEm) {
+            long segundos = Math.max(0, Duration.between(registradaEm, resolvidaEm).getSeconds());
+            soma += segundos;
+            maximo = Math.max(maximo, segundos);
+        }
+        for (Granularidade granularidade : Granularidade.values()) {
+            serieDenunciasRepository.somar(granularidade.name(), granularidade.inicio(resolvidaEm), categoria,
+                    0, registradasEm.size(), soma, maximo);
+        }
+    }
+
+    /**
+     * Retorna a série de um período. Intervalos sem denúncias não aparecem.
+     *
+     * @param granularidade Duração de cada intervalo
+     * @param inicio Início do período; arredondado para o início do intervalo
+     * @param fim Fim do período, exclusivo
+     * @param porCategoria Se true, um ponto por categoria em cada intervalo; senão, um ponto com todas
+     * @return Pontos da série, em ordem cronológica
+     * @throws IllegalArgumentException se o período for inválido ou tiver intervalos demais
+     */
+    public List<PontoSerieDenuncias> serie(Granularidade granularidade, LocalDateTime inicio, LocalDateTime fim,
+                                           boolean porCategoria) {
+        LocalDateTime desde = granularidade.inicio(inicio);
+        if (!fim.isAfter(desde)) {
+            throw new IllegalArgumentException("O fim do período deve ser posterior ao início.");
+        }
+        long pontos = Duration.between(desde, fim).toSeconds() / granularidade.duracao().toSeconds();
+        if (pontos > pontosMaximos) {
+            throw new IllegalArgumentException("No máximo " + pontosMaximos + " intervalos por consulta.");
+        }
+        consultas.increment();
+        if (porCategoria) {
+            return serieDenunciasRepository.findPorCategoria(granularidade.name(), desde, fim).stream()
+                    .map(linha -> ponto(emData(linha[0]), (String) linha[1], linha[2], linha[3], linha[4], linha[5]))
+                    .toList();
+        }
+        return serieDenunciasRepository.findTotais(granularidade.name(), desde, fim).stream()
+                .map(linha -> ponto(emData(linha[0]), null, linha[1], linha[2], linha[3], linha[4]))
+                .toList();
+    }
+
+    /**
+     * Reconstrói as séries a partir das denúncias existentes, se o total de registradas
+     * na série não bater com o de denúncias (na primeira execução, a série está vazia).
+     *
+     * <p>A conferência e a reconstrução acontecem com a tabela das séries travada: denúncias
+     * gravadas antes da trava entram na leitura da tabela de denúncias, e as gravadas
+     * durante a reconstrução esperam para somar aos intervalos já reconstruídos. Assim
+     * nenhuma denúncia é contada duas vezes ou deixada de fora.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void inicializar() {
+        serieDenunciasRepository.travar();
+        if (serieDenunciasRepository.somarRegistradas(Granularidade.HORA.name())
+                == serieDenunciasRepository.contarDenuncias()) {
+            return;
+        }
+        serieDenunciasRepository.apagarTodos();
+        for (Granularidade granularidade : Granularidade.values()) {
+            int criados = serieDenunciasRepository.reconstruir(granularidade.name(), granularidade.unidadeSql());
+            log.info("Séries de denúncias por {} reconstruídas: {} intervalos", granularidade, criados);
+        }
+    }
+
+    /**
+     * Retorna as métricas das séries.
+     * @return Mapa com a quantidade de intervalos guardados e de consultas atendidas
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("intervalos", serieDenunciasRepository.count());
+        resultado.put("consultas", consultas.sum());
+        return resultado;
+    }
+
+    private static PontoSerieDenuncias ponto(LocalDateTime inicio, String categoria, Object registradas,
+                                             Object resolvidas, Object somaSeg, Object maximoSeg) {
+        long quantidadeResolvidas = ((Number) resolvidas).longValue();
+        long soma = ((Number) somaSeg).longValue();
+        return new PontoSerieDenuncias(inicio, categoria, ((Number) registradas).longValue(), quantidadeResolvidas,
+                quantidadeResolvidas > 0 ? soma / quantidadeResolvidas : 0, ((Number) maximoSeg).longValue());
+    }
+
+    private static LocalDateTime emData(Object valor) {
+        return valor instanceof Timestamp data ? data.toLocalDateTime() : (LocalDateTime) valor;
+    }
+}
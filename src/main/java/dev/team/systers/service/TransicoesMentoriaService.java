@@ -0,0 +1,286 @@
+package dev.team.systers.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.team.systers.dto.AgendaAlterada;
+import dev.team.systers.dto.TransicaoAgendada;
+import dev.team.systers.evento.MentoriaFinalizada;
+import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Mentoria.StatusMentoria;
+import dev.team.systers.repository.MentoriaRepository;
+import dev.team.systers.tools.RodaTemporal;
+
+/**
+ * Serviço responsável pelas mudanças automáticas de status das mentorias.
+ *
+ * <p>Mentorias agendadas passam a Em Andamento quando chega o início, e mentorias em
+ * andamento passam a Concluída quando chega o término. Em vez de varrer a tabela, cada
+ * mentoria ativa tem a próxima mudança agendada em uma {@link RodaTemporal}; a cada
+ * tique, as mudanças vencidas são aplicadas em lote, uma atualização por status de destino.</p>
+ *
+ * <p>A roda é preenchida na inicialização e periodicamente com as mentorias que vencem
+ * dentro do horizonte, pelos índices parciais de cada status ativo, e é atualizada após
+ * cada alteração de agenda. A atualização em lote só altera mentorias que ainda estão no
+ * status de origem, então uma entrada desatualizada na roda não tem efeito.</p>
+ */
+@Service
+public class TransicoesMentoriaService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransicoesMentoriaService.class);
+
+    /**
+     * Duração de um tique da roda: a precisão das mudanças de status.
+     */
+    private static final long TIQUE_MS = 1000;
+
+    /**
+     * Níveis da roda; com tiques de um segundo, quatro níveis cobrem cerca de 194 dias.
+     */
+    private static final int NIVEIS = 4;
+
+    /**
+     * Repositório para acesso aos dados de mentorias.
+     */
+    private final MentoriaRepository mentoriaRepository;
+
+    /**
+     * Serviço de publicação de eventos de domínio.
+     */
+    private final EventoDominioService eventoDominioService;
+
+    /**
+     * Publicador de eventos do Spring, usado para atualizar as agendas.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Transação de cada lote de mudanças.
+     */
+    private final TransactionTemplate transacao;
+
+    /**
+     * Até quando, a partir de agora, as mentorias são carregadas na roda.
+     */
+    private final Duration horizonte;
+
+    /**
+     * Quantidade máxima de mentorias alteradas por transação.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Próxima mudança de cada mentoria ativa, pelo ID da mentoria.
+     */
+    private final RodaTemporal<Long, TransicaoAgendada> roda;
+
+    /**
+     * Quantidade de mentorias iniciadas e concluídas automaticamente, de mudanças descartadas
+     * porque a mentoria já tinha saído do status de origem e de lotes aplicados.
+     */
+    private final LongAdder iniciadas = new LongAdder();
+    private final LongAdder concluidas = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+
+    /**
+     * Construtor que inicializa o serviço com as dependências necessárias.
+     * @param mentoriaRepository Repositório de mentorias injetado pelo Spring
+     * @param eventoDominioService Serviço de eventos de domínio injetado pelo Spring
+     * @param eventPublisher Publicador de eventos injetado pelo Spring
+     * @param transactionManager Gerenciador de transações injetado pelo Spring
+     * @param horizonteMs Até quando, a partir de agora, as mentorias são carregadas na roda
+     * @param tamanhoLote Quantidade máxima de mentorias alteradas por transação
+     */
+    @Autowired
+    public TransicoesMentoriaService(MentoriaRepository mentoriaRepository,
+                                     EventoDominioService eventoDominioService,
+                                     ApplicationEventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${systers.mentorias.transicoes.horizonte-ms:86400000}") long horizonteMs,
+                                     @Value("${systers.mentorias.transicoes.lote:500}") int tamanhoLote) {
+        this.mentoriaRepository = mentoriaRepository;
+        this.eventoDominioService = eventoDominioService;
+        this.eventPublisher = eventPublisher;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.horizonte = Duration.ofMillis(horizonteMs);
+        this.tamanhoLote = tamanhoLote;
+        this.roda = new RodaTemporal<>(TIQUE_MS, NIVEIS, System.currentTimeMillis());
+    }
+
+    /**
+     * Cria os índices parciais dos status ativos e preenche a roda.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        try {
+            mentoriaRepository.criarIndiceAgendadas();
+            mentoriaRepository.criarIndiceEmAndamento();
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível criar os índices parciais de mentorias", e);
+        }
+        carregar();
+    }
+
+    /**
+     * Agenda na roda as mentorias ativas cuja próxima mudança vence dentro do horizonte.
+     * Reagendar uma mentoria que já está na roda apenas substitui a entrada.
+     */
+    @Scheduled(fixedDelayString = "${systers.mentorias.transicoes.recarga-ms:3600000}",
+               initialDelayString = "${systers.mentorias.transicoes.recarga-ms:3600000}")
+    public void carregar() {
+        LocalDateTime ate = LocalDateTime.now().plus(horizonte);
+        mentoriaRepository.findAgendadasComInicioAte(ate).forEach(this::agendar);
+        mentoriaRepository.findEmAndamentoComFimAte(ate).forEach(this::agendar);
+    }
+
+    /**
+     * Reagenda a mentoria após o commit de uma alteração de horário, participantes ou status.
+     * Também é chamado fora de transação, quando a alteração não abriu uma.
+     *
+     * @param evento Mentoria alterada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAgenda(AgendaAlterada evento) {
+        mentoriaRepository.findById(evento.mentoriaId())
+                .ifPresentOrElse(this::agendar, () -> roda.cancelar(evento.mentoriaId()));
+    }
+
+    /**
+     * Avança a roda e aplica as mudanças vencidas, em lotes por status de destino.
+     */
+    @Scheduled(fixedDelayString = "${systers.mentorias.transicoes.tick-ms:1000}",
+               initialDelayString = "${systers.mentorias.transicoes.tick-ms:1000}")
+    public void avancar() {
+        long agora = System.currentTimeMillis();
+        List<TransicaoAgendada> vencidas = roda.avancar(agora);
+        if (vencidas.isEmpty()) {
+            return;
+        }
+        Map<StatusMentoria, List<TransicaoAgendada>> porDestino = new EnumMap<>(StatusMentoria.class);
+        for (TransicaoAgendada transicao : vencidas) {
+            // Mentoria que começou e terminou enquanto o sistema estava parado vai direto a Concluída.
+            StatusMentoria destino = transicao.destino() == StatusMentoria.EM_ANDAMENTO
+                    && transicao.fim() != null && emMs(transicao.fim()) <= agora
+                    ? StatusMentoria.CONCLUIDA : transicao.destino();
+            porDestino.computeIfAbsent(destino, status -> new ArrayList<>()).add(transicao);
+        }
+        porDestino.forEach((destino, transicoes) -> {
+            for (int i = 0; i < transicoes.size(); i += tamanhoLote) {
+                aplicar(destino, transicoes.subList(i, Math.min(i + tamanhoLote, transicoes.size())));
+            }
+        });
+    }
+
+    /**
+     * Retorna as métricas das mudanças automáticas de status.
+     * @return Mapa com mudanças pendentes na roda, mentorias iniciadas e concluídas, descartes e lotes
+     */
+    public Map<String, Object> metricas() {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("pendentes", roda.tamanho());
+        resultado.put("iniciadas", iniciadas.sum());
+        resultado.put("concluidas", concluidas.sum());
+        resultado.put("descartadas", descartadas.sum());
+        resultado.put("lotes", lotes.sum());
+        return resultado;
+    }
+
+    /**
+     * Aplica um lote de mudanças para o mesmo status em uma transação.
+     * Mentorias concluídas publicam {@link MentoriaFinalizada} e têm a agenda atualizada;
+     * mentorias iniciadas têm o término agendado na roda.
+     */
+    private void aplicar(StatusMentoria destino, List<TransicaoAgendada> transicoes) {
+        Map<Long, TransicaoAgendada> porId = new LinkedHashMap<>();
+        transicoes.forEach(transicao -> porId.put(transicao.mentoriaId(), transicao));
+        List<String> origens = origensDe(destino);
+        List<Long> alteradas;
+        try {
+            alteradas = transacao.execute(status -> {
+                List<Long> ids = mentoriaRepository.travarParaTransicao(porId.keySet(), origens);
+                if (ids.isEmpty()) {
+                    return ids;
+                }
+                mentoriaRepository.transicionar(ids, destino);
+                if (destino == StatusMentoria.CONCLUIDA) {
+                    for (Long id : ids) {
+                        eventoDominioService.publicar(new MentoriaFinalizada(id, porId.get(id).fim()));
+                        eventPublisher.publishEvent(new AgendaAlterada(id));
+                    }
+                }
+                return ids;
+            });
+        } catch (RuntimeException e) {
+            // Volta para a roda e tenta de novo no próximo tique.
+            log.warn("Falha ao passar {} mentorias para {}", porId.size(), destino, e);
+            porId.values().forEach(transicao -> roda.agendar(transicao.mentoriaId(), System.currentTimeMillis(), transicao));
+            return;
+        }
+        lotes.increment();
+        (destino == StatusMentoria.CONCLUIDA ? concluidas : iniciadas).add(alteradas.size());
+        descartadas.add(porId.size() - alteradas.size());
+        if (destino == StatusMentoria.EM_ANDAMENTO) {
+            for (Long id : alteradas) {
+                TransicaoAgendada transicao = porId.get(id);
+                if (transicao.fim() != null) {
+                    roda.agendar(id, emMs(transicao.fim()),
+                            new TransicaoAgendada(id, StatusMentoria.CONCLUIDA, transicao.fim()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Agenda a próxima mudança automática da mentoria, ou a retira da roda se não houver.
+     */
+    private void agendar(Mentoria mentoria) {
+        StatusMentoria status = mentoria.getStatus();
+        if (status == StatusMentoria.AGENDADA && mentoria.getDataHoraInicio() != null) {
+            roda.agendar(mentoria.getId(), emMs(mentoria.getDataHoraInicio()),
+                    new TransicaoAgendada(mentoria.getId(), StatusMentoria.EM_ANDAMENTO, mentoria.getDataHoraFim()));
+        } else if (status == StatusMentoria.EM_ANDAMENTO && mentoria.getDataHoraFim() != null) {
+            roda.agendar(mentoria.getId(), emMs(mentoria.getDataHoraFim()),
+                    new TransicaoAgendada(mentoria.getId(), StatusMentoria.CONCLUIDA, mentoria.getDataHoraFim()));
+        } else {
+            roda.cancelar(mentoria.getId());
+        }
+    }
+
+    /**
+     * Descrições dos status ativos que podem ir para o destino, como gravadas no banco.
+     */
+    private static List<String> origensDe(StatusMentoria destino) {
+        return Arrays.stream(StatusMentoria.values())
+                .filter(StatusMentoria::isAtiva)
+                .filter(origem -> origem.podeIrPara(destino))
+                .map(StatusMentoria::getDescricao)
+                .toList();
+    }
+
+    private static long emMs(LocalDateTime horario) {
+        return horario.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,6 +1,8 @@
 package dev.team.systers.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 
@@ -8,9 +10,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import dev.team.systers.dto.ResultadoLote;
+import dev.team.systers.dto.UsuarioDenunciado;
 import dev.team.systers.model.Perfil;
 import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.ContadorDenunciasRepository;
 import dev.team.systers.repository.PerfilRepository;
 import dev.team.systers.repository.UsuarioRepository;
 
@@ -37,17 +43,25 @@ public class UsuarioService {
      */
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * Repositório dos contadores de denúncias por usuário.
+     */
+    private final ContadorDenunciasRepository contadorDenunciasRepository;
+
     /**
      * Construtor que inicializa o serviço com as dependências necessárias.
      * @param usuarioRepository Repositório de usuários
      * @param perfilRepository Repositório de perfis
      * @param passwordEncoder Codificador de senha
+     * @param contadorDenunciasRepository Repositório dos contadores de denúncias
      */
     @Autowired
-    public UsuarioService(UsuarioRepository usuarioRepository, PerfilRepository perfilRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioService(UsuarioRepository usuarioRepository, PerfilRepository perfilRepository, PasswordEncoder passwordEncoder,
+                          ContadorDenunciasRepository contadorDenunciasRepository) {
         this.usuarioRepository = usuarioRepository;
         this.perfilRepository = perfilRepository;
         this.passwordEncoder = passwordEncoder;
+        this.contadorDenunciasRepository = contadorDenunciasRepository;
     }
 
     /**
@@ -151,6 +165,7 @@ public class UsuarioService {
         if (email != null && !email.isEmpty()) usuario.setEmail(email);
         if (telefone != null && !telefone.isEmpty()) usuario.setTelefone(telefone);
         usuarioRepository.save(usuario);
+        perfilRepository.incrementarVersaoPorUsuario(usuarioId);
     }
 
     /**
@@ -162,6 +177,7 @@ public class UsuarioService {
         Usuario usuarioExistente = usuarioRepository.findById(usuarioAtualizar.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado com o ID: " + usuarioAtualizar.getId()));
         usuarioRepository.save(usuarioExistente);
+        perfilRepository.incrementarVersaoPorUsuario(usuarioExistente.getId());
     }
 
     /**
@@ -174,11 +190,37 @@ public class UsuarioService {
     }
 
     /**
-     * Lista todos os usuários que possuem denúncias.
-     * @return Lista de usuários que possuem denúncias
+     * Lista os usuários que possuem denúncias pendentes, mais denunciados primeiro.
+     * O total vem dos contadores de denúncias, sem carregar as denúncias de cada usuário.
+     * @return Lista de usuários com a quantidade de denúncias pendentes
+     */
+    public List<UsuarioDenunciado> listarUsuariosDenunciados() {
+        return contadorDenunciasRepository.findUsuariosComPendentes().stream()
+                .map(linha -> new UsuarioDenunciado(((Number) linha[0]).longValue(),
+                        (String) linha[1],
+                        (String) linha[2],
+                        (Usuario.StatusConta) linha[3],
+                        ((Number) linha[4]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Altera o status da conta de vários usuários com uma única atualização.
+     * O tamanho do lote é validado por quem chama.
+     * @param ids IDs dos usuários
+     * @param novoStatus Novo status dos usuários
+     * @return Situação de cada usuário, na ordem do pedido
      */
-    public List<Usuario> listarUsuariosDenunciados() {
-        return usuarioRepository.findUsuariosComDenuncias();
+    @Transactional
+    public Map<Long, ResultadoLote.Situacao> atualizarStatusUsuarios(Collection<Long> ids, Usuario.StatusConta novoStatus) {
+        Map<Long, ResultadoLote.Situacao> itens = ResultadoLote.classificar(ids,
+                usuarioRepository.findStatusContaParaAlterar(ids), 1, novoStatus.name());
+        List<Long> alterar = ResultadoLote.aplicados(itens);
+        if (!alterar.isEmpty()) {
+            usuarioRepository.alterarStatusConta(alterar, novoStatus);
+            perfilRepository.incrementarVersaoPorUsuarios(alterar);
+        }
+        return itens;
     }
 
     /**
@@ -197,7 +239,9 @@ public class UsuarioService {
         }
         
         usuario.setStatusConta(novoStatus);
-        return usuarioRepository.save(usuario);
+        Usuario salvo = usuarioRepository.save(usuario);
+        perfilRepository.incrementarVersaoPorUsuario(usuarioId);
+        return salvo;
     }
 
     /**
@@ -0,0 +1,240 @@
+package dev.team.systers.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Arquivo frio em segmentos: arquivos em disco em que blocos comprimidos são apenas
+ * acrescentados, nunca alterados.
+ *
+ * <p>Cada bloco tem um cabeçalho (marca, chave, tamanhos e CRC32) seguido dos dados
+ * comprimidos com Deflate. Quando o segmento atual passaria do tamanho máximo, um novo
+ * segmento é aberto. Quem grava guarda a {@link Posicao} devolvida e a usa para ler o
+ * bloco depois.</p>
+ *
+ * <p>A leitura é feita por mapeamento em memória: cada segmento é mapeado uma vez e
+ * remapeado somente quando um bloco além do trecho mapeado é pedido. O espaço de blocos
+ * que deixaram de ser usados não é recuperado. Todas as operações são sincronizadas.</p>
+ */
+public class ArquivoSegmentos {
+
+    /**
+     * Marca do início de cada bloco ("SYSA").
+     */
+    private static final int MARCA = 0x53595341;
+
+    /**
+     * Tamanho do cabeçalho: marca, chave, tamanho original, tamanho comprimido e CRC32.
+     */
+    private static final int CABECALHO = 4 + 8 + 4 + 4 + 4;
+
+    private static final Pattern NOME = Pattern.compile("segmento-(\\d{6})\\.dat");
+
+    /**
+     * Diretório dos segmentos.
+     */
+    private final Path diretorio;
+
+    /**
+     * Tamanho a partir do qual um novo segmento é aberto, em bytes.
+     */
+    private final long tamanhoMaximo;
+
+    /**
+     * Segmentos mapeados em memória, pelo número.
+     */
+    private final Map<Integer, MappedByteBuffer> mapeados = new HashMap<>();
+
+    /**
+     * Número do segmento em que os blocos são acrescentados.
+     */
+    private int atual;
+
+    /**
+     * Posição de um bloco no arquivo.
+     *
+     * @param segmento Número do segmento
+     * @param posicao Posição do início do bloco no segmento, em bytes
+     * @param tamanho Tamanho do bloco com o cabeçalho, em bytes
+     */
+    public record Posicao(int segmento, long posicao, int tamanho) {
+    }
+
+    /**
+     * Construtor. Cria o diretório, se necessário, e continua a partir do último segmento.
+     * @param diretorio Diretório dos segmentos
+     * @param tamanhoMaximo Tamanho a partir do qual um novo segmento é aberto, em bytes
+     */
+    public ArquivoSegmentos(Path diretorio, long tamanhoMaximo) {
+        this.diretorio = diretorio;
+        this.tamanhoMaximo = tamanhoMaximo;
+        try {
+            Files.createDirectories(diretorio);
+            try (Stream<Path> arquivos = Files.list(diretorio)) {
+                this.atual = arquivos.map(arquivo -> NOME.matcher(arquivo.getFileName().toString()))
+                        .filter(Matcher::matches)
+                        .mapToInt(nome -> Integer.parseInt(nome.group(1)))
+                        .max().orElse(1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o arquivo em " + diretorio, e);
+        }
+    }
+
+    /**
+     * Comprime e acrescenta um bloco ao segmento atual, gravando-o no disco antes de retornar.
+     *
+     * @param chave Chave do bloco, conferida na leitura
+     * @param dados Conteúdo do bloco
+     * @return Posição do bloco
+     */
+    public synchronized Posicao acrescentar(long chave, byte[] dados) {
+        byte[] comprimidos = comprimir(dados);
+        CRC32 crc = new CRC32();
+        crc.update(comprimidos);
+        ByteBuffer bloco = ByteBuffer.allocate(CABECALHO + comprimidos.length)
+                .putInt(MARCA)
+                .putLong(chave)
+                .putInt(dados.length)
+                .putInt(comprimidos.length)
+                .putInt((int) crc.getValue())
+                .put(comprimidos)
+                .flip();
+        try {
+            if (Files.exists(caminho(atual)) && Files.size(caminho(atual)) > 0
+                    && Files.size(caminho(atual)) + bloco.remaining() > tamanhoMaximo) {
+                atual++;
+            }
+            try (FileChannel canal = FileChannel.open(caminho(atual),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                long posicao = canal.size();
+                while (bloco.hasRemaining()) {
+                    canal.write(bloco);
+                }
+                canal.force(true);
+                return new Posicao(atual, posicao, CABECALHO + comprimidos.length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar no segmento " + atual, e);
+        }
+    }
+
+    /**
+     * Lê e descomprime um bloco.
+     *
+     * @param chave Chave esperada do bloco
+     * @param posicao Posição do bloco
+     * @return Conteúdo do bloco
+     * @throws IllegalStateException se o bloco não corresponder à chave ou estiver corrompido
+     */
+    public synchronized byte[] ler(long chave, Posicao posicao) {
+        ByteBuffer bloco = mapeado(posicao).slice((int) posicao.posicao(), posicao.tamanho());
+        if (bloco.getInt() != MARCA || bloco.getLong() != chave) {
+            throw new IllegalStateException("Bloco inválido no segmento " + posicao.segmento() + " em " + posicao.posicao());
+        }
+        int tamanhoOriginal = bloco.getInt();
+        byte[] comprimidos = new byte[bloco.getInt()];
+        int crcEsperado = bloco.getInt();
+        bloco.get(comprimidos);
+        CRC32 crc = new CRC32();
+        crc.update(comprimidos);
+        if ((int) crc.getValue() != crcEsperado) {
+            throw new IllegalStateException("Bloco corrompido no segmento " + posicao.segmento() + " em " + posicao.posicao());
+        }
+        return descomprimir(comprimidos, tamanhoOriginal);
+    }
+
+    /**
+     * Retorna o tamanho total dos segmentos em disco.
+     * @return Tamanho em bytes
+     */
+    public synchronized long tamanhoEmDisco() {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(arquivo -> NOME.matcher(arquivo.getFileName().toString()).matches())
+                    .mapToLong(arquivo -> arquivo.toFile().length())
+                    .sum();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Retorna o segmento mapeado em memória, remapeando-o se o bloco estiver além do trecho mapeado.
+     */
+    private MappedByteBuffer mapeado(Posicao posicao) {
+        MappedByteBuffer mapa = mapeados.get(posicao.segmento());
+        if (mapa != null && mapa.capacity() >= posicao.posicao() + posicao.tamanho()) {
+            return mapa;
+        }
+        try (FileChannel canal = FileChannel.open(caminho(posicao.segmento()), StandardOpenOption.READ)) {
+            if (canal.size() < posicao.posicao() + posicao.tamanho() || canal.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Bloco fora do segmento " + posicao.segmento() + " em " + posicao.posicao());
+            }
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            mapeados.put(posicao.segmento(), mapa);
+            return mapa;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler o segmento " + posicao.segmento(), e);
+        }
+    }
+
+    private Path caminho(int segmento) {
+        return diretorio.resolve(String.format("segmento-%06d.dat", segmento));
+    }
+
+    private static byte[] comprimir(byte[] dados) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(dados);
+            deflater.finish();
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, dados.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                saida.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return saida.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] descomprimir(byte[] comprimidos, int tamanhoOriginal) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(comprimidos);
+            byte[] dados = new byte[tamanhoOriginal];
+            int lidos = 0;
+            while (lidos < tamanhoOriginal && !inflater.finished()) {
+                int n = inflater.inflate(dados, lidos, tamanhoOriginal - lidos);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                lidos += n;
+            }
+            if (lidos != tamanhoOriginal) {
+                throw new IllegalStateException("Bloco truncado: esperados " + tamanhoOriginal + " bytes, lidos " + lidos);
+            }
+            return dados;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Bloco com compressão inválida", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
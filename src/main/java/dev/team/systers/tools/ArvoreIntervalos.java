@@ -0,0 +1,213 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Árvore de intervalos semiabertos {@code [inicio, fim)}.
+ * Implementada como uma treap ordenada por início e aumentada com o maior fim de
+ * cada subárvore, o que permite inserir, remover e encontrar um intervalo sobreposto
+ * em O(log n) esperado, e listar os k sobrepostos em O(log n + k).
+ *
+ * <p>Cada intervalo é identificado pelo par (início, id); o id vem do chamador
+ * (por exemplo, o ID da entidade) e desempata intervalos com o mesmo início.
+ * Não é thread-safe.</p>
+ *
+ * @param <T> Tipo do valor associado a cada intervalo
+ */
+public class ArvoreIntervalos<T> {
+
+    /**
+     * Raiz da árvore.
+     */
+    private No<T> raiz;
+
+    /**
+     * Quantidade de intervalos.
+     */
+    private int tamanho;
+
+    /**
+     * Gerador das prioridades da treap.
+     */
+    private final SplittableRandom aleatorio = new SplittableRandom();
+
+    /**
+     * Insere um intervalo, substituindo o de mesmo início e id, se houver.
+     *
+     * @param inicio Início do intervalo (inclusivo)
+     * @param fim Fim do intervalo (exclusivo)
+     * @param id Identificador do intervalo
+     * @param valor Valor associado
+     */
+    public void inserir(long inicio, long fim, long id, T valor) {
+        if (fim <= inicio) {
+            throw new IllegalArgumentException("O fim do intervalo deve ser posterior ao início.");
+        }
+        remover(inicio, id);
+        No<T> no = new No<>(inicio, fim, id, valor, aleatorio.nextLong());
+        No<T>[] partes = dividir(raiz, inicio, id, false);
+        raiz = juntar(juntar(partes[0], no), partes[1]);
+        tamanho++;
+    }
+
+    /**
+     * Remove um intervalo.
+     *
+     * @param inicio Início do intervalo
+     * @param id Identificador do intervalo
+     * @return Valor removido, ou null se o intervalo não existia
+     */
+    public T remover(long inicio, long id) {
+        No<T>[] menores = dividir(raiz, inicio, id, false);
+        No<T>[] resto = dividir(menores[1], inicio, id, true);
+        raiz = juntar(menores[0], resto[1]);
+        if (resto[0] == null) {
+            return null;
+        }
+        tamanho--;
+        return resto[0].valor;
+    }
+
+    /**
+     * Procura um intervalo que se sobreponha a {@code [inicio, fim)}.
+     *
+     * @param inicio Início da consulta
+     * @param fim Fim da consulta
+     * @return Valor de um intervalo sobreposto, ou null se não houver
+     */
+    public T algumSobreposto(long inicio, long fim) {
+        No<T> no = raiz;
+        while (no != null) {
+            if (no.inicio < fim && no.fim > inicio) {
+                return no.valor;
+            }
+            // Se a subárvore esquerda alcança o início da consulta e não tem sobreposição,
+            // algum intervalo dela começa depois do fim da consulta, e toda a direita também.
+            no = no.esquerda != null && no.esquerda.maiorFim > inicio ? no.esquerda : no.direita;
+        }
+        return null;
+    }
+
+    /**
+     * Lista os intervalos que se sobrepõem a {@code [inicio, fim)}, em ordem de início.
+     *
+     * @param inicio Início da consulta
+     * @param fim Fim da consulta
+     * @return Valores dos intervalos sobrepostos
+     */
+    public List<T> sobrepostos(long inicio, long fim) {
+        List<T> resultado = new ArrayList<>();
+        coletar(raiz, inicio, fim, resultado);
+        return resultado;
+    }
+
+    /**
+     * Retorna a quantidade de intervalos.
+     * @return Total de intervalos
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Remove todos os intervalos.
+     */
+    public void limpar() {
+        raiz = null;
+        tamanho = 0;
+    }
+
+    private void coletar(No<T> no, long inicio, long fim, List<T> resultado) {
+        if (no == null || no.maiorFim <= inicio) {
+            return;
+        }
+        coletar(no.esquerda, inicio, fim, resultado);
+        if (no.inicio >= fim) {
+            return;
+        }
+        if (no.fim > inicio) {
+            resultado.add(no.valor);
+        }
+        coletar(no.direita, inicio, fim, resultado);
+    }
+
+    /**
+     * Divide a árvore em duas: chaves menores que (inicio, id) e as demais;
+     * com {@code inclusive}, a chave igual fica na primeira parte.
+     */
+    @SuppressWarnings("unchecked")
+    private No<T>[] dividir(No<T> no, long inicio, long id, boolean inclusive) {
+        if (no == null) {
+            return new No[] { null, null };
+        }
+        int comparacao = no.inicio != inicio ? Long.compare(no.inicio, inicio) : Long.compare(no.id, id);
+        if (comparacao < 0 || (inclusive && comparacao == 0)) {
+            No<T>[] partes = dividir(no.direita, inicio, id, inclusive);
+            no.direita = partes[0];
+            no.atualizar();
+            partes[0] = no;
+            return partes;
+        }
+        No<T>[] partes = dividir(no.esquerda, inicio, id, inclusive);
+        no.esquerda = partes[1];
+        no.atualizar();
+        partes[1] = no;
+        return partes;
+    }
+
+    /**
+     * Junta duas árvores em que todas as chaves da primeira são menores que as da segunda.
+     */
+    private No<T> juntar(No<T> a, No<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.prioridade > b.prioridade) {
+            a.direita = juntar(a.direita, b);
+            a.atualizar();
+            return a;
+        }
+        b.esquerda = juntar(a, b.esquerda);
+        b.atualizar();
+        return b;
+    }
+
+    /**
+     * Nó da treap.
+     */
+    private static final class No<T> {
+
+        private final long inicio;
+        private final long fim;
+        private final long id;
+        private final T valor;
+        private final long prioridade;
+        private long maiorFim;
+        private No<T> esquerda;
+        private No<T> direita;
+
+        No(long inicio, long fim, long id, T valor, long prioridade) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.id = id;
+            this.valor = valor;
+            this.prioridade = prioridade;
+            this.maiorFim = fim;
+        }
+
+        void atualizar() {
+            maiorFim = fim;
+            if (esquerda != null && esquerda.maiorFim > maiorFim) {
+                maiorFim = esquerda.maiorFim;
+            }
+            if (direita != null && direita.maiorFim > maiorFim) {
+                maiorFim = direita.maiorFim;
+            }
+        }
+    }
+}
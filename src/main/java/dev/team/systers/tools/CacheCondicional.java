@@ -0,0 +1,79 @@
+package dev.team.systers.tools;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Utilitário para respostas condicionais (ETag / If-None-Match).
+ * Permite que os controladores respondam 304 Not Modified a partir de uma versão
+ * barata de obter, antes de executar as consultas pesadas da página.
+ *
+ * <p>O ETag inclui o usuário e a sessão, pois as páginas exibem botões que
+ * dependem de quem está logado e carregam o token CSRF da sessão.</p>
+ */
+public final class CacheCondicional {
+
+    /**
+     * Política de cache das páginas validadas por ETag:
+     * apenas o navegador guarda a resposta e sempre revalida antes de usá-la.
+     */
+    private static final String REVALIDAR = "private, no-cache";
+
+    private CacheCondicional() {
+    }
+
+    /**
+     * Verifica se o cliente já possui a versão atual do recurso.
+     * Também define os cabeçalhos ETag e Cache-Control da resposta.
+     *
+     * @param requisicao Requisição atual
+     * @param recurso Identificador do recurso (ex: "grupo-10")
+     * @param versao Versão atual do recurso
+     * @return true se a resposta 304 já foi preparada e o controlador deve retornar null
+     */
+    public static boolean naoModificado(WebRequest requisicao, String recurso, Object versao) {
+        definirCacheControl(requisicao, REVALIDAR);
+        return requisicao.checkNotModified(etag(requisicao, recurso, versao));
+    }
+
+    /**
+     * Impede que a resposta atual seja guardada pelo navegador.
+     * Usado quando a página foi montada de forma incompleta e não deve ser revalidada depois.
+     *
+     * @param requisicao Requisição atual
+     */
+    public static void naoArmazenar(WebRequest requisicao) {
+        definirCacheControl(requisicao, "no-store");
+    }
+
+    /**
+     * Monta o ETag fraco de um recurso para o usuário e a sessão atuais.
+     */
+    static String etag(WebRequest requisicao, String recurso, Object versao) {
+        Principal usuario = requisicao.getUserPrincipal();
+        String visitante = (usuario != null ? usuario.getName() : "") + "|" + requisicao.getSessionId();
+        return "W/\"" + recurso + "-" + versao + "-" + resumo(visitante) + "\"";
+    }
+
+    private static void definirCacheControl(WebRequest requisicao, String valor) {
+        if (requisicao instanceof ServletWebRequest servlet && servlet.getResponse() != null) {
+            servlet.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, valor);
+        }
+    }
+
+    private static String resumo(String texto) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(texto.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
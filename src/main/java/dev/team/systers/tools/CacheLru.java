@@ -0,0 +1,92 @@
+package dev.team.systers.tools;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache em memória com capacidade limitada e descarte do item menos usado (LRU).
+ * Todas as operações são sincronizadas; os valores devem ser imutáveis.
+ *
+ * @param <K> Tipo da chave
+ * @param <V> Tipo do valor
+ */
+public class CacheLru<K, V> {
+
+    /**
+     * Quantidade máxima de itens mantidos.
+     */
+    private final int capacidade;
+
+    /**
+     * Mapa em ordem de acesso: o primeiro item é o menos usado recentemente.
+     */
+    private final LinkedHashMap<K, V> itens;
+
+    /**
+     * Quantidade de itens descartados por falta de espaço.
+     */
+    private long descartes;
+
+    /**
+     * Construtor do cache.
+     * @param capacidade Quantidade máxima de itens
+     */
+    public CacheLru(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva.");
+        }
+        this.capacidade = capacidade;
+        this.itens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> maisAntigo) {
+                if (size() > CacheLru.this.capacidade) {
+                    descartes++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Busca um valor e o marca como usado recentemente.
+     * @param chave Chave do item
+     * @return Valor guardado ou null se ausente
+     */
+    public synchronized V buscar(K chave) {
+        return itens.get(chave);
+    }
+
+    /**
+     * Guarda um valor, descartando o item menos usado se a capacidade for excedida.
+     * @param chave Chave do item
+     * @param valor Valor a guardar
+     */
+    public synchronized void guardar(K chave, V valor) {
+        itens.put(chave, valor);
+    }
+
+    /**
+     * Retorna a quantidade atual de itens.
+     * @return Tamanho do cache
+     */
+    public synchronized int tamanho() {
+        return itens.size();
+    }
+
+    /**
+     * Retorna a capacidade máxima do cache.
+     * @return Capacidade
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Retorna quantos itens já foram descartados por falta de espaço.
+     * @return Total de descartes
+     */
+    public synchronized long getDescartes() {
+        return descartes;
+    }
+}
@@ -0,0 +1,176 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Carregamento concorrente das partes independentes de uma página composta.
+ * Cada parte roda em sua própria thread virtual e todas compartilham um único prazo.
+ * O escopo é estruturado: nenhuma tarefa sobrevive ao bloco try-with-resources
+ * que criou a carga, pois {@link #close()} cancela o que ainda estiver em execução.
+ *
+ * <p>Partes essenciais interrompem a página quando falham ou estouram o prazo.
+ * Partes opcionais são substituídas pelo valor alternativo informado.</p>
+ */
+public class CargaComposta implements AutoCloseable {
+
+    /**
+     * Executor que cria uma thread virtual por parte.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Partes registradas, na ordem em que foram disparadas.
+     */
+    private final List<Parte<?>> partes = new ArrayList<>();
+
+    /**
+     * Instante limite, em nanossegundos, para a conclusão de todas as partes.
+     */
+    private final long limiteNanos;
+
+    /**
+     * Decorador aplicado a cada tarefa antes da execução (ex: transação somente leitura).
+     */
+    private final Function<Callable<?>, Callable<?>> decorador;
+
+    /**
+     * Indica se alguma parte opcional precisou usar o valor alternativo.
+     */
+    private boolean parcial;
+
+    /**
+     * Construtor da carga.
+     * @param prazoMs Prazo total da página, em milissegundos
+     * @param decorador Função aplicada a cada tarefa antes de ser enviada ao executor
+     */
+    public CargaComposta(long prazoMs, Function<Callable<?>, Callable<?>> decorador) {
+        this.limiteNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoMs);
+        this.decorador = decorador;
+    }
+
+    /**
+     * Dispara uma parte sem a qual a página não pode ser exibida.
+     * @param tarefa Consulta a ser executada
+     * @return Referência para o resultado, disponível após {@link #aguardar()}
+     */
+    public <T> Parte<T> essencial(Callable<T> tarefa) {
+        return disparar(tarefa, true, null);
+    }
+
+    /**
+     * Dispara uma parte que pode ser omitida se falhar ou não terminar no prazo.
+     * @param tarefa Consulta a ser executada
+     * @param alternativa Valor usado quando a parte não estiver disponível
+     * @return Referência para o resultado, disponível após {@link #aguardar()}
+     */
+    public <T> Parte<T> opcional(Callable<T> tarefa, T alternativa) {
+        return disparar(tarefa, false, alternativa);
+    }
+
+    /**
+     * Aguarda todas as partes até o prazo da página.
+     * Partes opcionais que falharem ou atrasarem recebem o valor alternativo.
+     *
+     * @throws RuntimeException a exceção original de uma parte essencial que falhou
+     * @throws IllegalStateException se uma parte essencial não terminar no prazo
+     */
+    public void aguardar() {
+        for (Parte<?> parte : partes) {
+            parte.aguardar();
+        }
+    }
+
+    /**
+     * Indica se a página será exibida sem alguma das partes opcionais.
+     * @return true se alguma parte opcional usou o valor alternativo
+     */
+    public boolean isParcial() {
+        return parcial;
+    }
+
+    /**
+     * Cancela as partes que ainda estiverem rodando e encerra o executor.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Parte<T> disparar(Callable<T> tarefa, boolean essencial, T alternativa) {
+        Callable<T> decorada = (Callable<T>) decorador.apply(tarefa);
+        Parte<T> parte = new Parte<>(executor.submit(decorada), essencial, alternativa);
+        partes.add(parte);
+        return parte;
+    }
+
+    /**
+     * Resultado de uma parte da página.
+     * @param <T> Tipo do valor carregado
+     */
+    public final class Parte<T> {
+
+        private final Future<T> futuro;
+        private final boolean essencial;
+        private T valor;
+        private boolean concluida;
+
+        private Parte(Future<T> futuro, boolean essencial, T alternativa) {
+            this.futuro = futuro;
+            this.essencial = essencial;
+            this.valor = alternativa;
+        }
+
+        /**
+         * Retorna o valor carregado ou o valor alternativo.
+         * @return Valor da parte
+         * @throws IllegalStateException se chamado antes de {@link CargaComposta#aguardar()}
+         */
+        public T get() {
+            if (!concluida) {
+                throw new IllegalStateException("A carga da página ainda não foi aguardada.");
+            }
+            return valor;
+        }
+
+        private void aguardar() {
+            if (concluida) {
+                return;
+            }
+            try {
+                long restante = Math.max(0, limiteNanos - System.nanoTime());
+                valor = futuro.get(restante, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException e) {
+                futuro.cancel(true);
+                falhar(new IllegalStateException("Tempo limite excedido ao carregar a página.", e));
+            } catch (ExecutionException e) {
+                falhar(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                falhar(e);
+            }
+            concluida = true;
+        }
+
+        private void falhar(Throwable causa) {
+            if (!essencial) {
+                parcial = true;
+                return;
+            }
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha ao carregar a página: " + causa.getMessage(), causa);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package dev.team.systers.tools;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Uma conexão Server-Sent Events com fila de envio limitada.
+ * Os eventos são enfileirados sem bloquear quem publica e enviados por uma única
+ * tarefa de cada vez, na ordem em que chegaram. Se o cliente não acompanha e a fila
+ * enche, a conexão é encerrada: o navegador reconecta com o cabeçalho
+ * {@code Last-Event-ID} e recupera o que perdeu pelo banco.
+ *
+ * <p>Enquanto a recuperação inicial é enviada, os eventos ao vivo ficam retidos na fila;
+ * ao liberar a conexão, os que já vieram na recuperação são descartados.</p>
+ *
+ * @param <T> Tipo dos dados enviados
+ */
+public class ConexaoSse<T> {
+
+    /**
+     * Nome do evento SSE enviado ao cliente.
+     */
+    private final String nomeEvento;
+
+    /**
+     * Emissor SSE da requisição.
+     */
+    private final SseEmitter emissor;
+
+    /**
+     * Eventos aguardando envio.
+     */
+    private final BlockingQueue<T> fila;
+
+    /**
+     * Extrai o ID de cada evento, usado como {@code id:} do SSE.
+     */
+    private final ToLongFunction<T> id;
+
+    /**
+     * Executor das tarefas de envio.
+     */
+    private final Executor executor;
+
+    /**
+     * Indica se há uma tarefa de envio em andamento ou agendada.
+     */
+    private final AtomicBoolean enviando = new AtomicBoolean();
+
+    /**
+     * Indica se a conexão foi encerrada.
+     */
+    private final AtomicBoolean encerrada = new AtomicBoolean();
+
+    /**
+     * Indica se a recuperação inicial terminou e os eventos ao vivo podem ser enviados.
+     */
+    private volatile boolean liberada;
+
+    /**
+     * IDs enviados na recuperação inicial, que não devem ser repetidos.
+     */
+    private volatile Set<Long> recuperados = Set.of();
+
+    /**
+     * Construtor.
+     * @param nomeEvento Nome do evento SSE
+     * @param emissor Emissor SSE da requisição
+     * @param capacidade Quantidade máxima de eventos aguardando envio
+     * @param id Função que extrai o ID de cada evento
+     * @param executor Executor das tarefas de envio
+     */
+    public ConexaoSse(String nomeEvento, SseEmitter emissor, int capacidade, ToLongFunction<T> id, Executor executor) {
+        this.nomeEvento = nomeEvento;
+        this.emissor = emissor;
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.id = id;
+        this.executor = executor;
+    }
+
+    /**
+     * Envia os eventos perdidos enquanto o cliente estava desconectado e libera o envio ao vivo.
+     * Deve ser chamado uma única vez, depois que a conexão já está recebendo eventos ao vivo,
+     * para que nada publicado durante a consulta fique de fora.
+     *
+     * @param perdidos Eventos a recuperar, em ordem crescente de ID
+     */
+    public void recuperar(List<T> perdidos) {
+        recuperados = perdidos.stream().map(id::applyAsLong).collect(Collectors.toUnmodifiableSet());
+        for (T evento : perdidos) {
+            if (!transmitir(evento)) {
+                return;
+            }
+        }
+        liberada = true;
+        agendarEnvio();
+    }
+
+    /**
+     * Enfileira um evento ao vivo sem bloquear.
+     * Se a fila estiver cheia a conexão é encerrada.
+     *
+     * @param evento Evento a enviar
+     */
+    public void publicar(T evento) {
+        if (encerrada.get()) {
+            return;
+        }
+        if (!fila.offer(evento)) {
+            encerrar();
+            return;
+        }
+        if (liberada) {
+            agendarEnvio();
+        }
+    }
+
+    /**
+     * Envia um comentário SSE para manter a conexão aberta e detectar clientes que saíram.
+     */
+    public void manterViva() {
+        if (encerrada.get()) {
+            return;
+        }
+        try {
+            emissor.send(SseEmitter.event().comment("ping"));
+        } catch (IOException | IllegalStateException e) {
+            encerrar();
+        }
+    }
+
+    /**
+     * Encerra a conexão e descarta os eventos pendentes.
+     */
+    public void encerrar() {
+        if (encerrada.compareAndSet(false, true)) {
+            fila.clear();
+            try {
+                emissor.complete();
+            } catch (IllegalStateException e) {
+                // A resposta já foi finalizada pelo contêiner.
+            }
+        }
+    }
+
+    /**
+     * Indica se a conexão foi encerrada.
+     * @return true se encerrada
+     */
+    public boolean isEncerrada() {
+        return encerrada.get();
+    }
+
+    /**
+     * Retorna a quantidade de eventos aguardando envio.
+     * @return Tamanho da fila
+     */
+    public int getPendentes() {
+        return fila.size();
+    }
+
+    private void agendarEnvio() {
+        if (enviando.compareAndSet(false, true)) {
+            executor.execute(this::enviarPendentes);
+        }
+    }
+
+    private void enviarPendentes() {
+        try {
+            T evento;
+            while (!encerrada.get() && (evento = fila.poll()) != null) {
+                if (recuperados.contains(id.applyAsLong(evento))) {
+                    continue;
+                }
+                if (!transmitir(evento)) {
+                    return;
+                }
+            }
+        } finally {
+            enviando.set(false);
+        }
+        // Um evento pode ter chegado entre o último poll e a liberação da flag.
+        if (!fila.isEmpty() && !encerrada.get()) {
+            agendarEnvio();
+        }
+    }
+
+    private boolean transmitir(T evento) {
+        try {
+            emissor.send(SseEmitter.event().id(String.valueOf(id.applyAsLong(evento))).name(nomeEvento).data(evento));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            encerrar();
+            return false;
+        }
+    }
+}
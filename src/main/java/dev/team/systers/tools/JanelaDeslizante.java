@@ -0,0 +1,153 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Janela deslizante de ocorrências por chave, em memória.
+ * Cada ocorrência tem um instante e uma origem (por exemplo, quem a causou), e a janela
+ * responde quantas ocorrências e quantas origens distintas uma chave teve desde um
+ * instante. Ocorrências mais antigas que a duração da janela são descartadas ao
+ * registrar na mesma chave e por {@link #descartarAntesDe(long)}, que também remove
+ * as chaves que ficaram vazias. Todas as operações são sincronizadas.
+ *
+ * @param <K> Tipo da chave
+ */
+public class JanelaDeslizante<K> {
+
+    /**
+     * Ocorrências de cada chave, na ordem em que foram registradas.
+     */
+    private final Map<K, ArrayDeque<Ocorrencia>> ocorrencias = new HashMap<>();
+
+    /**
+     * Duração da janela, em milissegundos.
+     */
+    private final long duracaoMs;
+
+    /**
+     * Quantidade total de ocorrências guardadas.
+     */
+    private long tamanho;
+
+    /**
+     * Uma ocorrência na janela.
+     *
+     * @param instanteMs Momento da ocorrência, em milissegundos desde a época
+     * @param origem Identificador da origem
+     */
+    private record Ocorrencia(long instanteMs, long origem) {
+    }
+
+    /**
+     * Construtor.
+     * @param duracaoMs Duração da janela, em milissegundos
+     */
+    public JanelaDeslizante(long duracaoMs) {
+        if (duracaoMs <= 0) {
+            throw new IllegalArgumentException("A duração da janela deve ser positiva.");
+        }
+        this.duracaoMs = duracaoMs;
+    }
+
+    /**
+     * Registra uma ocorrência e descarta as ocorrências da chave que saíram da janela.
+     *
+     * @param chave Chave da ocorrência
+     * @param instanteMs Momento da ocorrência, em milissegundos desde a época
+     * @param origem Identificador da origem
+     */
+    public synchronized void registrar(K chave, long instanteMs, long origem) {
+        ArrayDeque<Ocorrencia> fila = ocorrencias.computeIfAbsent(chave, k -> new ArrayDeque<>());
+        fila.addLast(new Ocorrencia(instanteMs, origem));
+        tamanho++;
+        tamanho -= descartar(fila, instanteMs - duracaoMs);
+    }
+
+    /**
+     * Conta as ocorrências da chave a partir de um instante.
+     *
+     * @param chave Chave consultada
+     * @param desdeMs Instante inicial, inclusivo
+     * @return Quantidade de ocorrências
+     */
+    public synchronized long contar(K chave, long desdeMs) {
+        ArrayDeque<Ocorrencia> fila = ocorrencias.get(chave);
+        if (fila == null) {
+            return 0;
+        }
+        return fila.stream().filter(ocorrencia -> ocorrencia.instanteMs() >= desdeMs).count();
+    }
+
+    /**
+     * Conta as origens distintas das ocorrências da chave a partir de um instante.
+     *
+     * @param chave Chave consultada
+     * @param desdeMs Instante inicial, inclusivo
+     * @return Quantidade de origens distintas
+     */
+    public synchronized int contarOrigens(K chave, long desdeMs) {
+        ArrayDeque<Ocorrencia> fila = ocorrencias.get(chave);
+        if (fila == null) {
+            return 0;
+        }
+        Set<Long> origens = new HashSet<>();
+        for (Ocorrencia ocorrencia : fila) {
+            if (ocorrencia.instanteMs() >= desdeMs) {
+                origens.add(ocorrencia.origem());
+            }
+        }
+        return origens.size();
+    }
+
+    /**
+     * Descarta as ocorrências anteriores ao instante em todas as chaves
+     * e remove as chaves que ficaram vazias.
+     *
+     * @param instanteMs Instante limite, exclusivo
+     * @return Quantidade de ocorrências descartadas
+     */
+    public synchronized long descartarAntesDe(long instanteMs) {
+        long descartadas = 0;
+        Iterator<ArrayDeque<Ocorrencia>> filas = ocorrencias.values().iterator();
+        while (filas.hasNext()) {
+            ArrayDeque<Ocorrencia> fila = filas.next();
+            descartadas += descartar(fila, instanteMs);
+            if (fila.isEmpty()) {
+                filas.remove();
+            }
+        }
+        tamanho -= descartadas;
+        return descartadas;
+    }
+
+    /**
+     * Retorna a quantidade total de ocorrências guardadas.
+     * @return Quantidade de ocorrências
+     */
+    public synchronized long tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna a quantidade de chaves com ocorrências guardadas.
+     * @return Quantidade de chaves
+     */
+    public synchronized int chaves() {
+        return ocorrencias.size();
+    }
+
+    /**
+     * Descarta da fila as ocorrências anteriores ao limite. As ocorrências costumam
+     * chegar em ordem, mas a fila é percorrida inteira para tolerar atrasos.
+     */
+    private static long descartar(ArrayDeque<Ocorrencia> fila, long limiteMs) {
+        long antes = fila.size();
+        fila.removeIf(ocorrencia -> ocorrencia.instanteMs() < limiteMs);
+        return antes - fila.size();
+    }
+}
@@ -0,0 +1,128 @@
+package dev.team.systers.tools;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import dev.team.systers.model.Usuario.StatusConta;
+
+/**
+ * Regra de moderação automática: quando a métrica de denúncias de um usuário atinge
+ * o limite, a conta passa para o status da regra.
+ *
+ * <p>As regras são escritas no formato {@code metrica>=limite[/janela]:STATUS}, por exemplo
+ * {@code denunciantes>=5/24h:SUSPENSO} (cinco denunciantes distintos em 24 horas suspendem
+ * a conta) ou {@code pendentes>=20:BANIDO}. A janela aceita os sufixos {@code m}, {@code h}
+ * e {@code d} e é obrigatória para as métricas contadas em janela.</p>
+ *
+ * @param metrica O que é contado
+ * @param limite Valor a partir do qual a regra dispara
+ * @param janela Período considerado, ou null para a métrica de pendentes
+ * @param status Status aplicado à conta
+ */
+public record RegraModeracao(Metrica metrica, long limite, Duration janela, StatusConta status) {
+
+    private static final Pattern FORMATO = Pattern.compile("(\\w+)\\s*>=\\s*(\\d+)\\s*(?:/\\s*(\\d+)\\s*([mhd]))?\\s*:\\s*(\\w+)");
+
+    /**
+     * Métricas avaliadas pelas regras.
+     */
+    public enum Metrica {
+        /** Denunciantes distintos na janela */
+        DENUNCIANTES(true),
+        /** Denúncias recebidas na janela */
+        DENUNCIAS(true),
+        /** Denúncias pendentes, sem janela */
+        PENDENTES(false);
+
+        private final boolean emJanela;
+
+        Metrica(boolean emJanela) {
+            this.emJanela = emJanela;
+        }
+
+        /**
+         * Indica se a métrica é contada em uma janela de tempo.
+         * @return true para denunciantes e denúncias
+         */
+        public boolean isEmJanela() {
+            return emJanela;
+        }
+    }
+
+    /**
+     * Lê uma regra.
+     *
+     * @param texto Regra no formato {@code metrica>=limite[/janela]:STATUS}
+     * @return Regra lida
+     * @throws IllegalArgumentException se o texto não for uma regra válida
+     */
+    public static RegraModeracao ler(String texto) {
+        Matcher partes = FORMATO.matcher(texto.trim());
+        if (!partes.matches()) {
+            throw new IllegalArgumentException("Regra de moderação inválida: " + texto);
+        }
+        Metrica metrica = Metrica.valueOf(partes.group(1).toUpperCase(Locale.ROOT));
+        Duration janela = null;
+        if (partes.group(3) != null) {
+            long quantidade = Long.parseLong(partes.group(3));
+            janela = switch (partes.group(4)) {
+                case "m" -> Duration.ofMinutes(quantidade);
+                case "h" -> Duration.ofHours(quantidade);
+                default -> Duration.ofDays(quantidade);
+            };
+        }
+        if (metrica.isEmJanela() != (janela != null)) {
+            throw new IllegalArgumentException(metrica.isEmJanela()
+                    ? "A regra precisa de uma janela: " + texto
+                    : "A regra não aceita janela: " + texto);
+        }
+        return new RegraModeracao(metrica, Long.parseLong(partes.group(2)), janela,
+                StatusConta.valueOf(partes.group(5).toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Lê uma lista de regras, ignorando as vazias.
+     *
+     * @param textos Regras no formato {@code metrica>=limite[/janela]:STATUS}
+     * @return Regras lidas, na mesma ordem
+     * @throws IllegalArgumentException se algum texto não for uma regra válida
+     */
+    public static List<RegraModeracao> lerTodas(List<String> textos) {
+        List<RegraModeracao> regras = new ArrayList<>();
+        for (String texto : textos) {
+            if (!texto.isBlank()) {
+                regras.add(ler(texto));
+            }
+        }
+        return regras;
+    }
+
+    /**
+     * Verifica se a regra dispara para uma chave.
+     *
+     * @param janela Janela com as denúncias recentes, com a origem no denunciante
+     * @param chave Chave do usuário denunciado na janela
+     * @param agoraMs Momento da avaliação, em milissegundos desde a época
+     * @param pendentes Quantidade de denúncias pendentes do usuário
+     * @param <K> Tipo da chave
+     * @return true se a métrica atingiu o limite
+     */
+    public <K> boolean disparou(JanelaDeslizante<K> janela, K chave, long agoraMs, long pendentes) {
+        long valor = switch (metrica) {
+            case DENUNCIANTES -> janela.contarOrigens(chave, agoraMs - this.janela.toMillis());
+            case DENUNCIAS -> janela.contar(chave, agoraMs - this.janela.toMillis());
+            case PENDENTES -> pendentes;
+        };
+        return valor >= limite;
+    }
+
+    @Override
+    public String toString() {
+        String base = metrica.name().toLowerCase(Locale.ROOT) + ">=" + limite;
+        return (janela != null ? base + "/" + janela.toMinutes() + "m" : base) + ":" + status;
+    }
+}
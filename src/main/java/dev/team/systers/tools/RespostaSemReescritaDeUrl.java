@@ -0,0 +1,30 @@
+package dev.team.systers.tools;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Resposta que devolve as URLs sem reescrita ({@code ;jsessionid=...}).
+ * Usada ao renderizar fragmentos compartilhados entre usuários, para que nenhum
+ * dado da sessão de quem disparou a renderização fique guardado no HTML em cache.
+ */
+public class RespostaSemReescritaDeUrl extends HttpServletResponseWrapper {
+
+    /**
+     * Construtor que envolve a resposta original.
+     * @param resposta Resposta da requisição atual
+     */
+    public RespostaSemReescritaDeUrl(HttpServletResponse resposta) {
+        super(resposta);
+    }
+
+    @Override
+    public String encodeURL(String url) {
+        return url;
+    }
+
+    @Override
+    public String encodeRedirectURL(String url) {
+        return url;
+    }
+}
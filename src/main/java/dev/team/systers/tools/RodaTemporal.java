@@ -0,0 +1,226 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roda temporal hierárquica (hierarchical timing wheel) para agendar muitas tarefas
+ * com prazos em tempo de relógio.
+ *
+ * <p>O tempo avança em "tiques" de duração fixa. Cada nível tem 64 posições: o nível 0
+ * cobre os próximos 64 tiques, o nível 1 os próximos 64² e assim por diante. Agendar e
+ * cancelar custam O(1); ao virar uma posição de um nível superior, suas entradas descem
+ * para os níveis de baixo, e cada entrada desce no máximo uma vez por nível. Assim,
+ * avançar o relógio só toca as entradas que estão vencendo, em vez de varrer todas.</p>
+ *
+ * <p>Prazos além do último nível ficam em uma lista de espera e são redistribuídos a
+ * cada volta completa da roda. Todas as operações são sincronizadas.</p>
+ *
+ * @param <K> Tipo da chave, usada para cancelar ou reagendar
+ * @param <V> Tipo do valor entregue no vencimento
+ */
+public class RodaTemporal<K, V> {
+
+    /**
+     * Bits por nível: 64 posições.
+     */
+    private static final int BITS = 6;
+    private static final int POSICOES = 1 << BITS;
+    private static final int MASCARA = POSICOES - 1;
+
+    /**
+     * Duração de um tique, em milissegundos.
+     */
+    private final long tiqueMs;
+
+    /**
+     * Posições de cada nível; cada posição guarda as entradas pela chave.
+     */
+    private final List<List<Map<K, Entrada<K, V>>>> niveis = new ArrayList<>();
+
+    /**
+     * Entradas com prazo além do último nível.
+     */
+    private final Map<K, Entrada<K, V>> espera = new HashMap<>();
+
+    /**
+     * Entradas cujo prazo já passou no momento em que foram agendadas.
+     */
+    private final Map<K, Entrada<K, V>> imediatas = new HashMap<>();
+
+    /**
+     * Todas as entradas, pela chave.
+     */
+    private final Map<K, Entrada<K, V>> entradas = new HashMap<>();
+
+    /**
+     * Tique atual.
+     */
+    private long atual;
+
+    /**
+     * Construtor.
+     * @param tiqueMs Duração de um tique, em milissegundos
+     * @param quantidadeNiveis Quantidade de níveis da roda
+     * @param agoraMs Momento atual, em milissegundos
+     */
+    public RodaTemporal(long tiqueMs, int quantidadeNiveis, long agoraMs) {
+        if (tiqueMs <= 0 || quantidadeNiveis <= 0 || quantidadeNiveis * BITS >= 63) {
+            throw new IllegalArgumentException("Tique e quantidade de níveis inválidos.");
+        }
+        this.tiqueMs = tiqueMs;
+        this.atual = agoraMs / tiqueMs;
+        for (int nivel = 0; nivel < quantidadeNiveis; nivel++) {
+            List<Map<K, Entrada<K, V>>> posicoes = new ArrayList<>(POSICOES);
+            for (int i = 0; i < POSICOES; i++) {
+                posicoes.add(new HashMap<>());
+            }
+            niveis.add(posicoes);
+        }
+    }
+
+    /**
+     * Agenda um valor para o prazo informado, substituindo o agendamento anterior da mesma chave.
+     *
+     * @param chave Chave do agendamento
+     * @param prazoMs Momento do vencimento, em milissegundos
+     * @param valor Valor entregue no vencimento
+     */
+    public synchronized void agendar(K chave, long prazoMs, V valor) {
+        cancelar(chave);
+        // Arredonda para cima: nunca vence antes do prazo.
+        Entrada<K, V> entrada = new Entrada<>(chave, Math.floorDiv(prazoMs + tiqueMs - 1, tiqueMs), valor);
+        entradas.put(chave, entrada);
+        posicionar(entrada);
+    }
+
+    /**
+     * Cancela um agendamento.
+     *
+     * @param chave Chave do agendamento
+     * @return true se havia um agendamento com a chave
+     */
+    public synchronized boolean cancelar(K chave) {
+        Entrada<K, V> entrada = entradas.remove(chave);
+        if (entrada == null) {
+            return false;
+        }
+        entrada.local.remove(chave);
+        return true;
+    }
+
+    /**
+     * Avança o relógio até o momento informado.
+     *
+     * @param agoraMs Momento atual, em milissegundos
+     * @return Valores vencidos, do prazo mais antigo para o mais recente
+     */
+    public synchronized List<V> avancar(long agoraMs) {
+        long alvo = agoraMs / tiqueMs;
+        List<V> vencidos = new ArrayList<>();
+        coletar(imediatas, vencidos);
+        if (entradas.isEmpty()) {
+            atual = Math.max(atual, alvo);
+            return vencidos;
+        }
+        while (atual < alvo) {
+            atual++;
+            // Dos níveis mais altos para os mais baixos: o que desce pode cair
+            // justamente na posição que vira agora no nível de baixo.
+            if ((atual & ((1L << (BITS * niveis.size())) - 1)) == 0) {
+                redistribuir(espera);
+            }
+            for (int nivel = niveis.size() - 1; nivel >= 1; nivel--) {
+                if ((atual & ((1L << (BITS * nivel)) - 1)) == 0) {
+                    redistribuir(niveis.get(nivel).get((int) ((atual >>> (BITS * nivel)) & MASCARA)));
+                }
+            }
+            coletar(niveis.get(0).get((int) (atual & MASCARA)), vencidos);
+            coletar(imediatas, vencidos);
+            if (entradas.isEmpty()) {
+                atual = alvo;
+            }
+        }
+        return vencidos;
+    }
+
+    /**
+     * Retorna a quantidade de agendamentos pendentes.
+     * @return Total de agendamentos
+     */
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * Verifica se há um agendamento com a chave.
+     * @param chave Chave do agendamento
+     * @return true se a chave está agendada
+     */
+    public synchronized boolean contem(K chave) {
+        return entradas.containsKey(chave);
+    }
+
+    /**
+     * Coloca a entrada no nível mais baixo cujo prefixo de tempo coincide com o atual,
+     * de modo que a posição seja alcançada antes do prazo.
+     */
+    private void posicionar(Entrada<K, V> entrada) {
+        Map<K, Entrada<K, V>> local;
+        if (entrada.prazo <= atual) {
+            local = imediatas;
+        } else {
+            local = espera;
+            for (int nivel = 0; nivel < niveis.size(); nivel++) {
+                int deslocamento = BITS * (nivel + 1);
+                if ((entrada.prazo >>> deslocamento) == (atual >>> deslocamento)) {
+                    local = niveis.get(nivel).get((int) ((entrada.prazo >>> (BITS * nivel)) & MASCARA));
+                    break;
+                }
+            }
+        }
+        entrada.local = local;
+        local.put(entrada.chave, entrada);
+    }
+
+    private void redistribuir(Map<K, Entrada<K, V>> posicao) {
+        if (posicao.isEmpty()) {
+            return;
+        }
+        List<Entrada<K, V>> descendo = new ArrayList<>(posicao.values());
+        posicao.clear();
+        descendo.forEach(this::posicionar);
+    }
+
+    private void coletar(Map<K, Entrada<K, V>> posicao, List<V> vencidos) {
+        if (posicao.isEmpty()) {
+            return;
+        }
+        List<Entrada<K, V>> vencendo = new ArrayList<>(posicao.values());
+        vencendo.sort((a, b) -> Long.compare(a.prazo, b.prazo));
+        posicao.clear();
+        for (Entrada<K, V> entrada : vencendo) {
+            entradas.remove(entrada.chave);
+            vencidos.add(entrada.valor);
+        }
+    }
+
+    /**
+     * Agendamento e a posição em que está guardado.
+     */
+    private static final class Entrada<K, V> {
+
+        private final K chave;
+        private final long prazo;
+        private final V valor;
+        private Map<K, Entrada<K, V>> local;
+
+        Entrada(K chave, long prazo, V valor) {
+            this.chave = chave;
+            this.prazo = prazo;
+            this.valor = valor;
+        }
+    }
+}
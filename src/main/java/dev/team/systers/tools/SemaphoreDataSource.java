@@ -0,0 +1,132 @@
+package dev.team.systers.tools;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita, por meio de um semáforo, quantas conexões podem estar
+ * emprestadas ao mesmo tempo.
+ * Funciona como um bulkhead na frente do pool do Hikari: com threads virtuais,
+ * milhares de requisições podem chegar juntas e esperam aqui, de forma barata,
+ * em vez de disputarem o pool todas de uma vez.
+ */
+public class SemaphoreDataSource extends DelegatingDataSource {
+
+    /**
+     * Semáforo com uma permissão por conexão que pode ser emprestada.
+     */
+    private final Semaphore permissoes;
+
+    /**
+     * Tempo máximo de espera por uma permissão, em milissegundos.
+     */
+    private final long esperaMaximaMs;
+
+    /**
+     * Construtor que envolve o DataSource original.
+     * @param alvo DataSource real (normalmente o HikariDataSource)
+     * @param permissoes Quantidade máxima de conexões emprestadas simultaneamente
+     * @param esperaMaximaMs Tempo máximo de espera por uma permissão
+     */
+    public SemaphoreDataSource(DataSource alvo, int permissoes, long esperaMaximaMs) {
+        super(alvo);
+        if (permissoes <= 0) {
+            throw new IllegalArgumentException("O número de permissões do bulkhead deve ser positivo.");
+        }
+        this.permissoes = new Semaphore(permissoes, true);
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirirPermissao();
+        try {
+            return envolver(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirirPermissao();
+        try {
+            return envolver(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna quantas conexões ainda podem ser emprestadas sem espera.
+     * @return Número de permissões livres
+     */
+    public int permissoesDisponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    /**
+     * Retorna uma estimativa de quantas threads aguardam uma permissão.
+     * @return Número de threads na fila do bulkhead
+     */
+    public int threadsAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    /**
+     * Aguarda uma permissão do semáforo respeitando o tempo máximo configurado.
+     * @throws SQLTransientConnectionException se o tempo de espera se esgotar
+     */
+    private void adquirirPermissao() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Bulkhead do banco de dados saturado: nenhuma conexão liberada em " + esperaMaximaMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão do banco de dados", e);
+        }
+    }
+
+    /**
+     * Envolve a conexão em um proxy que devolve a permissão quando ela é fechada.
+     * @param conexao Conexão obtida do pool
+     * @return Conexão que libera o bulkhead no close()
+     */
+    private Connection envolver(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean(false);
+        InvocationHandler handler = (proxy, metodo, args) -> invocar(conexao, liberada, metodo, args);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, handler);
+    }
+
+    /**
+     * Repassa a chamada para a conexão real e libera a permissão no primeiro close().
+     */
+    private Object invocar(Connection conexao, AtomicBoolean liberada, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(conexao, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        } finally {
+            if (metodo.getName().equals("close") && liberada.compareAndSet(false, true)) {
+                permissoes.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package dev.team.systers.tools;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de cargas concorrentes ("single flight").
+ * Quando várias threads pedem a mesma chave ao mesmo tempo, apenas a primeira
+ * executa a carga; as demais aguardam e recebem o mesmo resultado.
+ *
+ * <p>Opcionalmente o resultado continua sendo compartilhado por uma janela curta
+ * depois de concluído, absorvendo as requisições que chegam logo em seguida.
+ * Falhas nunca são compartilhadas depois de concluídas: a próxima chamada tenta de novo.</p>
+ *
+ * @param <K> Tipo da chave
+ * @param <V> Tipo do resultado, que deve ser tratado como somente leitura
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * A cada quantas cargas executadas as entradas expiradas são removidas.
+     */
+    private static final int INTERVALO_LIMPEZA = 64;
+
+    /**
+     * Cargas em andamento ou concluídas dentro da janela, por chave.
+     */
+    private final Map<K, Voo<V>> voos = new ConcurrentHashMap<>();
+
+    /**
+     * Tempo, em nanossegundos, que um resultado concluído continua sendo compartilhado.
+     */
+    private final long janelaNanos;
+
+    /**
+     * Quantidade de cargas efetivamente executadas.
+     */
+    private final LongAdder execucoes = new LongAdder();
+
+    /**
+     * Quantidade de chamadas atendidas com o resultado de outra carga.
+     */
+    private final LongAdder compartilhadas = new LongAdder();
+
+    /**
+     * Construtor.
+     * @param janelaMs Janela de reaproveitamento após a conclusão, em milissegundos (0 para apenas cargas simultâneas)
+     */
+    public SingleFlight(long janelaMs) {
+        if (janelaMs < 0) {
+            throw new IllegalArgumentException("A janela de reaproveitamento não pode ser negativa.");
+        }
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+    }
+
+    /**
+     * Executa a carga da chave ou aguarda a carga idêntica que já está em andamento.
+     *
+     * @param chave Identificador da carga
+     * @param carga Consulta a ser executada se nenhuma outra estiver em andamento
+     * @return Resultado da carga
+     * @throws RuntimeException a mesma exceção lançada pela carga compartilhada
+     */
+    public V executar(K chave, Supplier<V> carga) {
+        while (true) {
+            Voo<V> meu = new Voo<>();
+            Voo<V> existente = voos.putIfAbsent(chave, meu);
+            if (existente == null) {
+                return decolar(chave, meu, carga);
+            }
+            if (existente.aproveitavel(janelaNanos)) {
+                compartilhadas.increment();
+                return existente.aguardar();
+            }
+            voos.remove(chave, existente);
+        }
+    }
+
+    /**
+     * Retorna quantas cargas foram efetivamente executadas.
+     * @return Total de execuções
+     */
+    public long getExecucoes() {
+        return execucoes.sum();
+    }
+
+    /**
+     * Retorna quantas chamadas reaproveitaram o resultado de outra carga.
+     * @return Total de chamadas coalescidas
+     */
+    public long getCompartilhadas() {
+        return compartilhadas.sum();
+    }
+
+    private V decolar(K chave, Voo<V> voo, Supplier<V> carga) {
+        execucoes.increment();
+        if (execucoes.sum() % INTERVALO_LIMPEZA == 0) {
+            limparExpirados();
+        }
+        try {
+            V valor = carga.get();
+            voo.concluir(valor);
+            if (janelaNanos == 0) {
+                voos.remove(chave, voo);
+            }
+            return valor;
+        } catch (RuntimeException | Error e) {
+            voos.remove(chave, voo);
+            voo.falhar(e);
+            throw e;
+        }
+    }
+
+    private void limparExpirados() {
+        voos.values().removeIf(voo -> !voo.aproveitavel(janelaNanos));
+    }
+
+    /**
+     * Uma carga em andamento ou recém-concluída.
+     */
+    private static final class Voo<V> {
+
+        private final CompletableFuture<V> futuro = new CompletableFuture<>();
+        private volatile long concluidoEm;
+
+        void concluir(V valor) {
+            concluidoEm = System.nanoTime();
+            futuro.complete(valor);
+        }
+
+        void falhar(Throwable erro) {
+            futuro.completeExceptionally(erro);
+        }
+
+        boolean aproveitavel(long janelaNanos) {
+            if (!futuro.isDone()) {
+                return true;
+            }
+            return !futuro.isCompletedExceptionally() && System.nanoTime() - concluidoEm < janelaNanos;
+        }
+
+        V aguardar() {
+            try {
+                return futuro.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido aguardando carga compartilhada", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.team.systers.tools;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import dev.team.systers.model.BlocoArquivoDialogo;
+import dev.team.systers.model.DialogoMentoria;
+import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Participante;
+import dev.team.systers.model.Participante.TipoParticipante;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.ArquivoDialogoRepository;
+import dev.team.systers.repository.BlocoArquivoDialogoRepository;
+import dev.team.systers.repository.DialogoLoteRepository;
+import dev.team.systers.repository.DialogoMentoriaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.service.ArquivoDialogosService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArquivoDialogosServiceTest {
+
+    private static final Long MENTORIA = 1L;
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @TempDir
+    Path diretorio;
+
+    private final DialogoMentoriaRepository dialogoMentoriaRepository = mock(DialogoMentoriaRepository.class);
+    private final BlocoArquivoDialogoRepository blocoRepository = mock(BlocoArquivoDialogoRepository.class);
+    private final ParticipanteRepository participanteRepository = mock(ParticipanteRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private ArquivoDialogosService arquivo;
+
+    @BeforeEach
+    void preparar() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocacao -> new SimpleTransactionStatus());
+        when(blocoRepository.save(any())).thenAnswer(invocacao -> invocacao.getArgument(0));
+        when(dialogoMentoriaRepository.findMentoriasParaArquivar(any(), any(), anyInt())).thenReturn(List.of(MENTORIA));
+        List<Object[]> linhas = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            linhas.add(new Object[] { id, null, 3L, INICIO.plusMinutes(id), "mensagem " + id });
+        }
+        when(dialogoMentoriaRepository.findParaArquivar(MENTORIA)).thenReturn(linhas);
+        when(participanteRepository.findByMentoriaIdsComUsuario(List.of(MENTORIA))).thenReturn(List.of(participante()));
+        arquivo = new ArquivoDialogosService(dialogoMentoriaRepository, mock(ArquivoDialogoRepository.class), blocoRepository,
+                mock(DialogoLoteRepository.class), participanteRepository, transactionManager,
+                diretorio.toString(), 64, 30, 10, 2);
+    }
+
+    @Test
+    void paginaLendoSoOsBlocosDoCursor() {
+        when(dialogoMentoriaRepository.deleteArquivadas(MENTORIA, 5L)).thenReturn(5);
+        arquivo.arquivar();
+        assertTrue(arquivo.isArquivado(MENTORIA));
+        assertEquals(3, arquivo.metricas().get("blocos"));
+
+        List<DialogoMentoria> recentes = arquivo.lerAntesDe(MENTORIA, null, null, 2);
+        assertEquals(List.of(5L, 4L), recentes.stream().map(DialogoMentoria::getId).toList());
+        assertEquals(2L, arquivo.metricas().get("leituras"));
+
+        DialogoMentoria maisAntiga = recentes.get(1);
+        List<DialogoMentoria> anteriores = arquivo.lerAntesDe(MENTORIA, maisAntiga.getDataHora(), maisAntiga.getId(), 2);
+        assertEquals(List.of(3L, 2L), anteriores.stream().map(DialogoMentoria::getId).toList());
+        assertEquals(4L, arquivo.metricas().get("leituras"), "o bloco mais recente fica depois do cursor e não é lido");
+
+        assertEquals(List.of(4L, 5L),
+                arquivo.lerPosterioresA(MENTORIA, 3L, 10).stream().map(DialogoMentoria::getId).toList());
+    }
+
+    @Test
+    void novaTentativaReaproveitaOsBlocosJaGravados() {
+        when(dialogoMentoriaRepository.deleteArquivadas(MENTORIA, 5L)).thenReturn(4, 5);
+        arquivo.arquivar();
+        assertFalse(arquivo.isArquivado(MENTORIA), "uma mensagem fora dos blocos desfaz o arquivamento");
+
+        ArgumentCaptor<BlocoArquivoDialogo> gravados = ArgumentCaptor.forClass(BlocoArquivoDialogo.class);
+        verify(blocoRepository, times(3)).save(gravados.capture());
+        when(blocoRepository.findByMentoriaIdOrderByOrdem(MENTORIA)).thenReturn(gravados.getAllValues());
+        Object bytes = arquivo.metricas().get("bytesEmDisco");
+
+        arquivo.arquivar();
+
+        assertTrue(arquivo.isArquivado(MENTORIA));
+        verify(blocoRepository, times(3)).save(any());
+        assertEquals(3L, arquivo.metricas().get("blocosReaproveitados"));
+        assertEquals(bytes, arquivo.metricas().get("bytesEmDisco"));
+        assertEquals(5, arquivo.lerDialogos(MENTORIA).size());
+    }
+
+    private static Participante participante() {
+        Mentoria mentoria = new Mentoria();
+        mentoria.setId(MENTORIA);
+        Usuario usuario = new Usuario();
+        usuario.setLogin("ana");
+        Participante participante = new Participante("Ana", usuario, TipoParticipante.MENTORADO, mentoria);
+        participante.setId(3L);
+        return participante;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.team.systers.tools;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArquivoSegmentosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void leOQueFoiAcrescentado() {
+        ArquivoSegmentos arquivo = new ArquivoSegmentos(diretorio, 1 << 20);
+        byte[] primeiro = "olá, mentora".repeat(100).getBytes(StandardCharsets.UTF_8);
+        byte[] segundo = "até a próxima sessão".getBytes(StandardCharsets.UTF_8);
+
+        ArquivoSegmentos.Posicao p1 = arquivo.acrescentar(1, primeiro);
+        ArquivoSegmentos.Posicao p2 = arquivo.acrescentar(2, segundo);
+
+        assertArrayEquals(primeiro, arquivo.ler(1, p1));
+        assertArrayEquals(segundo, arquivo.ler(2, p2));
+        assertTrue(p1.tamanho() < primeiro.length, "o bloco repetitivo deve ser comprimido");
+        assertEquals(p1.posicao() + p1.tamanho(), p2.posicao());
+    }
+
+    @Test
+    void abreNovoSegmentoAoPassarDoTamanhoMaximo() {
+        ArquivoSegmentos arquivo = new ArquivoSegmentos(diretorio, 64);
+        ArquivoSegmentos.Posicao p1 = arquivo.acrescentar(1, new byte[] { 1, 2, 3 });
+        ArquivoSegmentos.Posicao p2 = arquivo.acrescentar(2, "xyz".repeat(30).getBytes(StandardCharsets.UTF_8));
+
+        assertNotEquals(p1.segmento(), p2.segmento());
+        assertEquals(0, p2.posicao());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, arquivo.ler(1, p1));
+    }
+
+    @Test
+    void continuaDoUltimoSegmentoAoReabrir() {
+        ArquivoSegmentos.Posicao p1 = new ArquivoSegmentos(diretorio, 64).acrescentar(7, new byte[] { 9 });
+        ArquivoSegmentos.Posicao p2 = new ArquivoSegmentos(diretorio, 1 << 20).acrescentar(8, new byte[] { 10 });
+
+        assertEquals(p1.segmento(), p2.segmento());
+        ArquivoSegmentos reaberto = new ArquivoSegmentos(diretorio, 1 << 20);
+        assertArrayEquals(new byte[] { 9 }, reaberto.ler(7, p1));
+        assertArrayEquals(new byte[] { 10 }, reaberto.ler(8, p2));
+    }
+
+    @Test
+    void recusaChaveErradaEBlocoCorrompido() throws IOException {
+        ArquivoSegmentos arquivo = new ArquivoSegmentos(diretorio, 1 << 20);
+        ArquivoSegmentos.Posicao posicao = arquivo.acrescentar(1, "mensagem".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalStateException.class, () -> arquivo.ler(2, posicao));
+
+        try (RandomAccessFile segmento = new RandomAccessFile(
+                diretorio.resolve("segmento-000001.dat").toFile(), "rw")) {
+            long ultimo = posicao.posicao() + posicao.tamanho() - 1;
+            segmento.seek(ultimo);
+            int original = segmento.read();
+            segmento.seek(ultimo);
+            segmento.write(original ^ 0x7F);
+        }
+        assertThrows(IllegalStateException.class, () -> new ArquivoSegmentos(diretorio, 1 << 20).ler(1, posicao));
+    }
+}
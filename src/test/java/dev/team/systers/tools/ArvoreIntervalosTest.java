@@ -0,0 +1,72 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ArvoreIntervalosTest {
+
+    private final ArvoreIntervalos<String> arvore = new ArvoreIntervalos<>();
+
+    @Test
+    void intervalosSemiabertosNaoSeSobrepoemNaBorda() {
+        arvore.inserir(10, 20, 1, "a");
+        arvore.inserir(20, 30, 2, "b");
+
+        assertEquals(List.of("a"), arvore.sobrepostos(15, 20));
+        assertEquals(List.of("a", "b"), arvore.sobrepostos(19, 21));
+        assertNull(arvore.algumSobreposto(30, 40));
+        assertNull(arvore.algumSobreposto(0, 10));
+    }
+
+    @Test
+    void removerPorInicioEId() {
+        arvore.inserir(10, 20, 1, "a");
+        arvore.inserir(10, 25, 2, "b");
+
+        assertEquals("a", arvore.remover(10, 1));
+        assertNull(arvore.remover(10, 1));
+        assertEquals(1, arvore.tamanho());
+        assertEquals(List.of("b"), arvore.sobrepostos(0, 100));
+    }
+
+    @Test
+    void reinserirSubstituiOIntervalo() {
+        arvore.inserir(10, 20, 1, "a");
+        arvore.inserir(10, 50, 1, "a2");
+
+        assertEquals(1, arvore.tamanho());
+        assertEquals("a2", arvore.algumSobreposto(40, 45));
+    }
+
+    @Test
+    void concordaComBuscaLinear() {
+        Random aleatorio = new Random(42);
+        List<long[]> intervalos = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long inicio = aleatorio.nextInt(100_000);
+            long fim = inicio + 1 + aleatorio.nextInt(500);
+            intervalos.add(new long[] { inicio, fim, i });
+            arvore.inserir(inicio, fim, i, String.valueOf(i));
+        }
+        for (int i = 0; i < 2000; i += 3) {
+            long[] intervalo = intervalos.get(i);
+            arvore.remover(intervalo[0], intervalo[2]);
+        }
+        for (int consulta = 0; consulta < 500; consulta++) {
+            long inicio = aleatorio.nextInt(100_000);
+            long fim = inicio + 1 + aleatorio.nextInt(1000);
+            long esperado = intervalos.stream()
+                    .filter(intervalo -> intervalo[2] % 3 != 0)
+                    .filter(intervalo -> intervalo[0] < fim && intervalo[1] > inicio)
+                    .count();
+            assertEquals(esperado, arvore.sobrepostos(inicio, fim).size());
+            assertEquals(esperado == 0, arvore.algumSobreposto(inicio, fim) == null);
+        }
+    }
+}
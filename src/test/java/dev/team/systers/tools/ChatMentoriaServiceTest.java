@@ -0,0 +1,183 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import dev.team.systers.dto.EventoChat;
+import dev.team.systers.exception.DialogoMentoriaException;
+import dev.team.systers.model.DialogoMentoria;
+import dev.team.systers.model.FalhaGravacaoChat;
+import dev.team.systers.model.Mentoria;
+import dev.team.systers.model.Participante;
+import dev.team.systers.model.Participante.TipoParticipante;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.DialogoMentoriaRepository;
+import dev.team.systers.repository.FalhaGravacaoChatRepository;
+import dev.team.systers.repository.MentoriaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.service.ChatMentoriaService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChatMentoriaServiceTest {
+
+    private static final Long MENTORIA = 7L;
+
+    private final DialogoMentoriaRepository dialogoMentoriaRepository = mock(DialogoMentoriaRepository.class);
+    private final FalhaGravacaoChatRepository falhaGravacaoChatRepository = mock(FalhaGravacaoChatRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final Participante participante = participante(MENTORIA);
+
+    @BeforeEach
+    void preparar() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocacao -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    void gravaEmLotesDoTamanhoConfigurado() {
+        ChatMentoriaService chat = chat(2, 5);
+        for (int i = 0; i < 5; i++) {
+            chat.enviar(participante, "mensagem " + i);
+        }
+
+        chat.gravar();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<DialogoMentoria>> lotes = ArgumentCaptor.forClass(Iterable.class);
+        verify(dialogoMentoriaRepository, times(3)).saveAll(lotes.capture());
+        assertEquals(List.of(2, 2, 1), lotes.getAllValues().stream().map(ChatMentoriaServiceTest::tamanho).toList());
+        assertEquals(5L, chat.metricas().get("gravadas"));
+        assertEquals(3L, chat.metricas().get("lotes"));
+    }
+
+    @Test
+    void soGravaNoCicloDoIntervalo() {
+        ChatMentoriaService chat = chat(500, 5);
+        long marcaInicial = chat.marcaDoHistorico();
+        EventoChat ultimo = null;
+        for (int i = 0; i < 3; i++) {
+            ultimo = chat.enviar(participante, "mensagem " + i);
+        }
+
+        verifyNoInteractions(dialogoMentoriaRepository);
+        assertEquals(3, chat.metricas().get("pendentes"));
+        assertEquals(marcaInicial, chat.marcaDoHistorico());
+
+        chat.gravar();
+
+        verify(dialogoMentoriaRepository).saveAll(anyIterable());
+        assertEquals(0, chat.metricas().get("pendentes"));
+        assertEquals(ultimo.id(), chat.marcaDoHistorico());
+    }
+
+    @Test
+    void reenfileiraEGuardaComoFalhaAsQueContinuamFalhando() {
+        ChatMentoriaService chat = chat(500, 2);
+        when(dialogoMentoriaRepository.saveAll(anyIterable())).thenThrow(new DataIntegrityViolationException("lote"));
+        when(dialogoMentoriaRepository.save(argThat(dialogo -> dialogo != null && "ruim".equals(dialogo.getMensagem()))))
+                .thenThrow(new DataIntegrityViolationException("mensagem"));
+        chat.enviar(participante, "boa");
+        EventoChat ruim = chat.enviar(participante, "ruim");
+
+        chat.gravar();
+
+        assertEquals(1L, chat.metricas().get("gravadas"));
+        assertEquals(1L, chat.metricas().get("reenfileiradas"));
+        assertEquals(1, chat.metricas().get("pendentes"));
+        assertEquals(ruim.id() - 1, chat.marcaDoHistorico());
+        verifyNoInteractions(falhaGravacaoChatRepository);
+
+        chat.gravar();
+
+        ArgumentCaptor<FalhaGravacaoChat> falha = ArgumentCaptor.forClass(FalhaGravacaoChat.class);
+        verify(falhaGravacaoChatRepository).save(falha.capture());
+        assertEquals(ruim.id(), falha.getValue().getChave());
+        assertEquals(MENTORIA, falha.getValue().getMentoriaId());
+        assertEquals("ruim", falha.getValue().getMensagem());
+        assertEquals(1L, chat.metricas().get("falhas"));
+        assertEquals(0, chat.metricas().get("pendentes"));
+        assertEquals(ruim.id() + 1, chat.marcaDoHistorico());
+    }
+
+    @Test
+    void retemEmMemoriaSeNaoConseguirGuardarAFalha() {
+        ChatMentoriaService chat = chat(500, 1);
+        when(dialogoMentoriaRepository.saveAll(anyIterable())).thenThrow(new DataAccessResourceFailureException("fora"));
+        when(dialogoMentoriaRepository.save(any())).thenThrow(new DataAccessResourceFailureException("fora"));
+        when(falhaGravacaoChatRepository.save(any())).thenThrow(new DataAccessResourceFailureException("fora"));
+        EventoChat evento = chat.enviar(participante, "mensagem");
+
+        chat.gravar();
+
+        assertEquals(1, chat.metricas().get("retidas"));
+        assertEquals(evento.id() - 1, chat.marcaDoHistorico());
+
+        doReturn(new ArrayList<>()).when(dialogoMentoriaRepository).saveAll(anyIterable());
+        chat.gravar();
+
+        assertEquals(0, chat.metricas().get("retidas"));
+        assertEquals(1L, chat.metricas().get("gravadas"));
+        assertEquals(0L, chat.metricas().get("falhas"));
+    }
+
+    @Test
+    void confirmarExigeMensagemDaMentoria() {
+        ChatMentoriaService chat = chat(500, 5);
+        EventoChat recente = chat.enviar(participante, "mensagem");
+        Participante deOutraMentoria = participante(8L);
+
+        chat.confirmar(participante, recente.id());
+        verify(dialogoMentoriaRepository, never()).existsByMentoria_IdAndChave(any(), any());
+
+        assertThrows(DialogoMentoriaException.class, () -> chat.confirmar(deOutraMentoria, recente.id()));
+        verify(dialogoMentoriaRepository).existsByMentoria_IdAndChave(8L, recente.id());
+
+        when(dialogoMentoriaRepository.existsByMentoria_IdAndChave(MENTORIA, 42L)).thenReturn(true);
+        chat.confirmar(participante, 42L);
+        assertThrows(DialogoMentoriaException.class, () -> chat.confirmar(participante, null));
+    }
+
+    private ChatMentoriaService chat(int tamanhoLote, int tentativas) {
+        return new ChatMentoriaService(dialogoMentoriaRepository, mock(MentoriaRepository.class),
+                mock(ParticipanteRepository.class), falhaGravacaoChatRepository, transactionManager,
+                100, tamanhoLote, tentativas, 100, 16, 60_000);
+    }
+
+    private static Participante participante(Long mentoriaId) {
+        Mentoria mentoria = new Mentoria();
+        mentoria.setId(mentoriaId);
+        Usuario usuario = new Usuario();
+        usuario.setLogin("ana");
+        Participante participante = new Participante("Ana", usuario, TipoParticipante.MENTORADO, mentoria);
+        participante.setId(3L);
+        return participante;
+    }
+
+    private static int tamanho(Iterable<DialogoMentoria> lote) {
+        int tamanho = 0;
+        for (DialogoMentoria ignorado : lote) {
+            tamanho++;
+        }
+        return tamanho;
+    }
+}
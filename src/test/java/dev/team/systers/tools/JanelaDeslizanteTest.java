@@ -0,0 +1,44 @@
+package dev.team.systers.tools;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JanelaDeslizanteTest {
+
+    private static final long HORA = 3_600_000;
+
+    private final JanelaDeslizante<Long> janela = new JanelaDeslizante<>(24 * HORA);
+
+    @Test
+    void contaOcorrenciasEOrigensDistintas() {
+        janela.registrar(1L, 0, 10);
+        janela.registrar(1L, HORA, 10);
+        janela.registrar(1L, 2 * HORA, 11);
+        janela.registrar(2L, 2 * HORA, 10);
+
+        assertEquals(3, janela.contar(1L, 0));
+        assertEquals(2, janela.contarOrigens(1L, 0));
+        assertEquals(1, janela.contarOrigens(1L, 2 * HORA));
+        assertEquals(0, janela.contar(3L, 0));
+    }
+
+    @Test
+    void registrarDescartaOcorrenciasForaDaJanela() {
+        janela.registrar(1L, 0, 10);
+        janela.registrar(1L, 25 * HORA, 11);
+
+        assertEquals(1, janela.contar(1L, 0));
+        assertEquals(1, janela.tamanho());
+    }
+
+    @Test
+    void descartarRemoveChavesVazias() {
+        janela.registrar(1L, 0, 10);
+        janela.registrar(2L, 5 * HORA, 10);
+
+        assertEquals(1, janela.descartarAntesDe(HORA));
+        assertEquals(1, janela.chaves());
+        assertEquals(1, janela.tamanho());
+    }
+}
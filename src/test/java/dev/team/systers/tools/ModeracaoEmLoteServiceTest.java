@@ -0,0 +1,124 @@
+package dev.team.systers.tools;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import dev.team.systers.dto.ResultadoLote;
+import dev.team.systers.dto.ResultadoLote.Situacao;
+import dev.team.systers.model.Membro;
+import dev.team.systers.model.RegistroModeracao;
+import dev.team.systers.model.RegistroModeracao.Acao;
+import dev.team.systers.model.Usuario;
+import dev.team.systers.repository.RegistroModeracaoRepository;
+import dev.team.systers.service.GrupoService;
+import dev.team.systers.service.ModeracaoEmLoteService;
+import dev.team.systers.service.ModeracaoService;
+import dev.team.systers.service.UsuarioService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ModeracaoEmLoteServiceTest {
+
+    private final ModeracaoService moderacaoService = mock(ModeracaoService.class);
+    private final UsuarioService usuarioService = mock(UsuarioService.class);
+    private final GrupoService grupoService = mock(GrupoService.class);
+    private final RegistroModeracaoRepository registroRepository = mock(RegistroModeracaoRepository.class);
+
+    private final ModeracaoEmLoteService moderacao = new ModeracaoEmLoteService(moderacaoService, usuarioService,
+            grupoService, registroRepository, 3);
+
+    private final Usuario moderador = moderador();
+
+    @Test
+    void classificaCadaIdPeloStatusAtual() {
+        List<Object[]> linhas = List.of(new Object[] { 1L, "SUSPENSO" }, new Object[] { 2L, "NORMAL" });
+
+        Map<Long, Situacao> itens = ResultadoLote.classificar(List.of(3L, 1L, 2L), linhas, 1, "SUSPENSO");
+
+        assertEquals(List.of(3L, 1L, 2L), List.copyOf(itens.keySet()));
+        assertEquals(Situacao.NAO_ENCONTRADO, itens.get(3L));
+        assertEquals(Situacao.INALTERADO, itens.get(1L));
+        assertEquals(Situacao.APLICADO, itens.get(2L));
+        assertEquals(List.of(2L), ResultadoLote.aplicados(itens));
+
+        ResultadoLote resultado = ResultadoLote.de(Acao.ALTERAR_STATUS_USUARIOS, "SUSPENSO", itens);
+        assertEquals(1, resultado.aplicados());
+        assertEquals(2, resultado.ignorados());
+    }
+
+    @Test
+    void validaOTamanhoDoLote() {
+        assertThrows(IllegalArgumentException.class, () -> moderacao.resolverDenuncias(moderador, null));
+        assertThrows(IllegalArgumentException.class, () -> moderacao.resolverDenuncias(moderador, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> moderacao.resolverDenuncias(moderador, Arrays.asList(null, null)));
+        assertThrows(IllegalArgumentException.class, () -> moderacao.resolverDenuncias(moderador, List.of(1L, 2L, 3L, 4L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> moderacao.alterarStatusUsuarios(moderador, List.of(1L), "CONGELADO"));
+        verifyNoInteractions(moderacaoService, usuarioService, registroRepository);
+
+        when(moderacaoService.resolverEmLote(eq(9L), any())).thenReturn(Map.of(1L, Situacao.APLICADO, 2L, Situacao.APLICADO));
+        moderacao.resolverDenuncias(moderador, Arrays.asList(1L, 1L, null, 2L, 2L));
+        verify(moderacaoService).resolverEmLote(9L, Set.of(1L, 2L));
+    }
+
+    @Test
+    void registraAAcaoNaAuditoria() {
+        Map<Long, Situacao> itens = new LinkedHashMap<>();
+        itens.put(4L, Situacao.APLICADO);
+        itens.put(5L, Situacao.INALTERADO);
+        itens.put(6L, Situacao.APLICADO);
+        when(usuarioService.atualizarStatusUsuarios(any(), eq(Usuario.StatusConta.BANIDO))).thenReturn(itens);
+
+        ResultadoLote resultado = moderacao.alterarStatusUsuarios(moderador, List.of(4L, 5L, 6L), " banido ");
+
+        ArgumentCaptor<RegistroModeracao> registro = ArgumentCaptor.forClass(RegistroModeracao.class);
+        verify(registroRepository).save(registro.capture());
+        assertEquals(9L, registro.getValue().getModeradorId());
+        assertEquals(Acao.ALTERAR_STATUS_USUARIOS, registro.getValue().getAcao());
+        assertNull(registro.getValue().getGrupoId());
+        assertEquals("BANIDO", registro.getValue().getValor());
+        assertEquals(2, registro.getValue().getAplicados());
+        assertEquals(1, registro.getValue().getIgnorados());
+        assertEquals("4,6", registro.getValue().getAlvos());
+        assertEquals(2, resultado.aplicados());
+        assertEquals(itens, resultado.itens());
+    }
+
+    @Test
+    void registraOGrupoNasAcoesSobreMembros() {
+        when(grupoService.moderarMembros(eq(12L), any(), eq(Membro.StatusAcesso.SUSPENSO), eq(moderador)))
+                .thenReturn(Map.of(7L, Situacao.NAO_ENCONTRADO));
+
+        ResultadoLote resultado = moderacao.alterarStatusMembros(moderador, 12L, List.of(7L), "suspenso");
+
+        ArgumentCaptor<RegistroModeracao> registro = ArgumentCaptor.forClass(RegistroModeracao.class);
+        verify(registroRepository).save(registro.capture());
+        assertEquals(12L, registro.getValue().getGrupoId());
+        assertEquals(Acao.ALTERAR_STATUS_MEMBROS, registro.getValue().getAcao());
+        assertEquals(0, registro.getValue().getAplicados());
+        assertEquals(1, registro.getValue().getIgnorados());
+        assertEquals("", registro.getValue().getAlvos());
+        assertEquals(0, resultado.aplicados());
+    }
+
+    private static Usuario moderador() {
+        Usuario usuario = new Usuario();
+        usuario.setId(9L);
+        usuario.setLogin("moderadora");
+        return usuario;
+    }
+}
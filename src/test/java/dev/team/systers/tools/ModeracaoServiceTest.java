@@ -0,0 +1,55 @@
+package dev.team.systers.tools;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.team.systers.repository.DenunciaRepository;
+import dev.team.systers.service.ContadoresDenunciasService;
+import dev.team.systers.service.EventoDominioService;
+import dev.team.systers.service.ModeracaoService;
+import dev.team.systers.service.SeriesDenunciasService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ModeracaoServiceTest {
+
+    private final DenunciaRepository denunciaRepository = mock(DenunciaRepository.class);
+
+    private final ModeracaoService moderacao = new ModeracaoService(denunciaRepository, mock(EventoDominioService.class),
+            mock(ContadoresDenunciasService.class), mock(SeriesDenunciasService.class), 15, 3, 100, 10, 1,
+            List.of("assedio", "Ameaça", "odio"), List.of("ofens", "golpe"));
+
+    @Test
+    void classificaAGravidadeIgnorandoAcentosEMaiusculas() {
+        assertEquals(3, moderacao.gravidade("Assédio"));
+        assertEquals(3, moderacao.gravidade("  AMEACA de morte "));
+        assertEquals(3, moderacao.gravidade("discurso de ódio"));
+        assertEquals(2, moderacao.gravidade("Conteúdo ofensivo"));
+        assertEquals(2, moderacao.gravidade("golpe"));
+        assertEquals(1, moderacao.gravidade("spam"));
+        assertEquals(1, moderacao.gravidade(""));
+        assertEquals(1, moderacao.gravidade(null));
+    }
+
+    @Test
+    void validaOLoteIgnorandoNulos() {
+        assertThrows(IllegalArgumentException.class, () -> moderacao.liberar(9L, List.of(1L, 2L, 3L, 4L)));
+        assertThrows(IllegalArgumentException.class, () -> moderacao.resolver(9L, List.of(1L, 2L, 3L, 4L)));
+        assertEquals(0, moderacao.liberar(9L, null));
+        assertEquals(0, moderacao.resolver(9L, Arrays.asList(null, null)));
+        verifyNoInteractions(denunciaRepository);
+
+        when(denunciaRepository.liberar(Set.of(1L, 2L, 3L), 9L)).thenReturn(3);
+        assertEquals(3, moderacao.liberar(9L, Arrays.asList(1L, null, 2L, 2L, 3L, null)));
+        verify(denunciaRepository).liberar(Set.of(1L, 2L, 3L), 9L);
+        assertEquals(3L, moderacao.metricas().get("liberadas"));
+    }
+}
@@ -0,0 +1,175 @@
+package dev.team.systers.tools;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.team.systers.evento.PostagemCriada;
+import dev.team.systers.model.AgrupamentoNotificacao;
+import dev.team.systers.model.EventoSaida;
+import dev.team.systers.model.EventoSaida.StatusEvento;
+import dev.team.systers.model.Grupo;
+import dev.team.systers.model.Membro;
+import dev.team.systers.model.NotificacaoSaida;
+import dev.team.systers.model.NotificacaoSaida.TipoNotificacao;
+import dev.team.systers.model.Postagem;
+import dev.team.systers.repository.AgrupamentoNotificacaoRepository;
+import dev.team.systers.repository.EventoSaidaRepository;
+import dev.team.systers.repository.MentoriaRepository;
+import dev.team.systers.repository.NotificacaoLoteRepository;
+import dev.team.systers.repository.NotificacaoSaidaRepository;
+import dev.team.systers.repository.ParticipanteRepository;
+import dev.team.systers.repository.PostagemRepository;
+import dev.team.systers.service.DistribuicaoNotificacoesService;
+import dev.team.systers.service.EventoDominioService;
+import dev.team.systers.service.NotificacaoEventosService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificacaoEventosServiceTest {
+
+    private static final Long GRUPO = 5L;
+
+    private final NotificacaoSaidaRepository notificacaoSaidaRepository = mock(NotificacaoSaidaRepository.class);
+    private final AgrupamentoNotificacaoRepository agrupamentoRepository = mock(AgrupamentoNotificacaoRepository.class);
+    private final PostagemRepository postagemRepository = mock(PostagemRepository.class);
+    private final EventoSaidaRepository eventoSaidaRepository = mock(EventoSaidaRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private DistribuicaoNotificacoesService distribuicao;
+    private NotificacaoEventosService notificacaoEventos;
+    private EventoDominioService eventos;
+
+    @BeforeEach
+    void preparar() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocacao -> new SimpleTransactionStatus());
+        distribuicao = new DistribuicaoNotificacoesService(notificacaoSaidaRepository, mock(NotificacaoLoteRepository.class),
+                agrupamentoRepository, mock(ApplicationEventPublisher.class), transactionManager,
+                1, 500, 300_000, 5, 2_000, 1_000, 60_000);
+        notificacaoEventos = new NotificacaoEventosService(distribuicao, postagemRepository,
+                mock(MentoriaRepository.class), mock(ParticipanteRepository.class));
+        eventos = new EventoDominioService(eventoSaidaRepository, List.of(notificacaoEventos), objectMapper,
+                mock(ApplicationEventPublisher.class), transactionManager, 1, 60_000, 8, 1, 10);
+        when(postagemRepository.findById(any())).thenAnswer(invocacao -> Optional.of(postagem(invocacao.getArgument(0))));
+    }
+
+    @Test
+    void primeiraPostagemVaiParaCaixaDeSaidaESeguintesParaOResumo() {
+        when(agrupamentoRepository.registrar(anyString(), anyString(), any(), any(), any(), anyString(), anyString(), any()))
+                .thenReturn(0, 1);
+
+        notificacaoEventos.aoReceber(new PostagemCriada(1L, GRUPO, 7L, LocalDateTime.now()));
+        notificacaoEventos.aoReceber(new PostagemCriada(2L, GRUPO, 8L, LocalDateTime.now()));
+
+        ArgumentCaptor<NotificacaoSaida> saida = ArgumentCaptor.forClass(NotificacaoSaida.class);
+        InOrder ordem = inOrder(agrupamentoRepository, notificacaoSaidaRepository);
+        ordem.verify(agrupamentoRepository).registrar(eq("NOVA_POSTAGEM:5:g5"), eq("NOVA_POSTAGEM"), eq(GRUPO), isNull(),
+                eq(7L), anyString(), anyString(), any());
+        ordem.verify(notificacaoSaidaRepository).save(saida.capture());
+        ordem.verify(agrupamentoRepository).registrar(eq("NOVA_POSTAGEM:5:g5"), eq("NOVA_POSTAGEM"), eq(GRUPO), isNull(),
+                eq(8L), anyString(), anyString(), any());
+        verify(notificacaoSaidaRepository, times(1)).save(any());
+
+        assertEquals(TipoNotificacao.NOVA_POSTAGEM, saida.getValue().getTipo());
+        assertEquals(GRUPO, saida.getValue().getGrupoId());
+        assertEquals(7L, saida.getValue().getRemetenteId());
+        assertEquals("autora1 publicou no grupo Grupo", saida.getValue().getConteudo());
+    }
+
+    @Test
+    void resumoVencidoNaoVaiParaQuemContribuiu() {
+        AgrupamentoNotificacao janela = new AgrupamentoNotificacao();
+        janela.setChave("NOVA_POSTAGEM:5:g5");
+        janela.setTipo(TipoNotificacao.NOVA_POSTAGEM);
+        janela.setGrupoId(GRUPO);
+        janela.setRemetenteId(8L);
+        janela.setRemetentes(",7,8,");
+        janela.setConteudo("autora2 publicou no grupo Grupo");
+        janela.setResumo("{quantidade} novas postagens no grupo Grupo");
+        janela.setQuantidade(3);
+        janela.setVenceEm(LocalDateTime.now().minusSeconds(1));
+        when(agrupamentoRepository.findVencidasParaEmitir(any(), anyInt())).thenReturn(List.of(janela));
+
+        distribuicao.emitirResumos();
+
+        ArgumentCaptor<NotificacaoSaida> saida = ArgumentCaptor.forClass(NotificacaoSaida.class);
+        verify(notificacaoSaidaRepository).save(saida.capture());
+        assertEquals("3 novas postagens no grupo Grupo", saida.getValue().getConteudo());
+        assertEquals(8L, saida.getValue().getRemetenteId());
+        assertEquals(",7,8,", saida.getValue().getExcluidos());
+        assertEquals(0, janela.getQuantidade());
+        assertEquals(",", janela.getRemetentes());
+        verify(agrupamentoRepository, never()).delete(any());
+    }
+
+    @Test
+    void falhaAoGravarNotificacaoDesfazEntregaENovaTentativaGrava() throws Exception {
+        EventoSaida evento = new EventoSaida();
+        evento.setId(1L);
+        evento.setTipo("PostagemCriada");
+        evento.setDados(objectMapper.writeValueAsString(new PostagemCriada(1L, GRUPO, 7L, LocalDateTime.now())));
+        evento.setStatus(StatusEvento.PROCESSANDO);
+        evento.setCriadoEm(LocalDateTime.now());
+        when(eventoSaidaRepository.findDisponiveisParaReserva(any(), anyInt()))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of());
+        when(eventoSaidaRepository.findById(1L)).thenReturn(Optional.of(evento));
+        when(agrupamentoRepository.registrar(anyString(), anyString(), any(), any(), any(), anyString(), anyString(), any()))
+                .thenReturn(0);
+        when(notificacaoSaidaRepository.save(any()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        eventos.iniciar();
+        try {
+            InOrder ordem = inOrder(transactionManager, eventoSaidaRepository);
+            ordem.verify(transactionManager, timeout(2_000)).rollback(any());
+            ordem.verify(eventoSaidaRepository, timeout(2_000)).atualizarStatus(eq(1L), eq(StatusEvento.PENDENTE), eq(1),
+                    any(), startsWith("notificacoes"));
+            ordem.verify(eventoSaidaRepository, timeout(2_000)).atualizarStatus(eq(1L), eq(StatusEvento.ENTREGUE), anyInt(),
+                    any(), isNull());
+            verify(notificacaoSaidaRepository, times(2)).save(any());
+        } finally {
+            eventos.encerrar();
+        }
+    }
+
+    private static Postagem postagem(Long id) {
+        Grupo grupo = new Grupo();
+        grupo.setId(GRUPO);
+        grupo.setNome("Grupo");
+        Membro autor = new Membro();
+        autor.setTag("autora" + id);
+        Postagem postagem = new Postagem();
+        postagem.setId(id);
+        postagem.setGrupo(grupo);
+        postagem.setAutor(autor);
+        return postagem;
+    }
+}
@@ -0,0 +1,44 @@
+package dev.team.systers.tools;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import dev.team.systers.model.Usuario.StatusConta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegraModeracaoTest {
+
+    private static final long HORA = 3_600_000;
+
+    private final JanelaDeslizante<Long> janela = new JanelaDeslizante<>(24 * HORA);
+
+    @Test
+    void leRegrasDeModeracao() {
+        RegraModeracao regra = RegraModeracao.ler("denunciantes>=5/24h:SUSPENSO");
+        assertEquals(RegraModeracao.Metrica.DENUNCIANTES, regra.metrica());
+        assertEquals(5, regra.limite());
+        assertEquals(Duration.ofHours(24), regra.janela());
+        assertEquals(StatusConta.SUSPENSO, regra.status());
+
+        assertNull(RegraModeracao.ler("pendentes >= 20 : banido").janela());
+        assertThrows(IllegalArgumentException.class, () -> RegraModeracao.ler("denuncias>=3:SUSPENSO"));
+        assertThrows(IllegalArgumentException.class, () -> RegraModeracao.ler("pendentes>=3/1h:BANIDO"));
+    }
+
+    @Test
+    void regraDisparaPorDenunciantesDistintosNaJanela() {
+        RegraModeracao regra = RegraModeracao.ler("denunciantes>=2/1h:SUSPENSO");
+        janela.registrar(1L, 0, 10);
+        janela.registrar(1L, 2 * HORA, 11);
+        assertFalse(regra.disparou(janela, 1L, 2 * HORA, 0));
+
+        janela.registrar(1L, 2 * HORA + 1, 12);
+        assertTrue(regra.disparou(janela, 1L, 2 * HORA + 1, 0));
+    }
+}
@@ -0,0 +1,84 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RodaTemporalTest {
+
+    private static final long INICIO = 1_700_000_000_000L;
+
+    private final RodaTemporal<String, String> roda = new RodaTemporal<>(1000, 3, INICIO);
+
+    @Test
+    void venceNoPrazoENaoAntes() {
+        roda.agendar("a", INICIO + 5_000, "a");
+        roda.agendar("b", INICIO + 300_000, "b");
+
+        assertTrue(roda.avancar(INICIO + 4_999).isEmpty());
+        assertEquals(List.of("a"), roda.avancar(INICIO + 5_000));
+        assertTrue(roda.avancar(INICIO + 299_000).isEmpty());
+        assertEquals(List.of("b"), roda.avancar(INICIO + 300_000));
+        assertEquals(0, roda.tamanho());
+    }
+
+    @Test
+    void prazoVencidoSaiNoProximoAvanco() {
+        roda.avancar(INICIO + 10_000);
+        roda.agendar("atrasado", INICIO, "atrasado");
+
+        assertEquals(List.of("atrasado"), roda.avancar(INICIO + 10_000));
+    }
+
+    @Test
+    void cancelarEReagendar() {
+        roda.agendar("a", INICIO + 5_000, "a");
+        roda.agendar("a", INICIO + 90_000, "a2");
+        roda.agendar("b", INICIO + 6_000, "b");
+
+        assertTrue(roda.cancelar("b"));
+        assertFalse(roda.cancelar("b"));
+        assertTrue(roda.avancar(INICIO + 60_000).isEmpty());
+        assertEquals(List.of("a2"), roda.avancar(INICIO + 90_000));
+    }
+
+    @Test
+    void prazosAlemDoUltimoNivelEsperamAVolta() {
+        // 3 níveis de 64 tiques de 1 s cobrem cerca de 73 horas.
+        long longe = INICIO + 10L * 24 * 3600 * 1000;
+        roda.agendar("longe", longe, "longe");
+
+        assertTrue(roda.avancar(longe - 1000).isEmpty());
+        assertEquals(List.of("longe"), roda.avancar(longe));
+    }
+
+    @Test
+    void concordaComOrdenacaoSimples() {
+        Random aleatorio = new Random(7);
+        List<Long> prazos = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            long prazo = INICIO + 1000L * aleatorio.nextInt(400_000);
+            prazos.add(prazo);
+            roda.agendar("t" + i, prazo, String.valueOf(prazo));
+        }
+        long agora = INICIO;
+        int vencidos = 0;
+        while (agora < INICIO + 1000L * 400_000) {
+            agora += 1000L * (1 + aleatorio.nextInt(5000));
+            long limite = agora;
+            List<String> lote = roda.avancar(agora);
+            for (String prazo : lote) {
+                assertTrue(Long.parseLong(prazo) <= limite);
+            }
+            vencidos += lote.size();
+            long esperado = prazos.stream().filter(prazo -> prazo <= limite).count();
+            assertEquals(esperado, vencidos);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.team.systers.tools;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SemaphoreDataSourceTest {
+
+    private final DataSource alvo = mock(DataSource.class);
+    private final SemaphoreDataSource bulkhead = new SemaphoreDataSource(alvo, 2, 50);
+
+    @Test
+    void esgotaPermissoesEFalhaAposEspera() throws SQLException {
+        when(alvo.getConnection()).thenAnswer(invocacao -> mock(Connection.class));
+        bulkhead.getConnection();
+        bulkhead.getConnection();
+        assertEquals(0, bulkhead.permissoesDisponiveis());
+
+        long inicio = System.nanoTime();
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertTrue((System.nanoTime() - inicio) / 1_000_000 >= 50);
+        verify(alvo, times(2)).getConnection();
+    }
+
+    @Test
+    void closeLiberaPermissaoUmaUnicaVez() throws SQLException {
+        Connection real = mock(Connection.class);
+        when(alvo.getConnection()).thenReturn(real);
+
+        Connection conexao = bulkhead.getConnection();
+        assertEquals(1, bulkhead.permissoesDisponiveis());
+        conexao.close();
+        conexao.close();
+
+        assertEquals(2, bulkhead.permissoesDisponiveis());
+        verify(real, times(2)).close();
+    }
+
+    @Test
+    void falhaDoPoolDevolvePermissao() throws SQLException {
+        when(alvo.getConnection()).thenThrow(new SQLException("pool indisponível"));
+
+        assertThrows(SQLException.class, bulkhead::getConnection);
+        assertEquals(2, bulkhead.permissoesDisponiveis());
+    }
+
+    @Test
+    void conexaoLiberadaAtendeQuemEspera() throws Exception {
+        when(alvo.getConnection()).thenAnswer(invocacao -> mock(Connection.class));
+        SemaphoreDataSource unico = new SemaphoreDataSource(alvo, 1, 5_000);
+        Connection primeira = unico.getConnection();
+
+        Thread liberar = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+                primeira.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        liberar.start();
+        Connection segunda = unico.getConnection();
+        liberar.join();
+
+        assertEquals(0, unico.permissoesDisponiveis());
+        segunda.close();
+        assertEquals(1, unico.permissoesDisponiveis());
+    }
+}
@@ -0,0 +1,96 @@
+package dev.team.systers.tools;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import dev.team.systers.dto.PontoSerieDenuncias;
+import dev.team.systers.model.SerieDenuncias.Granularidade;
+import dev.team.systers.repository.SerieDenunciasRepository;
+import dev.team.systers.service.SeriesDenunciasService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeriesDenunciasServiceTest {
+
+    private static final LocalDateTime DIA = LocalDateTime.of(2026, 5, 14, 0, 0);
+
+    private final SerieDenunciasRepository repositorio = mock(SerieDenunciasRepository.class);
+
+    private final SeriesDenunciasService series = new SeriesDenunciasService(repositorio, 48);
+
+    @Test
+    void truncaNoInicioDoIntervalo() {
+        LocalDateTime momento = DIA.plusHours(13).plusMinutes(47).plusSeconds(5).plusNanos(9);
+
+        assertEquals(DIA.plusHours(13), Granularidade.HORA.inicio(momento));
+        assertEquals(DIA, Granularidade.DIA.inicio(momento));
+        assertEquals(DIA, Granularidade.DIA.inicio(DIA));
+        assertEquals(Duration.ofHours(1), Granularidade.HORA.duracao());
+        assertEquals(Duration.ofDays(1), Granularidade.DIA.duracao());
+    }
+
+    @Test
+    void limitaAQuantidadeDeIntervalosPorConsulta() {
+        series.serie(Granularidade.HORA, DIA.plusMinutes(30), DIA.plusHours(48), false);
+        verify(repositorio).findTotais("HORA", DIA, DIA.plusHours(48));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> series.serie(Granularidade.HORA, DIA, DIA.plusHours(49), false));
+        assertThrows(IllegalArgumentException.class,
+                () -> series.serie(Granularidade.DIA, DIA, DIA.minusDays(1), false));
+        assertEquals(1L, series.metricas().get("consultas"));
+    }
+
+    @Test
+    void calculaOTempoMedioDeResolucao() {
+        when(repositorio.findPorCategoria("DIA", DIA, DIA.plusDays(2))).thenReturn(List.of(
+                new Object[] { Timestamp.valueOf(DIA), "spam", 7L, 4L, 100L, 60L },
+                new Object[] { Timestamp.valueOf(DIA.plusDays(1)), "spam", 2L, 0L, 0L, 0L }));
+
+        List<PontoSerieDenuncias> pontos = series.serie(Granularidade.DIA, DIA, DIA.plusDays(2), true);
+
+        assertEquals(new PontoSerieDenuncias(DIA, "spam", 7, 4, 25, 60), pontos.get(0));
+        assertEquals(0, pontos.get(1).tempoMedioResolucaoSeg());
+        assertEquals(DIA.plusDays(1), pontos.get(1).inicio());
+    }
+
+    @Test
+    void reconstroiComATabelaTravadaQuandoOTotalNaoBate() {
+        when(repositorio.somarRegistradas("HORA")).thenReturn(1L);
+        when(repositorio.contarDenuncias()).thenReturn(30L);
+
+        series.inicializar();
+
+        InOrder ordem = inOrder(repositorio);
+        ordem.verify(repositorio).travar();
+        ordem.verify(repositorio).somarRegistradas("HORA");
+        ordem.verify(repositorio).apagarTodos();
+        ordem.verify(repositorio).reconstruir("HORA", "hour");
+        ordem.verify(repositorio).reconstruir("DIA", "day");
+    }
+
+    @Test
+    void naoReconstroiQuandoOTotalBate() {
+        when(repositorio.somarRegistradas("HORA")).thenReturn(30L);
+        when(repositorio.contarDenuncias()).thenReturn(30L);
+
+        series.inicializar();
+
+        verify(repositorio).travar();
+        verify(repositorio, never()).apagarTodos();
+        verify(repositorio, never()).reconstruir(anyString(), any());
+    }
+}
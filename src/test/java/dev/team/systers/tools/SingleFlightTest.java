@@ -0,0 +1,73 @@
+package dev.team.systers.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    @Test
+    void cargasSimultaneasCompartilhamUmaExecucao() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(0);
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> resultados = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                resultados.add(executor.submit(() -> singleFlight.executar("grupo:1", () -> {
+                    consultas.incrementAndGet();
+                    aguardar(liberar);
+                    return 42;
+                })));
+            }
+            while (singleFlight.getCompartilhadas() < 49) {
+                Thread.sleep(5);
+            }
+            liberar.countDown();
+            for (Future<Integer> resultado : resultados) {
+                assertEquals(42, resultado.get());
+            }
+        }
+
+        assertEquals(1, consultas.get());
+        assertEquals(1, singleFlight.getExecucoes());
+    }
+
+    @Test
+    void falhaNaoFicaGuardada() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(10_000);
+
+        assertThrows(IllegalStateException.class,
+                () -> singleFlight.executar("feed:ana", () -> { throw new IllegalStateException("banco fora"); }));
+
+        assertEquals(7, singleFlight.executar("feed:ana", () -> 7));
+    }
+
+    @Test
+    void resultadoReaproveitadoDentroDaJanela() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(10_000);
+
+        singleFlight.executar("grupo:2", () -> 1);
+
+        assertEquals(1, singleFlight.executar("grupo:2", () -> 2));
+        assertEquals(1, singleFlight.getExecucoes());
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}